@@ -1,5 +1,7 @@
 package com.myserver.wildcore;
 
+import com.myserver.wildcore.claim.ClaimTracker;
+import com.myserver.wildcore.claim.MobEntrySweeper;
 import com.myserver.wildcore.commands.MainCommand;
 import com.myserver.wildcore.config.ConfigManager;
 import com.myserver.wildcore.gui.admin.AdminGuiListener;
@@ -10,6 +12,7 @@ import com.myserver.wildcore.listeners.GuiListener;
 import com.myserver.wildcore.listeners.NpcDamageListener;
 import com.myserver.wildcore.listeners.NpcInteractListener;
 import com.myserver.wildcore.listeners.PlayerListener;
+import com.myserver.wildcore.listeners.StockDataListener;
 import com.myserver.wildcore.listeners.BuffBlockListener;
 import com.myserver.wildcore.listeners.FarmClaimListener;
 import com.myserver.wildcore.managers.ClaimManager;
@@ -21,6 +24,8 @@ import com.myserver.wildcore.listeners.ClaimProtectionListener;
 import com.myserver.wildcore.listeners.CropGrowthBuffListener;
 import com.myserver.wildcore.gui.claim.ClaimGUIListener;
 import com.myserver.wildcore.managers.EnchantManager;
+import com.myserver.wildcore.economy.RateLimiter;
+import com.myserver.wildcore.economy.SettlementEngine;
 import com.myserver.wildcore.managers.NpcManager;
 import com.myserver.wildcore.managers.ShopManager;
 import com.myserver.wildcore.managers.StockManager;
@@ -28,6 +33,7 @@ import com.myserver.wildcore.managers.BankManager;
 import com.myserver.wildcore.managers.MiningDropManager;
 import com.myserver.wildcore.managers.RepairManager;
 import com.myserver.wildcore.placeholder.WildCorePlaceholder;
+import com.myserver.wildcore.storage.Database;
 import com.myserver.wildcore.tasks.ActionBarMoneyTask;
 import com.myserver.wildcore.gui.AutoRefreshGUI;
 import net.milkbowl.vault.economy.Economy;
@@ -35,6 +41,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
+import java.sql.SQLException;
 import java.util.logging.Level;
 
 /**
@@ -45,6 +53,9 @@ public class WildCore extends JavaPlugin {
 
     private static WildCore instance;
     private Economy economy;
+    private SettlementEngine settlementEngine;
+    private RateLimiter rateLimiter;
+    private Database database;
 
     private ConfigManager configManager;
     private StockManager stockManager;
@@ -62,6 +73,8 @@ public class WildCore extends JavaPlugin {
     private CropGrowthManager cropGrowthManager;
     private ClaimChunkLoader claimChunkLoader;
     private ClaimScoreboardManager claimScoreboardManager;
+    private MobEntrySweeper mobEntrySweeper;
+    private ClaimTracker claimTracker;
 
     @Override
     public void onEnable() {
@@ -78,6 +91,22 @@ public class WildCore extends JavaPlugin {
             return;
         }
 
+        // 거래 정산 엔진 (Vault 연결 후)
+        settlementEngine = new SettlementEngine(this);
+
+        // 플레이어/행동별 거래 요청 제한
+        rateLimiter = new RateLimiter(this);
+
+        // 내장 데이터베이스 (저장 형식이 sqlite일 때, 열 수 없으면 파일 저장소 사용)
+        if (configManager.isDatabaseStorage()) {
+            try {
+                database = new Database(new File(getDataFolder(), configManager.getDatabaseFile()), getLogger());
+                getLogger().info("내장 데이터베이스 저장소를 사용합니다.");
+            } catch (SQLException e) {
+                getLogger().severe("데이터베이스를 열 수 없어 파일 저장소를 사용합니다: " + e.getMessage());
+            }
+        }
+
         // 매니저 초기화
         stockManager = new StockManager(this);
         enchantManager = new EnchantManager(this);
@@ -99,6 +128,9 @@ public class WildCore extends JavaPlugin {
             claimChunkLoader = new ClaimChunkLoader(this);
             claimChunkLoader.loadAllChunks();
 
+            // 플레이어별 현재 사유지 추적 (스코어보드, 입장 제한 등에서 사용)
+            claimTracker = new ClaimTracker(this, claimManager);
+
             // 스코어보드 매니저 초기화
             claimScoreboardManager = new ClaimScoreboardManager(this);
         }
@@ -117,6 +149,11 @@ public class WildCore extends JavaPlugin {
         // 이벤트 리스너 등록
         registerListeners();
 
+        // 이미 접속 중인 플레이어(리로드 등)의 현재 사유지 확정 (스코어보드 등이 입장 이벤트를 받도록 리스너 등록 후)
+        if (claimTracker != null) {
+            claimTracker.updateOnlinePlayers();
+        }
+
         // 명령어 등록
         registerCommands();
 
@@ -144,10 +181,17 @@ public class WildCore extends JavaPlugin {
             actionBarMoneyTask.stop();
         }
 
-        // 주식 스케줄러 중지
+        // 진행 중인 거래 정산 마무리 (데이터 저장 전)
+        if (settlementEngine != null) {
+            settlementEngine.shutdown();
+        }
+        if (rateLimiter != null) {
+            rateLimiter.shutdown();
+        }
+
+        // 주식 스케줄러 중지 및 남은 데이터 저장
         if (stockManager != null) {
-            stockManager.stopScheduler();
-            stockManager.saveAllData();
+            stockManager.shutdown();
         }
 
         // 상점 데이터 저장
@@ -155,9 +199,24 @@ public class WildCore extends JavaPlugin {
             shopManager.saveAllShops();
         }
 
-        // 은행 데이터 저장
+        // 은행 데이터 저장 및 원장 정리
         if (bankManager != null) {
-            bankManager.saveAllData();
+            bankManager.shutdown();
+        }
+
+        // MOB_ENTRY 정리 중지
+        if (mobEntrySweeper != null) {
+            mobEntrySweeper.stop();
+        }
+
+        // 사유지 데이터 저장
+        if (claimDataManager != null) {
+            claimDataManager.shutdown();
+        }
+
+        // 모든 매니저 저장 후 데이터베이스 종료
+        if (database != null) {
+            database.close();
         }
 
         // 청크 로더 정리
@@ -202,6 +261,7 @@ public class WildCore extends JavaPlugin {
     private void registerListeners() {
         getServer().getPluginManager().registerEvents(new GuiListener(this), this);
         getServer().getPluginManager().registerEvents(new PlayerListener(this), this);
+        getServer().getPluginManager().registerEvents(new StockDataListener(this), this);
         getServer().getPluginManager().registerEvents(new BlockListener(this), this);
         getServer().getPluginManager().registerEvents(new CustomItemProtectListener(this), this);
         getServer().getPluginManager().registerEvents(new NpcInteractListener(this), this);
@@ -213,10 +273,14 @@ public class WildCore extends JavaPlugin {
 
         // 클레임 시스템 리스너 등록 (GP가 있을 때만)
         if (claimManager.isEnabled()) {
+            getServer().getPluginManager().registerEvents(claimTracker, this);
+            getServer().getPluginManager().registerEvents(claimScoreboardManager, this);
             getServer().getPluginManager().registerEvents(new FarmClaimListener(this, claimManager), this);
             getServer().getPluginManager()
                     .registerEvents(
                             new ClaimProtectionListener(this, claimManager, claimDataManager, cropGrowthManager), this);
+            mobEntrySweeper = new MobEntrySweeper(this, claimManager, claimDataManager);
+            mobEntrySweeper.start();
             getServer().getPluginManager().registerEvents(new ClaimGUIListener(this), this);
             getServer().getPluginManager().registerEvents(new CropGrowthBuffListener(this), this);
             getLogger().info("농장 허가증 시스템이 활성화되었습니다.");
@@ -237,6 +301,7 @@ public class WildCore extends JavaPlugin {
      */
     public void reload() {
         configManager.loadAllConfigs();
+        rateLimiter.reload();
         stockManager.reload();
         enchantManager.reload();
         npcManager.reload();
@@ -249,6 +314,9 @@ public class WildCore extends JavaPlugin {
         if (cropGrowthManager != null) {
             cropGrowthManager.reload();
         }
+        if (mobEntrySweeper != null) {
+            mobEntrySweeper.reload();
+        }
     }
 
     /**
@@ -269,6 +337,21 @@ public class WildCore extends JavaPlugin {
         return economy;
     }
 
+    public SettlementEngine getSettlementEngine() {
+        return settlementEngine;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * 내장 데이터베이스 (파일 저장소를 쓰면 null)
+     */
+    public Database getDatabase() {
+        return database;
+    }
+
     public ConfigManager getConfigManager() {
         return configManager;
     }
@@ -324,4 +407,18 @@ public class WildCore extends JavaPlugin {
     public ClaimScoreboardManager getClaimScoreboardManager() {
         return claimScoreboardManager;
     }
+
+    /**
+     * 플레이어별 현재 사유지 추적 (사유지 시스템이 꺼져 있으면 null)
+     */
+    public ClaimTracker getClaimTracker() {
+        return claimTracker;
+    }
+
+    /**
+     * MOB_ENTRY 몬스터 정리 (사유지 시스템이 꺼져 있으면 null)
+     */
+    public MobEntrySweeper getMobEntrySweeper() {
+        return mobEntrySweeper;
+    }
 }
@@ -0,0 +1,187 @@
+package com.myserver.wildcore.bank;
+
+import com.myserver.wildcore.config.PlayerBankAccount;
+import com.myserver.wildcore.util.BinaryIO;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 은행 스냅샷 형식 (bank_data.yml / bank_data.bin)
+ * 바이너리 형식 (버전 1):
+ * - 머리, 원장 세그먼트(long), 이자 정산 커서(UUID, 없을 수 있음), 상품 ID 문자열 표
+ * - 플레이어 수(int), 플레이어마다 UUID + 계좌 수(int) + 계좌 레코드(길이 접두)
+ * - 계좌 레코드: 계좌 ID, 상품 번호(int), 원금, 누적 이자, 생성/정산/만기 시각, 만기 여부
+ */
+public final class BankDataCodec {
+
+    public static final int MAGIC = 0x57434241; // "WCBA"
+    public static final int VERSION = 1;
+
+    /**
+     * 은행 스냅샷 내용
+     *
+     * @param interestCursor 중단된 이자 일괄 정산 위치 (없으면 null)
+     */
+    public record BankData(long ledgerSegment, UUID interestCursor, Map<UUID, List<PlayerBankAccount>> accounts) {
+    }
+
+    private BankDataCodec() {
+    }
+
+    // =====================
+    // 바이너리
+    // =====================
+
+    public static byte[] encode(BankData data) throws IOException {
+        BinaryIO.StringTable products = new BinaryIO.StringTable();
+        for (List<PlayerBankAccount> accounts : data.accounts().values()) {
+            for (PlayerBankAccount account : accounts) {
+                products.indexOf(Objects.toString(account.getProductId(), ""));
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + data.accounts().size() * 96);
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryIO.writeHeader(out, MAGIC, VERSION);
+        out.writeLong(data.ledgerSegment());
+        BinaryIO.writeNullableUuid(out, data.interestCursor());
+        products.write(out);
+
+        ByteArrayOutputStream scratch = new ByteArrayOutputStream(64);
+        out.writeInt(data.accounts().size());
+        for (Map.Entry<UUID, List<PlayerBankAccount>> entry : data.accounts().entrySet()) {
+            BinaryIO.writeUuid(out, entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (PlayerBankAccount account : entry.getValue()) {
+                BinaryIO.writeRecord(out, scratch, record -> {
+                    record.writeUTF(account.getAccountId());
+                    record.writeInt(products.indexOf(Objects.toString(account.getProductId(), "")));
+                    record.writeDouble(account.getPrincipal());
+                    record.writeDouble(account.getAccumulatedInterest());
+                    record.writeLong(account.getCreatedTime());
+                    record.writeLong(account.getLastInterestTime());
+                    record.writeLong(account.getExpiryTime());
+                    record.writeBoolean(account.isMatured());
+                });
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IOException 형식이 잘못되었거나 파일이 잘린 경우
+     */
+    public static BankData decode(byte[] content) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+        BinaryIO.readHeader(in, MAGIC, VERSION);
+        long ledgerSegment = in.readLong();
+        UUID interestCursor = BinaryIO.readNullableUuid(in);
+        String[] products = BinaryIO.StringTable.read(in);
+
+        int players = in.readInt();
+        Map<UUID, List<PlayerBankAccount>> accounts = new HashMap<>(Math.max(16, players * 2));
+        for (int i = 0; i < players; i++) {
+            UUID uuid = BinaryIO.readUuid(in);
+            int count = in.readInt();
+            List<PlayerBankAccount> list = new ArrayList<>(Math.max(0, count));
+            for (int j = 0; j < count; j++) {
+                DataInputStream record = BinaryIO.readRecord(in);
+                list.add(new PlayerBankAccount(
+                        record.readUTF(),
+                        BinaryIO.lookup(products, record.readInt()),
+                        record.readDouble(),
+                        record.readDouble(),
+                        record.readLong(),
+                        record.readLong(),
+                        record.readLong(),
+                        record.readBoolean()));
+            }
+            accounts.put(uuid, list);
+        }
+        return new BankData(ledgerSegment, interestCursor, accounts);
+    }
+
+    // =====================
+    // YAML (기존 bank_data.yml 구조)
+    // =====================
+
+    public static String toYaml(BankData data) {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.set("ledgerSegment", data.ledgerSegment());
+        if (data.interestCursor() != null) {
+            yaml.set("interestCursor", data.interestCursor().toString());
+        }
+        for (Map.Entry<UUID, List<PlayerBankAccount>> playerEntry : data.accounts().entrySet()) {
+            for (PlayerBankAccount account : playerEntry.getValue()) {
+                String path = "players." + playerEntry.getKey() + ".accounts." + account.getAccountId();
+                yaml.set(path + ".product_id", account.getProductId());
+                yaml.set(path + ".principal", account.getPrincipal());
+                yaml.set(path + ".accumulated_interest", account.getAccumulatedInterest());
+                yaml.set(path + ".created_time", account.getCreatedTime());
+                yaml.set(path + ".last_interest_time", account.getLastInterestTime());
+                yaml.set(path + ".expiry_time", account.getExpiryTime());
+                yaml.set(path + ".is_matured", account.isMatured());
+            }
+        }
+        return yaml.saveToString();
+    }
+
+    /**
+     * YAML 스냅샷 읽기 (잘못된 UUID/커서는 무시)
+     */
+    public static BankData fromYaml(FileConfiguration dataConfig) {
+        Map<UUID, List<PlayerBankAccount>> accounts = new HashMap<>();
+        ConfigurationSection players = dataConfig.getConfigurationSection("players");
+        if (players != null) {
+            for (String uuidStr : players.getKeys(false)) {
+                UUID uuid;
+                try {
+                    uuid = UUID.fromString(uuidStr);
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+                List<PlayerBankAccount> list = new ArrayList<>();
+                ConfigurationSection section = players.getConfigurationSection(uuidStr + ".accounts");
+                if (section != null) {
+                    for (String accountId : section.getKeys(false)) {
+                        list.add(new PlayerBankAccount(
+                                accountId,
+                                section.getString(accountId + ".product_id"),
+                                section.getDouble(accountId + ".principal"),
+                                section.getDouble(accountId + ".accumulated_interest"),
+                                section.getLong(accountId + ".created_time"),
+                                section.getLong(accountId + ".last_interest_time"),
+                                section.getLong(accountId + ".expiry_time", 0),
+                                section.getBoolean(accountId + ".is_matured", false)));
+                    }
+                }
+                accounts.put(uuid, list);
+            }
+        }
+
+        UUID interestCursor = null;
+        String cursor = dataConfig.getString("interestCursor");
+        if (cursor != null) {
+            try {
+                interestCursor = UUID.fromString(cursor);
+            } catch (IllegalArgumentException ignored) {
+                // 잘못된 커서는 처음부터 다시 정산
+            }
+        }
+        return new BankData(dataConfig.getLong("ledgerSegment", 0), interestCursor, accounts);
+    }
+}
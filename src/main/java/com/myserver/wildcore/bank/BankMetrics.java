@@ -0,0 +1,240 @@
+package com.myserver.wildcore.bank;
+
+import com.myserver.wildcore.config.BankProductConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 서버 전체 은행 통계 (통화량 지표)
+ * - 계좌 상태가 바뀔 때마다 합계를 증감 (조회 시 전체 계좌를 다시 순회하지 않음)
+ * - 입금/출금 흐름은 최근 60초를 1초 단위 칸에 나누어 기록 (분당 금액)
+ * 갱신은 BankManager의 상태 변경 메서드에서만 호출됩니다.
+ */
+public final class BankMetrics {
+
+    private static final int RATE_WINDOW_SECONDS = 60;
+
+    /**
+     * 상품별 통계
+     *
+     * @param projectedInterest 자유 예금: 하루 예상 이자, 정기 적금: 만기 시 지급할 이자
+     */
+    public record ProductStats(String productId, int accounts, double principal, double projectedInterest) {
+    }
+
+    /**
+     * 조회 시점의 통계 (불변)
+     *
+     * @param interestPaid 서버 시작 이후 지급된 이자 (예금 이자 정산 + 적금 만기 이자)
+     * @param walletTotal  마지막 집계 시점의 접속 중인 플레이어 지갑 합계 (Vault)
+     */
+    public record Snapshot(long time, int accounts, double totalPrincipal, double accruedInterest,
+            double interestPaid, double depositsPerMinute, double withdrawalsPerMinute, double walletTotal,
+            int walletPlayers, List<ProductStats> products) {
+
+        /**
+         * 상품별 예상 이자 합계 (이자 부채)
+         */
+        public double getProjectedInterest() {
+            double total = 0;
+            for (ProductStats stats : products) {
+                total += stats.projectedInterest();
+            }
+            return total;
+        }
+    }
+
+    private static final class ProductTotals {
+        int accounts;
+        double principal;
+    }
+
+    private final Map<String, ProductTotals> products = new HashMap<>();
+    private int accounts;
+    private double totalPrincipal;
+    private double accruedInterest;
+    private double interestPaid;
+
+    // 최근 60초 입출금 (칸 = 초 % 60, 칸의 초가 다르면 오래된 값)
+    private final long[] bucketSeconds = new long[RATE_WINDOW_SECONDS];
+    private final double[] depositBuckets = new double[RATE_WINDOW_SECONDS];
+    private final double[] withdrawBuckets = new double[RATE_WINDOW_SECONDS];
+
+    private double walletTotal;
+    private int walletPlayers;
+
+    // =====================
+    // 갱신
+    // =====================
+
+    /**
+     * 모든 값 초기화 (데이터 로드 시)
+     */
+    public synchronized void reset() {
+        products.clear();
+        accounts = 0;
+        totalPrincipal = 0;
+        accruedInterest = 0;
+        interestPaid = 0;
+        Arrays.fill(bucketSeconds, 0);
+        Arrays.fill(depositBuckets, 0);
+        Arrays.fill(withdrawBuckets, 0);
+    }
+
+    /**
+     * 기존 계좌 추가 (로드 시, 입금 흐름으로 기록하지 않음)
+     */
+    public synchronized void addAccount(String productId, double principal, double accumulatedInterest) {
+        ProductTotals totals = products.computeIfAbsent(productId, k -> new ProductTotals());
+        totals.accounts++;
+        totals.principal += principal;
+        accounts++;
+        totalPrincipal += principal;
+        accruedInterest += accumulatedInterest;
+    }
+
+    public synchronized void recordOpen(String productId, double principal, double accumulatedInterest) {
+        addAccount(productId, principal, accumulatedInterest);
+        recordFlow(depositBuckets, principal);
+    }
+
+    public synchronized void recordDeposit(String productId, double amount) {
+        addPrincipal(productId, amount);
+        recordFlow(depositBuckets, amount);
+    }
+
+    public synchronized void recordWithdraw(String productId, double amount) {
+        addPrincipal(productId, -amount);
+        recordFlow(withdrawBuckets, amount);
+    }
+
+    /**
+     * 출금 취소 (지급 실패 보상, 입금 흐름으로 기록하지 않고 출금 흐름에서 뺌)
+     */
+    public synchronized void reverseWithdraw(String productId, double amount) {
+        addPrincipal(productId, amount);
+        recordFlow(withdrawBuckets, -amount);
+    }
+
+    public synchronized void recordInterest(String productId, double interest) {
+        addPrincipal(productId, interest);
+        accruedInterest += interest;
+        interestPaid += interest;
+    }
+
+    /**
+     * 계좌 해지 (지급액이 원금보다 크면 차액은 적금 만기 이자)
+     */
+    public synchronized void recordClose(String productId, double principal, double accumulatedInterest,
+            double payout) {
+        ProductTotals totals = products.get(productId);
+        if (totals != null) {
+            totals.accounts--;
+            totals.principal -= principal;
+            if (totals.accounts <= 0) {
+                products.remove(productId);
+            }
+        }
+        accounts--;
+        totalPrincipal -= principal;
+        accruedInterest -= accumulatedInterest;
+        if (payout > principal) {
+            interestPaid += payout - principal;
+        }
+        recordFlow(withdrawBuckets, payout);
+    }
+
+    /**
+     * 계좌 해지 취소 (지급 실패 보상, 개설 흐름으로 기록하지 않고 recordClose를 되돌림)
+     */
+    public synchronized void reverseClose(String productId, double principal, double accumulatedInterest,
+            double payout) {
+        addAccount(productId, principal, accumulatedInterest);
+        if (payout > principal) {
+            interestPaid -= payout - principal;
+        }
+        recordFlow(withdrawBuckets, -payout);
+    }
+
+    /**
+     * 접속 중인 플레이어 지갑 합계 기록 (메인 스레드에서 주기적으로 집계)
+     */
+    public synchronized void recordWallets(double total, int players) {
+        walletTotal = total;
+        walletPlayers = players;
+    }
+
+    private void addPrincipal(String productId, double amount) {
+        ProductTotals totals = products.get(productId);
+        if (totals != null) {
+            totals.principal += amount;
+        }
+        totalPrincipal += amount;
+    }
+
+    private void recordFlow(double[] buckets, double amount) {
+        long second = System.currentTimeMillis() / 1000;
+        int index = (int) (second % RATE_WINDOW_SECONDS);
+        if (bucketSeconds[index] != second) {
+            bucketSeconds[index] = second;
+            depositBuckets[index] = 0;
+            withdrawBuckets[index] = 0;
+        }
+        buckets[index] += amount;
+    }
+
+    // =====================
+    // 조회
+    // =====================
+
+    /**
+     * 현재 통계 (상품 수 + 60칸만 확인)
+     *
+     * @param productLookup 상품 ID -> 설정 (삭제된 상품이면 null)
+     */
+    public synchronized Snapshot snapshot(Function<String, BankProductConfig> productLookup) {
+        long now = System.currentTimeMillis();
+        long second = now / 1000;
+        double deposits = 0;
+        double withdrawals = 0;
+        for (int i = 0; i < RATE_WINDOW_SECONDS; i++) {
+            if (second - bucketSeconds[i] < RATE_WINDOW_SECONDS) {
+                deposits += depositBuckets[i];
+                withdrawals += withdrawBuckets[i];
+            }
+        }
+
+        List<ProductStats> stats = new ArrayList<>(products.size());
+        for (Map.Entry<String, ProductTotals> entry : products.entrySet()) {
+            ProductTotals totals = entry.getValue();
+            stats.add(new ProductStats(entry.getKey(), totals.accounts, totals.principal,
+                    projectInterest(productLookup.apply(entry.getKey()), totals.principal)));
+        }
+        stats.sort(Comparator.comparingDouble(ProductStats::principal).reversed());
+
+        return new Snapshot(now, accounts, totalPrincipal, accruedInterest, interestPaid, deposits, withdrawals,
+                walletTotal, walletPlayers, stats);
+    }
+
+    /**
+     * 상품별 예상 이자 (이자는 원금에 비례하므로 상품 원금 합계로 한 번에 계산)
+     */
+    private static double projectInterest(BankProductConfig product, double principal) {
+        if (product == null || principal <= 0) {
+            return 0;
+        }
+        if (product.isTermDeposit()) {
+            return principal * product.getInterestRate();
+        }
+        if (product.isSavings() && product.getInterestIntervalSeconds() > 0) {
+            return product.calculateInterest(principal, 86400.0 / product.getInterestIntervalSeconds());
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.myserver.wildcore.bank;
+
+import java.util.Locale;
+
+/**
+ * 은행 통계 파일 형식 (CSV 한 줄 / JSON)
+ * 금액은 소수 둘째 자리까지, 천 단위 구분 없이 기록합니다.
+ */
+public final class BankMetricsFormat {
+
+    public static final String CSV_HEADER = "time,accounts,total_principal,accrued_interest,interest_paid,"
+            + "deposits_per_min,withdrawals_per_min,projected_interest,wallet_total,wallet_players";
+
+    private BankMetricsFormat() {
+    }
+
+    public static String toCsvRow(BankMetrics.Snapshot snapshot) {
+        return snapshot.time() + "," + snapshot.accounts() + ","
+                + money(snapshot.totalPrincipal()) + ","
+                + money(snapshot.accruedInterest()) + ","
+                + money(snapshot.interestPaid()) + ","
+                + money(snapshot.depositsPerMinute()) + ","
+                + money(snapshot.withdrawalsPerMinute()) + ","
+                + money(snapshot.getProjectedInterest()) + ","
+                + money(snapshot.walletTotal()) + ","
+                + snapshot.walletPlayers();
+    }
+
+    public static String toJson(BankMetrics.Snapshot snapshot) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"time\": ").append(snapshot.time()).append(",\n");
+        sb.append("  \"accounts\": ").append(snapshot.accounts()).append(",\n");
+        sb.append("  \"total_principal\": ").append(money(snapshot.totalPrincipal())).append(",\n");
+        sb.append("  \"accrued_interest\": ").append(money(snapshot.accruedInterest())).append(",\n");
+        sb.append("  \"interest_paid\": ").append(money(snapshot.interestPaid())).append(",\n");
+        sb.append("  \"deposits_per_min\": ").append(money(snapshot.depositsPerMinute())).append(",\n");
+        sb.append("  \"withdrawals_per_min\": ").append(money(snapshot.withdrawalsPerMinute())).append(",\n");
+        sb.append("  \"projected_interest\": ").append(money(snapshot.getProjectedInterest())).append(",\n");
+        sb.append("  \"wallet_total\": ").append(money(snapshot.walletTotal())).append(",\n");
+        sb.append("  \"wallet_players\": ").append(snapshot.walletPlayers()).append(",\n");
+        sb.append("  \"products\": [");
+        for (int i = 0; i < snapshot.products().size(); i++) {
+            BankMetrics.ProductStats stats = snapshot.products().get(i);
+            sb.append(i == 0 ? "\n" : ",\n");
+            sb.append("    {\"id\": \"").append(escape(stats.productId()))
+                    .append("\", \"accounts\": ").append(stats.accounts())
+                    .append(", \"principal\": ").append(money(stats.principal()))
+                    .append(", \"projected_interest\": ").append(money(stats.projectedInterest()))
+                    .append('}');
+        }
+        sb.append(snapshot.products().isEmpty() ? "]\n" : "\n  ]\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static String money(double amount) {
+        return String.format(Locale.ROOT, "%.2f", amount);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,44 @@
+package com.myserver.wildcore.bank;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 은행 데이터 저장소
+ * - 파일 저장소: 저장할 때마다 전체 계좌를 스냅샷 하나로 기록
+ * - 데이터베이스 저장소: 마지막 저장 이후 바뀐 계좌만 행 단위로 기록
+ * 저장은 은행 쓰기 스레드에서만 호출됩니다.
+ */
+public interface BankStorage {
+
+    /**
+     * 저장소 이름 (로그용)
+     */
+    String getName();
+
+    /**
+     * 바뀐 계좌만 저장하는지 (false면 save에 항상 전체 계좌를 넘김)
+     */
+    boolean isIncremental();
+
+    /**
+     * 이전 저장소(다른 형식의 파일)에서 옮겨야 하는지
+     * 옮기는 중이면 첫 저장에 전체 계좌를 넘겨야 합니다.
+     */
+    boolean needsMigration();
+
+    /**
+     * 저장된 데이터 읽기 (없으면 빈 데이터)
+     */
+    BankDataCodec.BankData load();
+
+    /**
+     * 저장
+     *
+     * @param data    원장 세그먼트/정산 커서와 저장할 계좌 (증분 저장소면 바뀐 계좌만)
+     * @param removed 해지된 계좌 (UUID -> 계좌 ID, 증분 저장소에서만 사용)
+     */
+    void save(BankDataCodec.BankData data, Map<UUID, Set<String>> removed) throws IOException;
+}
@@ -0,0 +1,90 @@
+package com.myserver.wildcore.bank;
+
+import com.myserver.wildcore.util.SnapshotFile;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * 파일 저장소 (bank_data.bin 또는 .yml 스냅샷)
+ */
+public class FileBankStorage implements BankStorage {
+
+    private final SnapshotFile snapshotFile;
+    private final Logger logger;
+
+    public FileBankStorage(File dataFolder, SnapshotFile.Format format, Logger logger) {
+        this.snapshotFile = new SnapshotFile(dataFolder, "bank_data", format);
+        this.logger = logger;
+    }
+
+    @Override
+    public String getName() {
+        return snapshotFile.getTarget().getName();
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return false;
+    }
+
+    @Override
+    public boolean needsMigration() {
+        return snapshotFile.needsMigration();
+    }
+
+    /**
+     * 읽을 스냅샷 파일이 있는지 (형식 무관)
+     */
+    public boolean exists() {
+        return snapshotFile.getSource() != null;
+    }
+
+    /**
+     * 스냅샷 읽기 (파일이 없으면 빈 데이터)
+     * 읽을 수 없는 바이너리 파일은 따로 보관해 두고 빈 데이터로 시작합니다.
+     */
+    @Override
+    public BankDataCodec.BankData load() {
+        File source = snapshotFile.getSource();
+        if (source == null) {
+            return new BankDataCodec.BankData(0, null, new HashMap<>());
+        }
+        if (snapshotFile.getSourceFormat() == SnapshotFile.Format.YAML) {
+            return BankDataCodec.fromYaml(YamlConfiguration.loadConfiguration(source));
+        }
+        try {
+            return BankDataCodec.decode(Files.readAllBytes(source.toPath()));
+        } catch (IOException e) {
+            logger.severe("은행 데이터 파일을 읽을 수 없습니다: " + e.getMessage());
+            try {
+                logger.severe("손상된 파일 보관: " + SnapshotFile.quarantine(source).getName());
+            } catch (IOException moveError) {
+                logger.severe("손상된 파일 보관 실패: " + moveError.getMessage());
+            }
+            return new BankDataCodec.BankData(0, null, new HashMap<>());
+        }
+    }
+
+    @Override
+    public void save(BankDataCodec.BankData data, Map<UUID, Set<String>> removed) throws IOException {
+        snapshotFile.write(snapshotFile.getFormat() == SnapshotFile.Format.BINARY
+                ? BankDataCodec.encode(data)
+                : BankDataCodec.toYaml(data).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 데이터베이스로 옮긴 뒤 스냅샷 파일 보관 (.migrated)
+     */
+    public void retire() throws IOException {
+        snapshotFile.retire();
+    }
+}
@@ -0,0 +1,137 @@
+package com.myserver.wildcore.bank;
+
+import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.config.BankProductConfig;
+import com.myserver.wildcore.config.PlayerBankAccount;
+import com.myserver.wildcore.managers.BankManager;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 접속하지 않는 플레이어까지 포함한 이자 일괄 정산
+ * - 계좌 보유자를 UUID 순서로 돌며 틱마다 정해진 수의 계좌만 확인 (메인 스레드 부하 분산, 적금 계좌도 포함)
+ * - 마지막으로 정산한 UUID(커서)를 은행 스냅샷에 함께 저장해 재시작 후 이어서 진행
+ * - 정산 결과는 일반 이자 정산과 같이 원장에 기록되므로 파일 쓰기는 쓰기 스레드에서 처리
+ * 이미 정산된 계좌는 경과 횟수가 0이므로 같은 계좌를 다시 정산해도 이자가 중복되지 않습니다.
+ */
+public class InterestBatchJob {
+
+    private final WildCore plugin;
+    private final BankManager bankManager;
+    private BukkitTask task;
+
+    // 진행 중인 회차 (null이면 다음 회차 대기)
+    private List<UUID> pending;
+    private int position;
+    private volatile UUID cursor;
+    private long nextPassTime;
+
+    // 회차 통계
+    private long passStartTime;
+    private int settledAccounts;
+    private double settledInterest;
+
+    public InterestBatchJob(WildCore plugin, BankManager bankManager) {
+        this.plugin = plugin;
+        this.bankManager = bankManager;
+    }
+
+    public void start() {
+        stop();
+        if (plugin.getConfigManager().getBankInterestBatchInterval() <= 0) {
+            return;
+        }
+        // 저장된 커서가 있으면 중단된 회차를 바로 이어서 진행
+        nextPassTime = (cursor != null) ? 0
+                : System.currentTimeMillis() + plugin.getConfigManager().getBankInterestBatchInterval() * 1000L;
+        task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 20L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        pending = null;
+    }
+
+    /**
+     * 마지막으로 정산을 마친 플레이어 (스냅샷 저장용, 회차가 끝났으면 null)
+     */
+    public UUID getCursor() {
+        return cursor;
+    }
+
+    /**
+     * 저장된 커서 복원 (데이터 로드 시)
+     */
+    public void restoreCursor(UUID cursor) {
+        this.cursor = cursor;
+        this.pending = null;
+    }
+
+    private void tick() {
+        if (pending == null) {
+            if (System.currentTimeMillis() < nextPassTime) {
+                return;
+            }
+            beginPass();
+        }
+
+        int budget = Math.max(1, plugin.getConfigManager().getBankInterestBatchSize());
+        while (budget > 0 && position < pending.size()) {
+            UUID playerId = pending.get(position++);
+            List<PlayerBankAccount> accounts = bankManager.getPlayerAccounts(playerId);
+            // 확인한 계좌마다 차감 (적금만 가진 플레이어, 그 사이 계좌가 모두 해지된 플레이어도 최소 1)
+            budget -= Math.max(1, accounts.size());
+            for (PlayerBankAccount account : accounts) {
+                // 적금 이자는 해지 시 지급되므로 자유 예금만 정산
+                BankProductConfig product = plugin.getConfigManager().getBankProduct(account.getProductId());
+                if (product == null || !product.isSavings()) {
+                    continue;
+                }
+                double interest = bankManager.applyInterest(playerId, account.getAccountId());
+                if (interest > 0) {
+                    settledAccounts++;
+                    settledInterest += interest;
+                }
+            }
+            cursor = playerId;
+        }
+
+        if (position >= pending.size()) {
+            finishPass();
+        }
+    }
+
+    /**
+     * 회차 시작 (커서 이후의 계좌 보유자만 대상)
+     */
+    private void beginPass() {
+        List<UUID> holders = bankManager.getAccountHolders();
+        int start = 0;
+        if (cursor != null) {
+            int index = Collections.binarySearch(holders, cursor);
+            start = (index >= 0) ? index + 1 : -index - 1;
+        }
+        pending = holders.subList(start, holders.size());
+        position = 0;
+        passStartTime = System.currentTimeMillis();
+        settledAccounts = 0;
+        settledInterest = 0;
+    }
+
+    private void finishPass() {
+        plugin.debug("은행 이자 일괄 정산 완료: " + settledAccounts + "개 계좌, "
+                + bankManager.formatMoney(settledInterest) + "원 ("
+                + (System.currentTimeMillis() - passStartTime) + "ms)");
+        pending = null;
+        cursor = null;
+        bankManager.markDirty(); // 커서 초기화 저장
+        nextPassTime = System.currentTimeMillis()
+                + plugin.getConfigManager().getBankInterestBatchInterval() * 1000L;
+    }
+}
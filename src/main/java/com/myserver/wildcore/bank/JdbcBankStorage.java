@@ -0,0 +1,152 @@
+package com.myserver.wildcore.bank;
+
+import com.myserver.wildcore.config.PlayerBankAccount;
+import com.myserver.wildcore.storage.Database;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 데이터베이스 저장소 (wc_bank_accounts 테이블, 계좌 한 개가 한 행)
+ * - 바뀐 계좌만 묶어서 upsert, 해지된 계좌는 행 삭제 (한 트랜잭션)
+ * - 원장 세그먼트와 정산 커서는 wc_meta에 함께 기록
+ * - 데이터베이스가 비어 있고 스냅샷 파일이 있으면 파일을 읽고, 첫 저장에 성공하면 파일을 .migrated로 보관
+ */
+public class JdbcBankStorage implements BankStorage {
+
+    private static final String META_LEDGER_SEGMENT = "bank.ledger_segment";
+    private static final String META_INTEREST_CURSOR = "bank.interest_cursor";
+
+    private static final String SCHEMA = "CREATE TABLE IF NOT EXISTS wc_bank_accounts ("
+            + "uuid TEXT NOT NULL, account_id TEXT NOT NULL, product_id TEXT NOT NULL, "
+            + "principal REAL NOT NULL, accumulated_interest REAL NOT NULL, created_time INTEGER NOT NULL, "
+            + "last_interest_time INTEGER NOT NULL, expiry_time INTEGER NOT NULL, matured INTEGER NOT NULL, "
+            + "PRIMARY KEY (uuid, account_id))";
+
+    private static final String UPSERT = "INSERT INTO wc_bank_accounts (uuid, account_id, product_id, principal, "
+            + "accumulated_interest, created_time, last_interest_time, expiry_time, matured) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT(uuid, account_id) DO UPDATE SET "
+            + "product_id = excluded.product_id, principal = excluded.principal, "
+            + "accumulated_interest = excluded.accumulated_interest, created_time = excluded.created_time, "
+            + "last_interest_time = excluded.last_interest_time, expiry_time = excluded.expiry_time, "
+            + "matured = excluded.matured";
+
+    private static final String DELETE = "DELETE FROM wc_bank_accounts WHERE uuid = ? AND account_id = ?";
+
+    private final Database database;
+    private final FileBankStorage legacy;
+    private volatile boolean migrating;
+
+    public JdbcBankStorage(Database database, FileBankStorage legacy) throws SQLException {
+        this.database = database;
+        this.legacy = legacy;
+        this.migrating = database.call(db -> {
+            db.execute(Database.META_SCHEMA);
+            db.execute(SCHEMA);
+            return db.getMeta(META_LEDGER_SEGMENT) == null;
+        }) && legacy.exists();
+    }
+
+    @Override
+    public String getName() {
+        return "wc_bank_accounts";
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return true;
+    }
+
+    @Override
+    public boolean needsMigration() {
+        return migrating;
+    }
+
+    /**
+     * 전체 계좌 읽기 (데이터베이스를 읽을 수 없으면 예외, 빈 데이터로 시작해 원장을 정리하지 않도록)
+     */
+    @Override
+    public BankDataCodec.BankData load() {
+        if (migrating) {
+            return legacy.load();
+        }
+        try {
+            return database.call(db -> {
+                Map<UUID, List<PlayerBankAccount>> accounts = new HashMap<>();
+                try (ResultSet rows = db.prepare("SELECT uuid, account_id, product_id, principal, "
+                        + "accumulated_interest, created_time, last_interest_time, expiry_time, matured "
+                        + "FROM wc_bank_accounts").executeQuery()) {
+                    while (rows.next()) {
+                        accounts.computeIfAbsent(UUID.fromString(rows.getString(1)), k -> new ArrayList<>())
+                                .add(new PlayerBankAccount(rows.getString(2), rows.getString(3), rows.getDouble(4),
+                                        rows.getDouble(5), rows.getLong(6), rows.getLong(7), rows.getLong(8),
+                                        rows.getInt(9) != 0));
+                    }
+                }
+                String segment = db.getMeta(META_LEDGER_SEGMENT);
+                String cursor = db.getMeta(META_INTEREST_CURSOR);
+                return new BankDataCodec.BankData(segment != null ? Long.parseLong(segment) : 0,
+                        cursor != null ? UUID.fromString(cursor) : null, accounts);
+            });
+        } catch (SQLException e) {
+            throw new IllegalStateException("은행 데이터베이스를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void save(BankDataCodec.BankData data, Map<UUID, Set<String>> removed) throws IOException {
+        try {
+            database.transaction(db -> {
+                PreparedStatement upsert = db.prepare(UPSERT);
+                for (Map.Entry<UUID, List<PlayerBankAccount>> entry : data.accounts().entrySet()) {
+                    String uuid = entry.getKey().toString();
+                    for (PlayerBankAccount account : entry.getValue()) {
+                        upsert.setString(1, uuid);
+                        upsert.setString(2, account.getAccountId());
+                        upsert.setString(3, account.getProductId());
+                        upsert.setDouble(4, account.getPrincipal());
+                        upsert.setDouble(5, account.getAccumulatedInterest());
+                        upsert.setLong(6, account.getCreatedTime());
+                        upsert.setLong(7, account.getLastInterestTime());
+                        upsert.setLong(8, account.getExpiryTime());
+                        upsert.setInt(9, account.isMatured() ? 1 : 0);
+                        upsert.addBatch();
+                    }
+                }
+                upsert.executeBatch();
+
+                PreparedStatement delete = db.prepare(DELETE);
+                for (Map.Entry<UUID, Set<String>> entry : removed.entrySet()) {
+                    for (String accountId : entry.getValue()) {
+                        delete.setString(1, entry.getKey().toString());
+                        delete.setString(2, accountId);
+                        delete.addBatch();
+                    }
+                }
+                delete.executeBatch();
+
+                db.setMeta(META_LEDGER_SEGMENT, Long.toString(data.ledgerSegment()));
+                if (data.interestCursor() != null) {
+                    db.setMeta(META_INTEREST_CURSOR, data.interestCursor().toString());
+                } else {
+                    db.removeMeta(META_INTEREST_CURSOR);
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        if (migrating) {
+            legacy.retire();
+            migrating = false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.myserver.wildcore.claim;
+
+import me.ryanhamshire.GriefPrevention.Claim;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+
+/**
+ * 플레이어가 사유지(하위 사유지 포함)에 들어온 뒤 발생합니다. (ClaimTracker)
+ * 다른 사유지에서 바로 넘어온 경우 같은 이동의 ClaimLeaveEvent 다음에 발생합니다.
+ * 이동이 확정된 뒤의 알림이므로 취소할 수 없습니다. 입장을 막으려면 PlayerMoveEvent에서 처리하세요.
+ */
+public class ClaimEnterEvent extends PlayerEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final Claim claim;
+    private final Claim from;
+
+    public ClaimEnterEvent(Player player, Claim claim, Claim from) {
+        super(player);
+        this.claim = claim;
+        this.from = from;
+    }
+
+    /**
+     * 들어온 사유지
+     */
+    public Claim getClaim() {
+        return claim;
+    }
+
+    /**
+     * 직전에 있던 사유지 (사유지 밖에서 들어왔으면 null)
+     */
+    public Claim getFrom() {
+        return from;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,124 @@
+package com.myserver.wildcore.claim;
+
+import com.myserver.wildcore.managers.ClaimDataManager.ClaimMetadata;
+import com.myserver.wildcore.util.LongObjectHashMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 사유지 플래그 조회 비용 측정 (/wc debug flagbench)
+ * 보호 이벤트 한 번에 해당하는 "사유지 ID + 플래그 -> 값" 조회를
+ * 이전 방식(Long 키 HashMap + 문자열 키 Map)과 현재 방식(long 키 맵 + 비트)으로 각각 반복해 잽니다.
+ */
+public final class ClaimFlagBenchmark {
+
+    private static final ClaimFlags[] FLAGS = ClaimFlags.values();
+
+    private static volatile int sink;
+
+    /**
+     * @param mismatches 두 방식의 결과가 다른 조회 수 (0이어야 정상)
+     */
+    public record Result(int claims, int lookups, int mismatches, long legacyNanos, long bitsetNanos) {
+
+        public double legacyNanosPerLookup() {
+            return (lookups > 0) ? (double) legacyNanos / lookups : 0;
+        }
+
+        public double bitsetNanosPerLookup() {
+            return (lookups > 0) ? (double) bitsetNanos / lookups : 0;
+        }
+    }
+
+    private ClaimFlagBenchmark() {
+    }
+
+    /**
+     * @param claims  만들 사유지 수 (사유지마다 일부 플래그만 직접 설정)
+     * @param lookups 조회 수
+     * @param rounds  반복 횟수 (첫 회는 준비 운동으로 제외, 가장 빠른 시간 사용)
+     */
+    public static Result run(int claims, int lookups, int rounds, long seed) {
+        Random random = new Random(seed);
+        Map<Long, Map<String, Boolean>> legacy = new HashMap<>(claims * 2);
+        LongObjectHashMap<ClaimMetadata> bitset = new LongObjectHashMap<>(claims);
+        Long[] claimIds = new Long[claims];
+        for (int i = 0; i < claims; i++) {
+            // GP의 사유지 ID처럼 이미 감싸진 Long을 그대로 사용
+            Long claimId = (long) (1000 + i * 7);
+            claimIds[i] = claimId;
+            Map<String, Boolean> flags = new HashMap<>();
+            ClaimMetadata metadata = new ClaimMetadata(claimId);
+            for (ClaimFlags flag : FLAGS) {
+                if (random.nextInt(4) == 0) {
+                    boolean value = random.nextBoolean();
+                    flags.put(flag.getKey(), value);
+                    metadata.setFlag(flag, value);
+                }
+            }
+            legacy.put(claimId, flags);
+            bitset.put(claimId, metadata);
+        }
+
+        Long[] lookupIds = new Long[lookups];
+        ClaimFlags[] lookupFlags = new ClaimFlags[lookups];
+        for (int i = 0; i < lookups; i++) {
+            lookupIds[i] = claimIds[random.nextInt(claims)];
+            lookupFlags[i] = FLAGS[random.nextInt(FLAGS.length)];
+        }
+
+        int mismatches = 0;
+        for (int i = 0; i < lookups; i++) {
+            if (legacyLookup(legacy, lookupIds[i], lookupFlags[i]) != bitsetLookup(bitset, lookupIds[i],
+                    lookupFlags[i])) {
+                mismatches++;
+            }
+        }
+
+        long bestLegacy = Long.MAX_VALUE;
+        long bestBitset = Long.MAX_VALUE;
+        for (int round = 0; round <= rounds; round++) {
+            int enabled = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                if (legacyLookup(legacy, lookupIds[i], lookupFlags[i])) {
+                    enabled++;
+                }
+            }
+            long legacyNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                if (bitsetLookup(bitset, lookupIds[i], lookupFlags[i])) {
+                    enabled++;
+                }
+            }
+            long bitsetNanos = System.nanoTime() - start;
+            sink += enabled; // 결과를 사용해 조회가 최적화로 사라지지 않게 함
+
+            if (round > 0) {
+                bestLegacy = Math.min(bestLegacy, legacyNanos);
+                bestBitset = Math.min(bestBitset, bitsetNanos);
+            }
+        }
+        return new Result(claims, lookups, mismatches, bestLegacy, bestBitset);
+    }
+
+    /**
+     * 이전 방식: ClaimDataManager.getClaimFlag(claimId, flag.getKey(), flag.getDefaultValue())
+     */
+    private static boolean legacyLookup(Map<Long, Map<String, Boolean>> legacy, Long claimId, ClaimFlags flag) {
+        Map<String, Boolean> flags = legacy.get(claimId);
+        return (flags != null) ? flags.getOrDefault(flag.getKey(), flag.getDefaultValue()) : flag.getDefaultValue();
+    }
+
+    /**
+     * 현재 방식: ClaimDataManager.getClaimFlag(claimId, flag)
+     */
+    private static boolean bitsetLookup(LongObjectHashMap<ClaimMetadata> bitset, Long claimId, ClaimFlags flag) {
+        ClaimMetadata metadata = bitset.get(claimId);
+        return (metadata != null) ? metadata.getFlag(flag) : flag.getDefaultValue();
+    }
+}
@@ -3,7 +3,9 @@ package com.myserver.wildcore.claim;
 import org.bukkit.Material;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -126,6 +128,14 @@ public enum ClaimFlags {
         private final boolean defaultValue;
         private final String[] description;
 
+        private static final Map<String, ClaimFlags> BY_KEY = new HashMap<>();
+
+        static {
+                for (ClaimFlags flag : values()) {
+                        BY_KEY.put(flag.key, flag);
+                }
+        }
+
         ClaimFlags(String key, String displayName, Category category,
                         Material icon, boolean defaultValue, String... description) {
                 this.key = key;
@@ -160,16 +170,18 @@ public enum ClaimFlags {
                 return description;
         }
 
+        /**
+         * 플래그 비트 (사유지별 플래그를 long 하나에 담기 위함, 플래그는 64개까지)
+         */
+        public long bit() {
+                return 1L << ordinal();
+        }
+
         /**
          * 키 값으로 플래그를 찾습니다.
          */
         public static ClaimFlags fromKey(String key) {
-                for (ClaimFlags flag : values()) {
-                        if (flag.key.equals(key)) {
-                                return flag;
-                        }
-                }
-                return null;
+                return BY_KEY.get(key);
         }
 
         /**
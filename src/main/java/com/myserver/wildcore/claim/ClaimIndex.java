@@ -0,0 +1,276 @@
+package com.myserver.wildcore.claim;
+
+import com.myserver.wildcore.util.LongObjectHashMap;
+import me.ryanhamshire.GriefPrevention.Claim;
+import me.ryanhamshire.GriefPrevention.DataStore;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 청크 단위 사유지 색인 (GriefPrevention getClaimAt 앞단 캐시)
+ * - 최상위 사유지가 걸친 청크마다 후보 목록을 만들어 두고, 조회는 청크 키 하나로 찾음
+ * - 사유지가 없는 청크는 키 자체가 없으므로 해시 조회 한 번으로 끝남 (대부분의 이벤트)
+ * - 하위 사유지는 찾은 사유지의 children에서 GP와 같은 순서로 확인
+ * - 후보가 GP에서 이미 빠진 사유지면 (색인 갱신 전) GP 조회로 대신함
+ * 메인 스레드에서만 사용합니다.
+ */
+public class ClaimIndex {
+
+    /**
+     * 색인된 최상위 사유지 (경계는 블록 좌표, 양 끝 포함, 높이 무시)
+     */
+    public static final class Entry {
+        public final Claim claim;
+        public final long claimId;
+        public final UUID worldId;
+        public final int minX;
+        public final int minZ;
+        public final int maxX;
+        public final int maxZ;
+
+        Entry(Claim claim, long claimId, UUID worldId, int minX, int minZ, int maxX, int maxZ) {
+            this.claim = claim;
+            this.claimId = claimId;
+            this.worldId = worldId;
+            this.minX = minX;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxZ = maxZ;
+        }
+
+        public boolean contains(int x, int z) {
+            return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+        }
+    }
+
+    private final DataStore dataStore;
+
+    // 월드 UUID -> 청크 키 -> 그 청크에 걸친 사유지
+    private final Map<UUID, LongObjectHashMap<Entry[]>> worlds = new HashMap<>();
+    // 사유지 ID -> 색인 항목 (삭제/갱신 시 걸친 청크를 찾기 위함)
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    // 색인이 바뀔 때마다 증가 (색인 기반 캐시의 갱신 확인용)
+    private int revision;
+
+    // 마지막으로 조회한 월드 (대부분 같은 월드를 연달아 조회)
+    private UUID lastWorldId;
+    private LongObjectHashMap<Entry[]> lastChunks;
+
+    public ClaimIndex(DataStore dataStore) {
+        this.dataStore = dataStore;
+    }
+
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    // =====================
+    // 색인 관리
+    // =====================
+
+    /**
+     * 전체 다시 만들기 (GP의 최상위 사유지 목록 기준)
+     */
+    public void rebuild(Collection<Claim> claims) {
+        revision++;
+        worlds.clear();
+        entries.clear();
+        lastWorldId = null;
+        lastChunks = null;
+        for (Claim claim : claims) {
+            add(claim);
+        }
+    }
+
+    /**
+     * 최상위 사유지 하나 색인 (이미 있으면 새 경계로 교체, 하위 사유지는 무시)
+     */
+    public void add(Claim claim) {
+        revision++; // 하위 사유지 변경도 부모 색인 기반 캐시에 영향을 줌
+        if (claim == null || claim.parent != null || claim.getID() == null) {
+            return;
+        }
+        long claimId = claim.getID();
+        remove(claimId);
+
+        Location lesser = claim.getLesserBoundaryCorner();
+        Location greater = claim.getGreaterBoundaryCorner();
+        if (lesser == null || greater == null || lesser.getWorld() == null) {
+            return;
+        }
+        Entry entry = new Entry(claim, claimId, lesser.getWorld().getUID(),
+                Math.min(lesser.getBlockX(), greater.getBlockX()), Math.min(lesser.getBlockZ(), greater.getBlockZ()),
+                Math.max(lesser.getBlockX(), greater.getBlockX()), Math.max(lesser.getBlockZ(), greater.getBlockZ()));
+        entries.put(claimId, entry);
+
+        LongObjectHashMap<Entry[]> chunks = worlds.computeIfAbsent(entry.worldId, k -> new LongObjectHashMap<>());
+        lastWorldId = null; // 새 월드가 생겼을 수 있음
+        for (int chunkX = entry.minX >> 4; chunkX <= entry.maxX >> 4; chunkX++) {
+            for (int chunkZ = entry.minZ >> 4; chunkZ <= entry.maxZ >> 4; chunkZ++) {
+                long key = chunkKey(chunkX, chunkZ);
+                Entry[] current = chunks.get(key);
+                if (current == null) {
+                    chunks.put(key, new Entry[]{entry});
+                } else {
+                    Entry[] grown = Arrays.copyOf(current, current.length + 1);
+                    grown[current.length] = entry;
+                    chunks.put(key, grown);
+                }
+            }
+        }
+    }
+
+    /**
+     * 사유지 하나를 색인에서 제거
+     */
+    public void remove(long claimId) {
+        revision++;
+        Entry entry = entries.remove(claimId);
+        if (entry == null) {
+            return;
+        }
+        LongObjectHashMap<Entry[]> chunks = worlds.get(entry.worldId);
+        if (chunks == null) {
+            return;
+        }
+        for (int chunkX = entry.minX >> 4; chunkX <= entry.maxX >> 4; chunkX++) {
+            for (int chunkZ = entry.minZ >> 4; chunkZ <= entry.maxZ >> 4; chunkZ++) {
+                long key = chunkKey(chunkX, chunkZ);
+                Entry[] current = chunks.get(key);
+                if (current == null) {
+                    continue;
+                }
+                Entry[] remaining = new Entry[current.length];
+                int count = 0;
+                for (Entry candidate : current) {
+                    if (candidate != entry) {
+                        remaining[count++] = candidate;
+                    }
+                }
+                if (count == 0) {
+                    chunks.remove(key);
+                } else if (count < current.length) {
+                    chunks.put(key, Arrays.copyOf(remaining, count));
+                }
+            }
+        }
+    }
+
+    // =====================
+    // 조회
+    // =====================
+
+    /**
+     * 해당 위치의 사유지 (하위 사유지 포함, 높이 무시, 없으면 null)
+     * GP의 getClaimAt(location, true, null)과 같은 결과를 돌려줍니다.
+     */
+    public Claim getClaimAt(Location location) {
+        World world = location.getWorld();
+        if (world == null) {
+            return null;
+        }
+        LongObjectHashMap<Entry[]> chunks = getChunks(world.getUID());
+        if (chunks == null) {
+            return null;
+        }
+        int x = location.getBlockX();
+        int z = location.getBlockZ();
+        Entry[] candidates = chunks.get(chunkKey(x >> 4, z >> 4));
+        if (candidates == null) {
+            return null;
+        }
+        for (Entry entry : candidates) {
+            if (!entry.contains(x, z)) {
+                continue;
+            }
+            Claim claim = entry.claim;
+            if (!claim.inDataStore) {
+                // GP에서는 이미 바뀌었지만 색인 갱신 전
+                return dataStore.getClaimAt(location, true, null);
+            }
+            List<Claim> children = claim.children;
+            for (int i = 0; i < children.size(); i++) {
+                Claim child = children.get(i);
+                if (child.inDataStore && child.contains(location, true, false)) {
+                    return child;
+                }
+            }
+            return claim;
+        }
+        return null;
+    }
+
+    /**
+     * 영역(블록 좌표, 양 끝 포함)과 겹치는 최상위 사유지를 out에 추가 (중복 없이)
+     */
+    public void collectEntries(UUID worldId, int minX, int minZ, int maxX, int maxZ, List<Entry> out) {
+        LongObjectHashMap<Entry[]> chunks = getChunks(worldId);
+        if (chunks == null) {
+            return;
+        }
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                Entry[] candidates = chunks.get(chunkKey(chunkX, chunkZ));
+                if (candidates == null) {
+                    continue;
+                }
+                for (Entry entry : candidates) {
+                    if (entry.maxX >= minX && entry.minX <= maxX && entry.maxZ >= minZ && entry.minZ <= maxZ
+                            && !out.contains(entry)) {
+                        out.add(entry);
+                    }
+                }
+            }
+        }
+    }
+
+    private LongObjectHashMap<Entry[]> getChunks(UUID worldId) {
+        if (!worldId.equals(lastWorldId)) {
+            lastChunks = worlds.get(worldId);
+            lastWorldId = worldId;
+        }
+        return lastChunks;
+    }
+
+    /**
+     * 색인된 사유지 항목 (없으면 null)
+     */
+    public Entry getEntry(long claimId) {
+        return entries.get(claimId);
+    }
+
+    /**
+     * 색인된 모든 최상위 사유지 (순서 없음)
+     */
+    public void forEachEntry(Consumer<Entry> action) {
+        entries.values().forEach(action);
+    }
+
+    public int getRevision() {
+        return revision;
+    }
+
+    public int getClaimCount() {
+        return entries.size();
+    }
+
+    /**
+     * 사유지가 걸친 청크 수 (모든 월드 합계)
+     */
+    public int getChunkCount() {
+        int count = 0;
+        for (LongObjectHashMap<Entry[]> chunks : worlds.values()) {
+            count += chunks.size();
+        }
+        return count;
+    }
+}
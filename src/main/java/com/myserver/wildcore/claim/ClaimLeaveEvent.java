@@ -0,0 +1,47 @@
+package com.myserver.wildcore.claim;
+
+import me.ryanhamshire.GriefPrevention.Claim;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+
+/**
+ * 플레이어가 사유지(하위 사유지 포함)에서 나간 뒤 발생합니다. (ClaimTracker)
+ * 이동이 확정된 뒤의 알림이므로 취소할 수 없습니다.
+ */
+public class ClaimLeaveEvent extends PlayerEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final Claim claim;
+    private final Claim to;
+
+    public ClaimLeaveEvent(Player player, Claim claim, Claim to) {
+        super(player);
+        this.claim = claim;
+        this.to = to;
+    }
+
+    /**
+     * 나간 사유지
+     */
+    public Claim getClaim() {
+        return claim;
+    }
+
+    /**
+     * 이어서 들어간 사유지 (사유지 밖으로 나갔으면 null)
+     */
+    public Claim getTo() {
+        return to;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
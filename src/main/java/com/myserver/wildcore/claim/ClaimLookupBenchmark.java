@@ -0,0 +1,115 @@
+package com.myserver.wildcore.claim;
+
+import me.ryanhamshire.GriefPrevention.Claim;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 사유지 조회 성능 비교 (/wc debug claimbench)
+ * 실제 사유지 주변과 월드 임의 위치를 섞은 좌표로 청크 색인과 GP 직접 조회를 각각 측정하고,
+ * 두 결과가 모두 같은지 확인합니다. GP 조회는 스레드 안전하지 않으므로 메인 스레드에서 실행해야 합니다.
+ */
+public final class ClaimLookupBenchmark {
+
+    // 사유지 경계 밖으로 벗어난 좌표도 섞기 위한 여유 (블록)
+    private static final int CLAIM_MARGIN = 16;
+    // 사유지와 무관한 좌표의 범위 (중심에서 ±블록)
+    private static final int WORLD_SPREAD = 10_000;
+
+    private static volatile int sink;
+
+    /**
+     * @param hits       사유지 안으로 판정된 좌표 수
+     * @param mismatches 색인과 GP 결과가 다른 좌표 수 (0이어야 정상)
+     */
+    public record Result(int samples, int hits, int mismatches, long indexNanos, long directNanos) {
+
+        public double indexNanosPerLookup() {
+            return (samples > 0) ? (double) indexNanos / samples : 0;
+        }
+
+        public double directNanosPerLookup() {
+            return (samples > 0) ? (double) directNanos / samples : 0;
+        }
+    }
+
+    private ClaimLookupBenchmark() {
+    }
+
+    /**
+     * @param claims  좌표를 고를 사유지 (비어 있으면 world의 임의 좌표만 사용)
+     * @param world   사유지가 없을 때 사용할 월드
+     * @param samples 좌표 수 (절반은 사유지 주변)
+     * @param rounds  반복 횟수 (첫 회는 준비 운동으로 제외, 가장 빠른 시간 사용)
+     */
+    public static Result run(List<Claim> claims, World world, Function<Location, Claim> index,
+            Function<Location, Claim> direct, int samples, int rounds, long seed) {
+        Random random = new Random(seed);
+        Location[] locations = new Location[samples];
+        for (int i = 0; i < samples; i++) {
+            locations[i] = createLocation(claims, world, random, (i & 1) == 0);
+        }
+
+        int hits = 0;
+        int mismatches = 0;
+        for (Location location : locations) {
+            Claim expected = direct.apply(location);
+            if (expected != null) {
+                hits++;
+            }
+            if (index.apply(location) != expected) {
+                mismatches++;
+            }
+        }
+
+        long bestIndex = Long.MAX_VALUE;
+        long bestDirect = Long.MAX_VALUE;
+        for (int round = 0; round <= rounds; round++) {
+            long indexNanos = measure(locations, index);
+            long directNanos = measure(locations, direct);
+            if (round > 0) {
+                bestIndex = Math.min(bestIndex, indexNanos);
+                bestDirect = Math.min(bestDirect, directNanos);
+            }
+        }
+        return new Result(samples, hits, mismatches, bestIndex, bestDirect);
+    }
+
+    private static long measure(Location[] locations, Function<Location, Claim> lookup) {
+        int found = 0;
+        long start = System.nanoTime();
+        for (Location location : locations) {
+            if (lookup.apply(location) != null) {
+                found++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        sink += found; // 결과를 사용해 조회가 최적화로 사라지지 않게 함
+        return elapsed;
+    }
+
+    private static Location createLocation(List<Claim> claims, World world, Random random, boolean nearClaim) {
+        if (claims.isEmpty()) {
+            return new Location(world, random.nextInt(WORLD_SPREAD * 2) - WORLD_SPREAD, 64,
+                    random.nextInt(WORLD_SPREAD * 2) - WORLD_SPREAD);
+        }
+        Claim claim = claims.get(random.nextInt(claims.size()));
+        Location lesser = claim.getLesserBoundaryCorner();
+        Location greater = claim.getGreaterBoundaryCorner();
+        if (!nearClaim) {
+            int centerX = (lesser.getBlockX() + greater.getBlockX()) / 2;
+            int centerZ = (lesser.getBlockZ() + greater.getBlockZ()) / 2;
+            return new Location(lesser.getWorld(), centerX + random.nextInt(WORLD_SPREAD * 2) - WORLD_SPREAD, 64,
+                    centerZ + random.nextInt(WORLD_SPREAD * 2) - WORLD_SPREAD);
+        }
+        int minX = lesser.getBlockX() - CLAIM_MARGIN;
+        int minZ = lesser.getBlockZ() - CLAIM_MARGIN;
+        int width = greater.getBlockX() - lesser.getBlockX() + CLAIM_MARGIN * 2 + 1;
+        int length = greater.getBlockZ() - lesser.getBlockZ() + CLAIM_MARGIN * 2 + 1;
+        return new Location(lesser.getWorld(), minX + random.nextInt(width), 64, minZ + random.nextInt(length));
+    }
+}
@@ -0,0 +1,32 @@
+package com.myserver.wildcore.claim;
+
+import com.myserver.wildcore.managers.ClaimDataManager.ClaimMetadata;
+
+import java.util.Map;
+
+/**
+ * 사유지 메타데이터 저장소
+ * 저장/삭제는 호출한 스레드에서 값을 복사해 두고 백그라운드에서 기록합니다.
+ */
+public interface ClaimStorage {
+
+    /**
+     * 전체 메타데이터 읽기 (Claim ID -> 메타데이터)
+     */
+    Map<Long, ClaimMetadata> loadAll();
+
+    /**
+     * 사유지 하나 저장 (비동기)
+     */
+    void save(ClaimMetadata metadata);
+
+    /**
+     * 사유지 하나 삭제 (비동기)
+     */
+    void delete(long claimId);
+
+    /**
+     * 대기 중인 기록이 모두 끝날 때까지 대기
+     */
+    void flush();
+}
@@ -0,0 +1,283 @@
+package com.myserver.wildcore.claim;
+
+import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.managers.ClaimManager;
+import me.ryanhamshire.GriefPrevention.Claim;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 플레이어별 현재 사유지 추적
+ * - 마지막으로 찾은 사유지와 "결과가 같다고 보장되는 영역"을 기억해 두고,
+ * 그 영역을 벗어날 때만 다시 조회 (대부분의 이동 이벤트는 정수 비교만 함)
+ * - 영역: 하위 사유지가 없는 사유지는 사유지 전체, 사유지가 없는 청크는 청크 전체, 그 외에는 해당 블록
+ * - 사유지 색인이 바뀌면(생성/삭제/크기 변경) 기억한 결과를 버림
+ * - 이동이 확정되면(MONITOR) 사유지가 바뀐 경우 ClaimLeaveEvent, ClaimEnterEvent 순으로 발생
+ * (탈것을 탄 플레이어는 PlayerMoveEvent가 없으므로 VehicleMoveEvent로 확인)
+ * 메인 스레드에서만 사용합니다.
+ */
+public class ClaimTracker implements Listener {
+
+    /**
+     * 플레이어별 상태 (마지막 조회 결과와 확정된 현재 사유지)
+     */
+    private static final class State {
+        // 마지막 조회 결과와 그 결과가 유지되는 영역 (블록 좌표, 양 끝 포함)
+        World world;
+        int revision = -1;
+        int minX;
+        int minZ;
+        int maxX;
+        int maxZ;
+        Claim resolved;
+
+        // 이동이 확정된 현재 사유지
+        Claim current;
+
+        boolean covers(World world, int x, int z, int revision) {
+            return revision != -1 && this.revision == revision && this.world == world
+                    && x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+        }
+    }
+
+    private final WildCore plugin;
+    private final ClaimManager claimManager;
+    private final Map<UUID, State> states = new HashMap<>();
+
+    private long lookups;
+    private long resolves;
+
+    public ClaimTracker(WildCore plugin, ClaimManager claimManager) {
+        this.plugin = plugin;
+        this.claimManager = claimManager;
+    }
+
+    // =====================
+    // 조회
+    // =====================
+
+    /**
+     * 플레이어 기준으로 해당 위치의 사유지 (getClaimAt과 같은 결과, 기억한 영역 안이면 다시 조회하지 않음)
+     * 이동 전 검사(입장 제한 등)에 사용하며, 현재 사유지는 바꾸지 않습니다.
+     */
+    public Claim getClaimAt(Player player, Location location) {
+        State state = states.computeIfAbsent(player.getUniqueId(), k -> new State());
+        return resolve(state, location);
+    }
+
+    /**
+     * 플레이어가 마지막으로 확정된 이동 기준으로 있는 사유지 (없으면 null)
+     */
+    public Claim getCurrentClaim(Player player) {
+        State state = states.get(player.getUniqueId());
+        return (state != null) ? state.current : null;
+    }
+
+    private Claim resolve(State state, Location location) {
+        lookups++;
+        World world = location.getWorld();
+        int x = location.getBlockX();
+        int z = location.getBlockZ();
+        int revision = claimManager.getClaimIndexRevision();
+        if (state.covers(world, x, z, revision)) {
+            return state.resolved;
+        }
+
+        resolves++;
+        Claim claim = claimManager.getClaimAt(location);
+        state.world = world;
+        state.revision = revision;
+        state.resolved = claim;
+        // 기본은 해당 블록만 (결과가 바뀔 수 있는 경계 근처)
+        state.minX = state.maxX = x;
+        state.minZ = state.maxZ = z;
+        if (revision == -1 || world == null) {
+            return claim;
+        }
+
+        if (claim == null) {
+            int chunkMinX = x & ~15;
+            int chunkMinZ = z & ~15;
+            List<ClaimIndex.Entry> entries = claimManager.getIndexedClaimsInArea(world, chunkMinX, chunkMinZ,
+                    chunkMinX + 15, chunkMinZ + 15);
+            if (entries != null && entries.isEmpty()) {
+                setBounds(state, chunkMinX, chunkMinZ, chunkMinX + 15, chunkMinZ + 15);
+            }
+        } else if (isStable(claim)) {
+            Location lesser = claim.getLesserBoundaryCorner();
+            Location greater = claim.getGreaterBoundaryCorner();
+            setBounds(state, Math.min(lesser.getBlockX(), greater.getBlockX()),
+                    Math.min(lesser.getBlockZ(), greater.getBlockZ()),
+                    Math.max(lesser.getBlockX(), greater.getBlockX()),
+                    Math.max(lesser.getBlockZ(), greater.getBlockZ()));
+        }
+        return claim;
+    }
+
+    /**
+     * 사유지 경계 안이면 어디서든 같은 결과인지
+     * (하위 사유지가 있는 사유지, 앞선 형제와 겹치는 하위 사유지는 위치마다 결과가 다를 수 있음)
+     */
+    private static boolean isStable(Claim claim) {
+        if (claim.parent == null) {
+            for (Claim child : claim.children) {
+                if (child.inDataStore) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        Location lesser = claim.getLesserBoundaryCorner();
+        Location greater = claim.getGreaterBoundaryCorner();
+        for (Claim sibling : claim.parent.children) {
+            if (sibling == claim) {
+                return true;
+            }
+            if (sibling.inDataStore && overlaps(sibling, lesser, greater)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean overlaps(Claim claim, Location lesser, Location greater) {
+        Location otherLesser = claim.getLesserBoundaryCorner();
+        Location otherGreater = claim.getGreaterBoundaryCorner();
+        return otherGreater.getBlockX() >= lesser.getBlockX() && otherLesser.getBlockX() <= greater.getBlockX()
+                && otherGreater.getBlockZ() >= lesser.getBlockZ() && otherLesser.getBlockZ() <= greater.getBlockZ();
+    }
+
+    private static void setBounds(State state, int minX, int minZ, int maxX, int maxZ) {
+        state.minX = minX;
+        state.minZ = minZ;
+        state.maxX = maxX;
+        state.maxZ = maxZ;
+    }
+
+    // =====================
+    // 이동 확정
+    // =====================
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        // 같은 블록 안의 이동은 사유지가 바뀌지 않음
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (from.getBlockX() == to.getBlockX() && from.getBlockZ() == to.getBlockZ()
+                && from.getWorld() == to.getWorld()) {
+            return;
+        }
+        update(event.getPlayer(), to);
+    }
+
+    /**
+     * 말, 보트, 광산 수레 등에 탄 플레이어의 이동
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onVehicleMove(VehicleMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (from.getBlockX() == to.getBlockX() && from.getBlockZ() == to.getBlockZ()
+                && from.getWorld() == to.getWorld()) {
+            return;
+        }
+        for (Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof Player player) {
+                update(player, to);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        update(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        update(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        update(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    /**
+     * 이미 접속 중인 플레이어의 현재 사유지 확정 (플러그인 활성화/리로드 시, 리스너 등록 후 호출)
+     */
+    public void updateOnlinePlayers() {
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            update(player, player.getLocation());
+        }
+    }
+
+    /**
+     * 접속 종료 시에는 이벤트 없이 정리
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        states.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * 플레이어의 현재 위치를 확정하고, 사유지가 바뀌었으면 퇴장/입장 이벤트 발생
+     */
+    public void update(Player player, Location location) {
+        if (!claimManager.isEnabled() || location == null)
+            return;
+
+        State state = states.computeIfAbsent(player.getUniqueId(), k -> new State());
+        Claim claim = resolve(state, location);
+        Claim previous = state.current;
+        state.current = claim;
+        if (claim == previous || (claim != null && previous != null && claim.getID().equals(previous.getID()))) {
+            return; // 같은 사유지 (크기 변경 등으로 객체만 바뀐 경우 포함)
+        }
+
+        if (previous != null) {
+            plugin.getServer().getPluginManager().callEvent(new ClaimLeaveEvent(player, previous, claim));
+        }
+        if (claim != null) {
+            plugin.getServer().getPluginManager().callEvent(new ClaimEnterEvent(player, claim, previous));
+        }
+    }
+
+    // =====================
+    // 통계
+    // =====================
+
+    /**
+     * 위치 조회 요청 수
+     */
+    public long getLookupCount() {
+        return lookups;
+    }
+
+    /**
+     * 그중 실제로 사유지를 다시 찾은 수
+     */
+    public long getResolveCount() {
+        return resolves;
+    }
+
+    public int getTrackedPlayerCount() {
+        return states.size();
+    }
+}
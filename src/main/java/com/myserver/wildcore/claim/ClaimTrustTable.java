@@ -0,0 +1,83 @@
+package com.myserver.wildcore.claim;
+
+import com.myserver.wildcore.managers.ClaimManager.TrustType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사유지 하나의 Trust 표 (UUID -> Trust 타입)
+ * - UUID를 상위/하위 long 두 배열로 나눠 정렬해 두고 이진 탐색으로 조회
+ * - 조회 중에는 객체를 만들지 않음 (이동/상호작용 이벤트마다 호출됨)
+ * 생성 후에는 바뀌지 않으며, Trust가 바뀌면 표를 새로 만듭니다.
+ */
+public final class ClaimTrustTable {
+
+    public static final ClaimTrustTable EMPTY = new ClaimTrustTable(new long[0], new long[0], new byte[0]);
+
+    private static final TrustType[] TRUST_TYPES = TrustType.values();
+
+    private final long[] most;
+    private final long[] least;
+    private final byte[] levels;
+
+    private ClaimTrustTable(long[] most, long[] least, byte[] levels) {
+        this.most = most;
+        this.least = least;
+        this.levels = levels;
+    }
+
+    public static ClaimTrustTable of(Map<UUID, TrustType> trusted) {
+        if (trusted.isEmpty()) {
+            return EMPTY;
+        }
+        List<Map.Entry<UUID, TrustType>> entries = new ArrayList<>(trusted.entrySet());
+        entries.sort(Map.Entry.comparingByKey(ClaimTrustTable::compare));
+        long[] most = new long[entries.size()];
+        long[] least = new long[entries.size()];
+        byte[] levels = new byte[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            UUID uuid = entries.get(i).getKey();
+            most[i] = uuid.getMostSignificantBits();
+            least[i] = uuid.getLeastSignificantBits();
+            levels[i] = (byte) entries.get(i).getValue().ordinal();
+        }
+        return new ClaimTrustTable(most, least, levels);
+    }
+
+    private static int compare(UUID a, UUID b) {
+        int result = Long.compare(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return (result != 0) ? result : Long.compare(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    /**
+     * 플레이어의 Trust 타입 (없으면 null)
+     */
+    public TrustType get(UUID uuid) {
+        long targetMost = uuid.getMostSignificantBits();
+        long targetLeast = uuid.getLeastSignificantBits();
+        int low = 0;
+        int high = most.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int result = Long.compare(most[mid], targetMost);
+            if (result == 0) {
+                result = Long.compare(least[mid], targetLeast);
+            }
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid - 1;
+            } else {
+                return TRUST_TYPES[levels[mid]];
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return most.length;
+    }
+}
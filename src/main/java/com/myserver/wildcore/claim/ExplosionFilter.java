@@ -0,0 +1,159 @@
+package com.myserver.wildcore.claim;
+
+import com.myserver.wildcore.managers.ClaimDataManager;
+import com.myserver.wildcore.managers.ClaimManager;
+import me.ryanhamshire.GriefPrevention.Claim;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 폭발 피해 블록 필터 (EXPLOSIONS 플래그가 꺼진 사유지의 블록 제외)
+ * - 블록 목록의 경계 상자와 겹치는 사유지를 색인에서 한 번만 찾고,
+ * 사유지마다 경계와 플래그를 미리 읽어 둔 뒤 블록은 정수 비교로만 판정
+ * - 하위 사유지는 자신의 플래그를 따름 (getClaimAt으로 블록마다 찾던 결과와 같음)
+ * - 색인을 쓸 수 없으면 블록마다 getClaimAt으로 확인
+ * 메인 스레드에서만 사용합니다.
+ */
+public class ExplosionFilter {
+
+    /**
+     * 미리 읽어 둔 사유지 영역 (블록 좌표, 양 끝 포함, 높이 무시)
+     */
+    private record Area(int minX, int minZ, int maxX, int maxZ, boolean protectedArea, Area[] children) {
+
+        boolean contains(int x, int z) {
+            return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+        }
+    }
+
+    private static final Area[] NO_AREAS = new Area[0];
+
+    private final ClaimManager claimManager;
+    private final ClaimDataManager claimDataManager;
+
+    public ExplosionFilter(ClaimManager claimManager, ClaimDataManager claimDataManager) {
+        this.claimManager = claimManager;
+        this.claimDataManager = claimDataManager;
+    }
+
+    /**
+     * 보호되는 블록을 목록에서 제거 (목록을 직접 수정)
+     */
+    public void filter(List<Block> blocks) {
+        if (blocks.isEmpty()) {
+            return;
+        }
+
+        int minX = Integer.MAX_VALUE;
+        int minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxZ = Integer.MIN_VALUE;
+        for (int i = 0; i < blocks.size(); i++) {
+            Block block = blocks.get(i);
+            minX = Math.min(minX, block.getX());
+            minZ = Math.min(minZ, block.getZ());
+            maxX = Math.max(maxX, block.getX());
+            maxZ = Math.max(maxZ, block.getZ());
+        }
+
+        List<ClaimIndex.Entry> entries = claimManager.getIndexedClaimsInArea(blocks.get(0).getWorld(), minX, minZ,
+                maxX, maxZ);
+        if (entries == null) {
+            filterEach(blocks);
+            return;
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Area[] areas = new Area[entries.size()];
+        boolean anyProtected = false;
+        for (int i = 0; i < areas.length; i++) {
+            Claim claim = entries.get(i).claim;
+            if (!claim.inDataStore) {
+                // GP에서는 이미 바뀌었지만 색인 갱신 전
+                filterEach(blocks);
+                return;
+            }
+            areas[i] = createArea(entries.get(i), claim);
+            anyProtected |= hasProtected(areas[i]);
+        }
+        if (!anyProtected) {
+            return;
+        }
+
+        blocks.removeIf(block -> isProtected(areas, block.getX(), block.getZ()));
+    }
+
+    private Area createArea(ClaimIndex.Entry entry, Claim claim) {
+        Area[] children = NO_AREAS;
+        List<Claim> subclaims = claim.children;
+        if (!subclaims.isEmpty()) {
+            // GP와 같은 순서로 확인하도록 children 순서 유지
+            children = new Area[subclaims.size()];
+            int count = 0;
+            for (int i = 0; i < subclaims.size(); i++) {
+                Claim child = subclaims.get(i);
+                if (!child.inDataStore) {
+                    continue;
+                }
+                Location lesser = child.getLesserBoundaryCorner();
+                Location greater = child.getGreaterBoundaryCorner();
+                children[count++] = new Area(
+                        Math.min(lesser.getBlockX(), greater.getBlockX()),
+                        Math.min(lesser.getBlockZ(), greater.getBlockZ()),
+                        Math.max(lesser.getBlockX(), greater.getBlockX()),
+                        Math.max(lesser.getBlockZ(), greater.getBlockZ()),
+                        isProtected(child), NO_AREAS);
+            }
+            if (count < children.length) {
+                children = Arrays.copyOf(children, count);
+            }
+        }
+        return new Area(entry.minX, entry.minZ, entry.maxX, entry.maxZ, isProtected(claim), children);
+    }
+
+    private boolean isProtected(Claim claim) {
+        return !claimDataManager.getClaimFlag(claim.getID(), ClaimFlags.EXPLOSIONS);
+    }
+
+    private static boolean hasProtected(Area area) {
+        if (area.protectedArea()) {
+            return true;
+        }
+        for (Area child : area.children()) {
+            if (child.protectedArea()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isProtected(Area[] areas, int x, int z) {
+        for (Area area : areas) {
+            if (!area.contains(x, z)) {
+                continue;
+            }
+            for (Area child : area.children()) {
+                if (child.contains(x, z)) {
+                    return child.protectedArea();
+                }
+            }
+            return area.protectedArea();
+        }
+        return false;
+    }
+
+    /**
+     * 블록마다 사유지 조회 (색인을 쓸 수 없을 때)
+     */
+    private void filterEach(List<Block> blocks) {
+        blocks.removeIf(block -> {
+            Claim claim = claimManager.getClaimAt(block.getLocation());
+            return claim != null && isProtected(claim);
+        });
+    }
+}
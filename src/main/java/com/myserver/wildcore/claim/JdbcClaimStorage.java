@@ -0,0 +1,211 @@
+package com.myserver.wildcore.claim;
+
+import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.managers.ClaimDataManager.ClaimMetadata;
+import com.myserver.wildcore.storage.Database;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 데이터베이스 저장소
+ * - wc_claims: 사유지마다 한 행 (별명, 생성 시각, 아이콘, 청크 로드, 홈 위치)
+ * - wc_claim_flags: 플래그마다 한 행
+ * 변경된 사유지 한 개만 한 트랜잭션으로 기록하며, 처음 사용할 때 claims.yml이 있으면 한 번 옮깁니다.
+ */
+public class JdbcClaimStorage implements ClaimStorage {
+
+    private static final String META_MIGRATED = "claims.migrated";
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS wc_claims (claim_id INTEGER PRIMARY KEY, nickname TEXT NOT NULL, "
+                    + "created_at INTEGER NOT NULL, icon TEXT NOT NULL, chunk_loaded INTEGER NOT NULL, "
+                    + "home_world TEXT, home_x REAL, home_y REAL, home_z REAL, home_yaw REAL, home_pitch REAL)",
+            "CREATE TABLE IF NOT EXISTS wc_claim_flags (claim_id INTEGER NOT NULL, flag TEXT NOT NULL, "
+                    + "value INTEGER NOT NULL, PRIMARY KEY (claim_id, flag))"
+    };
+
+    private static final String UPSERT = "INSERT INTO wc_claims (claim_id, nickname, created_at, icon, chunk_loaded, "
+            + "home_world, home_x, home_y, home_z, home_yaw, home_pitch) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT(claim_id) DO UPDATE SET nickname = excluded.nickname, created_at = excluded.created_at, "
+            + "icon = excluded.icon, chunk_loaded = excluded.chunk_loaded, home_world = excluded.home_world, "
+            + "home_x = excluded.home_x, home_y = excluded.home_y, home_z = excluded.home_z, "
+            + "home_yaw = excluded.home_yaw, home_pitch = excluded.home_pitch";
+
+    /**
+     * 기록할 값 (호출한 스레드에서 복사)
+     */
+    private record ClaimRow(long claimId, String nickname, long createdAt, String icon, boolean chunkLoaded,
+            String homeWorld, double[] home, Map<String, Boolean> flags) {
+    }
+
+    private final WildCore plugin;
+    private final Database database;
+    private final YamlClaimStorage legacy;
+
+    public JdbcClaimStorage(WildCore plugin, Database database, YamlClaimStorage legacy) throws SQLException {
+        this.plugin = plugin;
+        this.database = database;
+        this.legacy = legacy;
+        database.call(db -> {
+            db.execute(Database.META_SCHEMA);
+            for (String table : SCHEMA) {
+                db.execute(table);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public Map<Long, ClaimMetadata> loadAll() {
+        try {
+            if (database.call(db -> db.getMeta(META_MIGRATED)) == null && legacy.exists()) {
+                return migrate();
+            }
+            Map<Long, ClaimMetadata> claims = new HashMap<>();
+            Map<Long, ClaimRow> homes = new HashMap<>();
+            database.call(db -> {
+                try (ResultSet rows = db.prepare("SELECT claim_id, nickname, created_at, icon, chunk_loaded, "
+                        + "home_world, home_x, home_y, home_z, home_yaw, home_pitch FROM wc_claims").executeQuery()) {
+                    while (rows.next()) {
+                        ClaimMetadata metadata = new ClaimMetadata(rows.getLong(1));
+                        metadata.setNickname(rows.getString(2));
+                        metadata.setCreatedAt(rows.getLong(3));
+                        metadata.setIcon(rows.getString(4));
+                        metadata.setChunkLoaded(rows.getInt(5) != 0);
+                        String worldName = rows.getString(6);
+                        if (worldName != null) {
+                            homes.put(metadata.getClaimId(), new ClaimRow(metadata.getClaimId(), null, 0, null,
+                                    false, worldName, new double[]{rows.getDouble(7), rows.getDouble(8),
+                                            rows.getDouble(9), rows.getDouble(10), rows.getDouble(11)}, null));
+                        }
+                        claims.put(metadata.getClaimId(), metadata);
+                    }
+                }
+                try (ResultSet rows = db.prepare("SELECT claim_id, flag, value FROM wc_claim_flags").executeQuery()) {
+                    while (rows.next()) {
+                        ClaimMetadata metadata = claims.get(rows.getLong(1));
+                        if (metadata != null) {
+                            metadata.setFlag(rows.getString(2), rows.getInt(3) != 0);
+                        }
+                    }
+                }
+                return null;
+            });
+
+            // 홈 위치의 월드는 호출한 스레드(메인)에서 찾음
+            for (ClaimRow home : homes.values()) {
+                World world = plugin.getServer().getWorld(home.homeWorld());
+                if (world != null) {
+                    double[] position = home.home();
+                    claims.get(home.claimId()).setHome(new Location(world, position[0], position[1], position[2],
+                            (float) position[3], (float) position[4]));
+                }
+            }
+            return claims;
+        } catch (SQLException e) {
+            throw new IllegalStateException("사유지 데이터베이스를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * claims.yml을 데이터베이스로 옮기고 파일은 .migrated로 보관
+     */
+    private Map<Long, ClaimMetadata> migrate() throws SQLException {
+        Map<Long, ClaimMetadata> claims = legacy.loadAll();
+        database.transaction(db -> {
+            for (ClaimMetadata metadata : claims.values()) {
+                write(db, toRow(metadata));
+            }
+            db.setMeta(META_MIGRATED, Long.toString(System.currentTimeMillis()));
+            return null;
+        });
+        try {
+            legacy.retire();
+        } catch (IOException e) {
+            plugin.getLogger().warning("claims.yml 보관 실패: " + e.getMessage());
+        }
+        plugin.getLogger().info("사유지 메타데이터 " + claims.size() + "개를 데이터베이스로 옮겼습니다.");
+        return claims;
+    }
+
+    @Override
+    public void save(ClaimMetadata metadata) {
+        ClaimRow row = toRow(metadata);
+        database.submit(db -> db.transaction(inner -> {
+            write(inner, row);
+            return null;
+        }));
+    }
+
+    @Override
+    public void delete(long claimId) {
+        database.submit(db -> db.transaction(inner -> {
+            PreparedStatement flags = inner.prepare("DELETE FROM wc_claim_flags WHERE claim_id = ?");
+            flags.setLong(1, claimId);
+            flags.executeUpdate();
+            PreparedStatement claim = inner.prepare("DELETE FROM wc_claims WHERE claim_id = ?");
+            claim.setLong(1, claimId);
+            claim.executeUpdate();
+            return null;
+        }));
+    }
+
+    @Override
+    public void flush() {
+        try {
+            database.call(db -> null); // 앞서 제출한 작업이 모두 끝난 뒤 실행됨
+        } catch (SQLException e) {
+            plugin.getLogger().warning("사유지 데이터 저장 대기 실패: " + e.getMessage());
+        }
+    }
+
+    private static ClaimRow toRow(ClaimMetadata metadata) {
+        Location home = metadata.getHome();
+        boolean hasHome = home != null && home.getWorld() != null;
+        return new ClaimRow(metadata.getClaimId(), metadata.getNickname(), metadata.getCreatedAt(),
+                metadata.getIcon(), metadata.isChunkLoaded(), hasHome ? home.getWorld().getName() : null,
+                hasHome ? new double[]{home.getX(), home.getY(), home.getZ(), home.getYaw(), home.getPitch()} : null,
+                metadata.getFlags());
+    }
+
+    /**
+     * 사유지 행 upsert 후 플래그 행 교체 (트랜잭션 안에서 호출)
+     */
+    private static void write(Database db, ClaimRow row) throws SQLException {
+        PreparedStatement upsert = db.prepare(UPSERT);
+        upsert.setLong(1, row.claimId());
+        upsert.setString(2, row.nickname());
+        upsert.setLong(3, row.createdAt());
+        upsert.setString(4, row.icon());
+        upsert.setInt(5, row.chunkLoaded() ? 1 : 0);
+        upsert.setString(6, row.homeWorld());
+        for (int i = 0; i < 5; i++) {
+            if (row.home() != null) {
+                upsert.setDouble(7 + i, row.home()[i]);
+            } else {
+                upsert.setNull(7 + i, Types.REAL);
+            }
+        }
+        upsert.executeUpdate();
+
+        PreparedStatement delete = db.prepare("DELETE FROM wc_claim_flags WHERE claim_id = ?");
+        delete.setLong(1, row.claimId());
+        delete.executeUpdate();
+        PreparedStatement insert = db.prepare("INSERT INTO wc_claim_flags (claim_id, flag, value) VALUES (?, ?, ?)");
+        for (Map.Entry<String, Boolean> flag : row.flags().entrySet()) {
+            insert.setLong(1, row.claimId());
+            insert.setString(2, flag.getKey());
+            insert.setInt(3, flag.getValue() ? 1 : 0);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+    }
+}
@@ -0,0 +1,305 @@
+package com.myserver.wildcore.claim;
+
+import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.managers.ClaimDataManager;
+import com.myserver.wildcore.managers.ClaimManager;
+import com.myserver.wildcore.util.LongObjectHashMap;
+import me.ryanhamshire.GriefPrevention.Claim;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Monster;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * MOB_ENTRY 플래그가 켜진 사유지에서 적대적 몹을 주기적으로 제거합니다.
+ * 외부에서 걸어 들어오는 몹을 차단하기 위한 보완 기능입니다.
+ * - 플래그가 켜진 사유지(하위 사유지 포함)가 걸친 청크만 대상으로 하며, 대상 목록은
+ * 사유지 색인이나 플래그가 바뀌었을 때만 다시 만듦
+ * - 한 바퀴(대상 청크 전체)를 틱마다 정해진 청크 수만큼 나눠서 확인하고, 로드된 청크만 봄
+ * - 몹마다 사유지와 플래그를 다시 확인하므로 대상 목록이 잠시 늦어도 결과는 같음
+ * 통계: /wc debug mobsweep
+ */
+public class MobEntrySweeper {
+
+    /**
+     * 한 바퀴 정리 결과
+     *
+     * @param targetChunks 대상 청크 수
+     * @param loadedChunks 그중 로드되어 확인한 청크 수
+     * @param entities     확인한 엔티티 수
+     * @param removed      제거한 몬스터 수
+     * @param nanos        전체 소요 시간 (틱별 합계)
+     * @param maxTickNanos 한 틱에서 가장 오래 걸린 시간
+     * @param ticks        한 바퀴에 걸린 틱 수
+     */
+    public record RunStats(int targetChunks, int loadedChunks, int entities, int removed, long nanos,
+            long maxTickNanos, int ticks) {
+    }
+
+    private static final UUID[] NO_WORLDS = new UUID[0];
+    private static final long[] NO_CHUNKS = new long[0];
+
+    private final WildCore plugin;
+    private final ClaimManager claimManager;
+    private final ClaimDataManager claimDataManager;
+    private BukkitTask task;
+
+    private int interval;
+    private int chunksPerTick;
+
+    // 대상 청크 (월드 UUID, 청크 키를 같은 순번으로 보관, 월드별로 청크 키 순 정렬)
+    private UUID[] targetWorlds = NO_WORLDS;
+    private long[] targetChunks = NO_CHUNKS;
+    // 대상 목록을 만들 때의 색인/플래그 변경 번호
+    private ClaimIndex builtIndex;
+    private int builtIndexRevision;
+    private int builtFlagRevision;
+
+    private long tick;
+    private long runStartTick = Long.MIN_VALUE / 2;
+    private boolean running;
+    private int cursor;
+
+    // 진행 중인 바퀴 집계
+    private int runLoaded;
+    private int runEntities;
+    private int runRemoved;
+    private long runNanos;
+    private long runMaxTickNanos;
+    private int runTicks;
+
+    private RunStats lastRun;
+    private long totalRuns;
+    private long totalRemoved;
+
+    public MobEntrySweeper(WildCore plugin, ClaimManager claimManager, ClaimDataManager claimDataManager) {
+        this.plugin = plugin;
+        this.claimManager = claimManager;
+        this.claimDataManager = claimDataManager;
+        reload();
+    }
+
+    public void start() {
+        stop();
+        task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * 태스크 중지 (플러그인 비활성화 시)
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    public void reload() {
+        interval = plugin.getConfigManager().getMobEntrySweepInterval();
+        chunksPerTick = plugin.getConfigManager().getMobEntrySweepChunksPerTick();
+    }
+
+    // =====================
+    // 정리
+    // =====================
+
+    private void tick() {
+        tick++;
+        if (!running) {
+            if (tick - runStartTick < interval || !claimManager.isEnabled()) {
+                return;
+            }
+            beginRun();
+        }
+
+        long start = System.nanoTime();
+        int end = Math.min(cursor + chunksPerTick, targetChunks.length);
+        UUID worldId = null;
+        World world = null;
+        for (; cursor < end; cursor++) {
+            if (!targetWorlds[cursor].equals(worldId)) {
+                worldId = targetWorlds[cursor];
+                world = plugin.getServer().getWorld(worldId);
+            }
+            if (world != null) {
+                sweepChunk(world, (int) (targetChunks[cursor] >> 32), (int) targetChunks[cursor]);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        runNanos += elapsed;
+        runMaxTickNanos = Math.max(runMaxTickNanos, elapsed);
+        runTicks++;
+
+        if (cursor >= targetChunks.length) {
+            finishRun();
+        }
+    }
+
+    private void beginRun() {
+        refreshTargets();
+        running = true;
+        runStartTick = tick;
+        cursor = 0;
+        runLoaded = 0;
+        runEntities = 0;
+        runRemoved = 0;
+        runNanos = 0;
+        runMaxTickNanos = 0;
+        runTicks = 0;
+    }
+
+    private void finishRun() {
+        running = false;
+        lastRun = new RunStats(targetChunks.length, runLoaded, runEntities, runRemoved, runNanos, runMaxTickNanos,
+                runTicks);
+        totalRuns++;
+        totalRemoved += runRemoved;
+        if (runRemoved > 0) {
+            plugin.debug("MOB_ENTRY sweep: removed " + runRemoved + " monsters (" + runLoaded + "/"
+                    + targetChunks.length + " chunks loaded, " + runNanos / 1000 + "us)");
+        }
+    }
+
+    private void sweepChunk(World world, int chunkX, int chunkZ) {
+        if (!world.isChunkLoaded(chunkX, chunkZ)) {
+            return;
+        }
+        runLoaded++;
+        for (Entity entity : world.getChunkAt(chunkX, chunkZ).getEntities()) {
+            runEntities++;
+            if (!(entity instanceof Monster monster) || !monster.isValid())
+                continue;
+
+            Claim claim = claimManager.getClaimAt(monster.getLocation());
+            if (claim == null)
+                continue;
+
+            // MOB_ENTRY 플래그가 활성화(true)면 몹 제거
+            if (claimDataManager.getClaimFlag(claim.getID(), ClaimFlags.MOB_ENTRY)) {
+                monster.remove();
+                runRemoved++;
+            }
+        }
+    }
+
+    // =====================
+    // 대상 청크
+    // =====================
+
+    /**
+     * 색인이나 플래그가 바뀌었으면 대상 청크 목록을 다시 만듦
+     */
+    private void refreshTargets() {
+        ClaimIndex index = claimManager.getClaimIndex();
+        int flagRevision = claimDataManager.getFlagRevision();
+        if (index == null) {
+            targetWorlds = NO_WORLDS;
+            targetChunks = NO_CHUNKS;
+            builtIndex = null;
+            return;
+        }
+        if (index == builtIndex && index.getRevision() == builtIndexRevision && flagRevision == builtFlagRevision) {
+            return;
+        }
+
+        Map<UUID, LongObjectHashMap<Boolean>> chunksByWorld = new LinkedHashMap<>();
+        index.forEachEntry(entry -> {
+            if (claimDataManager.getClaimFlag(entry.claimId, ClaimFlags.MOB_ENTRY)) {
+                addChunks(chunksByWorld, entry.worldId, entry.minX, entry.minZ, entry.maxX, entry.maxZ);
+            }
+            // 부모가 꺼져 있어도 하위 사유지가 켜져 있으면 그 범위는 대상
+            List<Claim> children = entry.claim.children;
+            for (int i = 0; i < children.size(); i++) {
+                Claim child = children.get(i);
+                if (child.getID() != null
+                        && claimDataManager.getClaimFlag(child.getID(), ClaimFlags.MOB_ENTRY)) {
+                    Location lesser = child.getLesserBoundaryCorner();
+                    Location greater = child.getGreaterBoundaryCorner();
+                    addChunks(chunksByWorld, entry.worldId,
+                            Math.min(lesser.getBlockX(), greater.getBlockX()),
+                            Math.min(lesser.getBlockZ(), greater.getBlockZ()),
+                            Math.max(lesser.getBlockX(), greater.getBlockX()),
+                            Math.max(lesser.getBlockZ(), greater.getBlockZ()));
+                }
+            }
+        });
+
+        List<UUID> worlds = new ArrayList<>();
+        List<long[]> keys = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<UUID, LongObjectHashMap<Boolean>> world : chunksByWorld.entrySet()) {
+            long[] chunks = world.getValue().keys();
+            Arrays.sort(chunks); // 가까운 청크끼리 이어서 확인
+            worlds.add(world.getKey());
+            keys.add(chunks);
+            total += chunks.length;
+        }
+        UUID[] newWorlds = new UUID[total];
+        long[] newChunks = new long[total];
+        int offset = 0;
+        for (int i = 0; i < worlds.size(); i++) {
+            long[] chunks = keys.get(i);
+            Arrays.fill(newWorlds, offset, offset + chunks.length, worlds.get(i));
+            System.arraycopy(chunks, 0, newChunks, offset, chunks.length);
+            offset += chunks.length;
+        }
+        targetWorlds = newWorlds;
+        targetChunks = newChunks;
+        builtIndex = index;
+        builtIndexRevision = index.getRevision();
+        builtFlagRevision = flagRevision;
+    }
+
+    private static void addChunks(Map<UUID, LongObjectHashMap<Boolean>> chunksByWorld, UUID worldId, int minX,
+            int minZ, int maxX, int maxZ) {
+        LongObjectHashMap<Boolean> chunks = chunksByWorld.computeIfAbsent(worldId, k -> new LongObjectHashMap<>());
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                chunks.put(ClaimIndex.chunkKey(chunkX, chunkZ), Boolean.TRUE);
+            }
+        }
+    }
+
+    // =====================
+    // 통계
+    // =====================
+
+    /**
+     * 마지막으로 끝난 바퀴 결과 (아직 없으면 null)
+     */
+    public RunStats getLastRun() {
+        return lastRun;
+    }
+
+    public long getTotalRuns() {
+        return totalRuns;
+    }
+
+    public long getTotalRemoved() {
+        return totalRemoved;
+    }
+
+    public int getTargetChunkCount() {
+        return targetChunks.length;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public int getChunksPerTick() {
+        return chunksPerTick;
+    }
+}
@@ -0,0 +1,168 @@
+package com.myserver.wildcore.claim;
+
+import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.managers.ClaimDataManager.ClaimMetadata;
+import com.myserver.wildcore.util.AsyncFileWriter;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 파일 저장소 (claims.yml)
+ * - 변경은 메모리의 YAML에 반영하고, 파일 쓰기는 쓰기 스레드에서 원자적으로 교체
+ * - 쓰기 전에 여러 번 바뀌면 마지막 내용만 한 번 기록
+ */
+public class YamlClaimStorage implements ClaimStorage {
+
+    private final WildCore plugin;
+    private final File claimsFile;
+    private final AsyncFileWriter fileWriter;
+    private FileConfiguration claimsConfig;
+
+    // 아직 기록하지 않은 최신 파일 내용 (null이면 대기 중인 쓰기 없음)
+    private final AtomicReference<String> pending = new AtomicReference<>();
+
+    public YamlClaimStorage(WildCore plugin, File claimsFile, AsyncFileWriter fileWriter) {
+        this.plugin = plugin;
+        this.claimsFile = claimsFile;
+        this.fileWriter = fileWriter;
+    }
+
+    /**
+     * 읽을 파일이 있는지
+     */
+    public boolean exists() {
+        return claimsFile.exists();
+    }
+
+    @Override
+    public Map<Long, ClaimMetadata> loadAll() {
+        claimsConfig = YamlConfiguration.loadConfiguration(claimsFile);
+
+        Map<Long, ClaimMetadata> claims = new HashMap<>();
+        ConfigurationSection claimsSection = claimsConfig.getConfigurationSection("claims");
+        if (claimsSection == null) {
+            return claims;
+        }
+        for (String claimIdStr : claimsSection.getKeys(false)) {
+            try {
+                Long claimId = Long.parseLong(claimIdStr);
+                String path = "claims." + claimIdStr;
+
+                ClaimMetadata metadata = new ClaimMetadata(claimId);
+                metadata.setNickname(claimsConfig.getString(path + ".nickname", ""));
+                metadata.setCreatedAt(claimsConfig.getLong(path + ".created_at", System.currentTimeMillis()));
+                metadata.setIcon(claimsConfig.getString(path + ".icon", "GRASS_BLOCK"));
+                metadata.setChunkLoaded(claimsConfig.getBoolean(path + ".chunk_loaded", false));
+
+                // 홈 위치 로드
+                if (claimsConfig.contains(path + ".home")) {
+                    String worldName = claimsConfig.getString(path + ".home.world");
+                    if (worldName != null) {
+                        World world = plugin.getServer().getWorld(worldName);
+                        if (world != null) {
+                            double x = claimsConfig.getDouble(path + ".home.x");
+                            double y = claimsConfig.getDouble(path + ".home.y");
+                            double z = claimsConfig.getDouble(path + ".home.z");
+                            float yaw = (float) claimsConfig.getDouble(path + ".home.yaw");
+                            float pitch = (float) claimsConfig.getDouble(path + ".home.pitch");
+                            metadata.setHome(new Location(world, x, y, z, yaw, pitch));
+                        }
+                    }
+                }
+
+                // 플래그 로드
+                ConfigurationSection flagsSection = claimsConfig.getConfigurationSection(path + ".flags");
+                if (flagsSection != null) {
+                    for (String flag : flagsSection.getKeys(false)) {
+                        metadata.setFlag(flag, flagsSection.getBoolean(flag));
+                    }
+                }
+
+                claims.put(claimId, metadata);
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return claims;
+    }
+
+    @Override
+    public void save(ClaimMetadata metadata) {
+        String path = "claims." + metadata.getClaimId();
+
+        claimsConfig.set(path + ".nickname", metadata.getNickname());
+        claimsConfig.set(path + ".created_at", metadata.getCreatedAt());
+        claimsConfig.set(path + ".icon", metadata.getIcon());
+        claimsConfig.set(path + ".chunk_loaded", metadata.isChunkLoaded());
+
+        // 홈 위치 저장
+        Location home = metadata.getHome();
+        if (home != null && home.getWorld() != null) {
+            claimsConfig.set(path + ".home.world", home.getWorld().getName());
+            claimsConfig.set(path + ".home.x", home.getX());
+            claimsConfig.set(path + ".home.y", home.getY());
+            claimsConfig.set(path + ".home.z", home.getZ());
+            claimsConfig.set(path + ".home.yaw", home.getYaw());
+            claimsConfig.set(path + ".home.pitch", home.getPitch());
+        } else {
+            claimsConfig.set(path + ".home", null);
+        }
+
+        // 플래그 저장
+        claimsConfig.set(path + ".flags", null);
+        for (Map.Entry<String, Boolean> entry : metadata.getFlags().entrySet()) {
+            claimsConfig.set(path + ".flags." + entry.getKey(), entry.getValue());
+        }
+
+        scheduleWrite();
+    }
+
+    @Override
+    public void delete(long claimId) {
+        claimsConfig.set("claims." + claimId, null);
+        scheduleWrite();
+    }
+
+    @Override
+    public void flush() {
+        fileWriter.flush();
+    }
+
+    /**
+     * 현재 내용을 쓰기 스레드에 맡김 (이미 대기 중인 쓰기가 있으면 내용만 교체)
+     */
+    private void scheduleWrite() {
+        if (pending.getAndSet(claimsConfig.saveToString()) != null) {
+            return;
+        }
+        fileWriter.execute(() -> {
+            String content = pending.getAndSet(null);
+            if (content == null) {
+                return;
+            }
+            try {
+                AsyncFileWriter.writeAtomically(claimsFile, content);
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to save claims.yml: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 데이터베이스로 옮긴 뒤 파일 보관 (claims.yml.migrated)
+     */
+    public void retire() throws IOException {
+        File backup = new File(claimsFile.getParentFile(), claimsFile.getName() + ".migrated");
+        Files.move(claimsFile.toPath(), backup.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -1,17 +1,34 @@
 package com.myserver.wildcore.commands;
 
 import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.claim.ClaimFlagBenchmark;
+import com.myserver.wildcore.claim.ClaimLookupBenchmark;
+import com.myserver.wildcore.claim.ClaimTracker;
+import com.myserver.wildcore.claim.MobEntrySweeper;
 import com.myserver.wildcore.config.PlayerStockData;
 import com.myserver.wildcore.config.StockConfig;
+import com.myserver.wildcore.economy.RateLimiter;
+import com.myserver.wildcore.managers.ClaimManager;
+import com.myserver.wildcore.managers.ClaimScoreboardManager;
+import com.myserver.wildcore.managers.StockManager;
+import com.myserver.wildcore.stock.OrderBookBenchmark;
+import com.myserver.wildcore.stock.PortfolioIndex;
+import com.myserver.wildcore.stock.PriceEngine;
+import com.myserver.wildcore.stock.PriceSimulator;
+import com.myserver.wildcore.storage.StorageBenchmark;
 import com.myserver.wildcore.util.ItemUtil;
+import me.ryanhamshire.GriefPrevention.Claim;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -55,6 +72,10 @@ public class DebugCommand {
             case "setstocks" -> handleSetStocks(sender, args);
             case "clearstocks" -> handleClearStocks(sender, args);
             case "stockinfo" -> handleStockInfo(sender, args);
+            case "orderbench" -> handleOrderBench(sender, args);
+            case "pricesim" -> handlePriceSim(sender, args);
+            case "pricebench" -> handlePriceBench(sender, args);
+            case "stockholders" -> handleStockHolders(sender);
 
             // === 아이템 관련 ===
             case "giveall" -> handleGiveAll(sender, args);
@@ -69,9 +90,17 @@ public class DebugCommand {
             // === 플레이어 정보 ===
             case "playerinfo" -> handlePlayerInfo(sender, args);
 
+            // === 사유지 ===
+            case "claimbench" -> handleClaimBench(sender, args);
+            case "flagbench" -> handleFlagBench(sender, args);
+            case "mobsweep" -> handleMobSweep(sender);
+            case "claimtrack" -> handleClaimTrack(sender);
+
             // === 시스템 ===
             case "forcereload" -> handleForceReload(sender);
             case "saveall" -> handleSaveAll(sender);
+            case "storagebench" -> handleStorageBench(sender, args);
+            case "ratelimit" -> handleRateLimit(sender, args);
             case "toggledebug" -> handleToggleDebug(sender);
             case "status" -> handleStatus(sender);
             case "check" -> handleCheck(sender, args);
@@ -212,9 +241,15 @@ public class DebugCommand {
             return;
         }
 
-        // 직접 주식 수량 설정 (StockManager에 메서드 필요)
-        plugin.getStockManager().setPlayerStockAmount(target.getUniqueId(), stockId, amount);
-        sender.sendMessage("§a" + target.getName() + "의 " + stockId + " 보유량을 " + amount + "주로 설정했습니다.");
+        // 보유 데이터를 메인 스레드를 막지 않고 읽은 뒤 직접 주식 수량 설정
+        plugin.getStockManager().loadPlayerAsync(target.getUniqueId()).whenComplete((stocks, error) -> {
+            if (error != null) {
+                sender.sendMessage("§c보유 주식을 불러오지 못했습니다: " + error.getMessage());
+                return;
+            }
+            plugin.getStockManager().setPlayerStockAmount(target.getUniqueId(), stockId, amount);
+            sender.sendMessage("§a" + target.getName() + "의 " + stockId + " 보유량을 " + amount + "주로 설정했습니다.");
+        });
     }
 
     private void handleClearStocks(CommandSender sender, String[] args) {
@@ -234,6 +269,88 @@ public class DebugCommand {
         sender.sendMessage("§c" + target.getName() + "의 모든 주식 보유량을 초기화했습니다.");
     }
 
+    private void handleOrderBench(CommandSender sender, String[] args) {
+        // /wildcore debug orderbench [주문수] [대기주문수]
+        int orders = Math.max(1, args.length >= 3 ? parseInt(args[2], 100000) : 100000);
+        int resting = Math.max(0, args.length >= 4 ? parseInt(args[3], 5000) : 5000);
+        sender.sendMessage("§7호가창 매칭 측정 중... (주문 " + format(orders) + "건, 대기 " + format(resting) + "건)");
+
+        // 서버 틱을 막지 않도록 비동기로 측정
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            OrderBookBenchmark.Result result = OrderBookBenchmark.run(orders, resting, System.nanoTime());
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                sender.sendMessage("§a호가창 매칭 측정 완료");
+                sender.sendMessage("§7- 처리량: §f" + format(result.ordersPerSecond()) + "건/초");
+                sender.sendMessage("§7- 소요 시간: §f" + String.format("%.1f", result.elapsedNanos() / 1_000_000.0) + "ms");
+                sender.sendMessage("§7- 체결: §f" + format(result.fills()) + "건 §8| §7남은 대기 주문: §f"
+                        + format(result.resting()) + "건");
+            });
+        });
+    }
+
+    private void handlePriceSim(CommandSender sender, String[] args) {
+        // /wildcore debug pricesim [틱수] [시드]
+        long ticks = Math.max(1, args.length >= 3 ? parseLong(args[2], 1_000_000L) : 1_000_000L);
+        long seed = args.length >= 4 ? parseLong(args[3], System.nanoTime()) : System.nanoTime();
+        Map<String, PriceEngine.Params> stocks = getPriceParams();
+        sender.sendMessage("§7가격 시뮬레이션 중... (종목 " + stocks.size() + "개, " + format(ticks) + "틱, 시드 " + seed + ")");
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            PriceSimulator.Report report = PriceSimulator.run(stocks, ticks, seed);
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                sender.sendMessage("§a가격 시뮬레이션 완료 §7(" + format(report.ticksPerSecond()) + "틱/초)");
+                for (PriceSimulator.StockStats stats : report.stocks()) {
+                    sender.sendMessage("§7- " + stats.stockId() + ": §f" + format(stats.finalPrice()) + "원 " +
+                            "§8(최저 " + format(stats.lowestPrice()) + " / 최고 " + format(stats.highestPrice()) +
+                            " / 평균 " + format(stats.meanPrice()) + ")");
+                    sender.sendMessage("  §8틱변동 " + String.format("%.2f%%", stats.tickVolatility() * 100) +
+                            " | 최저도달 " + format(stats.minHits()) + " | 최고도달 " + format(stats.maxHits()) +
+                            " | 이벤트 " + format(stats.events()));
+                }
+            });
+        });
+    }
+
+    private void handleStockHolders(CommandSender sender) {
+        // /wildcore debug stockholders
+        StockManager stockManager = plugin.getStockManager();
+        sender.sendMessage("§6[ 주식 보유 현황 ]");
+        sender.sendMessage("§7보유자: §f" + format(stockManager.getIndexedPlayerCount()) + "명 §8| §7메모리 적재: §f"
+                + format(stockManager.getLoadedPlayerCount()) + "명");
+        for (PortfolioIndex.StockHolders holders : stockManager.getHolderStats()) {
+            double value = holders.shares() * stockManager.getCurrentPrice(holders.stockId());
+            sender.sendMessage("§7- " + holders.stockId() + ": §f" + format(holders.holders()) + "명, "
+                    + format(holders.shares()) + "주 §8(평가액 " + format(value) + "원)");
+        }
+    }
+
+    private void handlePriceBench(CommandSender sender, String[] args) {
+        // /wildcore debug pricebench [틱수]
+        long ticks = Math.max(1, args.length >= 3 ? parseLong(args[2], 1_000_000L) : 1_000_000L);
+        Map<String, PriceEngine.Params> stocks = getPriceParams();
+        sender.sendMessage("§7가격 엔진 측정 중... (종목 " + stocks.size() + "개, " + format(ticks) + "틱)");
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            PriceSimulator.Benchmark result = PriceSimulator.benchmark(stocks, ticks, 42L);
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                sender.sendMessage("§a가격 엔진 측정 완료");
+                sender.sendMessage("§7- 종목별 호출: §f" + format(result.singleTicksPerSecond()) + "틱/초");
+                sender.sendMessage("§7- 일괄 처리: §f" + format(result.batchTicksPerSecond()) + "틱/초");
+            });
+        });
+    }
+
+    /**
+     * 현재 stocks.yml 설정의 종목별 변동 설정
+     */
+    private Map<String, PriceEngine.Params> getPriceParams() {
+        Map<String, PriceEngine.Params> stocks = new LinkedHashMap<>();
+        for (StockConfig stock : plugin.getConfigManager().getAllStocksSorted()) {
+            stocks.put(stock.getId(), PriceEngine.Params.of(stock));
+        }
+        return stocks;
+    }
+
     private void handleStockInfo(CommandSender sender, String[] args) {
         // /wildcore debug stockinfo [player]
         sender.sendMessage("§8§m                                        ");
@@ -254,24 +371,32 @@ public class DebugCommand {
         if (args.length >= 3) {
             Player target = Bukkit.getPlayer(args[2]);
             if (target != null) {
-                sender.sendMessage("");
-                sender.sendMessage("§e" + target.getName() + "의 보유 주식:");
-                Map<String, PlayerStockData> stocks = plugin.getStockManager().getPlayerStocks(target.getUniqueId());
-                if (stocks.isEmpty()) {
-                    sender.sendMessage("  §7(보유 주식 없음)");
-                } else {
-                    double totalValue = 0;
-                    for (Map.Entry<String, PlayerStockData> entry : stocks.entrySet()) {
-                        double price = plugin.getStockManager().getCurrentPrice(entry.getKey());
-                        int amount = entry.getValue().getAmount();
-                        double value = price * amount;
-                        totalValue += value;
-                        sender.sendMessage("  §7" + entry.getKey() + ": §f" + amount +
-                                "주 §8(가치: " + format(value) + "원)");
-                    }
-                    sender.sendMessage("  §6총 자산 가치: §f" + format(totalValue) + "원");
-                }
+                // 보유 데이터를 메인 스레드를 막지 않고 읽은 뒤 출력
+                plugin.getStockManager().loadPlayerAsync(target.getUniqueId())
+                        .whenComplete((stocks, error) -> sendStockHoldings(sender, target, stocks, error));
+            }
+        }
+    }
+
+    private void sendStockHoldings(CommandSender sender, Player target, Map<String, PlayerStockData> stocks,
+            Throwable error) {
+        sender.sendMessage("");
+        sender.sendMessage("§e" + target.getName() + "의 보유 주식:");
+        if (error != null) {
+            sender.sendMessage("  §c(불러오지 못함: " + error.getMessage() + ")");
+        } else if (stocks.isEmpty()) {
+            sender.sendMessage("  §7(보유 주식 없음)");
+        } else {
+            double totalValue = 0;
+            for (Map.Entry<String, PlayerStockData> entry : stocks.entrySet()) {
+                double price = plugin.getStockManager().getCurrentPrice(entry.getKey());
+                int amount = entry.getValue().getAmount();
+                double value = price * amount;
+                totalValue += value;
+                sender.sendMessage("  §7" + entry.getKey() + ": §f" + amount +
+                        "주 §8(가치: " + format(value) + "원)");
             }
+            sender.sendMessage("  §6총 자산 가치: §f" + format(totalValue) + "원");
         }
     }
 
@@ -351,9 +476,17 @@ public class DebugCommand {
                 (int) target.getLocation().getY() + ", " +
                 (int) target.getLocation().getZ());
 
+        // 보유 데이터를 메인 스레드를 막지 않고 읽은 뒤 나머지 출력
+        plugin.getStockManager().loadPlayerAsync(target.getUniqueId())
+                .whenComplete((stocks, error) -> sendHoldings(sender, target, stocks, error));
+    }
+
+    private void sendHoldings(CommandSender sender, Player target, Map<String, PlayerStockData> stocks,
+            Throwable error) {
         // 주식 보유 현황
-        Map<String, PlayerStockData> stocks = plugin.getStockManager().getPlayerStocks(target.getUniqueId());
-        if (!stocks.isEmpty()) {
+        if (error != null) {
+            sender.sendMessage("§7보유 주식: §c(불러오지 못함: " + error.getMessage() + ")");
+        } else if (!stocks.isEmpty()) {
             sender.sendMessage("§7보유 주식:");
             for (Map.Entry<String, PlayerStockData> entry : stocks.entrySet()) {
                 sender.sendMessage("  §7- " + entry.getKey() + ": §f" + entry.getValue().getAmount() + "주");
@@ -388,7 +521,8 @@ public class DebugCommand {
     private void handleSaveAll(CommandSender sender) {
         sender.sendMessage("§e모든 데이터 저장 중...");
         plugin.getStockManager().saveAllData();
-        sender.sendMessage("§a완료! 주식 데이터가 저장되었습니다.");
+        plugin.getBankManager().saveAllData();
+        sender.sendMessage("§a완료! 주식/은행 데이터가 저장되었습니다.");
     }
 
     private void handleToggleDebug(CommandSender sender) {
@@ -555,6 +689,175 @@ public class DebugCommand {
         plugin.getEnchantManager().tryEnchant(target, enchantId);
     }
 
+    private void handleStorageBench(CommandSender sender, String[] args) {
+        // /wildcore debug storagebench [플레이어수] [반복횟수]
+        int players = Math.max(1, args.length >= 3 ? parseInt(args[2], 10000) : 10000);
+        int rounds = Math.max(1, args.length >= 4 ? parseInt(args[3], 5) : 5);
+        sender.sendMessage("§7저장 형식 측정 중... (플레이어 " + format(players) + "명, " + rounds + "회 반복)");
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            List<StorageBenchmark.Result> results;
+            try {
+                results = StorageBenchmark.run(players, rounds, 42L);
+            } catch (Exception e) {
+                Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage("§c측정 실패: " + e.getMessage()));
+                return;
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                sender.sendMessage("§a저장 형식 측정 완료 §7(YAML → 바이너리, 현재 설정: "
+                        + plugin.getConfigManager().getStorageFormat() + ")");
+                for (StorageBenchmark.Result result : results) {
+                    sender.sendMessage("§7- " + result.name() + " §8(" + format(result.items()) + "개)");
+                    sender.sendMessage("  §7크기: §f" + formatBytes(result.yamlBytes()) + " → "
+                            + formatBytes(result.binaryBytes()));
+                    sender.sendMessage("  §7저장: §f" + formatMillis(result.yamlSaveNanos()) + " → "
+                            + formatMillis(result.binarySaveNanos()) + " §8| §7로드: §f"
+                            + formatMillis(result.yamlLoadNanos()) + " → " + formatMillis(result.binaryLoadNanos()));
+                }
+            });
+        });
+    }
+
+    private void handleRateLimit(CommandSender sender, String[] args) {
+        // /wildcore debug ratelimit [reset]
+        RateLimiter rateLimiter = plugin.getRateLimiter();
+        if (args.length >= 3 && args[2].equalsIgnoreCase("reset")) {
+            rateLimiter.resetStats();
+            sender.sendMessage("§a요청 제한 집계를 초기화했습니다.");
+            return;
+        }
+        sender.sendMessage("§6[ 요청 제한 ] §7상태: " + (rateLimiter.isEnabled() ? "§a활성화" : "§c비활성화")
+                + " §8| §7추적 중: §f" + format(rateLimiter.getTrackedPlayerCount()) + "명");
+        for (RateLimiter.ActionStats stats : rateLimiter.getStats()) {
+            sender.sendMessage("§7- " + stats.action().getDisplayName() + " §8(초당 " + stats.perSecond() + ", 최대 "
+                    + stats.burst() + ") §7허용: §f" + format(stats.allowed()) + " §7제한: §c"
+                    + format(stats.throttled()));
+        }
+    }
+
+    private void handleClaimBench(CommandSender sender, String[] args) {
+        // /wildcore debug claimbench [좌표수]
+        ClaimManager claimManager = plugin.getClaimManager();
+        if (claimManager == null || !claimManager.isEnabled() || claimManager.getClaimIndex() == null) {
+            sender.sendMessage("§c사유지 시스템이 비활성화되어 있습니다.");
+            return;
+        }
+        int samples = Math.max(1, args.length >= 3 ? parseInt(args[2], 100000) : 100000);
+        List<Claim> claims = new ArrayList<>(claimManager.getAllClaims());
+        World world = (sender instanceof Player player) ? player.getWorld() : Bukkit.getWorlds().get(0);
+
+        // GP 조회는 메인 스레드 전용이므로 동기로 측정
+        ClaimLookupBenchmark.Result result = ClaimLookupBenchmark.run(claims, world, claimManager::getClaimAt,
+                claimManager::getClaimAtDirect, samples, 3, 42L);
+        sender.sendMessage("§a사유지 조회 측정 완료 §7(사유지 " + format(claims.size()) + "개, 색인 청크 "
+                + format(claimManager.getClaimIndex().getChunkCount()) + "개)");
+        sender.sendMessage("§7- 좌표: §f" + format(result.samples()) + "개 §8| §7사유지 안: §f" + format(result.hits())
+                + "개 §8| §7결과 불일치: " + (result.mismatches() == 0 ? "§a0" : "§c" + result.mismatches()));
+        sender.sendMessage("§7- 청크 색인: §f" + String.format("%.1f", result.indexNanosPerLookup()) + "ns/회 §8("
+                + formatMillis(result.indexNanos()) + ")");
+        sender.sendMessage("§7- GP 직접 조회: §f" + String.format("%.1f", result.directNanosPerLookup()) + "ns/회 §8("
+                + formatMillis(result.directNanos()) + ")");
+    }
+
+    private void handleFlagBench(CommandSender sender, String[] args) {
+        // /wildcore debug flagbench [사유지수] [조회수]
+        int claims = Math.max(1, args.length >= 3 ? parseInt(args[2], 5000) : 5000);
+        int lookups = Math.max(1, args.length >= 4 ? parseInt(args[3], 1000000) : 1000000);
+        sender.sendMessage("§7플래그 조회 측정 중... (사유지 " + format(claims) + "개, 조회 " + format(lookups) + "회)");
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            ClaimFlagBenchmark.Result result = ClaimFlagBenchmark.run(claims, lookups, 5, 42L);
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                sender.sendMessage("§a플래그 조회 측정 완료 §7(결과 불일치: "
+                        + (result.mismatches() == 0 ? "§a0" : "§c" + result.mismatches()) + "§7)");
+                sender.sendMessage("§7- 이전 방식 (Map): §f" + String.format("%.1f", result.legacyNanosPerLookup())
+                        + "ns/회 §8(" + formatMillis(result.legacyNanos()) + ")");
+                sender.sendMessage("§7- 비트 플래그: §f" + String.format("%.1f", result.bitsetNanosPerLookup())
+                        + "ns/회 §8(" + formatMillis(result.bitsetNanos()) + ")");
+            });
+        });
+    }
+
+    private void handleMobSweep(CommandSender sender) {
+        // /wildcore debug mobsweep
+        MobEntrySweeper sweeper = plugin.getMobEntrySweeper();
+        if (sweeper == null) {
+            sender.sendMessage("§c사유지 시스템이 비활성화되어 있습니다.");
+            return;
+        }
+        sender.sendMessage("§6[ 몬스터 입장 차단 정리 ] §7간격: §f" + sweeper.getInterval() + "틱 §8| §7틱당 청크: §f"
+                + sweeper.getChunksPerTick() + " §8| §7대상 청크: §f" + format(sweeper.getTargetChunkCount()) + "개"
+                + (sweeper.isRunning() ? " §e(정리 중)" : ""));
+        sender.sendMessage("§7- 누적: §f" + format(sweeper.getTotalRuns()) + "회 §8| §7제거한 몬스터: §f"
+                + format(sweeper.getTotalRemoved()) + "마리");
+        MobEntrySweeper.RunStats last = sweeper.getLastRun();
+        if (last == null) {
+            sender.sendMessage("§7- 아직 끝난 정리가 없습니다.");
+            return;
+        }
+        sender.sendMessage("§7- 마지막 정리: §f" + format(last.loadedChunks()) + "/" + format(last.targetChunks())
+                + "청크 로드됨 §8| §7엔티티: §f" + format(last.entities()) + "개 §8| §7제거: §f" + format(last.removed())
+                + "마리");
+        sender.sendMessage("§7- 소요: §f" + formatMillis(last.nanos()) + " §8(" + last.ticks() + "틱, 틱당 최대 "
+                + formatMillis(last.maxTickNanos()) + ")");
+    }
+
+    private void handleClaimTrack(CommandSender sender) {
+        // /wildcore debug claimtrack
+        ClaimTracker tracker = plugin.getClaimTracker();
+        if (tracker == null) {
+            sender.sendMessage("§c사유지 시스템이 비활성화되어 있습니다.");
+            return;
+        }
+        long lookups = tracker.getLookupCount();
+        long resolves = tracker.getResolveCount();
+        sender.sendMessage("§6[ 사유지 위치 추적 ] §7추적 중: §f" + format(tracker.getTrackedPlayerCount()) + "명");
+        sender.sendMessage("§7- 위치 확인: §f" + format(lookups) + "회 §8| §7사유지 조회: §f" + format(resolves) + "회 §8("
+                + (lookups > 0 ? String.format("%.1f", 100.0 * (lookups - resolves) / lookups) : "0.0")
+                + "% 생략)");
+        ClaimScoreboardManager scoreboardManager = plugin.getClaimScoreboardManager();
+        if (scoreboardManager != null) {
+            sender.sendMessage("§7- 버프 스코어보드: §f" + format(scoreboardManager.getViewerCount())
+                    + "명 표시 중 §8| §7보낸 줄: §f" + format(scoreboardManager.getLineUpdateCount()) + "개");
+        }
+        if (sender instanceof Player player) {
+            Claim claim = tracker.getCurrentClaim(player);
+            sender.sendMessage("§7- 현재 사유지: §f" + describeClaim(claim));
+        }
+
+        // 추적 결과가 GP 직접 조회와 같은지 접속 중인 플레이어 위치로 확인 (하위 사유지 생성/삭제 후 확인용)
+        ClaimManager claimManager = plugin.getClaimManager();
+        int checked = 0;
+        int mismatches = 0;
+        for (Player online : Bukkit.getOnlinePlayers()) {
+            Location location = online.getLocation();
+            Claim expected = claimManager.getClaimAtDirect(location);
+            Claim tracked = tracker.getClaimAt(online, location);
+            if (tracked != expected) {
+                mismatches++;
+                sender.sendMessage("§c  불일치: " + online.getName() + " §7(추적 " + describeClaim(tracked) + ", GP "
+                        + describeClaim(expected) + ")");
+            }
+            checked++;
+        }
+        sender.sendMessage("§7- 검증: §f" + format(checked) + "명 §8| §7결과 불일치: "
+                + (mismatches == 0 ? "§a0" : "§c" + mismatches));
+    }
+
+    private String describeClaim(Claim claim) {
+        return (claim != null) ? "#" + claim.getID() : "없음";
+    }
+
+    private String formatBytes(long bytes) {
+        return (bytes >= 1024 * 1024)
+                ? String.format("%.1fMB", bytes / (1024.0 * 1024))
+                : String.format("%.1fKB", bytes / 1024.0);
+    }
+
+    private String formatMillis(long nanos) {
+        return String.format("%.1fms", nanos / 1_000_000.0);
+    }
+
     private void handleStatus(CommandSender sender) {
         sender.sendMessage("§8§m                                        ");
         sender.sendMessage("§6[ WildCore 상태 ]");
@@ -597,6 +900,14 @@ public class DebugCommand {
         }
     }
 
+    private long parseLong(String s, long def) {
+        try {
+            return Long.parseLong(s);
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
     private void sendDebugHelp(CommandSender sender) {
         sender.sendMessage("§8§m                                        ");
         sender.sendMessage(plugin.getConfigManager().getPrefix() + "§c디버그 명령어");
@@ -611,6 +922,10 @@ public class DebugCommand {
         sender.sendMessage("§e/wc debug setstocks <플레이어> <종목ID> <수량>");
         sender.sendMessage("§e/wc debug clearstocks <플레이어>");
         sender.sendMessage("§e/wc debug stockinfo [플레이어]");
+        sender.sendMessage("§e/wc debug orderbench [주문수] [대기주문수] §7- 호가창 매칭 성능 측정");
+        sender.sendMessage("§e/wc debug pricesim [틱수] [시드] §7- 가격 변동 시뮬레이션");
+        sender.sendMessage("§e/wc debug pricebench [틱수] §7- 가격 엔진 성능 측정");
+        sender.sendMessage("§e/wc debug stockholders §7- 종목별 보유자/보유 수량 (미접속 포함)");
         sender.sendMessage("");
         sender.sendMessage("§c[아이템]");
         sender.sendMessage("§e/wc debug giveall <플레이어> [수량] §7- 모든 커스텀 아이템");
@@ -625,9 +940,17 @@ public class DebugCommand {
         sender.sendMessage("§c[플레이어]");
         sender.sendMessage("§e/wc debug playerinfo [플레이어] §7- 상세 정보 조회");
         sender.sendMessage("");
+        sender.sendMessage("§c[사유지]");
+        sender.sendMessage("§e/wc debug claimbench [좌표수] §7- 사유지 조회(청크 색인/GP) 성능 비교");
+        sender.sendMessage("§e/wc debug flagbench [사유지수] [조회수] §7- 플래그 조회(Map/비트) 성능 비교");
+        sender.sendMessage("§e/wc debug mobsweep §7- 몬스터 입장 차단 정리 현황");
+        sender.sendMessage("§e/wc debug claimtrack §7- 플레이어 사유지 위치 추적/스코어보드 현황, GP 조회와 비교");
+        sender.sendMessage("");
         sender.sendMessage("§c[시스템]");
         sender.sendMessage("§e/wc debug forcereload §7- 강제 리로드");
         sender.sendMessage("§e/wc debug saveall §7- 데이터 저장");
+        sender.sendMessage("§e/wc debug storagebench [플레이어수] [반복횟수] §7- 저장 형식(YAML/바이너리) 성능 비교");
+        sender.sendMessage("§e/wc debug ratelimit [reset] §7- 요청 제한 현황");
         sender.sendMessage("§e/wc debug status §7- 플러그인 상태 조회");
         sender.sendMessage("§e/wc debug toggledebug §7- 디버그 모드 상태");
         sender.sendMessage("§8§m                                        ");
@@ -649,15 +972,18 @@ public class DebugCommand {
                     // 경제
                     "money", "balance",
                     // 주식
-                    "setprice", "updateprices", "setstocks", "clearstocks", "stockinfo",
+                    "setprice", "updateprices", "setstocks", "clearstocks", "stockinfo", "orderbench",
+                    "pricesim", "pricebench", "stockholders",
                     // 아이템
                     "giveall", "giveitem", "clearinv", "iteminfo",
                     // 인챈트
                     "enchantinfo", "testenchant",
                     // 플레이어
                     "playerinfo",
+                    // 사유지
+                    "claimbench", "flagbench", "mobsweep", "claimtrack",
                     // 시스템
-                    "forcereload", "saveall", "toggledebug", "status", "check"));
+                    "forcereload", "saveall", "storagebench", "ratelimit", "toggledebug", "status", "check"));
         } else if (args.length >= 3) {
             String sub = args[1].toLowerCase();
 
@@ -724,6 +1050,54 @@ public class DebugCommand {
                     }
                 }
 
+                // /wildcore debug orderbench [orders] [resting]
+                case "orderbench" -> {
+                    if (args.length == 3) {
+                        completions.addAll(List.of("10000", "100000", "1000000"));
+                    } else if (args.length == 4) {
+                        completions.addAll(List.of("1000", "5000", "20000"));
+                    }
+                }
+
+                // /wildcore debug storagebench [players] [rounds]
+                case "storagebench" -> {
+                    if (args.length == 3) {
+                        completions.addAll(List.of("1000", "10000", "100000"));
+                    } else if (args.length == 4) {
+                        completions.addAll(List.of("3", "5", "10"));
+                    }
+                }
+
+                // /wildcore debug claimbench [samples]
+                case "claimbench" -> {
+                    if (args.length == 3) {
+                        completions.addAll(List.of("10000", "100000", "1000000"));
+                    }
+                }
+
+                // /wildcore debug flagbench [claims] [lookups]
+                case "flagbench" -> {
+                    if (args.length == 3) {
+                        completions.addAll(List.of("1000", "5000", "50000"));
+                    } else if (args.length == 4) {
+                        completions.addAll(List.of("100000", "1000000", "10000000"));
+                    }
+                }
+
+                // /wildcore debug ratelimit [reset]
+                case "ratelimit" -> {
+                    if (args.length == 3) {
+                        completions.add("reset");
+                    }
+                }
+
+                // /wildcore debug pricesim [ticks] [seed], pricebench [ticks]
+                case "pricesim", "pricebench" -> {
+                    if (args.length == 3) {
+                        completions.addAll(List.of("100000", "1000000", "10000000"));
+                    }
+                }
+
                 // /wildcore debug giveall <player> [amount]
                 case "giveall" -> {
                     if (args.length == 3) {
@@ -1,8 +1,11 @@
 package com.myserver.wildcore.commands;
 
 import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.bank.BankMetrics;
+import com.myserver.wildcore.config.BankProductConfig;
 import com.myserver.wildcore.config.CustomItemConfig;
 import com.myserver.wildcore.config.ShopConfig;
+import com.myserver.wildcore.config.StockConfig;
 import com.myserver.wildcore.gui.EnchantGUI;
 import com.myserver.wildcore.gui.StockGUI;
 import com.myserver.wildcore.gui.BankMainGUI;
@@ -14,9 +17,14 @@ import com.myserver.wildcore.gui.shop.ShopAdminGUI;
 import com.myserver.wildcore.gui.shop.ShopGUI;
 import com.myserver.wildcore.gui.shop.ShopListGUI; // Import added
 import com.myserver.wildcore.gui.claim.ClaimMainGUI;
+import com.myserver.wildcore.managers.BankManager;
 import com.myserver.wildcore.managers.ClaimManager;
+import com.myserver.wildcore.stock.LimitOrder;
+import com.myserver.wildcore.stock.PriceBroadcaster;
+import com.myserver.wildcore.stock.StockLeaderboard;
 import me.ryanhamshire.GriefPrevention.Claim;
 import com.myserver.wildcore.util.ItemUtil;
+import com.myserver.wildcore.util.RankedSkipList;
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -30,6 +38,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -296,9 +305,187 @@ public class MainCommand implements CommandExecutor, TabCompleter {
             return;
         }
 
+        if (args.length >= 2) {
+            switch (args[1].toLowerCase()) {
+                case "alerts" -> {
+                    handleStockAlerts(player, args);
+                    return;
+                }
+                case "watch" -> {
+                    handleStockWatch(player, args);
+                    return;
+                }
+                case "order" -> {
+                    handleStockOrder(player, args);
+                    return;
+                }
+                case "orders" -> {
+                    handleStockOrders(player);
+                    return;
+                }
+                case "cancel" -> {
+                    handleStockCancel(player, args);
+                    return;
+                }
+                case "top" -> {
+                    handleStockTop(player, args);
+                    return;
+                }
+            }
+        }
+
         new StockGUI(plugin, player).open();
     }
 
+    /**
+     * 시세 알림 수신 범위 설정 (/wc stock alerts <all|holdings|watch|off>)
+     */
+    private void handleStockAlerts(Player player, String[] args) {
+        PriceBroadcaster broadcaster = plugin.getStockManager().getPriceBroadcaster();
+        PriceBroadcaster.AlertMode mode = args.length >= 3 ? PriceBroadcaster.AlertMode.fromString(args[2]) : null;
+        if (mode == null) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("stock.alerts_usage",
+                            "mode", broadcaster.getMode(player.getUniqueId()).getDisplayName()));
+            return;
+        }
+
+        broadcaster.setMode(player.getUniqueId(), mode);
+        player.sendMessage(plugin.getConfigManager().getPrefix() +
+                plugin.getConfigManager().getMessage("stock.alerts_changed", "mode", mode.getDisplayName()));
+    }
+
+    /**
+     * 관심 종목 추가/제거 (/wc stock watch <종목ID>)
+     */
+    private void handleStockWatch(Player player, String[] args) {
+        if (args.length < 3) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("stock.watch_usage"));
+            return;
+        }
+
+        StockConfig stock = plugin.getConfigManager().getStock(args[2]);
+        if (stock == null) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("stock.not_found", "stock", args[2]));
+            return;
+        }
+
+        boolean added = plugin.getStockManager().getPriceBroadcaster().toggleWatch(player.getUniqueId(), stock.getId());
+        player.sendMessage(plugin.getConfigManager().getPrefix() +
+                plugin.getConfigManager().getMessage(added ? "stock.watch_added" : "stock.watch_removed",
+                        "stock", stock.getDisplayName()));
+    }
+
+    /**
+     * 지정가 주문 (/wc stock order <buy|sell> <종목ID> <수량> <가격>)
+     */
+    private void handleStockOrder(Player player, String[] args) {
+        LimitOrder.Side side = args.length >= 6 ? LimitOrder.Side.fromString(args[2]) : null;
+        int amount = args.length >= 6 ? parseInt(args[4], 0) : 0;
+        double price = 0;
+        if (args.length >= 6) {
+            try {
+                price = Double.parseDouble(args[5]);
+            } catch (NumberFormatException ignored) {
+                // 아래에서 사용법 안내
+            }
+        }
+        if (side == null || amount <= 0 || price <= 0 || Double.isNaN(price) || Double.isInfinite(price)) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("stock.order_usage"));
+            return;
+        }
+
+        StockConfig stock = plugin.getConfigManager().getStock(args[3]);
+        if (stock == null) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("stock.not_found", "stock", args[3]));
+            return;
+        }
+
+        plugin.getStockManager().placeLimitOrder(player, stock.getId(), side, amount, price);
+    }
+
+    /**
+     * 미체결 주문 목록 (/wc stock orders)
+     */
+    private void handleStockOrders(Player player) {
+        List<LimitOrder> orders = plugin.getStockManager().getOpenOrders(player.getUniqueId());
+        if (orders.isEmpty()) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("stock.order_list_empty"));
+            return;
+        }
+
+        player.sendMessage(plugin.getConfigManager().getMessage("stock.order_list_header"));
+        for (LimitOrder order : orders) {
+            StockConfig stock = plugin.getConfigManager().getStock(order.getStockId());
+            player.sendMessage(plugin.getConfigManager().getMessage("stock.order_list_entry",
+                    "id", String.valueOf(order.getId()),
+                    "stock", (stock != null) ? stock.getDisplayName() : order.getStockId(),
+                    "side", order.getSide().getDisplayName(),
+                    "open", String.valueOf(order.getOpenQuantity()),
+                    "amount", String.valueOf(order.getQuantity()),
+                    "price", String.format("%,.1f", order.getLimitPrice())));
+        }
+    }
+
+    /**
+     * 지정가 주문 취소 (/wc stock cancel <주문번호>)
+     */
+    private void handleStockCancel(Player player, String[] args) {
+        if (args.length < 3) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("stock.order_cancel_usage"));
+            return;
+        }
+
+        try {
+            plugin.getStockManager().cancelLimitOrder(player, Long.parseLong(args[2].replace("#", "")));
+        } catch (NumberFormatException e) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("stock.order_cancel_usage"));
+        }
+    }
+
+    /**
+     * 주식 평가액 순위 (/wc stock top [페이지])
+     */
+    private void handleStockTop(Player player, String[] args) {
+        StockLeaderboard leaderboard = plugin.getStockManager().getLeaderboard();
+        int pageSize = 10;
+        int totalPages = Math.max(1, (leaderboard.size() + pageSize - 1) / pageSize);
+        int page = Math.min(Math.max(1, args.length >= 3 ? parseInt(args[2], 1) : 1), totalPages);
+
+        List<RankedSkipList.Entry<UUID>> entries = leaderboard.getRange((page - 1) * pageSize + 1, pageSize);
+        if (entries.isEmpty()) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("stock.top_empty"));
+            return;
+        }
+
+        player.sendMessage(plugin.getConfigManager().getMessage("stock.top_header",
+                "page", String.valueOf(page), "pages", String.valueOf(totalPages)));
+        for (RankedSkipList.Entry<UUID> entry : entries) {
+            String name = Bukkit.getOfflinePlayer(entry.key()).getName();
+            player.sendMessage(plugin.getConfigManager().getMessage("stock.top_entry",
+                    "rank", String.valueOf(entry.rank()),
+                    "player", (name != null) ? name : entry.key().toString().substring(0, 8),
+                    "value", String.format("%,.0f", entry.score())));
+        }
+
+        int myRank = leaderboard.getRank(player.getUniqueId());
+        if (myRank > 0) {
+            player.sendMessage(plugin.getConfigManager().getMessage("stock.top_self",
+                    "rank", String.valueOf(myRank),
+                    "total", String.valueOf(leaderboard.size()),
+                    "value", String.format("%,.0f",
+                            plugin.getStockManager().getPortfolio(player.getUniqueId()).totalValue())));
+        }
+    }
+
     /**
      * 인챈트 명령어
      */
@@ -322,6 +509,11 @@ public class MainCommand implements CommandExecutor, TabCompleter {
      * 은행 명령어
      */
     private void handleBank(CommandSender sender, String[] args) {
+        if (args.length >= 2 && args[1].equalsIgnoreCase("stats")) {
+            handleBankStats(sender);
+            return;
+        }
+
         if (!(sender instanceof Player player)) {
             sender.sendMessage(plugin.getConfigManager().getPrefix() +
                     plugin.getConfigManager().getMessage("general.player_only"));
@@ -344,6 +536,41 @@ public class MainCommand implements CommandExecutor, TabCompleter {
         new BankMainGUI(plugin, player).open();
     }
 
+    /**
+     * 은행 통계 (관리자)
+     * /wc bank stats - 총 예금액, 이자, 분당 입출금, 상품별 예상 이자
+     */
+    private void handleBankStats(CommandSender sender) {
+        if (!sender.hasPermission("wildcore.admin.bank")) {
+            sender.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("general.no_permission"));
+            return;
+        }
+
+        BankManager bankManager = plugin.getBankManager();
+        bankManager.sampleWallets();
+        BankMetrics.Snapshot stats = bankManager.getMetrics();
+
+        sender.sendMessage("§6§l[은행 통계]");
+        sender.sendMessage("§7계좌 수: §f" + stats.accounts() + "개");
+        sender.sendMessage("§7총 예금액: §6" + bankManager.formatMoney(stats.totalPrincipal()) + "원");
+        sender.sendMessage("§7누적 이자 (예금액에 포함): §a" + bankManager.formatMoney(stats.accruedInterest()) + "원");
+        sender.sendMessage("§7서버 시작 후 지급 이자: §a" + bankManager.formatMoney(stats.interestPaid()) + "원");
+        sender.sendMessage("§7분당 입금: §f" + bankManager.formatMoney(stats.depositsPerMinute()) +
+                "원 §7/ 분당 출금: §f" + bankManager.formatMoney(stats.withdrawalsPerMinute()) + "원");
+        sender.sendMessage("§7접속자 지갑 합계: §6" + bankManager.formatMoney(stats.walletTotal()) + "원 §8(" +
+                stats.walletPlayers() + "명)");
+        sender.sendMessage("§7예상 이자 부채: §c" + bankManager.formatMoney(stats.getProjectedInterest()) + "원");
+        for (BankMetrics.ProductStats product : stats.products()) {
+            BankProductConfig config = plugin.getConfigManager().getBankProduct(product.productId());
+            String name = (config != null) ? config.getDisplayName() : product.productId();
+            String kind = (config != null && config.isTermDeposit()) ? "만기 시" : "하루";
+            sender.sendMessage("§8 - §f" + name + " §7" + product.accounts() + "개, " +
+                    bankManager.formatMoney(product.principal()) + "원 §8(" + kind + " 이자 " +
+                    bankManager.formatMoney(product.projectedInterest()) + "원)");
+        }
+    }
+
     /**
      * 사유지 명령어
      * /wc claim - 현재 위치의 사유지 관리 GUI 열기
@@ -806,6 +1033,12 @@ public class MainCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("");
         sender.sendMessage("§e§l[일반 명령어]");
         sender.sendMessage("§e/wc stock §7- 주식 시장 열기");
+        sender.sendMessage("§e/wc stock alerts <all|holdings|watch|off> §7- 시세 알림 수신 범위");
+        sender.sendMessage("§e/wc stock watch <종목ID> §7- 관심 종목 추가/제거");
+        sender.sendMessage("§e/wc stock order <buy|sell> <종목ID> <수량> <가격> §7- 지정가 주문");
+        sender.sendMessage("§e/wc stock orders §7- 미체결 주문 목록");
+        sender.sendMessage("§e/wc stock cancel <주문번호> §7- 지정가 주문 취소");
+        sender.sendMessage("§e/wc stock top [페이지] §7- 주식 평가액 순위");
         sender.sendMessage("§e/wc enchant §7- 강화소 열기");
         sender.sendMessage("§e/wc bank §7- 은행 열기");
         sender.sendMessage("§e/wc shop §7- 상점 명령어 (§e/wc shop help§7)");
@@ -818,6 +1051,7 @@ public class MainCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§e/wc drop <월드> <x> <y> <z> <아이템ID> [수량] §7- 아이템 드롭");
         sender.sendMessage("§e/wc admin <stock|enchant|npc|mining> §7- 관리자 GUI");
         sender.sendMessage("§e/wc money §7- 돈 관리 (§e/wc money help§7)");
+        sender.sendMessage("§e/wc bank stats §7- 은행 통계");
         sender.sendMessage("§e/wc debug §7- 디버그 명령어");
         sender.sendMessage("");
         sender.sendMessage("§7§o세부 도움말: /wc <명령어> help");
@@ -981,6 +1215,10 @@ public class MainCommand implements CommandExecutor, TabCompleter {
                 completions.addAll(Arrays.asList("give", "take", "set", "check", "help"));
             } else if (args[0].equalsIgnoreCase("claim")) {
                 completions.addAll(Arrays.asList("list", "help"));
+            } else if (args[0].equalsIgnoreCase("stock")) {
+                completions.addAll(Arrays.asList("alerts", "watch", "order", "orders", "cancel", "top"));
+            } else if (args[0].equalsIgnoreCase("bank") && sender.hasPermission("wildcore.admin.bank")) {
+                completions.add("stats");
             }
         } else if (args.length == 3) {
             if (args[0].equalsIgnoreCase("give")) {
@@ -1006,12 +1244,28 @@ public class MainCommand implements CommandExecutor, TabCompleter {
                         subCmd.equals("respawn")) {
                     completions.addAll(plugin.getNpcManager().getAllNpcs().keySet());
                 }
+            } else if (args[0].equalsIgnoreCase("stock")) {
+                String subCmd = args[1].toLowerCase();
+                if (subCmd.equals("alerts")) {
+                    completions.addAll(Arrays.asList("all", "holdings", "watch", "off"));
+                } else if (subCmd.equals("watch")) {
+                    completions.addAll(plugin.getConfigManager().getStocks().keySet());
+                } else if (subCmd.equals("order")) {
+                    completions.addAll(Arrays.asList("buy", "sell"));
+                } else if (subCmd.equals("cancel") && sender instanceof Player player) {
+                    for (LimitOrder order : plugin.getStockManager().getOpenOrders(player.getUniqueId())) {
+                        completions.add(String.valueOf(order.getId()));
+                    }
+                }
             } else if (args[0].equalsIgnoreCase("money")) {
                 // 플레이어 목록
                 completions.addAll(Bukkit.getOnlinePlayers().stream()
                         .map(Player::getName)
                         .collect(Collectors.toList()));
             }
+        } else if (args.length == 4 && args[0].equalsIgnoreCase("stock") && args[1].equalsIgnoreCase("order")) {
+            // 종목 목록
+            completions.addAll(plugin.getConfigManager().getStocks().keySet());
         } else if (args.length == 4 && args[0].equalsIgnoreCase("drop")) {
             // y 좌표 제안
             if (sender instanceof Player player) {
@@ -19,6 +19,7 @@ public class BankProductConfig {
     private final double maxDeposit; // 최대 입금액 (한도)
     private final double earlyWithdrawalPenalty; // 중도 해지 시 손실률 (0.0~1.0)
     private final boolean compoundInterest; // 복리 적용 여부
+    private final double compoundGrowthLog; // ln(1 + 이자율), 복리 계산용
     private final List<String> lore;
 
     public BankProductConfig(String id, String displayName, String material,
@@ -38,6 +39,7 @@ public class BankProductConfig {
         this.maxDeposit = maxDeposit;
         this.earlyWithdrawalPenalty = earlyWithdrawalPenalty;
         this.compoundInterest = compoundInterest;
+        this.compoundGrowthLog = Math.log1p(interestRate);
         this.lore = lore;
     }
 
@@ -85,6 +87,20 @@ public class BankProductConfig {
         return compoundInterest;
     }
 
+    /**
+     * 정산 횟수만큼의 이자 (복리: P * ((1 + r)^n - 1), 단리: P * r * n)
+     * 복리는 expm1(n * ln(1 + r))로 계산해 이자율이 작아도 정밀도를 유지합니다.
+     * 예상치를 계산할 때는 정산 횟수에 소수를 넣을 수 있습니다.
+     */
+    public double calculateInterest(double principal, double periods) {
+        if (periods <= 0) {
+            return 0;
+        }
+        return compoundInterest
+                ? principal * Math.expm1(periods * compoundGrowthLog)
+                : principal * interestRate * periods;
+    }
+
     public List<String> getLore() {
         return lore;
     }
@@ -1,7 +1,9 @@
 package com.myserver.wildcore.config;
 
 import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.economy.RateLimiter;
 import com.myserver.wildcore.npc.NpcType;
+import com.myserver.wildcore.stock.PriceBroadcaster;
 import net.md_5.bungee.api.ChatColor;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
@@ -980,6 +982,39 @@ public class ConfigManager {
         return config.getInt("settings.stock_update_interval", 1800);
     }
 
+    public int getStockSaveInterval() {
+        return config.getInt("settings.stock_save_interval", 60);
+    }
+
+    public boolean isStockJournalFsync() {
+        return config.getBoolean("settings.stock_journal.fsync", false);
+    }
+
+    public int getStockJournalArchiveDays() {
+        return config.getInt("settings.stock_journal.archive_days", 7);
+    }
+
+    public int getStockBroadcastPlayersPerTick() {
+        return config.getInt("settings.stock_broadcast.players_per_tick", 20);
+    }
+
+    public PriceBroadcaster.AlertMode getStockBroadcastDefaultMode() {
+        PriceBroadcaster.AlertMode mode = PriceBroadcaster.AlertMode
+                .fromString(config.getString("settings.stock_broadcast.default_mode", "all"));
+        return (mode != null) ? mode : PriceBroadcaster.AlertMode.ALL;
+    }
+
+    public int getStockMaxOpenOrders() {
+        return Math.max(1, config.getInt("settings.stock_orders.max_open_per_player", 20));
+    }
+
+    /**
+     * Vault 호출을 전용 스레드에서 처리할지 여부 (재시작 시 반영)
+     */
+    public boolean isEconomyAsync() {
+        return config.getBoolean("settings.economy.async_vault", false);
+    }
+
     public boolean isVanillaEnchantBlocked() {
         return config.getBoolean("settings.block_vanilla_enchant_table", true);
     }
@@ -1640,6 +1675,31 @@ public class ConfigManager {
         return stocksConfig.getBoolean("enabled", true);
     }
 
+    /**
+     * 종목별로 보관할 가격 기록 개수 (틱 단위)
+     */
+    public int getStockHistoryDepth() {
+        return Math.max(20, stocksConfig.getInt("history.depth", 2000));
+    }
+
+    /**
+     * 캔들 해상도 목록 (캔들 하나에 들어가는 가격 변동 횟수)
+     */
+    public int[] getStockCandleResolutions() {
+        List<Integer> resolutions = stocksConfig.getIntegerList("history.candle_resolutions");
+        if (resolutions.isEmpty()) {
+            return new int[] { 6, 48, 336 };
+        }
+        return resolutions.stream().mapToInt(Integer::intValue).filter(r -> r > 0).toArray();
+    }
+
+    /**
+     * 해상도별로 보관할 캔들 개수
+     */
+    public int getStockCandleDepth() {
+        return Math.max(1, stocksConfig.getInt("history.candle_depth", 200));
+    }
+
     /**
      * 은행 시스템 활성화 여부
      */
@@ -1647,6 +1707,84 @@ public class ConfigManager {
         return banksConfig.getBoolean("enabled", true);
     }
 
+    /**
+     * 은행 원장 디스크 동기화 간격 (밀리초, 0이면 기록 묶음마다, 음수이면 사용 안 함)
+     */
+    public long getBankLedgerFsyncInterval() {
+        return config.getLong("settings.bank_ledger.fsync_interval_ms", 1000);
+    }
+
+    /**
+     * 은행 스냅샷 저장 간격 (초)
+     */
+    public int getBankSnapshotInterval() {
+        return config.getInt("settings.bank_ledger.snapshot_interval", 60);
+    }
+
+    public int getBankLedgerArchiveDays() {
+        return config.getInt("settings.bank_ledger.archive_days", 30);
+    }
+
+    public int getBankInterestBatchInterval() {
+        return config.getInt("settings.bank_interest_batch.interval", 3600);
+    }
+
+    public int getBankInterestBatchSize() {
+        return config.getInt("settings.bank_interest_batch.accounts_per_tick", 100);
+    }
+
+    public int getBankMetricsDumpInterval() {
+        return config.getInt("settings.bank_metrics.dump_interval", 300);
+    }
+
+    public String getBankMetricsDumpFormat() {
+        return config.getString("settings.bank_metrics.format", "csv");
+    }
+
+    /**
+     * 주식/은행/사유지 데이터 저장 형식 (binary, yaml 또는 sqlite)
+     */
+    public String getStorageFormat() {
+        return config.getString("settings.storage.format", "binary");
+    }
+
+    /**
+     * 내장 데이터베이스 저장소 사용 여부
+     */
+    public boolean isDatabaseStorage() {
+        return "sqlite".equalsIgnoreCase(getStorageFormat());
+    }
+
+    /**
+     * 데이터베이스 파일 경로 (플러그인 폴더 기준)
+     */
+    public String getDatabaseFile() {
+        return config.getString("settings.storage.sqlite.file", "data/wildcore.db");
+    }
+
+    // =====================
+    // 요청 제한
+    // =====================
+
+    public boolean isRateLimitEnabled() {
+        return config.getBoolean("settings.rate_limit.enabled", true);
+    }
+
+    /**
+     * 행동별 초당 허용 요청 수 (버킷 충전 속도)
+     */
+    public double getRateLimitPerSecond(RateLimiter.Action action) {
+        return config.getDouble("settings.rate_limit." + action.getConfigKey() + ".per_second",
+                action.getDefaultPerSecond());
+    }
+
+    /**
+     * 행동별 최대 연속 요청 수 (버킷 크기)
+     */
+    public int getRateLimitBurst(RateLimiter.Action action) {
+        return config.getInt("settings.rate_limit." + action.getConfigKey() + ".burst", action.getDefaultBurst());
+    }
+
     public Map<String, BuffBlockConfig> getBuffBlocks() {
         return buffBlocks;
     }
@@ -1704,6 +1842,20 @@ public class ConfigManager {
         return config.getInt("claim-system.max-fence-height-diff", 5);
     }
 
+    /**
+     * 몬스터 입장 차단 정리 간격 (tick)
+     */
+    public int getMobEntrySweepInterval() {
+        return Math.max(1, config.getInt("claim-system.mob-entry-sweep.interval", 200));
+    }
+
+    /**
+     * 몬스터 입장 차단 정리 시 틱당 최대 확인 청크 수
+     */
+    public int getMobEntrySweepChunksPerTick() {
+        return Math.max(1, config.getInt("claim-system.mob-entry-sweep.chunks-per-tick", 16));
+    }
+
     /**
      * 허용된 월드 목록
      */
@@ -17,6 +17,10 @@ public class PlayerBankAccount {
     private long expiryTime; // 만기 시간 (적금용)
     private boolean matured; // 만기 도래 여부 (적금용)
 
+    // 예상 이자 캐시 (저장하지 않음, 다음 정산 시점까지 유효)
+    private double cachedAccrual;
+    private long accrualValidUntil;
+
     /**
      * 새 계좌 생성 (자유 예금용)
      */
@@ -97,6 +101,7 @@ public class PlayerBankAccount {
     // Setters
     public void setPrincipal(double principal) {
         this.principal = principal;
+        invalidateAccrual();
     }
 
     public void setAccumulatedInterest(double accumulatedInterest) {
@@ -105,6 +110,7 @@ public class PlayerBankAccount {
 
     public void setLastInterestTime(long lastInterestTime) {
         this.lastInterestTime = lastInterestTime;
+        invalidateAccrual();
     }
 
     public void setMatured(boolean matured) {
@@ -116,6 +122,7 @@ public class PlayerBankAccount {
      */
     public void deposit(double amount) {
         this.principal += amount;
+        invalidateAccrual();
     }
 
     /**
@@ -128,6 +135,7 @@ public class PlayerBankAccount {
             return false;
         }
         this.principal -= amount;
+        invalidateAccrual();
         return true;
     }
 
@@ -137,6 +145,34 @@ public class PlayerBankAccount {
     public void addInterest(double interest) {
         this.accumulatedInterest += interest;
         this.principal += interest;
+        invalidateAccrual();
+    }
+
+    // =====================
+    // 예상 이자 캐시
+    // =====================
+
+    public double getCachedAccrual() {
+        return cachedAccrual;
+    }
+
+    /**
+     * 캐시 유효 기한 (이 시각 전까지 유효, 0이면 무효)
+     */
+    public long getAccrualValidUntil() {
+        return accrualValidUntil;
+    }
+
+    public void cacheAccrual(double accrual, long validUntil) {
+        this.cachedAccrual = accrual;
+        this.accrualValidUntil = validUntil;
+    }
+
+    /**
+     * 원금/정산 시각이 바뀌면 호출 (다음 조회 때 다시 계산)
+     */
+    public void invalidateAccrual() {
+        this.accrualValidUntil = 0;
     }
 
     /**
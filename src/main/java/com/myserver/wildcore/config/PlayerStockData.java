@@ -3,6 +3,7 @@ package com.myserver.wildcore.config;
 /**
  * 플레이어 주식 데이터
  * 보유 수량, 평단가, 총 투자금액 관리
+ * - 여러 필드를 함께 갱신하므로 메서드 단위로 동기화 (읽는 쪽에서 중간 상태를 보지 않도록)
  */
 public class PlayerStockData {
     private int amount; // 보유 수량
@@ -24,7 +25,7 @@ public class PlayerStockData {
     /**
      * 주식 매수 (평단가 갱신)
      */
-    public void addPurchase(int quantity, double pricePerShare) {
+    public synchronized void addPurchase(int quantity, double pricePerShare) {
         double newInvestment = quantity * pricePerShare;
 
         // 기존 총액 + 신규 투자액
@@ -47,7 +48,7 @@ public class PlayerStockData {
     /**
      * 주식 매도 (수량 차감, 평단가 유지)
      */
-    public void removeSale(int quantity) {
+    public synchronized void removeSale(int quantity) {
         this.amount -= quantity;
         if (this.amount <= 0) {
             this.amount = 0;
@@ -65,27 +66,34 @@ public class PlayerStockData {
         }
     }
 
-    public int getAmount() {
+    /**
+     * 현재 값을 복사한 새 인스턴스 (저장 스냅샷용)
+     */
+    public synchronized PlayerStockData copy() {
+        return new PlayerStockData(amount, averagePrice, totalInvested);
+    }
+
+    public synchronized int getAmount() {
         return amount;
     }
 
-    public void setAmount(int amount) {
+    public synchronized void setAmount(int amount) {
         this.amount = amount;
     }
 
-    public double getAveragePrice() {
+    public synchronized double getAveragePrice() {
         return averagePrice;
     }
 
-    public void setAveragePrice(double averagePrice) {
+    public synchronized void setAveragePrice(double averagePrice) {
         this.averagePrice = averagePrice;
     }
 
-    public double getTotalInvested() {
+    public synchronized double getTotalInvested() {
         return totalInvested;
     }
 
-    public void setTotalInvested(double totalInvested) {
+    public synchronized void setTotalInvested(double totalInvested) {
         this.totalInvested = totalInvested;
     }
 }
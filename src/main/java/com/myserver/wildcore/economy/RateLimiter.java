@@ -0,0 +1,245 @@
+package com.myserver.wildcore.economy;
+
+import com.myserver.wildcore.WildCore;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 플레이어/행동별 요청 제한 (토큰 버킷, 매크로 연타 방지)
+ * - 행동마다 초당 충전량과 최대 연속 요청 수(버킷 크기)를 설정에서 읽음
+ * - 버킷은 "다음 토큰이 가득 차는 시각" 하나로 표현해 CAS 한 번으로 갱신 (잠금 없음, GCRA와 동일)
+ * - 제한된 요청은 Vault 호출/메시지 포맷/저장 전에 바로 거절하고, 행동별로 허용/제한 횟수를 집계
+ * 버킷이 다시 가득 찬 플레이어는 주기적으로 정리합니다.
+ */
+public class RateLimiter {
+
+    /**
+     * 제한 대상 행동
+     */
+    public enum Action {
+        STOCK_TRADE("stock_trade", "주식 거래", 5, 10),
+        BANK("bank", "은행", 3, 6),
+        SHOP("shop", "상점 구매/판매", 8, 16),
+        ENCHANT("enchant", "강화", 2, 4),
+        REPAIR("repair", "수리", 2, 4);
+
+        private final String configKey;
+        private final String displayName;
+        private final double defaultPerSecond;
+        private final int defaultBurst;
+
+        Action(String configKey, String displayName, double defaultPerSecond, int defaultBurst) {
+            this.configKey = configKey;
+            this.displayName = displayName;
+            this.defaultPerSecond = defaultPerSecond;
+            this.defaultBurst = defaultBurst;
+        }
+
+        public String getConfigKey() {
+            return configKey;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public double getDefaultPerSecond() {
+            return defaultPerSecond;
+        }
+
+        public int getDefaultBurst() {
+            return defaultBurst;
+        }
+    }
+
+    /**
+     * 행동별 예산 (나노초 단위로 미리 변환)
+     *
+     * @param interval  토큰 하나가 충전되는 시간
+     * @param tolerance 버킷이 가득 찬 상태에서 연속으로 허용되는 시간 폭 (interval * (burst - 1))
+     */
+    private record Budget(double perSecond, int burst, long interval, long tolerance) {
+
+        static Budget of(double perSecond, int burst) {
+            long interval = (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(0.001, perSecond));
+            int size = Math.max(1, burst);
+            return new Budget(perSecond, size, interval, interval * (size - 1));
+        }
+    }
+
+    /**
+     * 행동별 집계
+     */
+    public record ActionStats(Action action, double perSecond, int burst, long allowed, long throttled) {
+    }
+
+    private static final Action[] ACTIONS = Action.values();
+    // 플레이어 상태 배열의 마지막 칸: 다음 경고 메시지를 보낼 수 있는 시각
+    private static final int WARN_SLOT = ACTIONS.length;
+    private static final long WARN_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final long CLEANUP_INTERVAL_TICKS = 60 * 20L;
+    private static final String BYPASS_PERMISSION = "wildcore.ratelimit.bypass";
+
+    private final WildCore plugin;
+
+    // 플레이어 UUID -> 행동별 다음 토큰 시각 (+ 경고 시각)
+    private final Map<UUID, AtomicLongArray> buckets = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled;
+    private volatile Budget[] budgets = new Budget[ACTIONS.length];
+
+    private final LongAdder[] allowed = new LongAdder[ACTIONS.length];
+    private final LongAdder[] throttled = new LongAdder[ACTIONS.length];
+
+    private BukkitTask cleanupTask;
+
+    public RateLimiter(WildCore plugin) {
+        this.plugin = plugin;
+        for (int i = 0; i < ACTIONS.length; i++) {
+            allowed[i] = new LongAdder();
+            throttled[i] = new LongAdder();
+        }
+        reload();
+        cleanupTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::cleanup,
+                CLEANUP_INTERVAL_TICKS, CLEANUP_INTERVAL_TICKS);
+    }
+
+    /**
+     * 설정 다시 읽기 (현재 버킷 상태는 유지)
+     */
+    public void reload() {
+        Budget[] loaded = new Budget[ACTIONS.length];
+        for (Action action : ACTIONS) {
+            loaded[action.ordinal()] = Budget.of(plugin.getConfigManager().getRateLimitPerSecond(action),
+                    plugin.getConfigManager().getRateLimitBurst(action));
+        }
+        budgets = loaded;
+        enabled = plugin.getConfigManager().isRateLimitEnabled();
+    }
+
+    public void shutdown() {
+        if (cleanupTask != null) {
+            cleanupTask.cancel();
+            cleanupTask = null;
+        }
+        buckets.clear();
+    }
+
+    // =====================
+    // 요청 확인
+    // =====================
+
+    /**
+     * 요청 하나 허용 여부 (제한되면 플레이어에게 경고, 경고는 초당 한 번까지)
+     */
+    public boolean tryAcquire(Player player, Action action) {
+        if (!enabled || player.hasPermission(BYPASS_PERMISSION)) {
+            return true;
+        }
+        AtomicLongArray state = buckets.computeIfAbsent(player.getUniqueId(), k -> newState());
+        if (acquire(state, action)) {
+            return true;
+        }
+        if (claimWarning(state)) {
+            player.sendMessage(plugin.getConfigManager().getPrefix()
+                    + plugin.getConfigManager().getMessage("general.rate_limited"));
+        }
+        return false;
+    }
+
+    /**
+     * 토큰 하나 사용 (버킷이 비어 있으면 false)
+     */
+    private boolean acquire(AtomicLongArray state, Action action) {
+        int slot = action.ordinal();
+        Budget budget = budgets[slot];
+        while (true) {
+            long now = System.nanoTime();
+            long current = state.get(slot);
+            long base = Math.max(current, now);
+            if (base - now > budget.tolerance()) {
+                throttled[slot].increment();
+                return false;
+            }
+            if (state.compareAndSet(slot, current, base + budget.interval())) {
+                allowed[slot].increment();
+                return true;
+            }
+        }
+    }
+
+    private boolean claimWarning(AtomicLongArray state) {
+        long now = System.nanoTime();
+        long next = state.get(WARN_SLOT);
+        return now - next >= 0 && state.compareAndSet(WARN_SLOT, next, now + WARN_INTERVAL);
+    }
+
+    private static AtomicLongArray newState() {
+        // 처음에는 모든 버킷이 가득 찬 상태 (지금 시각보다 이른 값)
+        AtomicLongArray state = new AtomicLongArray(ACTIONS.length + 1);
+        long now = System.nanoTime();
+        for (int i = 0; i <= ACTIONS.length; i++) {
+            state.set(i, now - TimeUnit.DAYS.toNanos(1));
+        }
+        return state;
+    }
+
+    /**
+     * 버킷이 모두 다시 가득 찬 플레이어 정리 (정리된 플레이어는 다음 요청 때 가득 찬 버킷으로 시작)
+     */
+    private void cleanup() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> {
+            AtomicLongArray state = entry.getValue();
+            for (int i = 0; i <= ACTIONS.length; i++) {
+                if (state.get(i) - now > 0) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    // =====================
+    // 통계
+    // =====================
+
+    /**
+     * 행동별 허용/제한 횟수 (서버 시작 또는 초기화 이후)
+     */
+    public ActionStats[] getStats() {
+        Budget[] current = budgets;
+        ActionStats[] stats = new ActionStats[ACTIONS.length];
+        for (Action action : ACTIONS) {
+            int slot = action.ordinal();
+            stats[slot] = new ActionStats(action, current[slot].perSecond(), current[slot].burst(),
+                    allowed[slot].sum(), throttled[slot].sum());
+        }
+        return stats;
+    }
+
+    public void resetStats() {
+        for (int i = 0; i < ACTIONS.length; i++) {
+            allowed[i].reset();
+            throttled[i].reset();
+        }
+    }
+
+    /**
+     * 버킷을 추적 중인 플레이어 수
+     */
+    public int getTrackedPlayerCount() {
+        return buckets.size();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,289 @@
+package com.myserver.wildcore.economy;
+
+import com.myserver.wildcore.WildCore;
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 2단계 정산 (Vault 돈 이동과 게임 내 상태 변경을 하나의 거래로 처리)
+ * - 출금형(debit): 돈 예약(출금) -> 상태 변경 -> 확정, 상태 변경이 거절되면 돈을 돌려줌 (보상)
+ * - 입금형(credit): 자산 예약(상태 변경) -> 돈 지급 -> 확정, 지급이 실패하면 자산을 되돌림 (보상)
+ * - 같은 플레이어의 거래는 플레이어별 대기열에서 순서대로 처리 (다른 플레이어끼리는 서로 기다리지 않음)
+ * - 설정에 따라 Vault 호출을 전용 스레드에서 수행 (느린 경제 플러그인이 서버 틱을 막지 않도록)
+ *   상태 변경/확정/실패 처리와 반환된 결과의 완료는 항상 메인 스레드에서 실행됩니다.
+ * 한도/잔액/재고 확인은 상태 변경 단계(apply/reserve) 안에서 해야 같은 플레이어의 앞선 거래가 모두 반영된 상태를 봅니다.
+ * 호출 측은 반환된 결과가 완료된 뒤에 GUI를 갱신합니다. (대기열에 들어간 시점에는 아직 반영 전)
+ */
+public class SettlementEngine {
+
+    /**
+     * 거래 실패 사유
+     */
+    public enum Failure {
+        INSUFFICIENT_FUNDS, // 잔액 부족
+        ECONOMY_ERROR, // 경제 플러그인 처리 실패
+        REJECTED // 상태 변경 거절 (재고/보유량 부족 등)
+    }
+
+    private final WildCore plugin;
+    private final Economy economy;
+
+    // Vault 전용 스레드 (null이면 메인 스레드에서 직접 호출)
+    private final ExecutorService vaultExecutor;
+
+    // 플레이어별 마지막 거래 (다음 거래는 이 거래가 끝난 뒤 시작)
+    private final Map<UUID, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    // 다른 스레드에서 넘어온 메인 스레드 작업 (틱마다 처리)
+    private final Queue<Runnable> mainQueue = new ConcurrentLinkedQueue<>();
+    private final BukkitTask drainTask;
+    private volatile boolean closing = false;
+
+    public SettlementEngine(WildCore plugin) {
+        this.plugin = plugin;
+        this.economy = plugin.getEconomy();
+        this.vaultExecutor = plugin.getConfigManager().isEconomyAsync()
+                ? Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "WildCore-Vault");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+        this.drainTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::drainMainQueue, 1L, 1L);
+    }
+
+    // =====================
+    // 거래
+    // =====================
+
+    /**
+     * 출금형 거래 (구매, 예금, 매수 주문 등)
+     *
+     * @param apply    돈을 받은 뒤 실행할 한도 확인과 상태 변경 (false를 반환하면 환불)
+     * @param onCommit 거래 확정 후 처리 (메시지 등)
+     * @return 거래 결과 (true: 확정, false: 실패, 메인 스레드에서 완료)
+     */
+    public CompletableFuture<Boolean> debit(OfflinePlayer player, double amount, BooleanSupplier apply,
+            Runnable onCommit, Consumer<Failure> onFailure) {
+        return enqueue(player.getUniqueId(), () -> onVault(() -> reserve(player, amount))
+                .thenCompose(failure -> {
+                    if (failure != null) {
+                        return onMain(() -> fail(onFailure, failure));
+                    }
+                    return onMain(() -> tryApply(apply)).thenCompose(applied -> {
+                        if (applied) {
+                            return onMain(() -> commit(onCommit));
+                        }
+                        return onVault(() -> refund(player, amount))
+                                .thenCompose(ignored -> onMain(() -> fail(onFailure, Failure.REJECTED)));
+                    });
+                }));
+    }
+
+    /**
+     * 입금형 거래 (판매, 출금, 해지 등)
+     *
+     * @param reserve    돈을 지급하기 전에 실행할 확인과 자산 차감 (false를 반환하면 거래 취소)
+     * @param compensate 지급 실패 시 자산 복구
+     * @param onCommit   거래 확정 후 처리 (메시지 등)
+     * @return 거래 결과 (true: 확정, false: 실패, 메인 스레드에서 완료)
+     */
+    public CompletableFuture<Boolean> credit(OfflinePlayer player, double amount, BooleanSupplier reserve,
+            Runnable compensate, Runnable onCommit, Consumer<Failure> onFailure) {
+        return credit(player, () -> amount, reserve, compensate, onCommit, onFailure);
+    }
+
+    /**
+     * 입금형 거래 (지급액이 자산 차감 시점에 정해지는 경우, 예: 이자 정산 후 계좌 해지)
+     *
+     * @param amount reserve가 성공한 뒤 읽는 지급액
+     */
+    public CompletableFuture<Boolean> credit(OfflinePlayer player, DoubleSupplier amount, BooleanSupplier reserve,
+            Runnable compensate, Runnable onCommit, Consumer<Failure> onFailure) {
+        return enqueue(player.getUniqueId(), () -> onMain(() -> tryApply(reserve))
+                .thenCompose(reserved -> {
+                    if (!reserved) {
+                        return onMain(() -> fail(onFailure, Failure.REJECTED));
+                    }
+                    double payment = amount.getAsDouble();
+                    return onVault(() -> pay(player, payment)).thenCompose(paid -> {
+                        if (paid) {
+                            return onMain(() -> commit(onCommit));
+                        }
+                        return onMain(() -> {
+                            compensate.run();
+                            return fail(onFailure, Failure.ECONOMY_ERROR);
+                        });
+                    });
+                }));
+    }
+
+    /**
+     * 단순 지급 (체결 대금, 주문 취소 환불 등 이미 상태 변경이 확정된 돈)
+     * 지급에 실패하면 수동 처리를 위해 로그를 남깁니다.
+     */
+    public void payout(OfflinePlayer player, double amount, String reason) {
+        if (amount <= 0) {
+            return;
+        }
+        enqueue(player.getUniqueId(), () -> onVault(() -> {
+            if (!pay(player, amount)) {
+                plugin.getLogger().severe("지급 실패 (" + reason + "): " + player.getUniqueId() + " " + amount);
+            }
+            return true;
+        }));
+    }
+
+    /**
+     * 같은 플레이어의 이전 거래가 끝난 뒤 실행되도록 대기열에 추가
+     * 대기 중인 거래가 없으면 호출한 스레드에서 바로 시작합니다.
+     */
+    private CompletableFuture<Boolean> enqueue(UUID uuid, Supplier<CompletableFuture<Boolean>> operation) {
+        CompletableFuture<Void> start = new CompletableFuture<>();
+        CompletableFuture<Boolean> result = start.thenCompose(ignored -> operation.get())
+                .exceptionally(e -> {
+                    plugin.getLogger().severe("거래 처리 중 오류: " + e.getMessage());
+                    return false;
+                })
+                .thenCompose(success -> onMain(() -> success)); // 오류로 끝난 경우도 메인 스레드에서 완료
+        CompletableFuture<Void> done = result.thenAccept(ignored -> {
+        });
+
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Void>[] previous = new CompletableFuture[1];
+        tails.compute(uuid, (key, tail) -> {
+            previous[0] = tail;
+            return done;
+        });
+        done.whenComplete((ignored, e) -> tails.remove(uuid, done));
+
+        if (previous[0] == null) {
+            start.complete(null);
+        } else {
+            previous[0].whenComplete((ignored, e) -> start.complete(null));
+        }
+        return result;
+    }
+
+    // =====================
+    // Vault 단계
+    // =====================
+
+    /**
+     * 돈 예약 (출금)
+     *
+     * @return 실패 사유 (성공 시 null)
+     */
+    private Failure reserve(OfflinePlayer player, double amount) {
+        if (amount <= 0) {
+            return null;
+        }
+        if (!economy.has(player, amount)) {
+            return Failure.INSUFFICIENT_FUNDS;
+        }
+        EconomyResponse response = economy.withdrawPlayer(player, amount);
+        return response.transactionSuccess() ? null : Failure.ECONOMY_ERROR;
+    }
+
+    private boolean pay(OfflinePlayer player, double amount) {
+        if (amount <= 0) {
+            return true;
+        }
+        return economy.depositPlayer(player, amount).transactionSuccess();
+    }
+
+    /**
+     * 보상 단계의 환불 (실패하면 금액을 로그로 남김)
+     */
+    private boolean refund(OfflinePlayer player, double amount) {
+        boolean refunded = pay(player, amount);
+        if (!refunded) {
+            plugin.getLogger().severe("거래 보상 환불 실패: " + player.getUniqueId() + " " + amount);
+        }
+        return refunded;
+    }
+
+    // =====================
+    // 메인 스레드 단계
+    // =====================
+
+    private boolean tryApply(BooleanSupplier step) {
+        try {
+            return step.getAsBoolean();
+        } catch (RuntimeException e) {
+            plugin.getLogger().severe("거래 상태 변경 실패: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean commit(Runnable onCommit) {
+        onCommit.run();
+        return true;
+    }
+
+    private boolean fail(Consumer<Failure> onFailure, Failure failure) {
+        onFailure.accept(failure);
+        return false;
+    }
+
+    private <T> CompletableFuture<T> onVault(Supplier<T> task) {
+        if (vaultExecutor == null || vaultExecutor.isShutdown()) {
+            return onMain(task);
+        }
+        return CompletableFuture.supplyAsync(task, vaultExecutor);
+    }
+
+    private <T> CompletableFuture<T> onMain(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, runnable -> {
+            if (closing || plugin.getServer().isPrimaryThread()) {
+                runnable.run();
+            } else {
+                mainQueue.add(runnable);
+            }
+        });
+    }
+
+    private void drainMainQueue() {
+        Runnable task;
+        while ((task = mainQueue.poll()) != null) {
+            task.run();
+        }
+    }
+
+    /**
+     * 종료 처리
+     * 진행 중인 거래를 모두 끝낸 뒤 반환합니다. (돈만 빠져나가고 상태 변경이 누락되지 않도록)
+     */
+    public void shutdown() {
+        drainTask.cancel();
+        drainMainQueue();
+        closing = true; // 이후 메인 스레드 단계는 Vault 스레드에서 바로 실행
+        if (vaultExecutor != null) {
+            vaultExecutor.shutdown();
+            try {
+                if (!vaultExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    plugin.getLogger().warning("정산 스레드 종료 대기 시간 초과");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drainMainQueue();
+    }
+}
@@ -3,7 +3,7 @@ package com.myserver.wildcore.gui;
 import com.myserver.wildcore.WildCore;
 import com.myserver.wildcore.config.BankProductConfig;
 import com.myserver.wildcore.config.PlayerBankAccount;
-import com.myserver.wildcore.config.PlayerStockData;
+import com.myserver.wildcore.stock.PortfolioIndex;
 import com.myserver.wildcore.util.ItemUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -14,7 +14,6 @@ import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 은행 및 주식 정보 전용 GUI
@@ -55,32 +54,33 @@ public class BankStockInfoGUI implements InventoryHolder {
     }
 
     private void setupStockInfo() {
-        Map<String, PlayerStockData> holdings = plugin.getStockManager().getPlayerStocks(player.getUniqueId());
+        // 포트폴리오 캐시 조회 (보유 데이터를 읽지 않음)
+        PortfolioIndex.Holdings holdings = plugin.getStockManager().getHoldings(player.getUniqueId());
 
         List<String> stockLore = new ArrayList<>();
         stockLore.add("");
 
-        if (holdings.isEmpty()) {
+        if (holdings == null) {
             stockLore.add("§7보유 주식이 없습니다.");
         } else {
             double totalValue = 0;
             int stockCount = 0;
-            for (Map.Entry<String, PlayerStockData> entry : holdings.entrySet()) {
-                String stockId = entry.getKey();
-                int amount = entry.getValue().getAmount();
+            for (int i = 0; i < holdings.stockIds().length; i++) {
+                String stockId = holdings.stockIds()[i];
+                int amount = holdings.amounts()[i];
                 double price = plugin.getStockManager().getCurrentPrice(stockId);
                 totalValue += price * amount;
                 stockCount += amount;
             }
-            stockLore.add("§7보유 종목: §f" + holdings.size() + "개");
+            stockLore.add("§7보유 종목: §f" + holdings.stockIds().length + "개");
             stockLore.add("§7총 보유량: §f" + stockCount + "주");
             stockLore.add("§7총 평가액: §a" + String.format("%,.1f", totalValue) + "원");
 
             stockLore.add("");
             stockLore.add("§e----- 보유 상세 -----");
-            for (Map.Entry<String, PlayerStockData> entry : holdings.entrySet()) {
-                String stockId = entry.getKey();
-                int amount = entry.getValue().getAmount();
+            for (int i = 0; i < holdings.stockIds().length; i++) {
+                String stockId = holdings.stockIds()[i];
+                int amount = holdings.amounts()[i];
                 double price = plugin.getStockManager().getCurrentPrice(stockId);
                 // 종목 이름 가져오기 (Config 등에서 가져와야 하지만 여기선 ID로 대체하거나 필요시 추가 조회)
                 // String stockName = plugin.getConfigManager().getStock(stockId).getName(); //
@@ -3,6 +3,7 @@ package com.myserver.wildcore.gui;
 import com.myserver.wildcore.WildCore;
 import com.myserver.wildcore.config.PlayerStockData;
 import com.myserver.wildcore.config.StockConfig;
+import com.myserver.wildcore.stock.PortfolioIndex;
 import com.myserver.wildcore.util.ItemUtil;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -19,11 +20,26 @@ import java.util.Map;
  */
 public class MyStockGUI extends PaginatedGui<String> {
 
-    private final Map<String, PlayerStockData> myStocks;
+    // 메모리에 올라온 보유 데이터 (아직 없으면 null, 읽은 뒤 다시 그림)
+    private Map<String, PlayerStockData> myStocks;
 
     public MyStockGUI(WildCore plugin, Player player) {
         super(plugin, player);
-        this.myStocks = plugin.getStockManager().getPlayerStocks(player.getUniqueId());
+        this.myStocks = plugin.getStockManager().getLoadedPlayerStocks(player.getUniqueId());
+    }
+
+    @Override
+    public void open(int page) {
+        super.open(page);
+        if (myStocks == null) {
+            // 메모리에 없으면(리로드 직후 등) 메인 스레드를 막지 않고 읽은 뒤 다시 그림
+            plugin.getStockManager().loadPlayerAsync(player.getUniqueId()).thenAccept(stocks -> {
+                myStocks = Collections.unmodifiableMap(stocks);
+                if (player.isOnline() && player.getOpenInventory().getTopInventory().getHolder() == this) {
+                    refresh();
+                }
+            });
+        }
     }
 
     @Override
@@ -79,6 +95,27 @@ public class MyStockGUI extends PaginatedGui<String> {
                 plugin);
     }
 
+    /**
+     * 정보 아이콘에 포트폴리오 합계 표시 (캐시 조회)
+     */
+    @Override
+    protected ItemStack createInfoItem(int page, int totalPages, int totalItems) {
+        PortfolioIndex.Valuation portfolio = plugin.getStockManager().getPortfolio(player.getUniqueId());
+        String profitColor = portfolio.getProfit() >= 0 ? "§a" : "§c";
+
+        List<String> lore = new ArrayList<>();
+        lore.add("");
+        lore.add("§7보유 종목: §f" + portfolio.stockCount() + "개 §8(" + portfolio.totalShares() + "주)");
+        lore.add("§7총 투자금: §f" + String.format("%,.0f", portfolio.totalInvested()) + "원");
+        lore.add("§7총 평가액: §e" + String.format("%,.0f", portfolio.totalValue()) + "원");
+        lore.add("§7총 손익: " + profitColor + String.format("%+,.0f", portfolio.getProfit()) + "원 §7(" +
+                profitColor + String.format("%+.2f%%", portfolio.getProfitPercent()) + "§7)");
+        lore.add("");
+        lore.add("§7페이지: §e" + (page + 1) + " / " + totalPages);
+
+        return createItem(Material.BOOK, "§d[ 내 포트폴리오 ]", lore);
+    }
+
     @Override
     protected String getTitle(int page, int totalPages) {
         return "§8[ §d내 주식 정보 §8] §7(" + page + "/" + totalPages + ")";
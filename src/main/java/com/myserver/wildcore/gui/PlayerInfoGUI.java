@@ -5,6 +5,7 @@ import com.myserver.wildcore.config.BankProductConfig;
 import com.myserver.wildcore.config.PlayerBankAccount;
 import com.myserver.wildcore.config.PlayerStockData;
 import com.myserver.wildcore.config.StockConfig;
+import com.myserver.wildcore.stock.PortfolioIndex;
 import com.myserver.wildcore.util.ItemUtil;
 import me.ryanhamshire.GriefPrevention.Claim;
 import org.bukkit.Bukkit;
@@ -170,37 +171,37 @@ public class PlayerInfoGUI implements InventoryHolder {
     }
 
     private void setupStockSection() {
-        Map<String, PlayerStockData> holdings = plugin.getStockManager().getPlayerStocks(player.getUniqueId());
+        Map<String, PlayerStockData> holdings = plugin.getStockManager().getLoadedPlayerStocks(player.getUniqueId());
+        if (holdings == null) {
+            // 메모리에 없으면(리로드 직후 등) 메인 스레드를 막지 않고 읽은 뒤 이 섹션만 다시 그림
+            inventory.setItem(SLOT_STOCK_SUMMARY, ItemUtil.createItem(Material.DIAMOND, "§d§l주식 포트폴리오",
+                    List.of("", "§7보유 주식을 불러오는 중..."), 1, null, 0, true, plugin));
+            plugin.getStockManager().loadPlayerAsync(player.getUniqueId()).thenRun(() -> {
+                if (player.isOnline() && player.getOpenInventory().getTopInventory().getHolder() == this) {
+                    setupStockSection();
+                }
+            });
+            return;
+        }
 
         // 주식 요약
         List<String> summaryLore = new ArrayList<>();
         summaryLore.add("");
 
-        double totalValue = 0;
-        double totalInvested = 0;
-        int stockCount = 0;
-
         if (holdings.isEmpty()) {
             summaryLore.add("§7보유 주식이 없습니다.");
         } else {
-            for (Map.Entry<String, PlayerStockData> entry : holdings.entrySet()) {
-                String stockId = entry.getKey();
-                PlayerStockData data = entry.getValue();
-                double price = plugin.getStockManager().getCurrentPrice(stockId);
-                totalValue += price * data.getAmount();
-                totalInvested += data.getTotalInvested();
-                stockCount += data.getAmount();
-            }
-
-            double profitLoss = totalValue - totalInvested;
-            double profitPercent = totalInvested > 0 ? (profitLoss / totalInvested * 100) : 0;
+            // 포트폴리오 합계는 캐시에서 조회
+            PortfolioIndex.Valuation portfolio = plugin.getStockManager().getPortfolio(player.getUniqueId());
+            double profitLoss = portfolio.getProfit();
+            double profitPercent = portfolio.getProfitPercent();
             String profitColor = profitLoss >= 0 ? "§a+" : "§c";
 
             summaryLore.add("§7보유 종목: §f" + holdings.size() + "개");
-            summaryLore.add("§7총 보유량: §f" + stockCount + "주");
+            summaryLore.add("§7총 보유량: §f" + portfolio.totalShares() + "주");
             summaryLore.add("");
-            summaryLore.add("§7총 투자금: §f" + String.format("%,.0f", totalInvested) + "원");
-            summaryLore.add("§7총 평가액: §a" + String.format("%,.0f", totalValue) + "원");
+            summaryLore.add("§7총 투자금: §f" + String.format("%,.0f", portfolio.totalInvested()) + "원");
+            summaryLore.add("§7총 평가액: §a" + String.format("%,.0f", portfolio.totalValue()) + "원");
             summaryLore.add("§7수익률: " + profitColor + String.format("%.1f%%", profitPercent));
             summaryLore.add("§7손익: " + profitColor + String.format("%,.0f", profitLoss) + "원");
         }
@@ -427,13 +428,7 @@ public class PlayerInfoGUI implements InventoryHolder {
     }
 
     private double calculateTotalStockValue() {
-        Map<String, PlayerStockData> holdings = plugin.getStockManager().getPlayerStocks(player.getUniqueId());
-        double total = 0;
-        for (Map.Entry<String, PlayerStockData> entry : holdings.entrySet()) {
-            double price = plugin.getStockManager().getCurrentPrice(entry.getKey());
-            total += price * entry.getValue().getAmount();
-        }
-        return total;
+        return plugin.getStockManager().getPortfolio(player.getUniqueId()).totalValue();
     }
 
     public void open() {
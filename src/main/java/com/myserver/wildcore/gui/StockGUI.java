@@ -1,7 +1,10 @@
 package com.myserver.wildcore.gui;
 
 import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.config.PlayerStockData;
 import com.myserver.wildcore.config.StockConfig;
+import com.myserver.wildcore.stock.Candle;
+import com.myserver.wildcore.stock.PriceHistory;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -9,6 +12,7 @@ import org.bukkit.inventory.ItemStack;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 주식 시장 GUI (페이지네이션 지원)
@@ -48,13 +52,32 @@ public class StockGUI extends PaginatedGui<StockConfig> {
             lore.add("§7최근 추세: " + plugin.getStockManager().getTrendIcons(stock.getId(), 5));
         }
 
-        // 보유량 정보 추가
-        int holdings = plugin.getStockManager().getPlayerStockAmount(player.getUniqueId(), stock.getId());
+        // 기간별 캔들 (해상도별 가장 최근 완성 캔들)
+        PriceHistory history = plugin.getStockManager().getPriceHistoryData(stock.getId());
+        if (history != null) {
+            for (int i = 0; i < history.getCandleSeriesCount(); i++) {
+                Candle candle = history.getCandle(i, 0);
+                if (candle == null)
+                    continue;
+                lore.add("§7" + formatCandlePeriod(history.getCandleResolution(i)) + "봉: §f"
+                        + String.format("%,.0f", candle.open())
+                        + " §a↑" + String.format("%,.0f", candle.high())
+                        + " §c↓" + String.format("%,.0f", candle.low())
+                        + " §f→ " + String.format("%,.0f", candle.close()));
+            }
+        }
+
+        // 보유량 정보 추가 (수량은 포트폴리오 캐시, 평단가는 메모리에 올라온 보유 데이터에서 조회)
+        int holdings = plugin.getStockManager().getHeldAmount(player.getUniqueId(), stock.getId());
         lore.add("");
         lore.add("§7보유량: §f" + holdings + "주");
 
-        if (holdings > 0) {
-            double avgPrice = plugin.getStockManager().getPlayerAveragePrice(player.getUniqueId(), stock.getId());
+        Map<String, PlayerStockData> loaded = plugin.getStockManager().getLoadedPlayerStocks(player.getUniqueId());
+        PlayerStockData data = (loaded != null) ? loaded.get(stock.getId()) : null;
+        if (holdings > 0 && data == null) {
+            lore.add("§7평단가: §8불러오는 중...");
+        } else if (holdings > 0) {
+            double avgPrice = data.getAveragePrice();
             double currentPrice = plugin.getStockManager().getCurrentPrice(stock.getId());
             double profitLoss = (currentPrice - avgPrice) * holdings;
             double roi = 0;
@@ -96,6 +119,21 @@ public class StockGUI extends PaginatedGui<StockConfig> {
         }
     }
 
+    /**
+     * 캔들 해상도를 기간 문자열로 변환 (예: 3시간, 1일)
+     */
+    private String formatCandlePeriod(int resolution) {
+        long seconds = (long) resolution * plugin.getConfigManager().getStockUpdateInterval();
+        if (seconds >= 86400 && seconds % 86400 == 0) {
+            return (seconds / 86400) + "일";
+        } else if (seconds >= 3600 && seconds % 3600 == 0) {
+            return (seconds / 3600) + "시간";
+        } else if (seconds >= 60) {
+            return (seconds / 60) + "분";
+        }
+        return seconds + "초";
+    }
+
     @Override
     protected String getTitle(int page, int totalPages) {
         if (totalPages <= 1) {
@@ -111,11 +149,8 @@ public class StockGUI extends PaginatedGui<StockConfig> {
 
     @Override
     protected ItemStack createInfoItem(int page, int totalPages, int totalItems) {
-        double totalValue = 0;
-        for (StockConfig stock : plugin.getConfigManager().getStocks().values()) {
-            int amount = plugin.getStockManager().getPlayerStockAmount(player.getUniqueId(), stock.getId());
-            totalValue += plugin.getStockManager().getCurrentPrice(stock.getId()) * amount;
-        }
+        // 포트폴리오 캐시 조회
+        double totalValue = plugin.getStockManager().getPortfolio(player.getUniqueId()).totalValue();
 
         List<String> lore = new ArrayList<>();
         lore.add("");
@@ -133,6 +168,14 @@ public class StockGUI extends PaginatedGui<StockConfig> {
     @Override
     public void open(int page) {
         super.open(page);
+        if (plugin.getStockManager().getLoadedPlayerStocks(player.getUniqueId()) == null) {
+            // 메모리에 없으면(리로드 직후 등) 메인 스레드를 막지 않고 읽은 뒤 다시 그림
+            plugin.getStockManager().loadPlayerAsync(player.getUniqueId()).thenRun(() -> {
+                if (player.isOnline() && player.getOpenInventory().getTopInventory().getHolder() == this) {
+                    refresh();
+                }
+            });
+        }
         // 자동 새로고침 시작 (1초마다 타이머 업데이트)
         AutoRefreshGUI.startAutoRefresh(plugin, player, () -> {
             if (player.getOpenInventory().getTopInventory().getHolder() instanceof StockGUI) {
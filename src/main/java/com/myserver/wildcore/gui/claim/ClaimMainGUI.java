@@ -1,6 +1,7 @@
 package com.myserver.wildcore.gui.claim;
 
 import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.claim.ClaimFlags;
 import com.myserver.wildcore.managers.ClaimDataManager.ClaimMetadata;
 import com.myserver.wildcore.managers.CropGrowthManager;
 import me.ryanhamshire.GriefPrevention.Claim;
@@ -186,7 +187,7 @@ public class ClaimMainGUI implements InventoryHolder {
         lore.add("§7변경할 수 있습니다.");
         lore.add("");
 
-        boolean blockEntry = plugin.getClaimDataManager().getClaimFlag(claim.getID(), "block_entry", false);
+        boolean blockEntry = plugin.getClaimDataManager().getClaimFlag(claim.getID(), ClaimFlags.BLOCK_ENTRY);
         lore.add("§7외부인 입장 차단: " + (blockEntry ? "§a켜짐" : "§c꺼짐"));
 
         lore.add("");
@@ -109,7 +109,7 @@ public class ClaimSettingsGUI implements InventoryHolder {
 
         for (int i = 0; i < flags.size() && i < FLAG_SLOTS.length; i++) {
             ClaimFlags flag = flags.get(i);
-            boolean enabled = dataManager.getClaimFlag(claim.getID(), flag.getKey(), flag.getDefaultValue());
+            boolean enabled = dataManager.getClaimFlag(claim.getID(), flag);
             inventory.setItem(FLAG_SLOTS[i], createFlagItem(flag, enabled));
         }
     }
@@ -133,7 +133,7 @@ public class ClaimSettingsGUI implements InventoryHolder {
         ClaimDataManager dataManager = plugin.getClaimDataManager();
         int enabledCount = 0;
         for (ClaimFlags flag : flags) {
-            if (dataManager.getClaimFlag(claim.getID(), flag.getKey(), flag.getDefaultValue())) {
+            if (dataManager.getClaimFlag(claim.getID(), flag)) {
                 enabledCount++;
             }
         }
@@ -288,8 +288,8 @@ public class ClaimSettingsGUI implements InventoryHolder {
             return;
 
         ClaimDataManager dataManager = plugin.getClaimDataManager();
-        boolean current = dataManager.getClaimFlag(claim.getID(), flag.getKey(), flag.getDefaultValue());
-        dataManager.setClaimFlag(claim.getID(), flag.getKey(), !current);
+        boolean current = dataManager.getClaimFlag(claim.getID(), flag);
+        dataManager.setClaimFlag(claim.getID(), flag, !current);
 
         // GUI 새로고침
         refresh();
@@ -309,7 +309,7 @@ public class ClaimSettingsGUI implements InventoryHolder {
         ClaimDataManager dataManager = plugin.getClaimDataManager();
 
         for (ClaimFlags flag : flags) {
-            dataManager.setClaimFlag(claim.getID(), flag.getKey(), enable);
+            dataManager.setClaimFlag(claim.getID(), flag, enable);
         }
 
         refresh();
@@ -2,15 +2,19 @@ package com.myserver.wildcore.listeners;
 
 import com.myserver.wildcore.WildCore;
 import com.myserver.wildcore.claim.ClaimFlags;
+import com.myserver.wildcore.claim.ClaimTracker;
+import com.myserver.wildcore.claim.ExplosionFilter;
 import com.myserver.wildcore.managers.ClaimDataManager;
 import com.myserver.wildcore.managers.ClaimManager;
 import com.myserver.wildcore.managers.CropGrowthManager;
 import me.ryanhamshire.GriefPrevention.Claim;
+import me.ryanhamshire.GriefPrevention.events.ClaimCreatedEvent;
 import me.ryanhamshire.GriefPrevention.events.ClaimDeletedEvent;
+import me.ryanhamshire.GriefPrevention.events.ClaimResizeEvent;
+import me.ryanhamshire.GriefPrevention.events.TrustChangedEvent;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.*;
 import org.bukkit.event.EventHandler;
@@ -29,7 +33,6 @@ import org.bukkit.event.player.PlayerFishEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.vehicle.VehicleEnterEvent;
-import org.bukkit.scheduler.BukkitTask;
 
 /**
  * GriefPrevention 이벤트를 리스닝하여 WildCore 데이터를 동기화합니다.
@@ -40,14 +43,16 @@ public class ClaimProtectionListener implements Listener {
     private final WildCore plugin;
     private final ClaimManager claimManager;
     private final ClaimDataManager claimDataManager;
-    private BukkitTask mobEntryTask;
+    private final ExplosionFilter explosionFilter;
+    private final ClaimTracker claimTracker;
 
     public ClaimProtectionListener(WildCore plugin, ClaimManager claimManager, ClaimDataManager claimDataManager,
             CropGrowthManager cropGrowthManager) {
         this.plugin = plugin;
         this.claimManager = claimManager;
         this.claimDataManager = claimDataManager;
-        startMobEntryTask();
+        this.explosionFilter = new ExplosionFilter(claimManager, claimDataManager);
+        this.claimTracker = plugin.getClaimTracker();
     }
 
     // =====================
@@ -61,6 +66,8 @@ public class ClaimProtectionListener implements Listener {
     public void onClaimDeleted(ClaimDeletedEvent event) {
         Claim claim = event.getClaim();
         if (claim != null) {
+            claimManager.refreshClaimIndex(claim);
+            claimManager.invalidateTrust(claim);
             Long claimId = claim.getID();
             if (claimId != null) {
                 claimDataManager.removeClaimData(claimId);
@@ -69,6 +76,33 @@ public class ClaimProtectionListener implements Listener {
         }
     }
 
+    /**
+     * GP Claim 생성 시 사유지 색인 갱신
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onClaimCreated(ClaimCreatedEvent event) {
+        claimManager.refreshClaimIndex(event.getClaim());
+    }
+
+    /**
+     * GP Claim 크기 변경 시 사유지 색인 갱신
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onClaimResized(ClaimResizeEvent event) {
+        claimManager.refreshClaimIndex(event.getFrom());
+        claimManager.refreshClaimIndex(event.getTo());
+    }
+
+    /**
+     * GP Trust 변경 시 (/trust, /untrust 등) Trust 표 갱신
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTrustChanged(TrustChangedEvent event) {
+        for (Claim claim : event.getClaims()) {
+            claimManager.invalidateTrust(claim);
+        }
+    }
+
     // =====================
     // 일반 설정 이벤트
     // =====================
@@ -95,8 +129,8 @@ public class ClaimProtectionListener implements Listener {
             return;
         }
 
-        // 이동 대상 위치의 Claim 확인
-        Claim claim = claimManager.getClaimAt(event.getTo());
+        // 이동 대상 위치의 Claim 확인 (같은 사유지 안의 이동은 다시 조회하지 않음)
+        Claim claim = claimTracker.getClaimAt(player, event.getTo());
         if (claim == null)
             return;
 
@@ -259,13 +293,7 @@ public class ClaimProtectionListener implements Listener {
             return;
 
         // 폭발 영향을 받는 블록 중 claim 내 블록 제거
-        event.blockList().removeIf(block -> {
-            Claim claim = claimManager.getClaimAt(block.getLocation());
-            if (claim != null) {
-                return !getFlag(claim, ClaimFlags.EXPLOSIONS);
-            }
-            return false;
-        });
+        explosionFilter.filter(event.blockList());
     }
 
     /**
@@ -276,13 +304,7 @@ public class ClaimProtectionListener implements Listener {
         if (!claimManager.isEnabled())
             return;
 
-        event.blockList().removeIf(block -> {
-            Claim claim = claimManager.getClaimAt(block.getLocation());
-            if (claim != null) {
-                return !getFlag(claim, ClaimFlags.EXPLOSIONS);
-            }
-            return false;
-        });
+        explosionFilter.filter(event.blockList());
     }
 
     /**
@@ -674,7 +696,7 @@ public class ClaimProtectionListener implements Listener {
      * 플래그 값을 가져옵니다.
      */
     private boolean getFlag(Claim claim, ClaimFlags flag) {
-        return claimDataManager.getClaimFlag(claim.getID(), flag.getKey(), flag.getDefaultValue());
+        return claimDataManager.getClaimFlag(claim.getID(), flag);
     }
 
     /**
@@ -756,46 +778,4 @@ public class ClaimProtectionListener implements Listener {
         Claim toClaim = claimManager.getClaimAt(event.getTo());
         return fromClaim != null && toClaim == null;
     }
-
-    // =====================
-    // MOB_ENTRY 주기적 태스크
-    // =====================
-
-    /**
-     * MOB_ENTRY 플래그가 활성화된 사유지에서 적대적 몹을 주기적으로 제거합니다.
-     * 외부에서 걸어 들어오는 몹을 차단하기 위한 보완 기능입니다.
-     * 10초 간격으로 실행됩니다.
-     */
-    private void startMobEntryTask() {
-        mobEntryTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            if (!claimManager.isEnabled())
-                return;
-
-            for (World world : plugin.getServer().getWorlds()) {
-                for (Entity entity : world.getEntities()) {
-                    if (!(entity instanceof Monster monster))
-                        continue;
-
-                    Claim claim = claimManager.getClaimAt(monster.getLocation());
-                    if (claim == null)
-                        continue;
-
-                    // MOB_ENTRY 플래그가 활성화(true)면 몹 제거
-                    if (getFlag(claim, ClaimFlags.MOB_ENTRY)) {
-                        monster.remove();
-                    }
-                }
-            }
-        }, 200L, 200L); // 10초 간격 (200 ticks)
-    }
-
-    /**
-     * MOB_ENTRY 태스크 중지 (플러그인 비활성화 시)
-     */
-    public void stopMobEntryTask() {
-        if (mobEntryTask != null) {
-            mobEntryTask.cancel();
-            mobEntryTask = null;
-        }
-    }
 }
@@ -23,9 +23,12 @@ import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import com.myserver.wildcore.gui.PlayerInfoGUI;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * GUI 클릭 이벤트 리스너
  */
@@ -192,16 +195,19 @@ public class GuiListener implements Listener {
             if (stockId != null) {
                 int amount = click.isShiftClick() ? 10 : 1;
 
+                CompletableFuture<Boolean> trade = null;
                 if (click.isLeftClick()) {
                     // 매수
-                    plugin.getStockManager().buyStock(player, stockId, amount);
+                    trade = plugin.getStockManager().buyStock(player, stockId, amount);
                 } else if (click.isRightClick()) {
                     // 매도
-                    plugin.getStockManager().sellStock(player, stockId, amount);
+                    trade = plugin.getStockManager().sellStock(player, stockId, amount);
                 }
 
-                // GUI 갱신
-                stockGUI.refresh();
+                // 거래가 끝난 뒤 GUI 갱신
+                if (trade != null) {
+                    refreshAfter(player, stockGUI, trade, stockGUI::refresh);
+                }
             }
         }
     }
@@ -258,6 +264,24 @@ public class GuiListener implements Listener {
         }
     }
 
+    /**
+     * 거래가 끝난 뒤 GUI 갱신 (결과는 메인 스레드에서 완료, 그 사이 창을 닫았거나 옮겼으면 갱신하지 않음)
+     */
+    private void refreshAfter(Player player, InventoryHolder gui, CompletableFuture<?> trade, Runnable refresh) {
+        trade.thenRun(() -> {
+            if (isViewing(player, gui)) {
+                refresh.run();
+            }
+        });
+    }
+
+    /**
+     * 플레이어가 아직 해당 GUI를 보고 있는지
+     */
+    private boolean isViewing(Player player, InventoryHolder gui) {
+        return player.isOnline() && player.getOpenInventory().getTopInventory().getHolder() == gui;
+    }
+
     /**
      * 페이지네이션 네비게이션 처리
      * 
@@ -321,26 +345,29 @@ public class GuiListener implements Listener {
             ShopItemConfig shopItem = shopGUI.getShopItemAtSlot(slot);
             if (shopItem != null) {
                 // 구매/판매 처리
+                CompletableFuture<Boolean> trade = null;
                 if (click.isLeftClick()) {
                     // 구매
                     int amount = click.isShiftClick() ? 64 : 1;
-                    plugin.getShopManager().buyItem(player, shopGUI.getShop(), shopItem.getSlot(), amount);
+                    trade = plugin.getShopManager().buyItem(player, shopGUI.getShop(), shopItem.getSlot(), amount);
                 } else if (click.isRightClick()) {
                     // 판매
                     if (click.isShiftClick()) {
                         // 전량 판매
-                        plugin.getShopManager().sellAllItems(player, shopGUI.getShop(), shopItem.getSlot());
+                        trade = plugin.getShopManager().sellAllItems(player, shopGUI.getShop(), shopItem.getSlot());
                     } else {
                         // 1개 판매
-                        plugin.getShopManager().sellItem(player, shopGUI.getShop(), shopItem.getSlot(), 1);
+                        trade = plugin.getShopManager().sellItem(player, shopGUI.getShop(), shopItem.getSlot(), 1);
                     }
                 } else if (click == ClickType.MIDDLE) {
                     // 휠클릭: 전량 판매
-                    plugin.getShopManager().sellAllItems(player, shopGUI.getShop(), shopItem.getSlot());
+                    trade = plugin.getShopManager().sellAllItems(player, shopGUI.getShop(), shopItem.getSlot());
                 }
 
-                // GUI 갱신
-                shopGUI.refresh();
+                // 거래가 끝난 뒤 GUI 갱신
+                if (trade != null) {
+                    refreshAfter(player, shopGUI, trade, shopGUI::refresh);
+                }
             }
         }
     }
@@ -417,21 +444,21 @@ public class GuiListener implements Listener {
                     new BankWithdrawGUI(plugin, player, accountId).open();
                 } else if (click.isShiftClick() && click.isRightClick()) {
                     // 계좌 해지
-                    plugin.getBankManager().closeAccount(player, accountId, false);
-                    bankMainGUI.refresh();
+                    refreshAfter(player, bankMainGUI, plugin.getBankManager().closeAccount(player, accountId, false),
+                            bankMainGUI::refresh);
                 }
             } else if (product.isTermDeposit()) {
                 // 정기 적금
                 if (account.isMatured()) {
                     // 만기 도달: 수령
-                    plugin.getBankManager().closeAccount(player, accountId, false);
-                    bankMainGUI.refresh();
+                    refreshAfter(player, bankMainGUI, plugin.getBankManager().closeAccount(player, accountId, false),
+                            bankMainGUI::refresh);
                 } else if (click.isRightClick()) {
                     // 중도 해지 시도
                     if (click.isShiftClick()) {
                         // Shift+우클릭: 강제 중도 해지
-                        plugin.getBankManager().closeAccount(player, accountId, true);
-                        bankMainGUI.refresh();
+                        refreshAfter(player, bankMainGUI,
+                                plugin.getBankManager().closeAccount(player, accountId, true), bankMainGUI::refresh);
                     } else {
                         // 우클릭: 경고 메시지
                         plugin.getBankManager().closeAccount(player, accountId, false);
@@ -506,20 +533,21 @@ public class GuiListener implements Listener {
             String productId = depositGUI.getProductId();
             String accountId = depositGUI.getAccountId();
 
+            // 거래가 확정된 뒤 메인으로 (그 사이 다른 창으로 옮겼으면 그대로 둠)
+            CompletableFuture<Boolean> result;
             if (accountId == null) {
                 // 새 계좌 개설
-                String newAccountId = plugin.getBankManager().createAccount(player, productId, amount);
-                if (newAccountId != null) {
-                    player.closeInventory();
-                    new BankMainGUI(plugin, player).open();
-                }
+                result = plugin.getBankManager().createAccount(player, productId, amount).thenApply(id -> id != null);
             } else {
                 // 기존 계좌 입금
-                if (plugin.getBankManager().deposit(player, accountId, amount)) {
+                result = plugin.getBankManager().deposit(player, accountId, amount);
+            }
+            result.thenAccept(committed -> {
+                if (committed && isViewing(player, depositGUI)) {
                     player.closeInventory();
                     new BankMainGUI(plugin, player).open();
                 }
-            }
+            });
         }
     }
 
@@ -547,10 +575,13 @@ public class GuiListener implements Listener {
         double amount = withdrawGUI.getAmountAtSlot(slot);
         if (amount > 0) {
             String accountId = withdrawGUI.getAccountId();
-            if (plugin.getBankManager().withdraw(player, accountId, amount)) {
-                player.closeInventory();
-                new BankMainGUI(plugin, player).open();
-            }
+            // 거래가 확정된 뒤 메인으로 (그 사이 다른 창으로 옮겼으면 그대로 둠)
+            plugin.getBankManager().withdraw(player, accountId, amount).thenAccept(committed -> {
+                if (committed && isViewing(player, withdrawGUI)) {
+                    player.closeInventory();
+                    new BankMainGUI(plugin, player).open();
+                }
+            });
         }
     }
 
@@ -0,0 +1,29 @@
+package com.myserver.wildcore.listeners;
+
+import com.myserver.wildcore.WildCore;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+
+/**
+ * 주식 보유 데이터 미리 읽기
+ * - 접속 허용이 확정된 뒤 로그인 스레드에서 플레이어별 파일을 읽어 둠 (메인 스레드 파일 읽기 방지)
+ * - 접속 종료한 플레이어는 StockManager가 자동 저장 시 메모리에서 내림
+ */
+public class StockDataListener implements Listener {
+
+    private final WildCore plugin;
+
+    public StockDataListener(WildCore plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        plugin.getStockManager().loadPlayer(event.getUniqueId());
+    }
+}
@@ -1,16 +1,36 @@
 package com.myserver.wildcore.managers;
 
 import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.bank.BankDataCodec;
+import com.myserver.wildcore.bank.BankMetrics;
+import com.myserver.wildcore.bank.BankMetricsFormat;
+import com.myserver.wildcore.bank.BankStorage;
+import com.myserver.wildcore.bank.FileBankStorage;
+import com.myserver.wildcore.bank.InterestBatchJob;
+import com.myserver.wildcore.bank.JdbcBankStorage;
 import com.myserver.wildcore.config.BankProductConfig;
 import com.myserver.wildcore.config.PlayerBankAccount;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
+import com.myserver.wildcore.economy.RateLimiter;
+import com.myserver.wildcore.economy.SettlementEngine;
+import com.myserver.wildcore.storage.Database;
+import com.myserver.wildcore.util.AsyncFileWriter;
+import com.myserver.wildcore.util.JournalFile;
+import com.myserver.wildcore.util.SnapshotFile;
+import com.myserver.wildcore.util.TimingWheel;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
 import java.text.DecimalFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 은행 시스템 매니저
@@ -18,6 +38,9 @@ import java.util.*;
  * - 이자 계산 (Lazy Evaluation)
  * - 입출금 처리
  * - 플레이어 계좌 데이터 관리
+ * - 모든 돈의 이동(개설/입금/출금/이자/해지)은 원장에 한 줄씩 기록 (쓰기 스레드에서 묶어서 기록)
+ * - 전체 계좌는 주기적으로 스냅샷(bank_data.bin 또는 .yml)으로 압축하고, 시작 시 스냅샷 이후의 원장을 재생
+ * - 데이터베이스 저장소를 쓰면 스냅샷 대신 바뀐 계좌만 행 단위로 기록
  */
 public class BankManager {
 
@@ -26,16 +49,64 @@ public class BankManager {
     // 플레이어별 은행 계좌 (UUID -> (계좌ID -> 계좌데이터))
     private Map<UUID, Map<String, PlayerBankAccount>> playerAccounts = new HashMap<>();
 
-    // 데이터 파일
-    private File dataFile;
-    private FileConfiguration dataConfig;
+    // 저장소 (스냅샷 파일 또는 데이터베이스)
+    private BankStorage storage;
+
+    private record AccountKey(UUID playerId, String accountId) {
+    }
+
+    // 마지막 저장 이후 바뀐 계좌 / 해지된 계좌 (증분 저장소용, stateLock 안에서만 사용)
+    private final Set<AccountKey> changedAccounts = new HashSet<>();
+    private final Set<AccountKey> removedAccounts = new HashSet<>();
+
+    /**
+     * 플레이어별 예상 이자 합계 캐시 (가장 빠른 정산/만기 시점까지 유효)
+     */
+    private record PendingInterest(double total, long validUntil) {
+    }
+
+    // 이자 정산 시점/만기 예약 (1초 단위, 한 바퀴 약 8.5분)
+    private final TimingWheel<AccountKey> accrualWheel = new TimingWheel<>(1000, 512, System.currentTimeMillis());
+    private final Map<UUID, PendingInterest> pendingInterest = new ConcurrentHashMap<>();
+    private BukkitTask wheelTask;
+
+    // 서버 전체 통계 (계좌 변경 시 증감) 및 주기적 기록
+    private final BankMetrics metrics = new BankMetrics();
+    private BukkitTask metricsTask;
+
+    // 접속하지 않는 플레이어를 포함한 이자 일괄 정산
+    private final InterestBatchJob interestBatchJob;
+
+    // 거래 원장 (스냅샷 이후의 변경 기록, 보관 폴더는 감사 기록으로 사용)
+    private final AsyncFileWriter fileWriter;
+    private File ledgerFolder;
+    private JournalFile ledger;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private BukkitTask saveTask;
+    private BukkitTask syncTask;
+
+    // 상태 변경과 원장 기록 순서를 맞추기 위한 잠금
+    private final Object stateLock = new Object();
+
+    // 원장 레코드 타입
+    private static final String LEDGER_OPEN = "OPEN";
+    private static final String LEDGER_DEPOSIT = "DEPOSIT";
+    private static final String LEDGER_WITHDRAW = "WITHDRAW";
+    private static final String LEDGER_INTEREST = "INTEREST";
+    private static final String LEDGER_CLOSE = "CLOSE";
 
     private final DecimalFormat moneyFormat = new DecimalFormat("#,##0.0");
     private final DecimalFormat percentFormat = new DecimalFormat("0.00");
 
     public BankManager(WildCore plugin) {
         this.plugin = plugin;
+        this.fileWriter = new AsyncFileWriter("WildCore-BankWriter", plugin.getLogger());
+        this.interestBatchJob = new InterestBatchJob(plugin, this);
         loadData();
+        startAutoSave();
+        startAccrualWheel();
+        startMetricsTask();
+        interestBatchJob.start();
     }
 
     /**
@@ -44,48 +115,53 @@ public class BankManager {
     private void loadData() {
         // 메모리 초기화
         playerAccounts.clear();
+        accrualWheel.clear();
+        pendingInterest.clear();
+        changedAccounts.clear();
+        removedAccounts.clear();
 
         File dataFolder = new File(plugin.getDataFolder(), "data");
         if (!dataFolder.exists()) {
             dataFolder.mkdirs();
         }
 
-        dataFile = new File(dataFolder, "bank_data.yml");
-        if (!dataFile.exists()) {
-            try {
-                dataFile.createNewFile();
-            } catch (IOException e) {
-                plugin.getLogger().severe("은행 데이터 파일 생성 실패: " + e.getMessage());
+        storage = createStorage(dataFolder);
+        boolean migrating = storage.needsMigration();
+        BankDataCodec.BankData data = storage.load();
+
+        // 플레이어 은행 데이터 로드
+        for (Map.Entry<UUID, List<PlayerBankAccount>> entry : data.accounts().entrySet()) {
+            Map<String, PlayerBankAccount> accounts = new HashMap<>();
+            for (PlayerBankAccount account : entry.getValue()) {
+                accounts.put(account.getAccountId(), account);
             }
+            playerAccounts.put(entry.getKey(), accounts);
         }
 
-        dataConfig = YamlConfiguration.loadConfiguration(dataFile);
+        // 스냅샷 이후의 원장 재생
+        ledgerFolder = new File(dataFolder, "bank_ledger");
+        replayLedger(data.ledgerSegment());
 
-        // 플레이어 은행 데이터 로드
-        if (dataConfig.isConfigurationSection("players")) {
-            for (String uuidStr : dataConfig.getConfigurationSection("players").getKeys(false)) {
-                UUID uuid = UUID.fromString(uuidStr);
-                Map<String, PlayerBankAccount> accounts = new HashMap<>();
-
-                String accountsPath = "players." + uuidStr + ".accounts";
-                if (dataConfig.isConfigurationSection(accountsPath)) {
-                    for (String accountId : dataConfig.getConfigurationSection(accountsPath).getKeys(false)) {
-                        String path = accountsPath + "." + accountId;
-
-                        PlayerBankAccount account = new PlayerBankAccount(
-                                accountId,
-                                dataConfig.getString(path + ".product_id"),
-                                dataConfig.getDouble(path + ".principal"),
-                                dataConfig.getDouble(path + ".accumulated_interest"),
-                                dataConfig.getLong(path + ".created_time"),
-                                dataConfig.getLong(path + ".last_interest_time"),
-                                dataConfig.getLong(path + ".expiry_time", 0),
-                                dataConfig.getBoolean(path + ".is_matured", false));
-
-                        accounts.put(accountId, account);
-                    }
+        // 중단된 이자 일괄 정산 위치
+        interestBatchJob.restoreCursor(data.interestCursor());
+
+        // 이전 형식 파일은 다음 저장 때 새 저장소에 전체 기록
+        if (migrating) {
+            plugin.getLogger().info("은행 데이터를 " + storage.getName() + "(으)로 옮깁니다.");
+            for (Map.Entry<UUID, Map<String, PlayerBankAccount>> entry : playerAccounts.entrySet()) {
+                for (String accountId : entry.getValue().keySet()) {
+                    changedAccounts.add(new AccountKey(entry.getKey(), accountId));
                 }
-                playerAccounts.put(uuid, accounts);
+            }
+            markDirty();
+        }
+
+        // 모든 계좌의 다음 정산/만기 시점 예약 및 통계 재구성 (재생 중 기록된 흐름은 버림)
+        metrics.reset();
+        for (Map.Entry<UUID, Map<String, PlayerBankAccount>> entry : playerAccounts.entrySet()) {
+            for (PlayerBankAccount account : entry.getValue().values()) {
+                scheduleAccount(entry.getKey(), account);
+                metrics.addAccount(account.getProductId(), account.getPrincipal(), account.getAccumulatedInterest());
             }
         }
 
@@ -93,38 +169,423 @@ public class BankManager {
     }
 
     /**
-     * 모든 데이터 저장
+     * 설정된 저장소 생성 (데이터베이스가 열려 있으면 데이터베이스, 아니면 스냅샷 파일)
+     */
+    private BankStorage createStorage(File dataFolder) {
+        FileBankStorage files = new FileBankStorage(dataFolder,
+                SnapshotFile.Format.fromString(plugin.getConfigManager().getStorageFormat()), plugin.getLogger());
+        Database database = plugin.getDatabase();
+        if (database == null) {
+            return files;
+        }
+        try {
+            return new JdbcBankStorage(database, files);
+        } catch (SQLException e) {
+            throw new IllegalStateException("은행 데이터베이스 테이블을 만들 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    // =====================
+    // 거래 원장
+    // =====================
+
+    /**
+     * 원장 재생
+     * 마지막 스냅샷에 포함되지 않은 세그먼트의 레코드를 순서대로 다시 적용합니다.
+     */
+    private void replayLedger(long fromSegment) {
+        if (ledger != null) {
+            ledger.close();
+            fileWriter.flush();
+        }
+        ledger = new JournalFile(ledgerFolder, "bank_ledger", fileWriter, plugin.getLogger(),
+                plugin.getConfigManager().getBankLedgerFsyncInterval());
+
+        List<String[]> records = ledger.readFrom(fromSegment);
+        int applied = 0;
+        for (String[] record : records) {
+            try {
+                if (applyLedgerRecord(record)) {
+                    applied++;
+                }
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("손상된 은행 원장 레코드 무시: " + String.join(" ", record));
+            }
+        }
+
+        if (!records.isEmpty()) {
+            plugin.getLogger().info("은행 원장 복구 완료: " + applied + "/" + records.size() + "건 적용");
+            markDirty(); // 다음 자동 저장 시 스냅샷으로 압축
+        }
+    }
+
+    /**
+     * 원장 레코드 하나 적용
+     * 형식: 시각 \t 타입 \t UUID \t 계좌ID \t 필드...
      */
-    public synchronized void saveAllData() {
-        // 기존 데이터 클리어
-        dataConfig.set("players", null);
+    private boolean applyLedgerRecord(String[] record) {
+        if (record.length < 4) {
+            return false;
+        }
+        UUID uuid = UUID.fromString(record[2]);
+        String accountId = record[3];
+        switch (record[1]) {
+            case LEDGER_OPEN -> {
+                // 해지 취소로 다시 열린 계좌는 이자/만기 상태까지 기록됨 (짧은 형식은 신규 개설)
+                boolean restored = record.length > 10;
+                applyOpen(uuid, new PlayerBankAccount(accountId, record[4], Double.parseDouble(record[5]),
+                        restored ? Double.parseDouble(record[8]) : 0, Long.parseLong(record[6]),
+                        restored ? Long.parseLong(record[9]) : Long.parseLong(record[6]),
+                        Long.parseLong(record[7]), restored && Boolean.parseBoolean(record[10])));
+            }
+            case LEDGER_DEPOSIT -> applyDeposit(uuid, accountId, Double.parseDouble(record[4]));
+            case LEDGER_WITHDRAW -> applyWithdraw(uuid, accountId, Double.parseDouble(record[4]));
+            case LEDGER_INTEREST -> applyInterestCredit(uuid, accountId, Double.parseDouble(record[4]),
+                    Long.parseLong(record[5]));
+            case LEDGER_CLOSE -> applyClose(uuid, accountId, Double.parseDouble(record[4]));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendLedger(Object... fields) {
+        Object[] record = new Object[fields.length + 1];
+        record[0] = System.currentTimeMillis();
+        System.arraycopy(fields, 0, record, 1, fields.length);
+        ledger.append(record);
+    }
+
+    // =====================
+    // 상태 변경 (실시간 처리와 원장 재생에서 공통 사용)
+    // =====================
+
+    private void applyOpen(UUID uuid, PlayerBankAccount account) {
+        putAccount(uuid, account);
+        metrics.recordOpen(account.getProductId(), account.getPrincipal(), account.getAccumulatedInterest());
+    }
 
-        // 플레이어 데이터 저장
-        for (Map.Entry<UUID, Map<String, PlayerBankAccount>> playerEntry : playerAccounts.entrySet()) {
-            String uuidStr = playerEntry.getKey().toString();
-            Map<String, PlayerBankAccount> accounts = playerEntry.getValue();
+    /**
+     * 해지 취소 (지급 실패 보상, 통계에는 개설이 아닌 해지 취소로 반영)
+     */
+    private void revertClose(UUID uuid, PlayerBankAccount account, double payout) {
+        putAccount(uuid, account);
+        metrics.reverseClose(account.getProductId(), account.getPrincipal(), account.getAccumulatedInterest(),
+                payout);
+    }
 
-            if (accounts == null || accounts.isEmpty())
-                continue;
+    private void putAccount(UUID uuid, PlayerBankAccount account) {
+        playerAccounts.computeIfAbsent(uuid, k -> new HashMap<>()).put(account.getAccountId(), account);
+        removedAccounts.remove(new AccountKey(uuid, account.getAccountId()));
+        onAccountChanged(uuid, account);
+    }
 
-            for (Map.Entry<String, PlayerBankAccount> accountEntry : accounts.entrySet()) {
-                String path = "players." + uuidStr + ".accounts." + accountEntry.getKey();
-                PlayerBankAccount account = accountEntry.getValue();
+    private void applyDeposit(UUID uuid, String accountId, double amount) {
+        PlayerBankAccount account = getAccount(uuid, accountId);
+        if (account != null) {
+            account.deposit(amount);
+            metrics.recordDeposit(account.getProductId(), amount);
+            onAccountChanged(uuid, account);
+        }
+    }
 
-                dataConfig.set(path + ".product_id", account.getProductId());
-                dataConfig.set(path + ".principal", account.getPrincipal());
-                dataConfig.set(path + ".accumulated_interest", account.getAccumulatedInterest());
-                dataConfig.set(path + ".created_time", account.getCreatedTime());
-                dataConfig.set(path + ".last_interest_time", account.getLastInterestTime());
-                dataConfig.set(path + ".expiry_time", account.getExpiryTime());
-                dataConfig.set(path + ".is_matured", account.isMatured());
+    private void applyWithdraw(UUID uuid, String accountId, double amount) {
+        PlayerBankAccount account = getAccount(uuid, accountId);
+        if (account != null) {
+            if (account.withdraw(amount)) {
+                metrics.recordWithdraw(account.getProductId(), amount);
             }
+            onAccountChanged(uuid, account);
         }
+    }
 
-        try {
-            dataConfig.save(dataFile);
-        } catch (IOException e) {
-            plugin.getLogger().severe("은행 데이터 저장 실패: " + e.getMessage());
+    /**
+     * 출금 취소 (지급 실패 보상, 통계에는 입금이 아닌 출금 취소로 반영)
+     */
+    private void revertWithdraw(UUID uuid, String accountId, double amount) {
+        PlayerBankAccount account = getAccount(uuid, accountId);
+        if (account != null) {
+            account.deposit(amount);
+            metrics.reverseWithdraw(account.getProductId(), amount);
+            onAccountChanged(uuid, account);
+        }
+    }
+
+    private void applyInterestCredit(UUID uuid, String accountId, double interest, long lastInterestTime) {
+        PlayerBankAccount account = getAccount(uuid, accountId);
+        if (account != null) {
+            account.addInterest(interest);
+            account.setLastInterestTime(lastInterestTime);
+            metrics.recordInterest(account.getProductId(), interest);
+            onAccountChanged(uuid, account);
+        }
+    }
+
+    private void applyClose(UUID uuid, String accountId, double payout) {
+        Map<String, PlayerBankAccount> accounts = playerAccounts.get(uuid);
+        if (accounts != null) {
+            PlayerBankAccount account = accounts.remove(accountId);
+            if (account != null) {
+                metrics.recordClose(account.getProductId(), account.getPrincipal(),
+                        account.getAccumulatedInterest(), payout);
+            }
+            if (accounts.isEmpty()) {
+                playerAccounts.remove(uuid);
+            }
+        }
+        AccountKey key = new AccountKey(uuid, accountId);
+        accrualWheel.cancel(key);
+        pendingInterest.remove(uuid);
+        changedAccounts.remove(key);
+        removedAccounts.add(key);
+    }
+
+    /**
+     * 계좌 상태가 바뀌면 예상 이자 캐시를 비우고 다음 정산 시점을 다시 예약
+     */
+    private void onAccountChanged(UUID uuid, PlayerBankAccount account) {
+        pendingInterest.remove(uuid);
+        scheduleAccount(uuid, account);
+        changedAccounts.add(new AccountKey(uuid, account.getAccountId()));
+    }
+
+    // =====================
+    // 정산/만기 예약 (타이밍 휠)
+    // =====================
+
+    private void startAccrualWheel() {
+        if (wheelTask != null) {
+            wheelTask.cancel();
+        }
+        wheelTask = plugin.getServer().getScheduler().runTaskTimer(plugin,
+                () -> accrualWheel.advance(System.currentTimeMillis(), this::onAccountBoundary), 20L, 20L);
+    }
+
+    /**
+     * 계좌의 다음 경계 시점 예약
+     * 자유 예금은 다음 이자 정산 시점, 정기 적금은 만기 시점
+     */
+    private void scheduleAccount(UUID uuid, PlayerBankAccount account) {
+        BankProductConfig product = plugin.getConfigManager().getBankProduct(account.getProductId());
+        if (product == null) {
+            return;
+        }
+        AccountKey key = new AccountKey(uuid, account.getAccountId());
+        if (product.isSavings()) {
+            calculateSavingsInterest(account, product); // 캐시 갱신 (유효 기한 = 다음 정산 시점)
+            if (account.getAccrualValidUntil() > 0) {
+                accrualWheel.schedule(key, account.getAccrualValidUntil());
+            }
+        } else if (product.isTermDeposit() && account.getExpiryTime() > 0 && !account.isMatured()) {
+            accrualWheel.schedule(key, account.getExpiryTime());
+        }
+    }
+
+    /**
+     * 정산/만기 시점 도달 (메인 스레드)
+     * 예상 이자를 미리 계산해 두고, 적금이 만기되면 접속 중인 플레이어에게 알림
+     */
+    private void onAccountBoundary(AccountKey key) {
+        PlayerBankAccount account = getAccount(key.playerId(), key.accountId());
+        if (account == null) {
+            return;
+        }
+        pendingInterest.remove(key.playerId());
+
+        BankProductConfig product = plugin.getConfigManager().getBankProduct(account.getProductId());
+        if (product == null) {
+            return;
+        }
+        if (product.isSavings()) {
+            account.invalidateAccrual();
+            scheduleAccount(key.playerId(), account);
+            return;
+        }
+        if (!account.isMatured() && account.checkAndUpdateMaturity()) {
+            synchronized (stateLock) {
+                changedAccounts.add(key);
+            }
+            markDirty();
+            Player player = plugin.getServer().getPlayer(key.playerId());
+            if (player != null) {
+                sendMessage(player, "bank.matured", "product", product.getDisplayName());
+                plugin.getConfigManager().playSound(player, "sell");
+            }
+        }
+    }
+
+    // =====================
+    // 저장
+    // =====================
+
+    /**
+     * 자동 저장(스냅샷) 및 원장 동기화 태스크 시작
+     */
+    private void startAutoSave() {
+        stopAutoSave();
+
+        long intervalTicks = Math.max(1, plugin.getConfigManager().getBankSnapshotInterval()) * 20L;
+        saveTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
+            if (dirty.get()) {
+                flushAsync();
+            }
+        }, intervalTicks, intervalTicks);
+
+        // 동기화 간격이 있으면 마지막 묶음이 오래 동기화되지 않은 채 남지 않도록 주기적으로 동기화
+        long fsyncInterval = plugin.getConfigManager().getBankLedgerFsyncInterval();
+        if (fsyncInterval > 0) {
+            long syncTicks = Math.max(1, fsyncInterval / 50);
+            syncTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> ledger.sync(),
+                    syncTicks, syncTicks);
+        }
+    }
+
+    private void stopAutoSave() {
+        if (saveTask != null) {
+            saveTask.cancel();
+            saveTask = null;
+        }
+        if (syncTask != null) {
+            syncTask.cancel();
+            syncTask = null;
+        }
+    }
+
+    /**
+     * 데이터 변경 표시 (실제 저장은 자동 저장 태스크 또는 종료 시점에 수행)
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * 모든 데이터 저장 (동기)
+     * 대기 중인 원장 기록과 스냅샷 저장이 모두 끝난 뒤 반환합니다.
+     */
+    public void saveAllData() {
+        flushAsync();
+        fileWriter.flush();
+    }
+
+    /**
+     * 종료 처리 (남은 변경 사항 저장, 쓰기 스레드 종료)
+     */
+    public void shutdown() {
+        stopAutoSave();
+        if (wheelTask != null) {
+            wheelTask.cancel();
+            wheelTask = null;
+        }
+        if (metricsTask != null) {
+            metricsTask.cancel();
+            metricsTask = null;
+        }
+        interestBatchJob.stop();
+        saveAllData();
+        ledger.close();
+        fileWriter.shutdown();
+    }
+
+    /**
+     * 현재 계좌 상태를 복사해 쓰기 스레드에서 저장
+     * 증분 저장소에는 마지막 저장 이후 바뀐 계좌와 해지된 계좌만 넘깁니다.
+     */
+    private void flushAsync() {
+        dirty.set(false);
+        long ledgerSegment;
+        Map<UUID, List<PlayerBankAccount>> accountsCopy = new HashMap<>();
+        Set<AccountKey> changed;
+        Set<AccountKey> removed;
+        BankStorage target = storage;
+        synchronized (stateLock) {
+            // 저장 이후의 변경은 새 원장 세그먼트에 기록
+            ledgerSegment = ledger.rotate();
+            changed = new HashSet<>(changedAccounts);
+            removed = new HashSet<>(removedAccounts);
+            changedAccounts.clear();
+            removedAccounts.clear();
+            if (target.isIncremental()) {
+                for (AccountKey key : changed) {
+                    PlayerBankAccount account = getAccount(key.playerId(), key.accountId());
+                    if (account != null) {
+                        accountsCopy.computeIfAbsent(key.playerId(), k -> new ArrayList<>()).add(copyOf(account));
+                    }
+                }
+            } else {
+                for (Map.Entry<UUID, Map<String, PlayerBankAccount>> entry : playerAccounts.entrySet()) {
+                    List<PlayerBankAccount> copies = new ArrayList<>(entry.getValue().size());
+                    for (PlayerBankAccount account : entry.getValue().values()) {
+                        copies.add(copyOf(account));
+                    }
+                    accountsCopy.put(entry.getKey(), copies);
+                }
+            }
+        }
+        Map<UUID, Set<String>> removedIds = new HashMap<>();
+        for (AccountKey key : removed) {
+            removedIds.computeIfAbsent(key.playerId(), k -> new HashSet<>()).add(key.accountId());
+        }
+        JournalFile snapshotLedger = ledger;
+        BankDataCodec.BankData data = new BankDataCodec.BankData(ledgerSegment, interestBatchJob.getCursor(),
+                accountsCopy);
+
+        fileWriter.execute(() -> {
+            try {
+                target.save(data, removedIds);
+                // 저장에 반영된 세그먼트 정리 (보관 또는 삭제)
+                snapshotLedger.retireSegmentsBefore(ledgerSegment, getLedgerArchiveFolder());
+                cleanupLedgerArchive();
+            } catch (IOException e) {
+                // 다음 주기에 다시 시도 (그 사이 다시 열리거나 해지된 계좌는 최신 상태를 유지)
+                synchronized (stateLock) {
+                    for (AccountKey key : changed) {
+                        if (!removedAccounts.contains(key)) {
+                            changedAccounts.add(key);
+                        }
+                    }
+                    for (AccountKey key : removed) {
+                        if (!changedAccounts.contains(key) && getAccount(key.playerId(), key.accountId()) == null) {
+                            removedAccounts.add(key);
+                        }
+                    }
+                }
+                dirty.set(true);
+                plugin.getLogger().severe("은행 데이터 저장 실패: " + e.getMessage());
+            }
+        });
+    }
+
+    private static PlayerBankAccount copyOf(PlayerBankAccount account) {
+        return new PlayerBankAccount(account.getAccountId(), account.getProductId(), account.getPrincipal(),
+                account.getAccumulatedInterest(), account.getCreatedTime(), account.getLastInterestTime(),
+                account.getExpiryTime(), account.isMatured());
+    }
+
+    /**
+     * 원장 보관 폴더 (보관 기간이 0이면 보관하지 않고 삭제)
+     */
+    private File getLedgerArchiveFolder() {
+        return plugin.getConfigManager().getBankLedgerArchiveDays() > 0
+                ? new File(ledgerFolder, "archive")
+                : null;
+    }
+
+    /**
+     * 보관 기간이 지난 원장 파일 삭제
+     */
+    private void cleanupLedgerArchive() {
+        File archiveFolder = getLedgerArchiveFolder();
+        File[] files = (archiveFolder != null) ? archiveFolder.listFiles() : null;
+        if (files == null) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis()
+                - plugin.getConfigManager().getBankLedgerArchiveDays() * 24L * 60 * 60 * 1000;
+        for (File file : files) {
+            if (file.lastModified() < cutoff && !file.delete()) {
+                plugin.getLogger().warning("보관 기간이 지난 은행 원장 삭제 실패: " + file.getName());
+            }
         }
     }
 
@@ -157,31 +618,25 @@ public class BankManager {
      * 자유 예금 이자 계산
      * 공식: (경과 시간 / 이자 간격) * 이자율 * 원금
      * 복리일 경우: 원금 * (1 + 이자율)^(경과 횟수) - 원금
+     * 이자는 정산 시점에만 바뀌므로 다음 정산 시점까지는 계좌에 캐시된 값을 반환합니다.
      */
     private double calculateSavingsInterest(PlayerBankAccount account, BankProductConfig product) {
         long currentTime = System.currentTimeMillis();
+        if (currentTime < account.getAccrualValidUntil()) {
+            return account.getCachedAccrual();
+        }
+
         long lastInterestTime = account.getLastInterestTime();
-        long elapsedMillis = currentTime - lastInterestTime;
         long intervalMillis = product.getInterestIntervalSeconds() * 1000;
 
         if (intervalMillis <= 0)
             return 0;
 
         // 정산 횟수 계산
-        long periods = elapsedMillis / intervalMillis;
-        if (periods <= 0)
-            return 0;
-
-        double principal = account.getPrincipal();
-        double rate = product.getInterestRate();
-
-        if (product.isCompoundInterest()) {
-            // 복리: P * (1 + r)^n - P
-            return principal * (Math.pow(1 + rate, periods) - 1);
-        } else {
-            // 단리: P * r * n
-            return principal * rate * periods;
-        }
+        long periods = Math.max(0, (currentTime - lastInterestTime) / intervalMillis);
+        double interest = product.calculateInterest(account.getPrincipal(), periods);
+        account.cacheAccrual(interest, lastInterestTime + (periods + 1) * intervalMillis);
+        return interest;
     }
 
     /**
@@ -211,14 +666,17 @@ public class BankManager {
         double interest = calculateAccruedInterest(account, product);
 
         if (interest > 0 && product.isSavings()) {
-            account.addInterest(interest);
             // 마지막 정산 시간 업데이트 (정산 단위로 갱신)
             long intervalMillis = product.getInterestIntervalSeconds() * 1000;
             long currentTime = System.currentTimeMillis();
             long elapsedMillis = currentTime - account.getLastInterestTime();
             long periods = elapsedMillis / intervalMillis;
-            account.setLastInterestTime(account.getLastInterestTime() + (periods * intervalMillis));
-            saveAllData();
+            long lastInterestTime = account.getLastInterestTime() + (periods * intervalMillis);
+            synchronized (stateLock) {
+                applyInterestCredit(playerId, accountId, interest, lastInterestTime);
+                appendLedger(LEDGER_INTEREST, playerId, accountId, interest, lastInterestTime);
+            }
+            markDirty();
         }
 
         return interest;
@@ -230,43 +688,26 @@ public class BankManager {
 
     /**
      * 새 계좌 생성
-     * 
-     * @return 생성된 계좌 ID, 실패 시 null
+     * 입금 한도는 정산 대기열 안에서 돈을 받은 뒤 확인합니다. (같은 플레이어의 앞선 거래가 모두 반영된 상태)
+     *
+     * @return 생성된 계좌 ID (실패 시 null, 메인 스레드에서 완료)
      */
-    public String createAccount(Player player, String productId, double initialDeposit) {
+    public CompletableFuture<String> createAccount(Player player, String productId, double initialDeposit) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.BANK)) {
+            return CompletableFuture.completedFuture(null);
+        }
         if (!plugin.getConfigManager().isBankSystemEnabled()) {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
                     plugin.getConfigManager().getMessage("bank_disabled"));
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
 
         BankProductConfig product = plugin.getConfigManager().getBankProduct(productId);
         if (product == null) {
             sendMessage(player, "bank.product_not_found");
-            return null;
-        }
-
-        // 입금 한도 확인
-        if (initialDeposit < product.getMinDeposit()) {
-            sendMessage(player, "bank.min_deposit", "min", moneyFormat.format(product.getMinDeposit()));
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
 
-        if (initialDeposit > product.getMaxDeposit()) {
-            sendMessage(player, "bank.limit_exceeded", "max", moneyFormat.format(product.getMaxDeposit()));
-            return null;
-        }
-
-        // 돈 확인 및 차감
-        if (!plugin.getEconomy().has(player, initialDeposit)) {
-            sendMessage(player, "bank.no_money", "amount", moneyFormat.format(initialDeposit));
-            plugin.getConfigManager().playSound(player, "error");
-            return null;
-        }
-
-        plugin.getEconomy().withdrawPlayer(player, initialDeposit);
-
-        // 계좌 생성
         PlayerBankAccount account;
         if (product.isTermDeposit()) {
             account = new PlayerBankAccount(productId, initialDeposit, product.getDurationSeconds());
@@ -274,182 +715,259 @@ public class BankManager {
             account = new PlayerBankAccount(productId, initialDeposit);
         }
 
-        Map<String, PlayerBankAccount> accounts = playerAccounts.computeIfAbsent(
-                player.getUniqueId(), k -> new HashMap<>());
-        accounts.put(account.getAccountId(), account);
-
-        // 메시지 전송
-        sendMessage(player, "bank.account_created",
-                "product", product.getDisplayName(),
-                "amount", moneyFormat.format(initialDeposit));
-        plugin.getConfigManager().playSound(player, "buy");
-
-        saveAllData();
-        return account.getAccountId();
+        // 돈 차감 -> 입금 한도 확인 -> 계좌 생성 (한도를 벗어나면 환불)
+        String[] rejection = new String[1];
+        return plugin.getSettlementEngine().debit(player, initialDeposit, () -> {
+            if (initialDeposit < product.getMinDeposit()) {
+                rejection[0] = "bank.min_deposit";
+                return false;
+            }
+            if (initialDeposit > product.getMaxDeposit()) {
+                rejection[0] = "bank.limit_exceeded";
+                return false;
+            }
+            synchronized (stateLock) {
+                applyOpen(player.getUniqueId(), account);
+                appendLedger(LEDGER_OPEN, player.getUniqueId(), account.getAccountId(), productId, initialDeposit,
+                        account.getCreatedTime(), account.getExpiryTime());
+            }
+            markDirty();
+            return true;
+        }, () -> {
+            sendMessage(player, "bank.account_created",
+                    "product", product.getDisplayName(),
+                    "amount", moneyFormat.format(initialDeposit));
+            plugin.getConfigManager().playSound(player, "buy");
+        }, failure -> sendFailure(player, failure, initialDeposit, rejection[0], product))
+                .thenApply(committed -> committed ? account.getAccountId() : null);
     }
 
     /**
      * 입금 (자유 예금용)
+     * 이자 정산과 한도 확인은 정산 대기열 안에서 돈을 받은 뒤 수행합니다.
+     *
+     * @return 거래 결과 (메인 스레드에서 완료)
      */
-    public boolean deposit(Player player, String accountId, double amount) {
+    public CompletableFuture<Boolean> deposit(Player player, String accountId, double amount) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.BANK)) {
+            return CompletableFuture.completedFuture(false);
+        }
         if (!plugin.getConfigManager().isBankSystemEnabled()) {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
                     plugin.getConfigManager().getMessage("bank_disabled"));
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         PlayerBankAccount account = getAccount(player.getUniqueId(), accountId);
         if (account == null) {
             sendMessage(player, "bank.account_not_found");
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         BankProductConfig product = plugin.getConfigManager().getBankProduct(account.getProductId());
         if (product == null || !product.isSavings()) {
             sendMessage(player, "bank.deposit_not_allowed");
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
-        // 한도 확인
-        if (account.getPrincipal() + amount > product.getMaxDeposit()) {
-            sendMessage(player, "bank.limit_exceeded", "max", moneyFormat.format(product.getMaxDeposit()));
-            return false;
-        }
-
-        // 이자 먼저 정산
-        applyInterest(player.getUniqueId(), accountId);
-
-        // 돈 확인 및 차감
-        if (!plugin.getEconomy().has(player, amount)) {
-            sendMessage(player, "bank.no_money", "amount", moneyFormat.format(amount));
-            plugin.getConfigManager().playSound(player, "error");
-            return false;
-        }
-
-        plugin.getEconomy().withdrawPlayer(player, amount);
-        account.deposit(amount);
-
-        // 메시지 전송
-        sendMessage(player, "bank.deposit_success",
-                "product", product.getDisplayName(),
-                "amount", moneyFormat.format(amount));
-        plugin.getConfigManager().playSound(player, "buy");
-
-        saveAllData();
-        return true;
+        // 돈 차감 -> 한도 확인 -> 이자 정산 -> 입금 (그 사이 계좌가 해지되었거나 한도를 넘으면 환불)
+        UUID uuid = player.getUniqueId();
+        String[] rejection = new String[1];
+        return plugin.getSettlementEngine().debit(player, amount, () -> {
+            synchronized (stateLock) {
+                PlayerBankAccount current = getAccount(uuid, accountId);
+                if (current == null) {
+                    return false;
+                }
+                if (current.getPrincipal() + amount > product.getMaxDeposit()) {
+                    rejection[0] = "bank.limit_exceeded";
+                    return false;
+                }
+                applyInterest(uuid, accountId);
+                applyDeposit(uuid, accountId, amount);
+                appendLedger(LEDGER_DEPOSIT, uuid, accountId, amount);
+            }
+            markDirty();
+            return true;
+        }, () -> {
+            sendMessage(player, "bank.deposit_success",
+                    "product", product.getDisplayName(),
+                    "amount", moneyFormat.format(amount));
+            plugin.getConfigManager().playSound(player, "buy");
+        }, failure -> sendFailure(player, failure, amount, rejection[0], product));
     }
 
     /**
      * 출금 (자유 예금용)
+     * 이자 정산과 잔액 확인은 정산 대기열 안에서 수행합니다.
+     *
+     * @return 거래 결과 (메인 스레드에서 완료)
      */
-    public boolean withdraw(Player player, String accountId, double amount) {
+    public CompletableFuture<Boolean> withdraw(Player player, String accountId, double amount) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.BANK)) {
+            return CompletableFuture.completedFuture(false);
+        }
         if (!plugin.getConfigManager().isBankSystemEnabled()) {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
                     plugin.getConfigManager().getMessage("bank_disabled"));
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         PlayerBankAccount account = getAccount(player.getUniqueId(), accountId);
         if (account == null) {
             sendMessage(player, "bank.account_not_found");
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         BankProductConfig product = plugin.getConfigManager().getBankProduct(account.getProductId());
         if (product == null || !product.isSavings()) {
             sendMessage(player, "bank.withdraw_not_allowed");
-            return false;
-        }
-
-        // 이자 먼저 정산
-        double interest = applyInterest(player.getUniqueId(), accountId);
-
-        // 잔액 확인
-        if (account.getPrincipal() < amount) {
-            sendMessage(player, "bank.insufficient_balance");
-            plugin.getConfigManager().playSound(player, "error");
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
-        account.withdraw(amount);
-        plugin.getEconomy().depositPlayer(player, amount);
-
-        // 메시지 전송
-        sendMessage(player, "bank.withdraw_success",
-                "product", product.getDisplayName(),
-                "amount", moneyFormat.format(amount),
-                "interest", moneyFormat.format(interest));
-        plugin.getConfigManager().playSound(player, "sell");
-
-        saveAllData();
-        return true;
+        // 이자 정산 -> 잔액 확인 -> 출금 -> 돈 지급 (지급이 실패하면 다시 입금 처리)
+        UUID uuid = player.getUniqueId();
+        String[] rejection = new String[1];
+        double[] interest = new double[1];
+        return plugin.getSettlementEngine().credit(player, amount, () -> {
+            synchronized (stateLock) {
+                if (getAccount(uuid, accountId) == null) {
+                    return false;
+                }
+                interest[0] = applyInterest(uuid, accountId);
+                if (getAccount(uuid, accountId).getPrincipal() < amount) {
+                    rejection[0] = "bank.insufficient_balance";
+                    return false;
+                }
+                applyWithdraw(uuid, accountId, amount);
+                appendLedger(LEDGER_WITHDRAW, uuid, accountId, amount);
+            }
+            markDirty();
+            return true;
+        }, () -> {
+            synchronized (stateLock) {
+                revertWithdraw(uuid, accountId, amount);
+                appendLedger(LEDGER_DEPOSIT, uuid, accountId, amount);
+            }
+            markDirty();
+        }, () -> {
+            sendMessage(player, "bank.withdraw_success",
+                    "product", product.getDisplayName(),
+                    "amount", moneyFormat.format(amount),
+                    "interest", moneyFormat.format(interest[0]));
+            plugin.getConfigManager().playSound(player, "sell");
+        }, failure -> sendFailure(player, failure, amount, rejection[0], product));
     }
 
     /**
      * 계좌 해지
-     * 
+     * 지급액은 정산 대기열 안에서 계산합니다. (앞서 대기 중이던 입금/출금이 반영된 잔액 기준)
+     *
      * @param forceEarly 만기 전 강제 해지 여부 (적금용)
+     * @return 거래 결과 (메인 스레드에서 완료)
      */
-    public boolean closeAccount(Player player, String accountId, boolean forceEarly) {
+    public CompletableFuture<Boolean> closeAccount(Player player, String accountId, boolean forceEarly) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.BANK)) {
+            return CompletableFuture.completedFuture(false);
+        }
         if (!plugin.getConfigManager().isBankSystemEnabled()) {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
                     plugin.getConfigManager().getMessage("bank_disabled"));
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         PlayerBankAccount account = getAccount(player.getUniqueId(), accountId);
         if (account == null) {
             sendMessage(player, "bank.account_not_found");
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         BankProductConfig product = plugin.getConfigManager().getBankProduct(account.getProductId());
         if (product == null) {
             sendMessage(player, "bank.product_not_found");
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
-        double payout;
-
-        if (product.isSavings()) {
-            // 자유 예금: 이자 정산 후 전액 지급
-            applyInterest(player.getUniqueId(), accountId);
-            payout = account.getPrincipal();
-        } else if (product.isTermDeposit()) {
-            // 정기 적금
-            if (account.checkAndUpdateMaturity()) {
-                // 만기 도달: 원금 + 이자 지급
-                double interest = account.getPrincipal() * product.getInterestRate();
-                payout = account.getPrincipal() + interest;
-            } else if (forceEarly) {
-                // 중도 해지: 페널티 적용
-                double penalty = account.getPrincipal() * product.getEarlyWithdrawalPenalty();
-                payout = account.getPrincipal() - penalty;
+        if (product.isTermDeposit() && !forceEarly && !account.checkAndUpdateMaturity()) {
+            // 중도 해지 확인 필요
+            sendMessage(player, "bank.early_withdrawal_warning", "penalty",
+                    percentFormat.format(product.getEarlyWithdrawalPenalty() * 100));
+            return CompletableFuture.completedFuture(false);
+        }
 
+        // 지급액 계산 -> 계좌 삭제 -> 지급 (지급이 실패하면 계좌를 그대로 다시 개설)
+        UUID uuid = player.getUniqueId();
+        double[] payout = new double[1];
+        boolean[] penalized = new boolean[1];
+        return plugin.getSettlementEngine().credit(player, () -> payout[0], () -> {
+            synchronized (stateLock) {
+                if (getAccount(uuid, accountId) != account) {
+                    return false;
+                }
+                if (product.isSavings()) {
+                    // 자유 예금: 이자 정산 후 전액 지급
+                    applyInterest(uuid, accountId);
+                    payout[0] = account.getPrincipal();
+                } else if (product.isTermDeposit()) {
+                    // 정기 적금
+                    if (account.checkAndUpdateMaturity()) {
+                        // 만기 도달: 원금 + 이자 지급
+                        payout[0] = account.getPrincipal() + account.getPrincipal() * product.getInterestRate();
+                    } else {
+                        // 중도 해지: 페널티 적용
+                        payout[0] = account.getPrincipal()
+                                - account.getPrincipal() * product.getEarlyWithdrawalPenalty();
+                        penalized[0] = true;
+                    }
+                } else {
+                    payout[0] = account.getPrincipal();
+                }
+                applyClose(uuid, accountId, payout[0]);
+                appendLedger(LEDGER_CLOSE, uuid, accountId, payout[0]);
+            }
+            markDirty();
+            return true;
+        }, () -> {
+            synchronized (stateLock) {
+                revertClose(uuid, account, payout[0]);
+                appendLedger(LEDGER_OPEN, uuid, accountId, account.getProductId(), account.getPrincipal(),
+                        account.getCreatedTime(), account.getExpiryTime(), account.getAccumulatedInterest(),
+                        account.getLastInterestTime(), account.isMatured());
+            }
+            markDirty();
+        }, () -> {
+            if (penalized[0]) {
                 sendMessage(player, "bank.early_withdrawal_applied", "penalty",
                         percentFormat.format(product.getEarlyWithdrawalPenalty() * 100));
-            } else {
-                // 중도 해지 확인 필요
-                sendMessage(player, "bank.early_withdrawal_warning", "penalty",
-                        percentFormat.format(product.getEarlyWithdrawalPenalty() * 100));
-                return false;
             }
-        } else {
-            payout = account.getPrincipal();
-        }
-
-        // 지급 및 계좌 삭제
-        plugin.getEconomy().depositPlayer(player, payout);
-        playerAccounts.get(player.getUniqueId()).remove(accountId);
-
-        // 메시지 전송
-        Map<String, String> replacements = new HashMap<>();
-        replacements.put("total", moneyFormat.format(payout));
-        sendMessage(player, "bank.account_closed", replacements);
-        plugin.getConfigManager().playSound(player, "sell");
+            Map<String, String> replacements = new HashMap<>();
+            replacements.put("total", moneyFormat.format(payout[0]));
+            sendMessage(player, "bank.account_closed", replacements);
+            plugin.getConfigManager().playSound(player, "sell");
+        }, failure -> sendFailure(player, failure, payout[0], null, product));
+    }
 
-        saveAllData();
-        return true;
+    /**
+     * 정산 실패 메시지 전송
+     *
+     * @param rejection 대기열 안에서 한도/잔액 확인으로 거절된 경우의 메시지 키 (그 외에는 null)
+     */
+    private void sendFailure(Player player, SettlementEngine.Failure failure, double amount, String rejection,
+            BankProductConfig product) {
+        if (failure == SettlementEngine.Failure.REJECTED && rejection != null) {
+            sendMessage(player, rejection,
+                    "min", moneyFormat.format(product.getMinDeposit()),
+                    "max", moneyFormat.format(product.getMaxDeposit()));
+            plugin.getConfigManager().playSound(player, "error");
+            return;
+        }
+        switch (failure) {
+            case INSUFFICIENT_FUNDS -> sendMessage(player, "bank.no_money", "amount", moneyFormat.format(amount));
+            case REJECTED -> sendMessage(player, "bank.account_not_found");
+            default -> player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("general.transaction_failed"));
+        }
+        plugin.getConfigManager().playSound(player, "error");
     }
 
     // =====================
@@ -461,6 +979,15 @@ public class BankManager {
         return accounts != null ? accounts.get(accountId) : null;
     }
 
+    /**
+     * 계좌를 보유한 플레이어 목록 (UUID 오름차순 복사본)
+     */
+    public List<UUID> getAccountHolders() {
+        List<UUID> holders = new ArrayList<>(playerAccounts.keySet());
+        Collections.sort(holders);
+        return holders;
+    }
+
     public List<PlayerBankAccount> getPlayerAccounts(UUID playerId) {
         Map<String, PlayerBankAccount> accounts = playerAccounts.get(playerId);
         return accounts != null ? new ArrayList<>(accounts.values()) : new ArrayList<>();
@@ -486,13 +1013,26 @@ public class BankManager {
      * 플레이어의 총 예상 이자 (아직 정산되지 않은 이자)
      */
     public double getTotalPendingInterest(UUID playerId) {
+        long now = System.currentTimeMillis();
+        PendingInterest cached = pendingInterest.get(playerId);
+        if (cached != null && now < cached.validUntil()) {
+            return cached.total();
+        }
+
         double total = 0;
+        long validUntil = Long.MAX_VALUE;
         for (PlayerBankAccount account : getPlayerAccounts(playerId)) {
             BankProductConfig product = plugin.getConfigManager().getBankProduct(account.getProductId());
             if (product != null) {
                 total += calculateAccruedInterest(account, product);
+                if (product.isSavings() && account.getAccrualValidUntil() > 0) {
+                    validUntil = Math.min(validUntil, account.getAccrualValidUntil());
+                } else if (product.isTermDeposit() && !account.isMatured() && account.getExpiryTime() > 0) {
+                    validUntil = Math.min(validUntil, account.getExpiryTime());
+                }
             }
         }
+        pendingInterest.put(playerId, new PendingInterest(total, validUntil));
         return total;
     }
 
@@ -525,7 +1065,82 @@ public class BankManager {
     }
 
     public void reload() {
+        saveAllData(); // 저장되지 않은 변경 사항을 먼저 기록
+        interestBatchJob.stop();
         loadData();
+        startAutoSave();
+        startMetricsTask();
+        interestBatchJob.start();
+    }
+
+    // =====================
+    // 통계
+    // =====================
+
+    /**
+     * 현재 서버 전체 은행 통계 (전체 계좌를 순회하지 않음)
+     */
+    public BankMetrics.Snapshot getMetrics() {
+        return metrics.snapshot(plugin.getConfigManager()::getBankProduct);
+    }
+
+    /**
+     * 접속 중인 플레이어 지갑 합계 집계 (메인 스레드, 접속자 수만큼만 조회)
+     */
+    public void sampleWallets() {
+        double total = 0;
+        int players = 0;
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            total += plugin.getEconomy().getBalance(player);
+            players++;
+        }
+        metrics.recordWallets(total, players);
+    }
+
+    /**
+     * 주기적으로 지갑 합계를 집계하고 통계를 파일로 기록 (간격 0이면 사용 안 함)
+     */
+    private void startMetricsTask() {
+        if (metricsTask != null) {
+            metricsTask.cancel();
+            metricsTask = null;
+        }
+        int interval = plugin.getConfigManager().getBankMetricsDumpInterval();
+        if (interval <= 0) {
+            return;
+        }
+        long intervalTicks = interval * 20L;
+        metricsTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
+            sampleWallets();
+            dumpMetrics(getMetrics());
+        }, intervalTicks, intervalTicks);
+    }
+
+    /**
+     * 통계 기록 (쓰기 스레드)
+     * CSV는 한 줄씩 이어 쓰고, JSON은 최신 통계로 덮어씀
+     */
+    private void dumpMetrics(BankMetrics.Snapshot snapshot) {
+        boolean json = "json".equalsIgnoreCase(plugin.getConfigManager().getBankMetricsDumpFormat());
+        File folder = new File(plugin.getDataFolder(), "data");
+        fileWriter.execute(() -> {
+            try {
+                if (json) {
+                    AsyncFileWriter.writeAtomically(new File(folder, "bank_metrics.json"),
+                            BankMetricsFormat.toJson(snapshot));
+                } else {
+                    File file = new File(folder, "bank_metrics.csv");
+                    String line = BankMetricsFormat.toCsvRow(snapshot) + System.lineSeparator();
+                    if (!file.exists()) {
+                        line = BankMetricsFormat.CSV_HEADER + System.lineSeparator() + line;
+                    }
+                    Files.writeString(file.toPath(), line, StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                }
+            } catch (IOException e) {
+                plugin.getLogger().warning("은행 통계 기록 실패: " + e.getMessage());
+            }
+        });
     }
 
     /**
@@ -541,7 +1156,11 @@ public class BankManager {
             return -1;
         }
 
-        long elapsed = System.currentTimeMillis() - account.getLastInterestTime();
+        long now = System.currentTimeMillis();
+        if (now < account.getAccrualValidUntil()) {
+            return account.getAccrualValidUntil() - now;
+        }
+        long elapsed = now - account.getLastInterestTime();
         long remaining = intervalMillis - (elapsed % intervalMillis);
         return remaining;
     }
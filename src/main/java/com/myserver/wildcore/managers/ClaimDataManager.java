@@ -1,118 +1,100 @@
 package com.myserver.wildcore.managers;
 
 import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.claim.ClaimFlags;
+import com.myserver.wildcore.claim.ClaimStorage;
+import com.myserver.wildcore.claim.JdbcClaimStorage;
+import com.myserver.wildcore.claim.YamlClaimStorage;
+import com.myserver.wildcore.storage.Database;
+import com.myserver.wildcore.util.AsyncFileWriter;
+import com.myserver.wildcore.util.LongObjectHashMap;
 import org.bukkit.Location;
-import org.bukkit.World;
-import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
-import java.io.IOException;
+import java.sql.SQLException;
 import java.util.*;
 
 /**
  * WildCore 자체 Claim 메타데이터를 관리합니다.
  * GriefPrevention이 저장하지 않는 별명, 홈 위치, 플래그 등을 저장합니다.
+ * 조회는 메모리 캐시에서 하고, 변경된 사유지는 저장소(claims.yml 또는 데이터베이스)에 비동기로 기록합니다.
  */
 public class ClaimDataManager {
 
     private final WildCore plugin;
-    private File claimsFile;
-    private FileConfiguration claimsConfig;
+    private final AsyncFileWriter fileWriter;
+    private ClaimStorage storage;
 
-    // 메모리 캐시
-    private final Map<Long, ClaimMetadata> claimDataCache = new HashMap<>();
+    // 메모리 캐시 (사유지 ID -> 메타데이터, 이벤트마다 조회하므로 ID를 감싸지 않는 맵 사용)
+    private final LongObjectHashMap<ClaimMetadata> claimDataCache = new LongObjectHashMap<>();
+    // 플래그가 바뀔 수 있는 변경마다 증가 (getFlagRevision)
+    private int flagRevision;
 
     public ClaimDataManager(WildCore plugin) {
         this.plugin = plugin;
+        this.fileWriter = new AsyncFileWriter("WildCore-ClaimWriter", plugin.getLogger());
         loadClaimsData();
     }
 
     /**
-     * claims.yml 파일 로드
+     * 저장소에서 메타데이터 로드
      */
     private void loadClaimsData() {
-        claimsFile = new File(plugin.getDataFolder(), "claims.yml");
-        if (!claimsFile.exists()) {
-            try {
-                claimsFile.createNewFile();
-            } catch (IOException e) {
-                plugin.getLogger().severe("Failed to create claims.yml: " + e.getMessage());
-            }
-        }
-        claimsConfig = YamlConfiguration.loadConfiguration(claimsFile);
-
-        // 기존 데이터 로드
+        storage = createStorage();
         claimDataCache.clear();
-        ConfigurationSection claimsSection = claimsConfig.getConfigurationSection("claims");
-        if (claimsSection != null) {
-            for (String claimIdStr : claimsSection.getKeys(false)) {
-                try {
-                    Long claimId = Long.parseLong(claimIdStr);
-                    String path = "claims." + claimIdStr;
-
-                    ClaimMetadata metadata = new ClaimMetadata(claimId);
-                    metadata.setNickname(claimsConfig.getString(path + ".nickname", ""));
-                    metadata.setCreatedAt(claimsConfig.getLong(path + ".created_at", System.currentTimeMillis()));
-                    metadata.setIcon(claimsConfig.getString(path + ".icon", "GRASS_BLOCK"));
-                    metadata.setChunkLoaded(claimsConfig.getBoolean(path + ".chunk_loaded", false));
-
-                    // 홈 위치 로드
-                    if (claimsConfig.contains(path + ".home")) {
-                        String worldName = claimsConfig.getString(path + ".home.world");
-                        if (worldName != null) {
-                            World world = plugin.getServer().getWorld(worldName);
-                            if (world != null) {
-                                double x = claimsConfig.getDouble(path + ".home.x");
-                                double y = claimsConfig.getDouble(path + ".home.y");
-                                double z = claimsConfig.getDouble(path + ".home.z");
-                                float yaw = (float) claimsConfig.getDouble(path + ".home.yaw");
-                                float pitch = (float) claimsConfig.getDouble(path + ".home.pitch");
-                                metadata.setHome(new Location(world, x, y, z, yaw, pitch));
-                            }
-                        }
-                    }
-
-                    // 플래그 로드
-                    ConfigurationSection flagsSection = claimsConfig.getConfigurationSection(path + ".flags");
-                    if (flagsSection != null) {
-                        for (String flag : flagsSection.getKeys(false)) {
-                            metadata.setFlag(flag, flagsSection.getBoolean(flag));
-                        }
-                    }
-
-                    claimDataCache.put(claimId, metadata);
-                } catch (NumberFormatException ignored) {
-                }
-            }
+        flagRevision++;
+        for (Map.Entry<Long, ClaimMetadata> entry : storage.loadAll().entrySet()) {
+            claimDataCache.put(entry.getKey(), entry.getValue());
         }
 
         plugin.getLogger().info("Loaded " + claimDataCache.size() + " claim metadata entries.");
     }
 
     /**
-     * 저장
+     * 설정된 저장소 생성 (데이터베이스가 열려 있으면 데이터베이스, 아니면 claims.yml)
      */
-    public void save() {
+    private ClaimStorage createStorage() {
+        YamlClaimStorage file = new YamlClaimStorage(plugin, new File(plugin.getDataFolder(), "claims.yml"),
+                fileWriter);
+        Database database = plugin.getDatabase();
+        if (database == null) {
+            return file;
+        }
         try {
-            claimsConfig.save(claimsFile);
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save claims.yml: " + e.getMessage());
+            return new JdbcClaimStorage(plugin, database, file);
+        } catch (SQLException e) {
+            throw new IllegalStateException("사유지 데이터베이스 테이블을 만들 수 없습니다: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 대기 중인 기록이 모두 끝날 때까지 대기
+     */
+    public void save() {
+        storage.flush();
+    }
+
+    /**
+     * 종료 처리 (남은 기록 저장, 쓰기 스레드 종료)
+     */
+    public void shutdown() {
+        save();
+        fileWriter.shutdown();
+    }
+
     /**
      * Claim 메타데이터 가져오기 (없으면 새로 생성)
      */
     public ClaimMetadata getClaimData(Long claimId) {
         if (claimId == null)
             return null;
-        return claimDataCache.computeIfAbsent(claimId, id -> {
-            ClaimMetadata metadata = new ClaimMetadata(id);
+        ClaimMetadata metadata = claimDataCache.get(claimId);
+        if (metadata == null) {
+            metadata = new ClaimMetadata(claimId);
             metadata.setCreatedAt(System.currentTimeMillis());
-            return metadata;
-        });
+            claimDataCache.put(claimId, metadata);
+        }
+        return metadata;
     }
 
     /**
@@ -123,34 +105,8 @@ public class ClaimDataManager {
             return;
 
         Long claimId = metadata.getClaimId();
-        String path = "claims." + claimId;
-
-        claimsConfig.set(path + ".nickname", metadata.getNickname());
-        claimsConfig.set(path + ".created_at", metadata.getCreatedAt());
-        claimsConfig.set(path + ".icon", metadata.getIcon());
-        claimsConfig.set(path + ".chunk_loaded", metadata.isChunkLoaded());
-
-        // 홈 위치 저장
-        Location home = metadata.getHome();
-        if (home != null && home.getWorld() != null) {
-            claimsConfig.set(path + ".home.world", home.getWorld().getName());
-            claimsConfig.set(path + ".home.x", home.getX());
-            claimsConfig.set(path + ".home.y", home.getY());
-            claimsConfig.set(path + ".home.z", home.getZ());
-            claimsConfig.set(path + ".home.yaw", home.getYaw());
-            claimsConfig.set(path + ".home.pitch", home.getPitch());
-        } else {
-            claimsConfig.set(path + ".home", null);
-        }
-
-        // 플래그 저장
-        claimsConfig.set(path + ".flags", null);
-        for (Map.Entry<String, Boolean> entry : metadata.getFlags().entrySet()) {
-            claimsConfig.set(path + ".flags." + entry.getKey(), entry.getValue());
-        }
-
         claimDataCache.put(claimId, metadata);
-        save();
+        storage.save(metadata);
     }
 
     /**
@@ -161,8 +117,8 @@ public class ClaimDataManager {
             return;
 
         claimDataCache.remove(claimId);
-        claimsConfig.set("claims." + claimId, null);
-        save();
+        flagRevision++;
+        storage.delete(claimId);
         plugin.debug("Removed claim metadata for claim " + claimId);
     }
 
@@ -185,7 +141,7 @@ public class ClaimDataManager {
      * 별명 가져오기
      */
     public String getClaimNickname(Long claimId) {
-        ClaimMetadata metadata = claimDataCache.get(claimId);
+        ClaimMetadata metadata = (claimId != null) ? claimDataCache.get(claimId) : null;
         return metadata != null ? metadata.getNickname() : "";
     }
 
@@ -204,43 +160,76 @@ public class ClaimDataManager {
      * 홈 위치 가져오기
      */
     public Location getClaimHome(Long claimId) {
-        ClaimMetadata metadata = claimDataCache.get(claimId);
+        ClaimMetadata metadata = (claimId != null) ? claimDataCache.get(claimId) : null;
         return metadata != null ? metadata.getHome() : null;
     }
 
     /**
      * 플래그 설정
      */
+    public void setClaimFlag(Long claimId, ClaimFlags flag, boolean value) {
+        ClaimMetadata metadata = getClaimData(claimId);
+        if (metadata != null) {
+            metadata.setFlag(flag, value);
+            flagRevision++;
+            saveClaimData(metadata);
+        }
+    }
+
+    /**
+     * 플래그 가져오기 (설정하지 않은 플래그는 기본값, 조회 시 객체를 만들지 않음)
+     */
+    public boolean getClaimFlag(Long claimId, ClaimFlags flag) {
+        ClaimMetadata metadata = (claimId != null) ? claimDataCache.get(claimId) : null;
+        return (metadata != null) ? metadata.getFlag(flag) : flag.getDefaultValue();
+    }
+
+    /**
+     * 플래그 설정 (키 문자열, 알 수 없는 키도 저장)
+     */
     public void setClaimFlag(Long claimId, String flag, boolean value) {
         ClaimMetadata metadata = getClaimData(claimId);
         if (metadata != null) {
             metadata.setFlag(flag, value);
+            flagRevision++;
             saveClaimData(metadata);
         }
     }
 
     /**
-     * 플래그 가져오기
+     * 플래그 가져오기 (키 문자열)
      */
     public boolean getClaimFlag(Long claimId, String flag, boolean defaultValue) {
-        ClaimMetadata metadata = claimDataCache.get(claimId);
+        ClaimMetadata metadata = (claimId != null) ? claimDataCache.get(claimId) : null;
         if (metadata != null) {
             return metadata.getFlag(flag, defaultValue);
         }
         return defaultValue;
     }
 
+    /**
+     * 플래그가 바뀔 수 있는 변경(설정/삭제/로드)마다 증가하는 값 (플래그 기반 캐시의 갱신 확인용)
+     */
+    public int getFlagRevision() {
+        return flagRevision;
+    }
+
     /**
      * 모든 캐시된 Claim ID 가져오기
      */
     public Set<Long> getAllClaimIds() {
-        return new HashSet<>(claimDataCache.keySet());
+        Set<Long> ids = new HashSet<>();
+        for (long claimId : claimDataCache.keys()) {
+            ids.add(claimId);
+        }
+        return ids;
     }
 
     /**
      * 리로드
      */
     public void reload() {
+        save(); // 대기 중인 기록을 먼저 마침
         loadClaimsData();
     }
 
@@ -250,6 +239,8 @@ public class ClaimDataManager {
 
     /**
      * Claim 메타데이터 클래스
+     * 플래그는 ClaimFlags 순번별 비트로 보관하며, 직접 설정한 플래그만 mask에 표시해 나머지는 기본값을 따릅니다.
+     * ClaimFlags에 없는 키(이전 버전 등)는 그대로 보존해 저장합니다.
      */
     public static class ClaimMetadata {
         private final Long claimId;
@@ -258,7 +249,11 @@ public class ClaimDataManager {
         private long createdAt;
         private String icon;
         private boolean chunkLoaded;
-        private final Map<String, Boolean> flags = new HashMap<>();
+        // 플래그 값 비트, 직접 설정한 플래그 비트
+        private long flagValues;
+        private long flagMask;
+        // ClaimFlags에 없는 키 (없으면 null)
+        private Map<String, Boolean> unknownFlags;
 
         public ClaimMetadata(Long claimId) {
             this.claimId = claimId;
@@ -312,16 +307,58 @@ public class ClaimDataManager {
             this.chunkLoaded = chunkLoaded;
         }
 
+        /**
+         * 직접 설정한 플래그 (저장용 복사본, 키 문자열 -> 값)
+         */
         public Map<String, Boolean> getFlags() {
+            Map<String, Boolean> flags = new LinkedHashMap<>();
+            for (ClaimFlags flag : ClaimFlags.values()) {
+                if ((flagMask & flag.bit()) != 0) {
+                    flags.put(flag.getKey(), (flagValues & flag.bit()) != 0);
+                }
+            }
+            if (unknownFlags != null) {
+                flags.putAll(unknownFlags);
+            }
             return flags;
         }
 
+        public boolean getFlag(ClaimFlags flag) {
+            long bit = flag.bit();
+            return ((flagMask & bit) != 0) ? (flagValues & bit) != 0 : flag.getDefaultValue();
+        }
+
+        public void setFlag(ClaimFlags flag, boolean value) {
+            long bit = flag.bit();
+            flagMask |= bit;
+            flagValues = value ? (flagValues | bit) : (flagValues & ~bit);
+        }
+
+        /**
+         * 직접 설정했는지 여부 (false면 기본값 사용 중)
+         */
+        public boolean isFlagSet(ClaimFlags flag) {
+            return (flagMask & flag.bit()) != 0;
+        }
+
         public boolean getFlag(String flag, boolean defaultValue) {
-            return flags.getOrDefault(flag, defaultValue);
+            ClaimFlags known = ClaimFlags.fromKey(flag);
+            if (known != null) {
+                return ((flagMask & known.bit()) != 0) ? (flagValues & known.bit()) != 0 : defaultValue;
+            }
+            return (unknownFlags != null) ? unknownFlags.getOrDefault(flag, defaultValue) : defaultValue;
         }
 
         public void setFlag(String flag, boolean value) {
-            flags.put(flag, value);
+            ClaimFlags known = ClaimFlags.fromKey(flag);
+            if (known != null) {
+                setFlag(known, value);
+                return;
+            }
+            if (unknownFlags == null) {
+                unknownFlags = new HashMap<>();
+            }
+            unknownFlags.put(flag, value);
         }
     }
 }
@@ -1,6 +1,9 @@
 package com.myserver.wildcore.managers;
 
 import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.claim.ClaimIndex;
+import com.myserver.wildcore.claim.ClaimTrustTable;
+import com.myserver.wildcore.util.LongObjectHashMap;
 import me.ryanhamshire.GriefPrevention.Claim;
 import me.ryanhamshire.GriefPrevention.ClaimPermission;
 import me.ryanhamshire.GriefPrevention.CreateClaimResult;
@@ -26,6 +29,14 @@ public class ClaimManager {
     private DataStore dataStore;
     private boolean enabled;
 
+    // 청크 단위 사유지 색인 (GP 연동 시 생성)
+    private ClaimIndex claimIndex;
+    // 다음 틱에 다시 색인할 최상위 사유지 (GP 이벤트는 변경이 적용되기 전에 호출됨,
+    // 새 사유지는 이벤트 시점에 아직 ID가 없으므로 ID가 아닌 객체로 보관)
+    private final List<Claim> pendingIndexRefresh = new ArrayList<>();
+    // 사유지 ID -> Trust 표 (처음 조회할 때 만들고, Trust가 바뀌면 버림)
+    private final LongObjectHashMap<ClaimTrustTable> trustTables = new LongObjectHashMap<>();
+
     /**
      * Trust 타입 정의
      */
@@ -51,6 +62,8 @@ public class ClaimManager {
         if (plugin.getServer().getPluginManager().getPlugin("GriefPrevention") != null) {
             this.gpInstance = GriefPrevention.instance;
             this.dataStore = this.gpInstance.dataStore;
+            this.claimIndex = new ClaimIndex(dataStore);
+            rebuildClaimIndex();
             plugin.getLogger().info("GriefPrevention hook established successfully.");
         } else {
             plugin.getLogger().warning("GriefPrevention plugin not found! Claim features will be disabled.");
@@ -198,11 +211,24 @@ public class ClaimManager {
 
     /**
      * 해당 위치의 Claim을 조회합니다.
+     * 메인 스레드에서는 청크 색인을 사용하고, 색인 갱신 대기 중이거나 다른 스레드면 GP에서 직접 조회합니다.
      *
      * @param location 조회할 위치
      * @return Claim 객체 (없으면 null)
      */
     public Claim getClaimAt(Location location) {
+        if (!isEnabled())
+            return null;
+        if (claimIndex == null || !pendingIndexRefresh.isEmpty() || !Bukkit.isPrimaryThread()) {
+            return dataStore.getClaimAt(location, true, null);
+        }
+        return claimIndex.getClaimAt(location);
+    }
+
+    /**
+     * 색인을 거치지 않고 GP에서 직접 조회합니다 (측정/검증용).
+     */
+    public Claim getClaimAtDirect(Location location) {
         if (!isEnabled())
             return null;
         return dataStore.getClaimAt(location, true, null);
@@ -269,6 +295,101 @@ public class ClaimManager {
         return result.toString();
     }
 
+    // =====================
+    // 사유지 색인
+    // =====================
+
+    /**
+     * 사유지 생성/크기 변경/삭제 시 호출 (다음 틱에 GP의 최신 상태로 다시 색인)
+     * 하위 사유지는 최상위 사유지의 children으로 조회하므로 부모를 다시 색인합니다.
+     * (색인 변경 번호가 바뀌어야 ClaimTracker 등 색인 기반 캐시가 하위 사유지 변경을 알 수 있음)
+     * 새 사유지는 GP가 저장하면서 ID를 붙이므로, ID는 다음 틱에 확인합니다.
+     * 갱신 전까지는 getClaimAt 등이 GP에서 직접 조회합니다.
+     */
+    public void refreshClaimIndex(Claim claim) {
+        if (claimIndex == null || claim == null)
+            return;
+
+        Claim topLevel = (claim.parent != null) ? claim.parent : claim;
+        boolean first = pendingIndexRefresh.isEmpty();
+        pendingIndexRefresh.add(topLevel);
+        if (first) {
+            plugin.getServer().getScheduler().runTask(plugin, this::applyPendingIndexRefresh);
+        }
+    }
+
+    private void applyPendingIndexRefresh() {
+        for (Claim claim : pendingIndexRefresh) {
+            Long claimId = claim.getID();
+            if (claimId == null)
+                continue; // 생성이 취소되어 GP에 저장되지 않음
+
+            claimIndex.remove(claimId);
+            // 크기 변경 시 GP가 객체를 바꿀 수 있으므로 ID로 최신 객체를 조회
+            Claim current = dataStore.getClaim(claimId);
+            if (current == null && claim.inDataStore) {
+                current = claim;
+            }
+            if (current != null && current.inDataStore) {
+                claimIndex.add(current);
+            }
+        }
+        pendingIndexRefresh.clear();
+    }
+
+    /**
+     * GP의 전체 사유지로 색인을 다시 만듭니다.
+     */
+    public void rebuildClaimIndex() {
+        if (claimIndex == null)
+            return;
+
+        long start = System.nanoTime();
+        pendingIndexRefresh.clear();
+        claimIndex.rebuild(dataStore.getClaims());
+        plugin.debug("Claim index rebuilt: " + claimIndex.getClaimCount() + " claims, "
+                + claimIndex.getChunkCount() + " chunks (" + (System.nanoTime() - start) / 1_000_000 + "ms)");
+    }
+
+    /**
+     * 영역(블록 좌표, 양 끝 포함, 높이 무시)과 겹치는 최상위 사유지를 색인에서 찾습니다.
+     *
+     * @return 겹치는 사유지 목록 (색인을 지금 쓸 수 없으면 null, 이 경우 위치별로 getClaimAt을 사용)
+     */
+    public List<ClaimIndex.Entry> getIndexedClaimsInArea(World world, int minX, int minZ, int maxX, int maxZ) {
+        if (!isEnabled() || claimIndex == null || !pendingIndexRefresh.isEmpty() || !Bukkit.isPrimaryThread())
+            return null;
+
+        List<ClaimIndex.Entry> entries = new ArrayList<>();
+        claimIndex.collectEntries(world.getUID(), minX, minZ, maxX, maxZ, entries);
+        return entries;
+    }
+
+    /**
+     * 청크 단위 사유지 색인 (GP 미연동 시 null)
+     */
+    public ClaimIndex getClaimIndex() {
+        return claimIndex;
+    }
+
+    /**
+     * 사유지 색인 변경 번호 (색인이 없거나 갱신 대기 중이면 -1, 이때는 조회 결과를 캐시하면 안 됨)
+     */
+    public int getClaimIndexRevision() {
+        if (claimIndex == null || !pendingIndexRefresh.isEmpty())
+            return -1;
+        return claimIndex.getRevision() & Integer.MAX_VALUE;
+    }
+
+    /**
+     * GP에 등록된 모든 최상위 사유지
+     */
+    public Collection<Claim> getAllClaims() {
+        if (!isEnabled())
+            return Collections.emptyList();
+        return dataStore.getClaims();
+    }
+
     // =====================
     // Trust 관리 API
     // =====================
@@ -308,6 +429,7 @@ public class ClaimManager {
             }
 
             dataStore.saveClaim(claim);
+            invalidateTrust(claim);
             plugin.debug("Added trust " + type + " for " + playerUUID + " in claim " + claim.getID());
             return true;
         } catch (Exception e) {
@@ -332,6 +454,7 @@ public class ClaimManager {
             claim.dropPermission(playerName);
             claim.managers.remove(playerName);
             dataStore.saveClaim(claim);
+            invalidateTrust(claim);
             plugin.debug("Removed trust for " + playerUUID + " in claim " + claim.getID());
             return true;
         } catch (Exception e) {
@@ -420,6 +543,7 @@ public class ClaimManager {
 
     /**
      * 플레이어가 해당 Claim에서 가진 Trust 레벨을 조회합니다.
+     * 메인 스레드에서는 사유지별 Trust 표를 재사용하므로 조회 시 객체를 만들지 않습니다.
      *
      * @param claim      Claim 객체
      * @param playerUUID 플레이어 UUID
@@ -429,8 +553,29 @@ public class ClaimManager {
         if (!isEnabled() || claim == null || playerUUID == null)
             return null;
 
-        Map<UUID, TrustType> trustedPlayers = getTrustedPlayers(claim);
-        return trustedPlayers.get(playerUUID);
+        Long claimId = claim.getID();
+        if (claimId == null || !Bukkit.isPrimaryThread()) {
+            return getTrustedPlayers(claim).get(playerUUID);
+        }
+        ClaimTrustTable table = trustTables.get(claimId);
+        if (table == null) {
+            table = ClaimTrustTable.of(getTrustedPlayers(claim));
+            trustTables.put(claimId, table);
+        }
+        return table.get(playerUUID);
+    }
+
+    /**
+     * Claim의 Trust 표를 버립니다 (다음 조회 때 다시 만듦).
+     * GP의 Trust 변경 이벤트는 변경이 적용되기 전에 호출되므로 다음 틱에 한 번 더 버립니다.
+     */
+    public void invalidateTrust(Claim claim) {
+        if (claim == null || claim.getID() == null)
+            return;
+
+        long claimId = claim.getID();
+        trustTables.remove(claimId);
+        plugin.getServer().getScheduler().runTask(plugin, () -> trustTables.remove(claimId));
     }
 
     // =====================
@@ -523,8 +668,11 @@ public class ClaimManager {
      */
     public void reload() {
         this.enabled = plugin.getConfigManager().isClaimSystemEnabled();
+        trustTables.clear();
         if (enabled && gpInstance == null) {
             setupGriefPrevention();
+        } else {
+            rebuildClaimIndex();
         }
     }
 }
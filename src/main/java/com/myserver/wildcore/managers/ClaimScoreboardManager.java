@@ -1,9 +1,16 @@
 package com.myserver.wildcore.managers;
 
 import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.claim.ClaimEnterEvent;
+import com.myserver.wildcore.claim.ClaimLeaveEvent;
+import com.myserver.wildcore.claim.ClaimTracker;
 import me.ryanhamshire.GriefPrevention.Claim;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.scoreboard.*;
 
@@ -12,98 +19,169 @@ import java.util.*;
 /**
  * 사유지 내 플레이어에게 작물 성장 버프 정보를 스코어보드로 표시합니다.
  * 플레이어가 버프가 활성화된 사유지에 있을 때만 스코어보드를 표시합니다.
+ * - 표시 여부는 사유지 입장/퇴장 이벤트(ClaimTracker)와 버프 활성화/해제 시에만 다시 판단
+ * - 줄마다 팀 접두사로 내용을 표시하고, 내용이 바뀐 줄만 다시 보냄
+ * - 1초 타이머는 스코어보드를 보고 있는 플레이어만 확인 (남은 시간 줄 갱신, 만료 확인)
  */
-public class ClaimScoreboardManager {
+public class ClaimScoreboardManager implements Listener {
+
+    /**
+     * 플레이어 한 명의 사이드바 (마지막으로 보낸 줄 내용을 기억)
+     */
+    private static final class Sidebar {
+        final Scoreboard scoreboard;
+        final Team[] lines = new Team[LINE_COUNT];
+        final String[] contents = new String[LINE_COUNT];
+        Claim claim;
+
+        Sidebar(Scoreboard scoreboard) {
+            this.scoreboard = scoreboard;
+        }
+    }
+
+    private static final String OBJECTIVE_NAME = "wc_claim_buff";
+    private static final String DISPLAY_NAME = "§a§l🌾 사유지 버프";
+    private static final int LINE_COUNT = 8;
+    private static final String SEPARATOR = "§a§l━━━━━━━━━━━━━━━";
 
     private final WildCore plugin;
     private final ClaimManager claimManager;
     private final CropGrowthManager cropGrowthManager;
+    private final ClaimTracker claimTracker;
     private BukkitTask updateTask;
 
     // 현재 스코어보드가 표시 중인 플레이어
-    private final Set<UUID> activeScoreboards = new HashSet<>();
+    private final Map<UUID, Sidebar> sidebars = new HashMap<>();
 
-    private static final String OBJECTIVE_NAME = "wc_claim_buff";
-    private static final String DISPLAY_NAME = "§a§l🌾 사유지 버프";
+    private long lineUpdates;
 
     public ClaimScoreboardManager(WildCore plugin) {
         this.plugin = plugin;
         this.claimManager = plugin.getClaimManager();
         this.cropGrowthManager = plugin.getCropGrowthManager();
+        this.claimTracker = plugin.getClaimTracker();
         startUpdateTask();
     }
 
     /**
-     * 1초 간격으로 스코어보드를 업데이트합니다.
+     * 1초 간격으로 스코어보드를 보고 있는 플레이어만 갱신합니다. (남은 시간, 만료)
      */
     private void startUpdateTask() {
         updateTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            if (!claimManager.isEnabled())
+            if (sidebars.isEmpty())
                 return;
 
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                updatePlayerScoreboard(player);
+            for (UUID uuid : new ArrayList<>(sidebars.keySet())) {
+                Sidebar sidebar = sidebars.get(uuid);
+                Player player = Bukkit.getPlayer(uuid);
+                if (sidebar == null || player == null) {
+                    sidebars.remove(uuid);
+                    continue;
+                }
+                if (!sidebar.claim.inDataStore) {
+                    // 서 있는 동안 사유지가 삭제/변경됨 -> 위치를 다시 확정 (퇴장/입장 이벤트로 갱신)
+                    claimTracker.update(player, player.getLocation());
+                    refresh(player, claimTracker.getCurrentClaim(player));
+                    continue;
+                }
+                refresh(player, sidebar.claim);
             }
         }, 20L, 20L); // 1초 간격
     }
 
+    // =====================
+    // 이벤트
+    // =====================
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onClaimEnter(ClaimEnterEvent event) {
+        refresh(event.getPlayer(), event.getClaim());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onClaimLeave(ClaimLeaveEvent event) {
+        // 다른 사유지로 바로 넘어간 경우는 이어지는 입장 이벤트에서 갱신
+        if (event.getTo() == null) {
+            removeScoreboard(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        handlePlayerQuit(event.getPlayer().getUniqueId());
+    }
+
     /**
-     * 플레이어의 스코어보드를 업데이트합니다.
+     * 사유지의 버프가 활성화/해제되었을 때 그 사유지에 있는 플레이어를 갱신합니다.
      */
-    private void updatePlayerScoreboard(Player player) {
-        Claim claim = claimManager.getClaimAt(player.getLocation());
-
-        if (claim == null) {
-            // 사유지 밖이면 스코어보드 제거
-            removeScoreboard(player);
-            return;
+    public void refreshClaim(long claimId) {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Claim claim = claimTracker.getCurrentClaim(player);
+            if (claim != null && claim.getID() == claimId) {
+                refresh(player, claim);
+            }
         }
+    }
 
-        // 버프가 활성화되어 있는지 확인
-        if (!cropGrowthManager.hasActiveBuff(claim.getID())) {
+    // =====================
+    // 표시
+    // =====================
+
+    /**
+     * 플레이어가 있는 사유지 기준으로 스코어보드를 표시/갱신/제거합니다.
+     */
+    private void refresh(Player player, Claim claim) {
+        if (claim == null || !claimManager.isEnabled()) {
             removeScoreboard(player);
             return;
         }
 
-        // 스코어보드 생성/업데이트
+        // 버프가 활성화되어 있는지 확인
         CropGrowthManager.BuffData buffData = cropGrowthManager.getBuffData(claim.getID());
         if (buffData == null) {
             removeScoreboard(player);
             return;
         }
 
-        showScoreboard(player, buffData, claim);
+        Sidebar sidebar = sidebars.get(player.getUniqueId());
+        if (sidebar == null) {
+            sidebar = createSidebar();
+            if (sidebar == null)
+                return;
+            render(sidebar, claim, buffData);
+            sidebars.put(player.getUniqueId(), sidebar);
+            player.setScoreboard(sidebar.scoreboard);
+            return;
+        }
+        render(sidebar, claim, buffData);
     }
 
     /**
-     * 플레이어에게 버프 정보 스코어보드를 표시합니다.
+     * 빈 줄 팀을 미리 만들어 둔 사이드바 생성 (줄 항목은 보이지 않는 색 코드)
      */
-    private void showScoreboard(Player player, CropGrowthManager.BuffData buffData, Claim claim) {
+    private Sidebar createSidebar() {
         ScoreboardManager manager = Bukkit.getScoreboardManager();
         if (manager == null)
-            return;
-
-        Scoreboard scoreboard;
-        Objective objective;
+            return null;
 
-        // 기존 스코어보드가 있으면 재사용
-        if (activeScoreboards.contains(player.getUniqueId())) {
-            scoreboard = player.getScoreboard();
-            objective = scoreboard.getObjective(OBJECTIVE_NAME);
-            if (objective == null) {
-                objective = scoreboard.registerNewObjective(OBJECTIVE_NAME, Criteria.DUMMY, DISPLAY_NAME);
-                objective.setDisplaySlot(DisplaySlot.SIDEBAR);
-            }
-        } else {
-            scoreboard = manager.getNewScoreboard();
-            objective = scoreboard.registerNewObjective(OBJECTIVE_NAME, Criteria.DUMMY, DISPLAY_NAME);
-            objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        Sidebar sidebar = new Sidebar(manager.getNewScoreboard());
+        Objective objective = sidebar.scoreboard.registerNewObjective(OBJECTIVE_NAME, Criteria.DUMMY, DISPLAY_NAME);
+        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            String entry = "§" + Integer.toHexString(i) + "§r";
+            Team team = sidebar.scoreboard.registerNewTeam("wc_line_" + i);
+            team.addEntry(entry);
+            objective.getScore(entry).setScore(LINE_COUNT - 1 - i);
+            sidebar.lines[i] = team;
         }
+        return sidebar;
+    }
 
-        // 기존 항목 제거
-        for (String entry : new HashSet<>(scoreboard.getEntries())) {
-            scoreboard.resetScores(entry);
-        }
+    /**
+     * 줄 내용을 만들어 이전과 다른 줄만 보냄
+     */
+    private void render(Sidebar sidebar, Claim claim, CropGrowthManager.BuffData buffData) {
+        sidebar.claim = claim;
 
         // 사유지 정보
         String claimName = plugin.getClaimDataManager().getClaimNickname(claim.getID());
@@ -115,40 +193,44 @@ public class ClaimScoreboardManager {
         long remaining = buffData.getRemainingSeconds();
         String timeStr = formatTime(remaining);
 
-        // 스코어보드 내용 설정
-        objective.getScore("§a§l━━━━━━━━━━━━━━").setScore(7);
-        objective.getScore("§f🏡 " + claimName).setScore(6);
-        objective.getScore("§a§l━━━━━━━━━━━━━━━").setScore(5);
-        objective.getScore(" ").setScore(4);
-        objective.getScore("§e🌾 작물 성장 버프").setScore(3);
-        objective.getScore("§7주기: §a" + buffData.getIntervalSeconds() + "초 §7| 확률: §a"
-                + (int) (buffData.getGrowthChance() * 100) + "%").setScore(2);
-        objective.getScore("§7남은 시간: §f" + timeStr).setScore(1);
-        objective.getScore("§a§l━━━━━━━━━━━━━━━━").setScore(0);
+        setLine(sidebar, 0, SEPARATOR);
+        setLine(sidebar, 1, "§f🏡 " + claimName);
+        setLine(sidebar, 2, SEPARATOR);
+        setLine(sidebar, 3, " ");
+        setLine(sidebar, 4, "§e🌾 작물 성장 버프");
+        setLine(sidebar, 5, "§7주기: §a" + buffData.getIntervalSeconds() + "초 §7| 확률: §a"
+                + (int) (buffData.getGrowthChance() * 100) + "%");
+        setLine(sidebar, 6, "§7남은 시간: §f" + timeStr);
+        setLine(sidebar, 7, SEPARATOR);
+    }
 
-        player.setScoreboard(scoreboard);
-        activeScoreboards.add(player.getUniqueId());
+    private void setLine(Sidebar sidebar, int line, String content) {
+        if (content.equals(sidebar.contents[line]))
+            return;
+
+        sidebar.lines[line].setPrefix(content);
+        sidebar.contents[line] = content;
+        lineUpdates++;
     }
 
     /**
      * 플레이어의 스코어보드를 제거합니다.
      */
     public void removeScoreboard(Player player) {
-        if (!activeScoreboards.contains(player.getUniqueId()))
+        if (sidebars.remove(player.getUniqueId()) == null)
             return;
 
         ScoreboardManager manager = Bukkit.getScoreboardManager();
         if (manager != null) {
             player.setScoreboard(manager.getMainScoreboard());
         }
-        activeScoreboards.remove(player.getUniqueId());
     }
 
     /**
      * 플레이어 로그아웃 시 정리
      */
     public void handlePlayerQuit(UUID playerUUID) {
-        activeScoreboards.remove(playerUUID);
+        sidebars.remove(playerUUID);
     }
 
     /**
@@ -162,6 +244,20 @@ public class ClaimScoreboardManager {
         return minutes + ":" + String.format("%02d", secs);
     }
 
+    /**
+     * 스코어보드를 보고 있는 플레이어 수
+     */
+    public int getViewerCount() {
+        return sidebars.size();
+    }
+
+    /**
+     * 지금까지 다시 보낸 줄 수
+     */
+    public long getLineUpdateCount() {
+        return lineUpdates;
+    }
+
     /**
      * 종료 시 정리
      */
@@ -174,13 +270,13 @@ public class ClaimScoreboardManager {
         // 모든 플레이어의 스코어보드 해제
         ScoreboardManager manager = Bukkit.getScoreboardManager();
         if (manager != null) {
-            for (UUID uuid : new HashSet<>(activeScoreboards)) {
+            for (UUID uuid : new HashSet<>(sidebars.keySet())) {
                 Player player = Bukkit.getPlayer(uuid);
                 if (player != null) {
                     player.setScoreboard(manager.getMainScoreboard());
                 }
             }
         }
-        activeScoreboards.clear();
+        sidebars.clear();
     }
 }
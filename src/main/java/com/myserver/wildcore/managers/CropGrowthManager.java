@@ -203,6 +203,7 @@ public class CropGrowthManager {
         activeBuffs.put(claimId, new BuffData(tier, tierName, expireTime,
                 intervalSeconds, growthChance, growthAmount));
         saveData();
+        notifyScoreboard(claimId);
 
         // 사유지 내 기존 작물 스캔 및 등록
         me.ryanhamshire.GriefPrevention.Claim claim = plugin.getClaimManager().getClaimById(claimId);
@@ -222,6 +223,17 @@ public class CropGrowthManager {
         activeBuffs.remove(claimId);
         cropTracker.clearClaim(claimId);
         saveData();
+        notifyScoreboard(claimId);
+    }
+
+    /**
+     * 사유지 안의 플레이어 스코어보드 갱신 (만료는 스코어보드 쪽 1초 타이머에서 확인)
+     */
+    private void notifyScoreboard(long claimId) {
+        ClaimScoreboardManager scoreboardManager = plugin.getClaimScoreboardManager();
+        if (scoreboardManager != null) {
+            scoreboardManager.refreshClaim(claimId);
+        }
     }
 
     /**
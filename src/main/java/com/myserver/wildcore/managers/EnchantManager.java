@@ -2,6 +2,7 @@ package com.myserver.wildcore.managers;
 
 import com.myserver.wildcore.WildCore;
 import com.myserver.wildcore.config.EnchantConfig;
+import com.myserver.wildcore.economy.RateLimiter;
 import com.myserver.wildcore.util.ItemGroupUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -47,6 +48,9 @@ public class EnchantManager {
      * 인챈트 진행을 위한 사전 준비 및 결과 결정
      */
     public EnchantProcess prepareEnchant(Player player, String enchantId) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.ENCHANT)) {
+            return new EnchantProcess(null, EnchantResult.THROTTLED);
+        }
         EnchantConfig enchant = plugin.getConfigManager().getEnchant(enchantId);
         if (enchant == null) {
             return new EnchantProcess(null, EnchantResult.INVALID);
@@ -415,10 +419,11 @@ public class EnchantManager {
         DESTROY,
         INVALID,
         INSUFFICIENT_FUNDS,
-        INSUFFICIENT_ITEMS;
+        INSUFFICIENT_ITEMS,
+        THROTTLED; // 요청 제한
 
         public boolean isError() {
-            return this == INVALID || this == INSUFFICIENT_FUNDS || this == INSUFFICIENT_ITEMS;
+            return this == INVALID || this == INSUFFICIENT_FUNDS || this == INSUFFICIENT_ITEMS || this == THROTTLED;
         }
     }
 }
@@ -2,6 +2,7 @@ package com.myserver.wildcore.managers;
 
 import com.myserver.wildcore.WildCore;
 import com.myserver.wildcore.config.RepairConfig;
+import com.myserver.wildcore.economy.RateLimiter;
 import com.myserver.wildcore.util.ItemGroupUtil;
 import org.bukkit.Material;
 import org.bukkit.Particle;
@@ -37,6 +38,9 @@ public class RepairManager {
      * @return true if successful, false otherwise
      */
     public boolean tryRepair(Player player, String repairId) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.REPAIR)) {
+            return false;
+        }
         RepairConfig repair = plugin.getConfigManager().getRepairOption(repairId);
         if (repair == null) {
             player.sendMessage(plugin.getConfigManager().getPrefix() + "§c수리 옵션을 찾을 수 없습니다.");
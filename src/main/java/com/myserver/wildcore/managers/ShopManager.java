@@ -3,11 +3,11 @@ package com.myserver.wildcore.managers;
 import com.myserver.wildcore.WildCore;
 import com.myserver.wildcore.config.ShopConfig;
 import com.myserver.wildcore.config.ShopItemConfig;
+import com.myserver.wildcore.economy.RateLimiter;
+import com.myserver.wildcore.economy.SettlementEngine;
 import com.myserver.wildcore.npc.NpcType;
 import com.myserver.wildcore.util.ItemUtil;
 import com.myserver.wildcore.util.NpcTagUtil;
-import net.milkbowl.vault.economy.Economy;
-import net.milkbowl.vault.economy.EconomyResponse;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -22,6 +22,7 @@ import org.bukkit.potion.PotionType;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 상점 시스템 매니저
@@ -184,117 +185,133 @@ public class ShopManager {
 
     /**
      * 아이템 구매
+     * 인벤토리 공간은 정산 대기열 안에서 돈을 받은 뒤 확인합니다.
+     *
+     * @return 거래 결과 (메인 스레드에서 완료)
      */
-    public boolean buyItem(Player player, ShopConfig shop, int slot, int amount) {
+    public CompletableFuture<Boolean> buyItem(Player player, ShopConfig shop, int slot, int amount) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.SHOP)) {
+            return CompletableFuture.completedFuture(false);
+        }
         ShopItemConfig item = shop.getItem(slot);
         if (item == null || !item.canBuy()) {
             player.sendMessage(plugin.getConfigManager().getPrefix() + "§c이 아이템은 구매할 수 없습니다.");
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         double totalCost = item.getBuyPrice() * amount;
-        Economy economy = plugin.getEconomy();
-
-        // 잔액 확인
-        if (!economy.has(player, totalCost)) {
-            player.sendMessage(plugin.getConfigManager().getPrefix() +
-                    "§c잔액이 부족합니다. (필요: §6" + String.format("%,.0f", totalCost) + "원§c)");
-            plugin.getConfigManager().playSound(player, "error");
-            return false;
-        }
 
-        // 인벤토리 공간 확인
         ItemStack itemStack = createItemStack(item, amount);
         if (itemStack == null) {
             player.sendMessage(plugin.getConfigManager().getPrefix() + "§c아이템을 생성할 수 없습니다.");
-            return false;
-        }
-
-        if (!hasInventorySpace(player, itemStack)) {
-            player.sendMessage(plugin.getConfigManager().getPrefix() + "§c인벤토리 공간이 부족합니다.");
-            plugin.getConfigManager().playSound(player, "error");
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
-        // 거래 실행
-        EconomyResponse response = economy.withdrawPlayer(player, totalCost);
-        if (response.transactionSuccess()) {
+        // 거래 실행: 돈 차감 -> 인벤토리 공간 확인 -> 아이템 지급 (공간이 없으면 환불)
+        return plugin.getSettlementEngine().debit(player, totalCost, () -> {
+            if (!player.isOnline() || !hasInventorySpace(player, itemStack)) {
+                return false;
+            }
             player.getInventory().addItem(itemStack);
+            return true;
+        }, () -> {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
                     "§a구매 완료! §7(§6-" + String.format("%,.2f", totalCost) + "원§7)");
             plugin.getConfigManager().playSound(player, "buy");
 
             plugin.debug("상점 구매: " + player.getName() + " - " + item.getId() + " x" + amount +
                     " (" + shop.getId() + ")");
-            return true;
-        } else {
-            player.sendMessage(plugin.getConfigManager().getPrefix() + "§c거래에 실패했습니다.");
-            return false;
-        }
+        }, failure -> {
+            switch (failure) {
+                case INSUFFICIENT_FUNDS -> player.sendMessage(plugin.getConfigManager().getPrefix() +
+                        "§c잔액이 부족합니다. (필요: §6" + String.format("%,.0f", totalCost) + "원§c)");
+                case REJECTED -> player.sendMessage(plugin.getConfigManager().getPrefix() +
+                        "§c인벤토리 공간이 부족합니다.");
+                default -> player.sendMessage(plugin.getConfigManager().getPrefix() + "§c거래에 실패했습니다.");
+            }
+            plugin.getConfigManager().playSound(player, "error");
+        });
     }
 
     /**
      * 아이템 판매
+     * 보유 수량은 정산 대기열 안에서 확인합니다.
+     *
+     * @return 거래 결과 (메인 스레드에서 완료)
      */
-    public boolean sellItem(Player player, ShopConfig shop, int slot, int amount) {
+    public CompletableFuture<Boolean> sellItem(Player player, ShopConfig shop, int slot, int amount) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.SHOP)) {
+            return CompletableFuture.completedFuture(false);
+        }
         ShopItemConfig item = shop.getItem(slot);
         if (item == null || !item.canSell()) {
             player.sendMessage(plugin.getConfigManager().getPrefix() + "§c이 아이템은 판매할 수 없습니다.");
-            return false;
-        }
-
-        // 전체 인벤토리에서 아이템 수량 확인
-        int totalInInventory = countItemInInventory(player, item);
-        if (totalInInventory < amount) {
-            player.sendMessage(plugin.getConfigManager().getPrefix() + "§c보유한 아이템이 부족합니다.");
-            plugin.getConfigManager().playSound(player, "error");
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
+        return sellItem(player, shop, item, amount);
+    }
 
+    /**
+     * 판매 처리 (요청 제한은 호출 측의 공개 메서드에서 한 번만 확인)
+     */
+    private CompletableFuture<Boolean> sellItem(Player player, ShopConfig shop, ShopItemConfig item, int amount) {
         double totalPrice = item.getSellPrice() * amount;
-        Economy economy = plugin.getEconomy();
 
-        // 아이템 제거
-        removeItemFromInventory(player, item, amount);
-
-        // 돈 지급
-        EconomyResponse response = economy.depositPlayer(player, totalPrice);
-        if (response.transactionSuccess()) {
+        // 수량 확인 -> 아이템 제거 -> 돈 지급 (지급이 실패하면 아이템 복구)
+        return plugin.getSettlementEngine().credit(player, totalPrice, () -> {
+            if (!player.isOnline() || countItemInInventory(player, item) < amount) {
+                return false;
+            }
+            removeItemFromInventory(player, item, amount);
+            return true;
+        }, () -> {
+            ItemStack itemStack = createItemStack(item, amount);
+            if (itemStack != null) {
+                // 인벤토리에 들어가지 않는 아이템은 발밑에 떨어뜨림
+                for (ItemStack leftover : player.getInventory().addItem(itemStack).values()) {
+                    player.getWorld().dropItemNaturally(player.getLocation(), leftover);
+                }
+            }
+        }, () -> {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
                     "§a판매 완료! §7(§6+" + String.format("%,.2f", totalPrice) + "원§7)");
             plugin.getConfigManager().playSound(player, "sell");
 
             plugin.debug("상점 판매: " + player.getName() + " - " + item.getId() + " x" + amount +
                     " (" + shop.getId() + ")");
-            return true;
-        } else {
-            // 롤백: 아이템 복구
-            ItemStack itemStack = createItemStack(item, amount);
-            if (itemStack != null) {
-                player.getInventory().addItem(itemStack);
+        }, failure -> {
+            if (failure == SettlementEngine.Failure.REJECTED) {
+                player.sendMessage(plugin.getConfigManager().getPrefix() + "§c보유한 아이템이 부족합니다.");
+            } else {
+                player.sendMessage(plugin.getConfigManager().getPrefix() + "§c거래에 실패했습니다.");
             }
-            player.sendMessage(plugin.getConfigManager().getPrefix() + "§c거래에 실패했습니다.");
-            return false;
-        }
+            plugin.getConfigManager().playSound(player, "error");
+        });
     }
 
     /**
      * 전량 판매
+     * 판매 수량은 클릭 시점의 보유 수량이며, 그 사이 줄었으면 대기열 안의 확인에서 거절됩니다.
+     *
+     * @return 거래 결과 (메인 스레드에서 완료)
      */
-    public boolean sellAllItems(Player player, ShopConfig shop, int slot) {
+    public CompletableFuture<Boolean> sellAllItems(Player player, ShopConfig shop, int slot) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.SHOP)) {
+            return CompletableFuture.completedFuture(false);
+        }
         ShopItemConfig item = shop.getItem(slot);
         if (item == null || !item.canSell()) {
             player.sendMessage(plugin.getConfigManager().getPrefix() + "§c이 아이템은 판매할 수 없습니다.");
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         int totalAmount = countItemInInventory(player, item);
         if (totalAmount == 0) {
             player.sendMessage(plugin.getConfigManager().getPrefix() + "§c보유한 아이템이 없습니다.");
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
-        return sellItem(player, shop, slot, totalAmount);
+        return sellItem(player, shop, item, totalAmount);
     }
 
     /**
@@ -1,62 +1,160 @@
 package com.myserver.wildcore.managers;
 
 import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.config.ConfigManager;
 import com.myserver.wildcore.config.PlayerStockData;
 import com.myserver.wildcore.config.StockConfig;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
+import com.myserver.wildcore.economy.RateLimiter;
+import com.myserver.wildcore.economy.SettlementEngine;
+import com.myserver.wildcore.stock.FileStockStorage;
+import com.myserver.wildcore.stock.JdbcStockStorage;
+import com.myserver.wildcore.stock.LimitOrder;
+import com.myserver.wildcore.stock.OrderFill;
+import com.myserver.wildcore.stock.OrderMatchingEngine;
+import com.myserver.wildcore.stock.PlayerStockStore;
+import com.myserver.wildcore.stock.PortfolioIndex;
+import com.myserver.wildcore.stock.PriceBroadcaster;
+import com.myserver.wildcore.stock.PriceEngine;
+import com.myserver.wildcore.stock.PriceHistory;
+import com.myserver.wildcore.stock.PriceSnapshot;
+import com.myserver.wildcore.stock.StockDataCodec;
+import com.myserver.wildcore.stock.StockLeaderboard;
+import com.myserver.wildcore.stock.StockStorage;
+import com.myserver.wildcore.storage.Database;
+import com.myserver.wildcore.util.AsyncFileWriter;
+import com.myserver.wildcore.util.JournalFile;
+import com.myserver.wildcore.util.SnapshotFile;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
 import java.io.IOException;
+import java.sql.SQLException;
 import java.text.DecimalFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * 주식 시스템 매니저
  * - 가격 변동 스케줄러
  * - 매수/매도 로직
  * - 플레이어 주식 데이터 관리
+ * - 변경 시 dirty 표시 후 주기적으로 비동기 저장 (write-behind)
+ * - 매수/매도/시세 변동은 저널에 한 줄씩 추가하고, 저장 시 스냅샷으로 압축
+ * - 지정가 주문은 매칭 스레드에서 체결하고, 돈/주식 정산은 메인 스레드에서 처리
+ * - 보유 주식은 플레이어별 파일로 나누어 저장하고, 접속/조회 시 읽어 두었다가 접속 종료 후 메모리에서 내림
+ *   (전체 플레이어 순위/집계는 스냅샷에 함께 저장되는 PortfolioIndex로 처리)
+ *
+ * 스레드 모델:
+ * - 시세는 불변 스냅샷(PriceSnapshot)을 통째로 교체하므로 읽기 측은 잠금이 없음
+ * - 보유 주식은 ConcurrentHashMap에 보관 (비동기 틱/PlaceholderAPI에서 읽어도 안전)
+ * - 쓰기는 stateLock 안에서 상태 변경과 저널 기록을 함께 수행
+ * - 시세 변동 후 전체 평가액/순위 재계산은 stateLock을 놓은 뒤 수행
  */
 public class StockManager {
 
     private final WildCore plugin;
 
-    // 현재 주식 가격 (종목ID -> 현재가)
-    private Map<String, Double> currentPrices = new HashMap<>();
+    // 현재가/이전가 스냅샷 (변경 시 새 스냅샷으로 교체)
+    private volatile PriceSnapshot prices = PriceSnapshot.EMPTY;
 
-    // 이전 주식 가격 (변동률 계산용)
-    private Map<String, Double> previousPrices = new HashMap<>();
+    // 종목별 가격 기록 (double 링 버퍼 + OHLC 캔들)
+    private final Map<String, PriceHistory> priceHistories = new ConcurrentHashMap<>();
 
-    // 주식 가격 기록 (종목ID -> 최근 가격 목록, 최대 20개)
-    private Map<String, List<Double>> priceHistory = new HashMap<>();
+    // 메모리에 올라온 플레이어의 주식 보유량 (UUID -> (종목ID -> 데이터), 항목이 없으면 아직 읽지 않은 상태)
+    private final Map<UUID, Map<String, PlayerStockData>> playerStocks = new ConcurrentHashMap<>();
 
-    // 플레이어별 주식 보유량 (UUID -> (종목ID -> 데이터))
-    private Map<UUID, Map<String, PlayerStockData>> playerStocks = new HashMap<>();
+    // 저장소 (파일 또는 데이터베이스)
+    private StockStorage storage;
+
+    // 다음 저장 때 파일로 써야 하는 플레이어 / 저장 중인 플레이어 / 이번 저장 주기에 읽은 플레이어
+    private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> savingPlayers = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> recentlyLoaded = ConcurrentHashMap.newKeySet();
+
+    // 메인 스레드를 막지 않고 읽는 중인 플레이어 (메인 스레드에서만 사용)
+    private final Map<UUID, CompletableFuture<Map<String, PlayerStockData>>> pendingLoads = new HashMap<>();
+
+    // 체결 정산 순서 (매수자 보유 데이터를 읽는 동안 뒤의 체결이 먼저 반영되지 않도록 이어서 처리, 메인 스레드에서만 사용)
+    private CompletableFuture<Void> settlementTail = CompletableFuture.completedFuture(null);
+
+    // 플레이어별 포트폴리오 평가액 캐시 (PlaceholderAPI, GUI 조회용)
+    private final PortfolioIndex portfolioIndex = new PortfolioIndex();
+
+    // 주식 평가액 순위표
+    private final StockLeaderboard leaderboard = new StockLeaderboard();
+
+    // 저널 재생 중에는 평가액/순위 갱신을 미룸 (로드 끝에서 한 번에 구성)
+    private boolean replaying = false;
+
+    // 재생 중인 저널 세그먼트, 재생 중 읽은 보유 파일에 이미 반영된 세그먼트
+    private long replaySegment;
+    private final Map<UUID, Long> shardSegments = new ConcurrentHashMap<>();
 
     // 스케줄러 태스크
     private BukkitTask schedulerTask;
 
     // 다음 가격 업데이트 시각 (밀리초 타임스탬프)
-    private long nextUpdateTime = 0;
+    private volatile long nextUpdateTime = 0;
 
     // 업데이트 간격 (초) - startScheduler에서 설정
     private int updateIntervalSeconds = 0;
 
-    // 데이터 파일
-    private File dataFile;
-    private FileConfiguration dataConfig;
-
-    private final DecimalFormat priceFormat = new DecimalFormat("#,##0.0");
-    private final DecimalFormat changeFormat = new DecimalFormat("+#,##0.0;-#,##0.0");
-    private final Random random = new Random();
+    // 비동기 저장 (변경 표시 후 주기적으로 한 번에 저장)
+    private final AsyncFileWriter fileWriter;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private BukkitTask saveTask;
+
+    // 시세 알림 방송
+    private final PriceBroadcaster priceBroadcaster;
+
+    // 지정가 주문 (주문번호 -> 미체결 주문)
+    private final Map<Long, LimitOrder> openOrders = new ConcurrentHashMap<>();
+    private final AtomicLong orderSequence = new AtomicLong();
+    private final OrderMatchingEngine orderEngine;
+
+    // 거래 저널 (스냅샷 이후의 변경 기록, 거래 분쟁 시 감사 기록으로도 사용)
+    private File journalFolder;
+    private JournalFile journal;
+
+    // 상태 변경과 저널 기록 순서를 맞추기 위한 잠금 (쓰기 측에서만 사용)
+    private final Object stateLock = new Object();
+
+    // 시세 변동 후 평가액 재계산 순서를 맞추기 위한 잠금 (stateLock 밖에서만 사용)
+    private final Object repriceLock = new Object();
+
+    // 저널 레코드 타입
+    private static final String JOURNAL_BUY = "BUY";
+    private static final String JOURNAL_SELL = "SELL";
+    private static final String JOURNAL_SET = "SET";
+    private static final String JOURNAL_CLEAR = "CLEAR";
+    private static final String JOURNAL_TICK = "TICK";
+    private static final String JOURNAL_PRICE = "PRICE";
+    private static final String JOURNAL_NEXT_UPDATE = "NEXT";
+    private static final String JOURNAL_ORDER_OPEN = "ORDER_OPEN";
+    private static final String JOURNAL_ORDER_FILL = "ORDER_FILL";
+    private static final String JOURNAL_ORDER_CANCEL = "ORDER_CANCEL";
+
+    // DecimalFormat은 스레드 안전하지 않으므로 스레드별 인스턴스 사용 (비동기 틱, PlaceholderAPI)
+    private final ThreadLocal<DecimalFormat> priceFormat = ThreadLocal.withInitial(() -> new DecimalFormat("#,##0.0"));
+    // 가격 변동 엔진 (비동기 틱과 디버그 강제 갱신이 겹칠 수 있으므로 사용 시 동기화)
+    private final PriceEngine priceEngine = new PriceEngine(System.nanoTime());
 
     public StockManager(WildCore plugin) {
         this.plugin = plugin;
+        this.fileWriter = new AsyncFileWriter("WildCore-StockWriter", plugin.getLogger());
+        this.orderEngine = new OrderMatchingEngine("WildCore-OrderMatcher",
+                task -> plugin.getServer().getScheduler().runTask(plugin, task), plugin.getLogger());
         loadData();
         initializePrices();
+        restoreOrderBook();
+        this.priceBroadcaster = new PriceBroadcaster(plugin, this, fileWriter);
     }
 
     /**
@@ -65,91 +163,449 @@ public class StockManager {
     private void loadData() {
         // 메모리 초기화
         playerStocks.clear();
-        currentPrices.clear();
-        priceHistory.clear();
+        dirtyPlayers.clear();
+        savingPlayers.clear();
+        recentlyLoaded.clear();
+        priceHistories.clear();
+        openOrders.clear();
+        portfolioIndex.clear();
+        leaderboard.clear();
 
         File dataFolder = new File(plugin.getDataFolder(), "data");
         if (!dataFolder.exists()) {
             dataFolder.mkdirs();
         }
 
-        dataFile = new File(dataFolder, "stocks_data.yml");
-        if (!dataFile.exists()) {
-            try {
-                dataFile.createNewFile();
-            } catch (IOException e) {
-                plugin.getLogger().severe("주식 데이터 파일 생성 실패: " + e.getMessage());
-            }
-        }
-
-        dataConfig = YamlConfiguration.loadConfiguration(dataFile);
-
-        // 플레이어 주식 데이터 로드
-        if (dataConfig.isConfigurationSection("players")) {
-            for (String uuidStr : dataConfig.getConfigurationSection("players").getKeys(false)) {
-                UUID uuid = UUID.fromString(uuidStr);
-                Map<String, PlayerStockData> stocks = new HashMap<>();
-
-                for (String stockId : dataConfig.getConfigurationSection("players." + uuidStr).getKeys(false)) {
-                    String path = "players." + uuidStr + "." + stockId;
-
-                    if (dataConfig.isConfigurationSection(path)) {
-                        // 신규 데이터 구조 (객체)
-                        int amount = dataConfig.getInt(path + ".amount");
-                        double avgPrice = dataConfig.getDouble(path + ".averagePrice");
-                        double totalInvested = dataConfig.getDouble(path + ".totalInvested");
-                        stocks.put(stockId, new PlayerStockData(amount, avgPrice, totalInvested));
-                    } else if (dataConfig.isInt(path)) {
-                        // 구 데이터 구조 (정수) -> 마이그레이션
-                        int amount = dataConfig.getInt(path);
-                        if (amount > 0) {
-                            // 마이그레이션: 평단가는 현재 가격으로 설정 (혹은 베이스 가격?)
-                            // User agreed to reset to current price. But here we might not have prices
-                            // loaded yet?
-                            // InitializePrices is called AFTER loadData. So currentPrices might be empty.
-                            // However, we can update it later or just set to 0 and let verify fix it?
-                            // Or better, set it to 0 for now and maybe update it when price is available?
-                            // Actually, let's look at constructor: PlayerStockData(amount) sets avg/total
-                            // to 0.
-                            stocks.put(stockId, new PlayerStockData(amount));
+        storage = createStorage(dataFolder);
+        boolean migrating = storage.needsMigration();
+        StockStorage.Loaded loaded = storage.loadSnapshot();
+        StockDataCodec.StockData data = loaded.data();
+        long journalSegment = data.journalSegment();
+        loadLegacyPlayers(loaded.legacyPlayers(), journalSegment);
+
+        // 현재 가격 데이터 로드
+        prices = PriceSnapshot.of(data.prices());
+
+        // 전체 플레이어 보유 현황 요약 (순위/집계용, 보유 파일은 읽지 않음)
+        for (Map.Entry<UUID, PortfolioIndex.Holdings> entry : data.index().entrySet()) {
+            if (!playerStocks.containsKey(entry.getKey())) {
+                portfolioIndex.restore(entry.getKey(), entry.getValue(), prices);
+            }
+        }
+
+        // 가격 기록 데이터 로드
+        for (Map.Entry<String, double[]> entry : data.history().entrySet()) {
+            PriceHistory history = getOrCreateHistory(entry.getKey());
+            history.restorePrices(entry.getValue());
+
+            // 캔들 로드 (구버전 데이터는 가격 기록으로 재구성)
+            Map<Integer, double[]> candles = data.candles().get(entry.getKey());
+            if (candles != null) {
+                for (Map.Entry<Integer, double[]> series : candles.entrySet()) {
+                    history.restoreCandles(series.getKey(), series.getValue());
+                }
+            } else {
+                history.rebuildCandles();
+            }
+        }
+
+        // 다음 업데이트 시각 로드
+        nextUpdateTime = data.nextUpdateTime();
+
+        // 미체결 지정가 주문 로드
+        orderSequence.set(data.orderSequence());
+        for (LimitOrder order : data.orders()) {
+            if (order.getOpenQuantity() > 0) {
+                openOrders.put(order.getId(), order);
+                orderSequence.accumulateAndGet(order.getId(), Math::max);
+            }
+        }
+
+        // 스냅샷 이후의 저널 재생
+        journalFolder = new File(dataFolder, "stock_journal");
+        replayJournal(journalSegment);
+        shardSegments.clear();
+
+        // 포트폴리오 평가액 캐시 및 순위표 구성 (메모리에 올라온 플레이어만 다시 계산)
+        // (스냅샷 요약만 복원한 플레이어는 재생된 시세로 평가액만 다시 계산)
+        portfolioIndex.reprice(prices);
+        for (Map.Entry<UUID, Map<String, PlayerStockData>> entry : playerStocks.entrySet()) {
+            portfolioIndex.update(entry.getKey(), entry.getValue(), prices);
+        }
+        leaderboard.rebuild(portfolioIndex::getTotalValues);
+
+        // 이전 형식 파일은 다음 저장 때 새 저장소에 기록하고, 플레이어별 파일은 쓰기 스레드에서 한 번에 옮김
+        if (migrating) {
+            plugin.getLogger().info("주식 데이터를 " + storage.getName() + "(으)로 옮깁니다.");
+            markDirty();
+            StockStorage target = storage;
+            fileWriter.execute(() -> {
+                int migrated = target.migratePlayers();
+                if (migrated > 0) {
+                    plugin.getLogger().info("주식 보유 파일 " + migrated + "개를 새 형식으로 옮겼습니다.");
+                }
+            });
+        }
+
+        plugin.getLogger().info("주식 데이터 로드 완료");
+    }
+
+    /**
+     * 설정된 저장소 생성 (데이터베이스가 열려 있으면 데이터베이스, 아니면 파일)
+     */
+    private StockStorage createStorage(File dataFolder) {
+        FileStockStorage files = new FileStockStorage(dataFolder,
+                SnapshotFile.Format.fromString(plugin.getConfigManager().getStorageFormat()), plugin.getLogger());
+        Database database = plugin.getDatabase();
+        if (database == null) {
+            return files;
+        }
+        try {
+            return new JdbcStockStorage(database, files, plugin.getLogger());
+        } catch (SQLException e) {
+            throw new IllegalStateException("주식 데이터베이스 테이블을 만들 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 구버전 스냅샷에 함께 들어 있던 플레이어 보유 현황 (다음 저장 때 플레이어별로 옮김)
+     */
+    private void loadLegacyPlayers(Map<UUID, Map<String, PlayerStockData>> players, long journalSegment) {
+        if (players.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<UUID, Map<String, PlayerStockData>> entry : players.entrySet()) {
+            playerStocks.put(entry.getKey(), new ConcurrentHashMap<>(entry.getValue()));
+            shardSegments.put(entry.getKey(), journalSegment);
+            dirtyPlayers.add(entry.getKey());
+        }
+        plugin.getLogger().info("주식 보유 데이터를 플레이어별로 옮깁니다: " + players.size() + "명");
+        markDirty();
+    }
+
+    // =====================
+    // 거래 저널
+    // =====================
+
+    /**
+     * 저널 재생
+     * 마지막 스냅샷에 포함되지 않은 세그먼트의 레코드를 순서대로 다시 적용합니다.
+     */
+    private void replayJournal(long fromSegment) {
+        if (journal != null) {
+            journal.close();
+            fileWriter.flush();
+        }
+        journal = new JournalFile(journalFolder, "stocks_journal", fileWriter, plugin.getLogger(),
+                plugin.getConfigManager().isStockJournalFsync());
+
+        TreeMap<Long, List<String[]>> segments = journal.readSegmentsFrom(fromSegment);
+        int total = 0;
+        int applied = 0;
+        replaying = true;
+        try {
+            // 레코드마다 보유 파일을 하나씩 기다리지 않도록 재생에 필요한 플레이어를 한 번에 읽음
+            prefetchPlayers(collectReplayPlayers(segments));
+            for (Map.Entry<Long, List<String[]>> segment : segments.entrySet()) {
+                replaySegment = segment.getKey();
+                for (String[] record : segment.getValue()) {
+                    total++;
+                    try {
+                        if (applyJournalRecord(record)) {
+                            applied++;
                         }
+                    } catch (RuntimeException e) {
+                        plugin.getLogger().warning("손상된 주식 저널 레코드 무시: " + String.join(" ", record));
                     }
                 }
-                playerStocks.put(uuid, stocks);
             }
+        } finally {
+            replaying = false;
         }
 
-        // 현재 가격 데이터 로드
-        if (dataConfig.isConfigurationSection("prices")) {
-            for (String stockId : dataConfig.getConfigurationSection("prices").getKeys(false)) {
-                currentPrices.put(stockId, dataConfig.getDouble("prices." + stockId));
+        if (total > 0) {
+            plugin.getLogger().info("주식 저널 복구 완료: " + applied + "/" + total + "건 적용");
+            markDirty(); // 다음 자동 저장 시 스냅샷으로 압축
+        }
+    }
+
+    /**
+     * 저널 재생 중 보유 데이터를 읽게 되는 플레이어 (거래 당사자, 매도 주문/체결/취소 주문의 주인)
+     */
+    private Set<UUID> collectReplayPlayers(TreeMap<Long, List<String[]>> segments) {
+        Map<Long, UUID> orderOwners = new HashMap<>();
+        for (LimitOrder order : openOrders.values()) {
+            orderOwners.put(order.getId(), order.getOwner());
+        }
+        Set<UUID> players = new HashSet<>();
+        for (List<String[]> records : segments.values()) {
+            for (String[] record : records) {
+                try {
+                    switch (record[1]) {
+                        case JOURNAL_BUY, JOURNAL_SELL, JOURNAL_SET, JOURNAL_CLEAR ->
+                            players.add(UUID.fromString(record[2]));
+                        case JOURNAL_ORDER_OPEN -> {
+                            UUID owner = UUID.fromString(record[3]);
+                            orderOwners.put(Long.parseLong(record[2]), owner);
+                            players.add(owner);
+                        }
+                        case JOURNAL_ORDER_FILL, JOURNAL_ORDER_CANCEL -> {
+                            UUID owner = orderOwners.get(Long.parseLong(record[2]));
+                            if (owner != null) {
+                                players.add(owner);
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                } catch (RuntimeException ignored) {
+                    // 손상된 레코드는 재생할 때 경고를 남김
+                }
             }
         }
+        return players;
+    }
 
-        // 가격 기록 데이터 로드
-        if (dataConfig.isConfigurationSection("history")) {
-            for (String stockId : dataConfig.getConfigurationSection("history").getKeys(false)) {
-                List<Double> history = dataConfig.getDoubleList("history." + stockId);
-                priceHistory.put(stockId, new ArrayList<>(history));
+    /**
+     * 메모리에 없는 플레이어의 보유 데이터를 저장소에서 한 번에 읽어 둠
+     */
+    private void prefetchPlayers(Set<UUID> players) {
+        players.removeAll(playerStocks.keySet());
+        if (players.isEmpty()) {
+            return;
+        }
+        try {
+            for (Map.Entry<UUID, PlayerStockStore.Shard> entry : storage.loadPlayers(players).entrySet()) {
+                playerStocks.computeIfAbsent(entry.getKey(), uuid -> installShard(uuid, entry.getValue()));
             }
+        } catch (RuntimeException e) {
+            // 미리 읽지 못한 플레이어는 재생 중에 하나씩 읽음
+            plugin.getLogger().warning("주식 보유 데이터 미리 읽기 실패: " + e.getMessage());
         }
+    }
 
-        // 다음 업데이트 시각 로드
-        nextUpdateTime = dataConfig.getLong("nextUpdateTime", 0);
+    /**
+     * 저널 레코드 하나 적용
+     * 형식: 시각 \t 타입 \t 필드...
+     */
+    private boolean applyJournalRecord(String[] record) {
+        if (record.length < 2) {
+            return false;
+        }
+        switch (record[1]) {
+            case JOURNAL_BUY -> applyPurchase(UUID.fromString(record[2]), record[3],
+                    Integer.parseInt(record[4]), Double.parseDouble(record[5]));
+            case JOURNAL_SELL -> applySale(UUID.fromString(record[2]), record[3], Integer.parseInt(record[4]));
+            case JOURNAL_SET -> applySetAmount(UUID.fromString(record[2]), record[3], Integer.parseInt(record[4]));
+            case JOURNAL_CLEAR -> applyClear(UUID.fromString(record[2]));
+            case JOURNAL_TICK -> applyPriceTick(Map.of(record[2], Double.parseDouble(record[3])));
+            case JOURNAL_PRICE -> applyPrice(record[2], Double.parseDouble(record[3]));
+            case JOURNAL_NEXT_UPDATE -> nextUpdateTime = Long.parseLong(record[2]);
+            case JOURNAL_ORDER_OPEN -> applyOrderOpen(new LimitOrder(Long.parseLong(record[2]),
+                    UUID.fromString(record[3]), record[4], LimitOrder.Side.valueOf(record[5]),
+                    Double.parseDouble(record[6]), Integer.parseInt(record[7]), Integer.parseInt(record[7]),
+                    Long.parseLong(record[0]), Double.parseDouble(record[8])));
+            case JOURNAL_ORDER_FILL -> applyOrderFill(Long.parseLong(record[2]), Long.parseLong(record[3]),
+                    Double.parseDouble(record[4]), Integer.parseInt(record[5]));
+            case JOURNAL_ORDER_CANCEL -> applyOrderCancel(Long.parseLong(record[2]));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        plugin.getLogger().info("주식 데이터 로드 완료");
+    private void appendJournal(Object... fields) {
+        Object[] record = new Object[fields.length + 1];
+        record[0] = System.currentTimeMillis();
+        System.arraycopy(fields, 0, record, 1, fields.length);
+        journal.append(record);
+    }
+
+    // =====================
+    // 상태 변경 (실시간 처리와 저널 재생에서 공통 사용)
+    // =====================
+
+    private void applyPurchase(UUID uuid, String stockId, int amount, double price) {
+        if (isAlreadyApplied(uuid)) {
+            return;
+        }
+        Map<String, PlayerStockData> stocks = loadPlayer(uuid);
+        PlayerStockData data = stocks.computeIfAbsent(stockId, k -> new PlayerStockData(0));
+        data.addPurchase(amount, price);
+        updatePortfolio(uuid, stocks);
+    }
+
+    private void applySale(UUID uuid, String stockId, int amount) {
+        if (isAlreadyApplied(uuid)) {
+            return;
+        }
+        Map<String, PlayerStockData> stocks = loadPlayer(uuid);
+        PlayerStockData data = stocks.get(stockId);
+        if (data == null) {
+            return;
+        }
+        data.removeSale(amount);
+        if (data.getAmount() <= 0) {
+            stocks.remove(stockId);
+        }
+        updatePortfolio(uuid, stocks);
+    }
+
+    private void applySetAmount(UUID uuid, String stockId, int amount) {
+        if (isAlreadyApplied(uuid)) {
+            return;
+        }
+        Map<String, PlayerStockData> stocks = loadPlayer(uuid);
+        if (amount <= 0) {
+            stocks.remove(stockId);
+        } else {
+            // 디버그용 강제 설정이므로 평단가는 0으로 초기화되거나 기존 유지?
+            // 여기선 새로 생성
+            stocks.put(stockId, new PlayerStockData(amount));
+        }
+        updatePortfolio(uuid, stocks);
+    }
+
+    private void applyClear(UUID uuid) {
+        if (isAlreadyApplied(uuid)) {
+            return;
+        }
+        // 항목을 지우면 다음 조회 때 이전 파일을 다시 읽으므로 빈 맵으로 교체
+        Map<String, PlayerStockData> stocks = new ConcurrentHashMap<>();
+        playerStocks.put(uuid, stocks);
+        updatePortfolio(uuid, stocks);
+    }
+
+    /**
+     * 저널 재생 중, 이 플레이어의 보유 파일에 현재 레코드가 이미 반영되어 있는지 확인
+     * (보유 파일은 저장되었지만 스냅샷 저장 전에 종료된 경우)
+     */
+    private boolean isAlreadyApplied(UUID uuid) {
+        if (!replaying) {
+            return false;
+        }
+        loadPlayer(uuid);
+        Long segment = shardSegments.get(uuid);
+        return segment != null && segment > replaySegment;
+    }
+
+    /**
+     * 보유 주식이 바뀐 플레이어의 평가액/순위 갱신 (다음 저장 때 파일에 기록)
+     */
+    private void updatePortfolio(UUID uuid, Map<String, PlayerStockData> stocks) {
+        dirtyPlayers.add(uuid);
+        if (replaying) {
+            return; // 재생이 끝난 뒤 한 번에 구성
+        }
+        portfolioIndex.update(uuid, stocks, prices);
+        leaderboard.update(uuid, portfolioIndex.get(uuid).totalValue());
+    }
+
+    /**
+     * 시세 변동 후 전체 평가액 재계산 및 순위 재정렬
+     * stateLock 밖에서 호출합니다. (전체 플레이어를 도는 동안 거래를 막지 않음)
+     * 재계산끼리는 repriceLock으로 순서를 맞추고, 항상 가장 최근 시세를 기준으로 하므로
+     * 시세를 교체한 뒤 이 메서드를 호출하면 마지막 재계산 결과는 최신 시세를 반영합니다.
+     */
+    private void repricePortfolios() {
+        synchronized (repriceLock) {
+            portfolioIndex.reprice(prices);
+            leaderboard.rebuild(portfolioIndex::getTotalValues);
+        }
+    }
+
+    /**
+     * 정기 시세 변동 적용 (가격 기록에 추가)
+     */
+    private void applyPriceTick(Map<String, Double> newPrices) {
+        for (Map.Entry<String, Double> entry : newPrices.entrySet()) {
+            getOrCreateHistory(entry.getKey()).add(entry.getValue());
+        }
+        prices = prices.withTick(newPrices);
+    }
+
+    private PriceHistory getOrCreateHistory(String stockId) {
+        return priceHistories.computeIfAbsent(stockId, k -> new PriceHistory(
+                plugin.getConfigManager().getStockHistoryDepth(),
+                plugin.getConfigManager().getStockCandleResolutions(),
+                plugin.getConfigManager().getStockCandleDepth()));
+    }
+
+    /**
+     * 관리자 가격 설정 적용 (가격 기록에는 추가하지 않음)
+     */
+    private void applyPrice(String stockId, double price) {
+        prices = prices.withPrice(stockId, price);
+    }
+
+    /**
+     * 지정가 주문 등록 (매도 주문은 주식을 먼저 보관)
+     */
+    private void applyOrderOpen(LimitOrder order) {
+        if (!order.isBuy()) {
+            applySale(order.getOwner(), order.getStockId(), order.getQuantity());
+        }
+        openOrders.put(order.getId(), order);
+        orderSequence.accumulateAndGet(order.getId(), Math::max);
+    }
+
+    /**
+     * 체결 적용 (매수자에게 체결가로 주식 지급, 양쪽 미체결 수량 차감)
+     * 돈 정산은 저널 대상이 아니므로 호출 측에서 처리합니다.
+     */
+    private void applyOrderFill(long buyOrderId, long sellOrderId, double price, int quantity) {
+        LimitOrder buyOrder = openOrders.get(buyOrderId);
+        LimitOrder sellOrder = openOrders.get(sellOrderId);
+        if (buyOrder != null) {
+            applyPurchase(buyOrder.getOwner(), buyOrder.getStockId(), quantity, price);
+            reduceOpenQuantity(buyOrder, quantity);
+        }
+        if (sellOrder != null) {
+            reduceOpenQuantity(sellOrder, quantity);
+        }
+    }
+
+    private void reduceOpenQuantity(LimitOrder order, int quantity) {
+        order.setOpenQuantity(order.getOpenQuantity() - quantity);
+        if (order.getOpenQuantity() <= 0) {
+            openOrders.remove(order.getId());
+        }
+    }
+
+    /**
+     * 주문 취소 적용 (매도 주문은 남은 주식을 보관 당시 평단가로 반환)
+     *
+     * @return 취소된 주문 (없으면 null)
+     */
+    private LimitOrder applyOrderCancel(long orderId) {
+        LimitOrder order = openOrders.remove(orderId);
+        if (order != null && !order.isBuy() && order.getOpenQuantity() > 0) {
+            applyPurchase(order.getOwner(), order.getStockId(), order.getOpenQuantity(),
+                    order.getEscrowAveragePrice());
+        }
+        return order;
+    }
+
+    private void setNextUpdateTime(long time) {
+        synchronized (stateLock) {
+            nextUpdateTime = time;
+            appendJournal(JOURNAL_NEXT_UPDATE, time);
+        }
     }
 
     /**
      * 초기 가격 설정
      */
     private void initializePrices() {
+        Map<String, Double> basePrices = new HashMap<>();
         for (StockConfig stock : plugin.getConfigManager().getStocks().values()) {
-            if (!currentPrices.containsKey(stock.getId())) {
-                currentPrices.put(stock.getId(), stock.getBasePrice());
-            }
-            previousPrices.put(stock.getId(), currentPrices.get(stock.getId()));
+            basePrices.put(stock.getId(), stock.getBasePrice());
+        }
+        synchronized (stateLock) {
+            prices = prices.withDefaults(basePrices);
         }
+        repricePortfolios();
     }
 
     /**
@@ -158,6 +614,8 @@ public class StockManager {
      * 서버 재시작 시에도 타이머가 이어서 진행됩니다.
      */
     public void startScheduler() {
+        startAutoSave();
+
         if (!plugin.getConfigManager().isStockSystemEnabled()) {
             return;
         }
@@ -178,7 +636,7 @@ public class StockManager {
         } else {
             // 저장된 시각이 과거이거나 없음 → 즉시 1회 업데이트 후 정상 간격
             initialDelayTicks = 1;
-            nextUpdateTime = now + (updateIntervalSeconds * 1000L);
+            setNextUpdateTime(now + (updateIntervalSeconds * 1000L));
             plugin.getLogger().info("주식 스케줄러: 업데이트 시각이 지남, 즉시 업데이트 실행");
         }
 
@@ -187,7 +645,7 @@ public class StockManager {
             public void run() {
                 updateAllPrices();
                 // 다음 업데이트 시간 갱신
-                nextUpdateTime = System.currentTimeMillis() + (updateIntervalSeconds * 1000L);
+                setNextUpdateTime(System.currentTimeMillis() + (updateIntervalSeconds * 1000L));
             }
         }.runTaskTimerAsynchronously(plugin, initialDelayTicks, intervalTicks);
 
@@ -202,272 +660,622 @@ public class StockManager {
         if (schedulerTask != null) {
             schedulerTask.cancel();
         }
+        if (saveTask != null) {
+            saveTask.cancel();
+            saveTask = null;
+        }
     }
 
     /**
-     * 모든 주식 가격 업데이트
+     * 자동 저장 태스크 시작
+     * 매수/매도마다 파일을 쓰지 않고, 변경이 있을 때만 주기적으로 한 번 저장합니다.
      */
-    public void updateAllPrices() {
-        if (!plugin.getConfigManager().isStockSystemEnabled()) {
-            return;
+    private void startAutoSave() {
+        if (saveTask != null) {
+            saveTask.cancel();
         }
 
-        for (StockConfig stock : plugin.getConfigManager().getStocks().values()) {
-            updatePrice(stock);
-        }
+        long intervalTicks = Math.max(1, plugin.getConfigManager().getStockSaveInterval()) * 20L;
+        saveTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
+            if (dirty.get()) {
+                flushAsync();
+            }
+        }, intervalTicks, intervalTicks);
+    }
 
-        // 데이터 저장
+    /**
+     * 종료 처리 (스케줄러 중지, 남은 변경 사항 저장, 쓰기 스레드 종료)
+     */
+    public void shutdown() {
+        stopScheduler();
+        orderEngine.shutdown();
+        priceBroadcaster.stop();
         saveAllData();
-
-        // 가격 변동 알림 전송
-        broadcastPriceUpdate();
-
-        plugin.debug("주식 가격이 업데이트되었습니다.");
+        journal.close();
+        fileWriter.shutdown();
     }
 
     /**
-     * 주식 가격 변동 알림 전송
+     * 모든 주식 가격 업데이트
      */
-    private void broadcastPriceUpdate() {
-        plugin.getServer().broadcastMessage(plugin.getConfigManager().getMessage("stock.price_update_header"));
-
-        List<StockConfig> stocks = plugin.getConfigManager().getAllStocksSorted();
-        for (StockConfig stock : stocks) {
-            plugin.getServer()
-                    .broadcastMessage(plugin.getConfigManager().getMessage("stock.price_update_entry",
-                            "stock", stock.getDisplayName(),
-                            "price", getFormattedPrice(stock.getId()),
-                            "change", getFormattedChange(stock.getId())));
+    public void updateAllPrices() {
+        if (!plugin.getConfigManager().isStockSystemEnabled()) {
+            return;
         }
 
-        plugin.getServer().broadcastMessage(plugin.getConfigManager().getMessage("stock.price_update_footer"));
-    }
-
-    // 평균 회귀 강도 (기준가로 돌아오는 힘)
-    private static final double REVERSION_STRENGTH = 0.1;
-    // 모멘텀 가중치 (최근 추세 반영)
-    private static final double MOMENTUM_WEIGHT = 0.3;
-    // 이벤트 발생 확률 (급등/급락)
-    private static final double EVENT_PROBABILITY = 0.05;
-    // 이벤트 배율 범위
-    private static final double EVENT_MIN_MULTIPLIER = 2.0;
-    private static final double EVENT_MAX_MULTIPLIER = 3.0;
-
-    /**
-     * 단일 주식 가격 업데이트 (현실적 시뮬레이션)
-     *
-     * 알고리즘 구성요소:
-     * 1. 랜덤 노이즈: 기본 변동성 기반 무작위 변동
-     * 2. 평균 회귀: basePrice로 돌아가려는 힘 (가격이 멀어질수록 강해짐)
-     * 3. 모멘텀: 최근 가격 추세를 반영 (상승/하락 관성)
-     * 4. 이벤트: 낮은 확률로 급등/급락 발생
-     * 5. 가격 보정: min/max 범위 내로 제한
-     */
-    private void updatePrice(StockConfig stock) {
-        double currentPrice = currentPrices.getOrDefault(stock.getId(), stock.getBasePrice());
-        previousPrices.put(stock.getId(), currentPrice);
-
-        double basePrice = stock.getBasePrice();
-        double volatility = stock.getVolatility();
-
-        // 1. 랜덤 노이즈 (-volatility ~ +volatility)
-        double noise = (random.nextDouble() * 2 - 1) * volatility;
-
-        // 2. 평균 회귀 (기준가에서 멀어질수록 되돌아오는 힘)
-        double reversion = 0;
-        if (basePrice > 0) {
-            reversion = ((basePrice - currentPrice) / basePrice) * REVERSION_STRENGTH;
-        }
-
-        // 3. 모멘텀 (최근 가격 추세 반영)
-        double momentum = 0;
-        List<Double> history = priceHistory.get(stock.getId());
-        if (history != null && history.size() >= 3) {
-            // 최근 3회 변동률 평균 계산
-            double sumChange = 0;
-            int count = 0;
-            for (int i = history.size() - 1; i >= Math.max(0, history.size() - 3) && i > 0; i--) {
-                double prevPrice = history.get(i - 1);
-                if (prevPrice > 0) {
-                    sumChange += (history.get(i) - prevPrice) / prevPrice;
-                    count++;
+        // 한 시점의 스냅샷을 기준으로 모든 종목의 새 가격 계산
+        PriceSnapshot base = prices;
+        Map<String, Double> newPrices = new LinkedHashMap<>();
+        double[] recent = new double[PriceEngine.WINDOW];
+        synchronized (priceEngine) {
+            for (StockConfig stock : plugin.getConfigManager().getStocks().values()) {
+                PriceHistory history = priceHistories.get(stock.getId());
+                int count = (history != null) ? history.copyLatest(recent) : 0;
+                double newPrice = priceEngine.next(PriceEngine.Params.of(stock),
+                        base.getCurrentPrice(stock.getId(), stock.getBasePrice()), recent, count);
+                if (priceEngine.getLastEventMultiplier() > 0) {
+                    plugin.debug("주식 이벤트 발생! " + stock.getDisplayName() +
+                            " 배율: " + String.format("%.1f", priceEngine.getLastEventMultiplier()));
                 }
+                newPrices.put(stock.getId(), newPrice);
             }
-            if (count > 0) {
-                momentum = (sumChange / count) * MOMENTUM_WEIGHT;
-            }
-        }
-
-        // 4. 최종 변동률 계산
-        double change = noise + reversion + momentum;
-
-        // 5. 이벤트 시스템 (낮은 확률로 급등/급락)
-        if (random.nextDouble() < EVENT_PROBABILITY) {
-            double eventMultiplier = EVENT_MIN_MULTIPLIER +
-                    random.nextDouble() * (EVENT_MAX_MULTIPLIER - EVENT_MIN_MULTIPLIER);
-            // 이벤트 방향은 기존 변동 방향 유지
-            change *= eventMultiplier;
-            plugin.debug("주식 이벤트 발생! " + stock.getDisplayName() +
-                    " 배율: " + String.format("%.1f", eventMultiplier));
         }
 
-        // 6. 새 가격 계산
-        double newPrice = currentPrice * (1 + change);
-
-        // 7. 최소/최대 가격 보정
-        double minPrice = stock.getMinPrice();
-        double maxPrice = stock.getMaxPrice();
-        if (minPrice > 0) {
-            newPrice = Math.max(minPrice, newPrice);
-        }
-        if (maxPrice > 0) {
-            newPrice = Math.min(maxPrice, newPrice);
+        // 새 스냅샷으로 한 번에 교체
+        synchronized (stateLock) {
+            applyPriceTick(newPrices);
+            for (Map.Entry<String, Double> entry : newPrices.entrySet()) {
+                appendJournal(JOURNAL_TICK, entry.getKey(), entry.getValue());
+            }
         }
+        repricePortfolios();
 
-        // 가격이 0 이하로 떨어지지 않도록 보장
-        newPrice = Math.max(0.1, newPrice);
+        // 변경 표시 (자동 저장 태스크가 저장)
+        markDirty();
 
-        currentPrices.put(stock.getId(), newPrice);
+        // 가격 변동 알림 전송 (구독 설정에 따라 나누어 전송)
+        priceBroadcaster.broadcast();
 
-        // 기록 업데이트
-        List<Double> priceList = priceHistory.computeIfAbsent(stock.getId(), k -> new ArrayList<>());
-        priceList.add(newPrice);
-        if (priceList.size() > 20) {
-            priceList.remove(0);
-        }
+        plugin.debug("주식 가격이 업데이트되었습니다.");
     }
 
     /**
      * 주식 매수
+     *
+     * @return 거래 결과 (메인 스레드에서 완료)
      */
-    public boolean buyStock(Player player, String stockId, int amount) {
+    public CompletableFuture<Boolean> buyStock(Player player, String stockId, int amount) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.STOCK_TRADE)) {
+            return CompletableFuture.completedFuture(false);
+        }
         if (!plugin.getConfigManager().isStockSystemEnabled()) {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
                     plugin.getConfigManager().getMessage("stock_disabled"));
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         StockConfig stock = plugin.getConfigManager().getStock(stockId);
         if (stock == null)
-            return false;
+            return CompletableFuture.completedFuture(false);
 
         double price = getCurrentPrice(stockId);
         double totalCost = price * amount;
 
-        // 돈 확인 및 차감
-        if (!plugin.getEconomy().has(player, totalCost)) {
+        // 돈 차감 -> 주식 추가 (주식 추가가 실패하면 환불)
+        return plugin.getSettlementEngine().debit(player, totalCost, () -> {
+            synchronized (stateLock) {
+                applyPurchase(player.getUniqueId(), stockId, amount, price);
+                appendJournal(JOURNAL_BUY, player.getUniqueId(), stockId, amount, price);
+            }
+            markDirty();
+            return true;
+        }, () -> {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
-                    plugin.getConfigManager().getMessage("stock.no_money", "amount", priceFormat.format(totalCost)));
+                    plugin.getConfigManager().getMessage("stock.buy_success",
+                            "stock", stock.getDisplayName(),
+                            "amount", String.valueOf(amount),
+                            "price", priceFormat.get().format(totalCost),
+                            "total", priceFormat.get().format(totalCost)));
+            plugin.getConfigManager().playSound(player, "buy");
+        }, failure -> {
+            if (failure == SettlementEngine.Failure.INSUFFICIENT_FUNDS) {
+                player.sendMessage(plugin.getConfigManager().getPrefix() +
+                        plugin.getConfigManager().getMessage("stock.no_money",
+                                "required", priceFormat.get().format(totalCost)));
+            } else {
+                player.sendMessage(plugin.getConfigManager().getPrefix() +
+                        plugin.getConfigManager().getMessage("general.transaction_failed"));
+            }
             plugin.getConfigManager().playSound(player, "error");
-            return false;
-        }
-
-        plugin.getEconomy().withdrawPlayer(player, totalCost);
-
-        // 주식 추가
-        Map<String, PlayerStockData> stocks = playerStocks.computeIfAbsent(player.getUniqueId(), k -> new HashMap<>());
-        PlayerStockData data = stocks.computeIfAbsent(stockId, k -> new PlayerStockData(0));
-        data.addPurchase(amount, price);
-
-        // 메시지 전송
-        player.sendMessage(plugin.getConfigManager().getPrefix() +
-                plugin.getConfigManager().getMessage("stock.buy_success",
-                        "stock", stock.getDisplayName(),
-                        "amount", String.valueOf(amount),
-                        "price", priceFormat.format(totalCost),
-                        "total", priceFormat.format(totalCost)));
-        plugin.getConfigManager().playSound(player, "buy");
-
-        saveAllData();
-        return true;
+        });
     }
 
     /**
      * 주식 매도
+     * 보유 수량은 정산 대기열 안에서 확인합니다. (앞서 대기 중이던 매도/주문이 반영된 수량 기준)
+     *
+     * @return 거래 결과 (메인 스레드에서 완료)
      */
-    public boolean sellStock(Player player, String stockId, int amount) {
+    public CompletableFuture<Boolean> sellStock(Player player, String stockId, int amount) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.STOCK_TRADE)) {
+            return CompletableFuture.completedFuture(false);
+        }
         if (!plugin.getConfigManager().isStockSystemEnabled()) {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
                     plugin.getConfigManager().getMessage("stock_disabled"));
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         StockConfig stock = plugin.getConfigManager().getStock(stockId);
         if (stock == null)
-            return false;
-
-        Map<String, PlayerStockData> stocks = playerStocks.get(player.getUniqueId());
-        PlayerStockData data = (stocks != null) ? stocks.get(stockId) : null;
+            return CompletableFuture.completedFuture(false);
 
-        if (data == null || data.getAmount() < amount) {
+        double price = getCurrentPrice(stockId);
+        double totalEarnings = price * amount;
+        UUID uuid = player.getUniqueId();
+        double[] averagePrice = new double[1];
+
+        // 주식 차감 -> 돈 지급 (지급이 실패하면 차감한 주식을 같은 평단가로 되돌림)
+        return plugin.getSettlementEngine().credit(player, totalEarnings, () -> {
+            synchronized (stateLock) {
+                if (getPlayerStockAmount(uuid, stockId) < amount) {
+                    return false;
+                }
+                averagePrice[0] = getPlayerAveragePrice(uuid, stockId);
+                applySale(uuid, stockId, amount);
+                appendJournal(JOURNAL_SELL, uuid, stockId, amount, price);
+            }
+            markDirty();
+            return true;
+        }, () -> {
+            synchronized (stateLock) {
+                applyPurchase(uuid, stockId, amount, averagePrice[0]);
+                appendJournal(JOURNAL_BUY, uuid, stockId, amount, averagePrice[0]);
+            }
+            markDirty();
+        }, () -> {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
-                    plugin.getConfigManager().getMessage("stock.no_stocks"));
+                    plugin.getConfigManager().getMessage("stock.sell_success",
+                            "stock", stock.getDisplayName(),
+                            "amount", String.valueOf(amount),
+                            "price", priceFormat.get().format(totalEarnings),
+                            "total", priceFormat.get().format(totalEarnings)));
+            plugin.getConfigManager().playSound(player, "sell");
+        }, failure -> {
+            player.sendMessage(plugin.getConfigManager().getPrefix() + plugin.getConfigManager().getMessage(
+                    failure == SettlementEngine.Failure.REJECTED ? "stock.no_stocks" : "general.transaction_failed"));
             plugin.getConfigManager().playSound(player, "error");
+        });
+    }
+
+    // =====================
+    // 지정가 주문
+    // =====================
+
+    /**
+     * 지정가 주문 등록
+     * 매수는 지정가 기준 금액을, 매도는 주식을 먼저 보관한 뒤 매칭 스레드로 넘깁니다.
+     * 미체결 주문 수와 보유 수량은 정산 대기열 안에서 확인합니다. (앞서 대기 중이던 주문/거래가 반영된 상태 기준)
+     *
+     * @return 등록 결과 (메인 스레드에서 완료)
+     */
+    public CompletableFuture<Boolean> placeLimitOrder(Player player, String stockId, LimitOrder.Side side,
+            int amount, double limitPrice) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.STOCK_TRADE)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        ConfigManager config = plugin.getConfigManager();
+        if (!config.isStockSystemEnabled()) {
+            player.sendMessage(config.getPrefix() + config.getMessage("stock_disabled"));
+            return CompletableFuture.completedFuture(false);
+        }
+
+        StockConfig stock = config.getStock(stockId);
+        if (stock == null)
+            return CompletableFuture.completedFuture(false);
+
+        // 가격은 표시 단위(0.1)로 맞춤
+        double price = Math.round(limitPrice * 10) / 10.0;
+        if (!(price > 0) || Double.isInfinite(price)) {
+            // 0.05 미만은 0원 주문이 되므로 거부
+            player.sendMessage(config.getPrefix() + config.getMessage("stock.order_invalid_price",
+                    "min", priceFormat.get().format(0.1)));
+            config.playSound(player, "error");
+            return CompletableFuture.completedFuture(false);
+        }
+
+        UUID uuid = player.getUniqueId();
+        double totalCost = price * amount;
+        long[] orderId = new long[1];
+        String[] rejection = new String[1];
+        Runnable onPlaced = () -> {
+            player.sendMessage(config.getPrefix() + config.getMessage("stock.order_placed",
+                    "id", String.valueOf(orderId[0]),
+                    "stock", stock.getDisplayName(),
+                    "side", side.getDisplayName(),
+                    "amount", String.valueOf(amount),
+                    "price", priceFormat.get().format(price)));
+            config.playSound(player, side == LimitOrder.Side.BUY ? "buy" : "sell");
+        };
+        Consumer<SettlementEngine.Failure> onFailure = failure -> {
+            if (rejection[0] != null) {
+                player.sendMessage(config.getPrefix() + config.getMessage(rejection[0],
+                        "max", String.valueOf(config.getStockMaxOpenOrders())));
+            } else if (failure == SettlementEngine.Failure.INSUFFICIENT_FUNDS) {
+                player.sendMessage(config.getPrefix() + config.getMessage("stock.no_money",
+                        "required", priceFormat.get().format(totalCost)));
+            } else {
+                player.sendMessage(config.getPrefix() + config.getMessage("general.transaction_failed"));
+            }
+            config.playSound(player, "error");
+        };
+
+        if (side == LimitOrder.Side.BUY) {
+            // 지정가 기준 금액을 먼저 보관 -> 주문 수 확인 -> 주문 등록 (주문 수를 넘으면 환불)
+            return plugin.getSettlementEngine().debit(player, totalCost, () -> {
+                if (getOpenOrders(uuid).size() >= config.getStockMaxOpenOrders()) {
+                    rejection[0] = "stock.order_limit";
+                    return false;
+                }
+                orderId[0] = openLimitOrder(uuid, stockId, side, price, amount, 0);
+                return true;
+            }, onPlaced, onFailure);
+        }
+
+        // 매도는 돈 이동이 없지만 같은 플레이어의 매도/주문과 순서를 맞추기 위해 대기열을 거침
+        return plugin.getSettlementEngine().credit(player, 0, () -> {
+            if (getOpenOrders(uuid).size() >= config.getStockMaxOpenOrders()) {
+                rejection[0] = "stock.order_limit";
+                return false;
+            }
+            if (getPlayerStockAmount(uuid, stockId) < amount) {
+                rejection[0] = "stock.no_stocks";
+                return false;
+            }
+            orderId[0] = openLimitOrder(uuid, stockId, side, price, amount, getPlayerAveragePrice(uuid, stockId));
+            return true;
+        }, () -> {
+            // 지급액이 없으므로 지급 실패로 되돌릴 일이 없음
+        }, onPlaced, onFailure);
+    }
+
+    /**
+     * 주문 등록 후 매칭 스레드로 전달 (매도 주문은 주식을 보관)
+     *
+     * @return 주문 번호
+     */
+    private long openLimitOrder(UUID uuid, String stockId, LimitOrder.Side side, double price, int amount,
+            double escrowAveragePrice) {
+        LimitOrder order = new LimitOrder(orderSequence.incrementAndGet(), uuid, stockId, side, price, amount,
+                amount, System.currentTimeMillis(), escrowAveragePrice);
+        synchronized (stateLock) {
+            applyOrderOpen(order);
+            appendJournal(JOURNAL_ORDER_OPEN, order.getId(), uuid, stockId, side.name(), price, amount,
+                    escrowAveragePrice);
+        }
+        markDirty();
+        orderEngine.submit(order, this::settleFills);
+        return order.getId();
+    }
+
+    /**
+     * 지정가 주문 취소 (이미 체결된 부분은 그대로 유지)
+     */
+    public boolean cancelLimitOrder(Player player, long orderId) {
+        if (!plugin.getRateLimiter().tryAcquire(player, RateLimiter.Action.STOCK_TRADE)) {
+            return false;
+        }
+        ConfigManager config = plugin.getConfigManager();
+        LimitOrder order = openOrders.get(orderId);
+        if (order == null || !order.getOwner().equals(player.getUniqueId())) {
+            player.sendMessage(config.getPrefix() + config.getMessage("stock.order_not_found",
+                    "id", String.valueOf(orderId)));
             return false;
         }
 
-        double price = getCurrentPrice(stockId);
-        double totalEarnings = price * amount;
+        orderEngine.cancel(order.getStockId(), orderId, cancelled -> {
+            // 매칭 전에 리로드 등으로 주문이 교체된 경우도 무시
+            if (cancelled == null || openOrders.get(orderId) != cancelled) {
+                player.sendMessage(config.getPrefix() + config.getMessage("stock.order_not_found",
+                        "id", String.valueOf(orderId)));
+                return;
+            }
 
-        // 주식 차감
-        data.removeSale(amount);
-        if (data.getAmount() <= 0) {
-            stocks.remove(stockId);
+            int openQuantity = cancelled.getOpenQuantity();
+            synchronized (stateLock) {
+                applyOrderCancel(orderId);
+                appendJournal(JOURNAL_ORDER_CANCEL, orderId);
+            }
+            if (cancelled.isBuy()) {
+                plugin.getSettlementEngine().payout(player, cancelled.getLimitPrice() * openQuantity,
+                        "지정가 주문 취소 #" + orderId);
+            }
+            markDirty();
+
+            if (player.isOnline()) {
+                player.sendMessage(config.getPrefix() + config.getMessage("stock.order_cancelled",
+                        "id", String.valueOf(orderId),
+                        "amount", String.valueOf(openQuantity)));
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 체결 정산 (메인 스레드)
+     * - 매수자: 체결가로 주식 지급, 지정가와 체결가의 차액 환불
+     * - 매도자: 체결 금액 지급
+     */
+    private void settleFills(List<OrderFill> fills) {
+        // 접속하지 않은 매수자의 보유 데이터는 메인 스레드를 막지 않고 읽은 뒤 정산 (체결 순서 유지)
+        List<CompletableFuture<Map<String, PlayerStockData>>> loads = new ArrayList<>();
+        for (OrderFill fill : fills) {
+            UUID buyer = fill.buyOrder().getOwner();
+            if (!playerStocks.containsKey(buyer)) {
+                loads.add(loadPlayerAsync(buyer));
+            }
         }
+        if (loads.isEmpty() && settlementTail.isDone()) {
+            applyFills(fills);
+            return;
+        }
+        CompletableFuture<?>[] waits = loads.toArray(new CompletableFuture<?>[0]);
+        settlementTail = settlementTail
+                .thenCompose(ignored -> CompletableFuture.allOf(waits))
+                .exceptionally(e -> {
+                    // 읽지 못한 매수자는 정산 중에 저장소에서 다시 읽음
+                    plugin.getLogger().warning("체결 정산 전 주식 보유 데이터 읽기 실패: " + e.getMessage());
+                    return null;
+                })
+                .thenRun(() -> applyFills(fills))
+                .exceptionally(e -> {
+                    plugin.getLogger().severe("지정가 체결 정산 실패: " + e.getMessage());
+                    return null;
+                });
+    }
 
-        // 돈 지급
-        plugin.getEconomy().depositPlayer(player, totalEarnings);
+    private void applyFills(List<OrderFill> fills) {
+        for (OrderFill fill : fills) {
+            LimitOrder buyOrder = fill.buyOrder();
+            LimitOrder sellOrder = fill.sellOrder();
+            // 리로드 이전의 체결 결과는 무시 (새 주문 객체로 다시 매칭됨)
+            if (openOrders.get(buyOrder.getId()) != buyOrder || openOrders.get(sellOrder.getId()) != sellOrder) {
+                continue;
+            }
+
+            synchronized (stateLock) {
+                applyOrderFill(buyOrder.getId(), sellOrder.getId(), fill.price(), fill.quantity());
+                appendJournal(JOURNAL_ORDER_FILL, buyOrder.getId(), sellOrder.getId(), fill.price(),
+                        fill.quantity());
+            }
+
+            OfflinePlayer buyer = plugin.getServer().getOfflinePlayer(buyOrder.getOwner());
+            OfflinePlayer seller = plugin.getServer().getOfflinePlayer(sellOrder.getOwner());
+            double refund = (buyOrder.getLimitPrice() - fill.price()) * fill.quantity();
+            plugin.getSettlementEngine().payout(buyer, refund, "지정가 체결 차액 #" + buyOrder.getId());
+            plugin.getSettlementEngine().payout(seller, fill.price() * fill.quantity(),
+                    "지정가 체결 대금 #" + sellOrder.getId());
+
+            notifyFill(buyer, buyOrder, fill);
+            notifyFill(seller, sellOrder, fill);
+        }
+        markDirty();
+    }
 
-        // 메시지 전송
+    private void notifyFill(OfflinePlayer owner, LimitOrder order, OrderFill fill) {
+        Player player = owner.getPlayer();
+        if (player == null) {
+            return;
+        }
+        StockConfig stock = plugin.getConfigManager().getStock(order.getStockId());
         player.sendMessage(plugin.getConfigManager().getPrefix() +
-                plugin.getConfigManager().getMessage("stock.sell_success",
-                        "stock", stock.getDisplayName(),
-                        "amount", String.valueOf(amount),
-                        "price", priceFormat.format(totalEarnings),
-                        "total", priceFormat.format(totalEarnings)));
-        plugin.getConfigManager().playSound(player, "sell");
+                plugin.getConfigManager().getMessage("stock.order_filled",
+                        "id", String.valueOf(order.getId()),
+                        "stock", (stock != null) ? stock.getDisplayName() : order.getStockId(),
+                        "side", order.getSide().getDisplayName(),
+                        "amount", String.valueOf(fill.quantity()),
+                        "price", priceFormat.get().format(fill.price()),
+                        "open", String.valueOf(order.getOpenQuantity())));
+    }
 
-        saveAllData();
-        return true;
+    /**
+     * 저장된 미체결 주문을 접수 순서대로 호가창에 다시 등록
+     */
+    private void restoreOrderBook() {
+        orderEngine.clear();
+        List<LimitOrder> orders = new ArrayList<>(openOrders.values());
+        orders.sort(Comparator.comparingLong(LimitOrder::getId));
+        for (LimitOrder order : orders) {
+            orderEngine.submit(order, this::settleFills);
+        }
+        if (!orders.isEmpty()) {
+            plugin.getLogger().info("미체결 지정가 주문 복원: " + orders.size() + "건");
+        }
     }
 
     /**
-     * 모든 데이터 저장
+     * 플레이어의 미체결 주문 목록 (주문번호 순)
      */
-    public synchronized void saveAllData() {
-        // 가격 저장
-        for (Map.Entry<String, Double> entry : currentPrices.entrySet()) {
-            dataConfig.set("prices." + entry.getKey(), entry.getValue());
+    public List<LimitOrder> getOpenOrders(UUID uuid) {
+        List<LimitOrder> orders = new ArrayList<>();
+        for (LimitOrder order : openOrders.values()) {
+            if (order.getOwner().equals(uuid)) {
+                orders.add(order);
+            }
         }
+        orders.sort(Comparator.comparingLong(LimitOrder::getId));
+        return orders;
+    }
+
+    /**
+     * 데이터 변경 표시
+     * 실제 저장은 자동 저장 태스크 또는 종료 시점에 한 번에 수행됩니다.
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * 모든 데이터 저장 (동기)
+     * 대기 중인 비동기 저장까지 모두 끝난 뒤 반환합니다.
+     */
+    public void saveAllData() {
+        flushAsync();
+        priceBroadcaster.save();
+        fileWriter.flush();
+    }
 
-        // 가격 기록 저장
-        for (Map.Entry<String, List<Double>> entry : priceHistory.entrySet()) {
-            dataConfig.set("history." + entry.getKey(), entry.getValue());
+    /**
+     * 현재 상태의 스냅샷을 만들어 쓰기 스레드에 저장 요청
+     * - 스냅샷 복사는 호출 스레드에서 수행 (짧은 복사)
+     * - YAML 직렬화와 파일 쓰기는 쓰기 스레드에서 수행
+     */
+    private void flushAsync() {
+        dirty.set(false);
+        StockDataSnapshot snapshot;
+        synchronized (stateLock) {
+            // 스냅샷 이후의 변경은 새 저널 세그먼트에 기록
+            snapshot = createSnapshot(journal.rotate());
+            evictOfflinePlayers();
         }
+        StockStorage target = storage;
+        JournalFile snapshotJournal = journal;
+
+        fileWriter.execute(() -> {
+            // 플레이어 보유 현황을 먼저 기록 (하나라도 실패하면 스냅샷/저널 정리를 미룸)
+            if (!saveShards(target, snapshot)) {
+                dirty.set(true);
+                return;
+            }
+            try {
+                target.saveSnapshot(snapshot.data());
+                // 스냅샷에 반영된 세그먼트 정리 (보관 또는 삭제)
+                snapshotJournal.retireSegmentsBefore(snapshot.data().journalSegment(), getJournalArchiveFolder());
+                cleanupJournalArchive();
+            } catch (IOException e) {
+                dirty.set(true); // 다음 주기에 다시 시도
+                plugin.getLogger().severe("주식 데이터 저장 실패: " + e.getMessage());
+            }
+        });
+    }
 
-        // 다음 업데이트 시각 저장
-        dataConfig.set("nextUpdateTime", nextUpdateTime);
+    /**
+     * 변경된 플레이어의 보유 현황 기록 (쓰기 스레드)
+     * 실패한 플레이어는 다음 저장 때 다시 기록하도록 표시합니다.
+     *
+     * @return 모두 성공하면 true
+     */
+    private boolean saveShards(StockStorage target, StockDataSnapshot snapshot) {
+        Set<UUID> failed = target.savePlayers(snapshot.players(), snapshot.data().journalSegment());
+        dirtyPlayers.addAll(failed); // savingPlayers에서 빠지기 전에 표시 (그 사이 메모리에서 내리지 않도록)
+        savingPlayers.removeAll(snapshot.players().keySet());
+        return failed.isEmpty();
+    }
 
-        // 플레이어 데이터 저장
-        dataConfig.set("players", null); // 기존 데이터 초기화
-        for (Map.Entry<UUID, Map<String, PlayerStockData>> playerEntry : playerStocks.entrySet()) {
-            Map<String, PlayerStockData> stocks = playerEntry.getValue();
-            if (stocks == null || stocks.isEmpty()) // 빈 데이터는 저장하지 않음
+    /**
+     * 접속하지 않은 플레이어의 보유 데이터를 메모리에서 내림 (stateLock 안에서 호출)
+     * 아직 파일에 기록되지 않았거나, 이번 저장 주기에 읽은 플레이어는 다음 주기로 미룹니다.
+     */
+    private void evictOfflinePlayers() {
+        int evicted = 0;
+        Iterator<UUID> iterator = playerStocks.keySet().iterator();
+        while (iterator.hasNext()) {
+            UUID uuid = iterator.next();
+            if (dirtyPlayers.contains(uuid) || savingPlayers.contains(uuid) || recentlyLoaded.contains(uuid)
+                    || plugin.getServer().getPlayer(uuid) != null) {
                 continue;
-            for (Map.Entry<String, PlayerStockData> stockEntry : stocks.entrySet()) {
-                String path = "players." + playerEntry.getKey().toString() + "." + stockEntry.getKey();
-                PlayerStockData data = stockEntry.getValue();
-                dataConfig.set(path + ".amount", data.getAmount());
-                dataConfig.set(path + ".averagePrice", data.getAveragePrice());
-                dataConfig.set(path + ".totalInvested", data.getTotalInvested());
             }
+            iterator.remove();
+            evicted++;
         }
+        recentlyLoaded.clear();
+        if (evicted > 0) {
+            plugin.debug("접속 종료한 플레이어 주식 데이터 " + evicted + "명을 메모리에서 내렸습니다.");
+        }
+    }
 
-        try {
-            dataConfig.save(dataFile);
-        } catch (IOException e) {
-            plugin.getLogger().severe("주식 데이터 저장 실패: " + e.getMessage());
+    /**
+     * 저장용 스냅샷 생성 (깊은 복사)
+     * 플레이어 보유 데이터는 마지막 저장 이후 바뀐 플레이어만 복사합니다.
+     */
+    private StockDataSnapshot createSnapshot(long journalSegment) {
+        // 시세 스냅샷은 불변이므로 그대로 사용
+        PriceSnapshot priceSnapshot = prices;
+
+        Map<UUID, Map<String, PlayerStockData>> playersCopy = new HashMap<>();
+        for (UUID uuid : dirtyPlayers) {
+            Map<String, PlayerStockData> stocks = playerStocks.get(uuid);
+            Map<String, PlayerStockData> stocksCopy = new HashMap<>();
+            if (stocks != null) {
+                for (Map.Entry<String, PlayerStockData> stockEntry : stocks.entrySet()) {
+                    stocksCopy.put(stockEntry.getKey(), stockEntry.getValue().copy());
+                }
+            }
+            playersCopy.put(uuid, stocksCopy);
         }
+        savingPlayers.addAll(playersCopy.keySet());
+        dirtyPlayers.removeAll(playersCopy.keySet());
+
+        // 가격 기록/캔들 복사 (배열 복사라 짧음)
+        Map<String, double[]> historyCopy = new HashMap<>();
+        Map<String, Map<Integer, double[]>> candleCopy = new HashMap<>();
+        for (Map.Entry<String, PriceHistory> entry : priceHistories.entrySet()) {
+            PriceHistory history = entry.getValue();
+            historyCopy.put(entry.getKey(), history.toArray());
+            Map<Integer, double[]> candles = new HashMap<>();
+            for (int i = 0; i < history.getCandleSeriesCount(); i++) {
+                candles.put(history.getCandleResolution(i), history.getCandleData(i));
+            }
+            candleCopy.put(entry.getKey(), candles);
+        }
+
+        // 미체결 주문 복사 (미체결 수량만 바뀌므로 값만 복사)
+        List<LimitOrder> ordersCopy = new ArrayList<>();
+        for (LimitOrder order : openOrders.values()) {
+            ordersCopy.add(new LimitOrder(order.getId(), order.getOwner(), order.getStockId(), order.getSide(),
+                    order.getLimitPrice(), order.getQuantity(), order.getOpenQuantity(), order.getCreatedTime(),
+                    order.getEscrowAveragePrice()));
+        }
+
+        return new StockDataSnapshot(new StockDataCodec.StockData(priceSnapshot.getCurrentPrices(), historyCopy,
+                candleCopy, nextUpdateTime, journalSegment, portfolioIndex.export(), ordersCopy, orderSequence.get()),
+                playersCopy);
+    }
+
+    /**
+     * 저널 보관 폴더 (보관 기간이 0이면 보관하지 않고 삭제)
+     */
+    private File getJournalArchiveFolder() {
+        return plugin.getConfigManager().getStockJournalArchiveDays() > 0
+                ? new File(journalFolder, "archive")
+                : null;
+    }
+
+    /**
+     * 보관 기간이 지난 저널 파일 삭제
+     */
+    private void cleanupJournalArchive() {
+        File archiveFolder = getJournalArchiveFolder();
+        File[] files = (archiveFolder != null) ? archiveFolder.listFiles() : null;
+        if (files == null) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis()
+                - plugin.getConfigManager().getStockJournalArchiveDays() * 24L * 60 * 60 * 1000;
+        for (File file : files) {
+            if (file.lastModified() < cutoff && !file.delete()) {
+                plugin.getLogger().warning("보관 기간이 지난 주식 저널 삭제 실패: " + file.getName());
+            }
+        }
+    }
+
+    /**
+     * 저장용 스냅샷
+     *
+     * @param players 마지막 저장 이후 바뀐 플레이어의 보유 데이터 (플레이어 단위로 기록)
+     */
+    private record StockDataSnapshot(StockDataCodec.StockData data,
+            Map<UUID, Map<String, PlayerStockData>> players) {
     }
 
     /**
@@ -475,35 +1283,47 @@ public class StockManager {
      */
     public void reload() {
         stopScheduler();
+        saveAllData(); // 저장되지 않은 변경 사항을 먼저 기록
         loadData(); // 데이터 다시 로드
         initializePrices();
+        restoreOrderBook();
         startScheduler();
+
+        // 접속 중인 플레이어의 보유 데이터는 메인 스레드를 막지 않고 다시 읽어 둠
+        for (Player online : plugin.getServer().getOnlinePlayers()) {
+            loadPlayerAsync(online.getUniqueId());
+        }
     }
 
     // Getter 및 Setter 메서드들
     public double getCurrentPrice(String stockId) {
-        return currentPrices.getOrDefault(stockId, 0.0);
+        return prices.getCurrentPrice(stockId, 0.0);
     }
 
     /**
      * 현재 가격 수동 설정 (관리자용)
      */
     public void setCurrentPrice(String stockId, double price) {
-        previousPrices.put(stockId, currentPrices.getOrDefault(stockId, price));
-        currentPrices.put(stockId, price);
+        synchronized (stateLock) {
+            applyPrice(stockId, price);
+            appendJournal(JOURNAL_PRICE, stockId, price);
+        }
+        repricePortfolios();
+        markDirty();
     }
 
     public double getPreviousPrice(String stockId) {
-        return previousPrices.getOrDefault(stockId, 0.0);
+        return prices.getPreviousPrice(stockId, 0.0);
     }
 
     public String getFormattedPrice(String stockId) {
-        return priceFormat.format(getCurrentPrice(stockId));
+        return priceFormat.get().format(getCurrentPrice(stockId));
     }
 
     public String getFormattedChange(String stockId) {
-        double current = getCurrentPrice(stockId);
-        double previous = getPreviousPrice(stockId);
+        PriceSnapshot snapshot = prices;
+        double current = snapshot.getCurrentPrice(stockId, 0.0);
+        double previous = snapshot.getPreviousPrice(stockId, 0.0);
         double change = current - previous;
         double changePercent = (previous > 0) ? (change / previous * 100) : 0;
 
@@ -516,67 +1336,193 @@ public class StockManager {
      * 상승: 양수, 하락: 음수
      */
     public double getChangePercent(String stockId) {
-        double current = getCurrentPrice(stockId);
-        double previous = getPreviousPrice(stockId);
+        PriceSnapshot snapshot = prices;
+        double current = snapshot.getCurrentPrice(stockId, 0.0);
+        double previous = snapshot.getPreviousPrice(stockId, 0.0);
         if (previous <= 0)
             return 0;
         return ((current - previous) / previous) * 100;
     }
 
     public int getPlayerStockAmount(UUID uuid, String stockId) {
-        Map<String, PlayerStockData> stocks = playerStocks.get(uuid);
-        return (stocks != null && stocks.containsKey(stockId)) ? stocks.get(stockId).getAmount() : 0;
+        PlayerStockData data = getPlayerStockData(uuid, stockId);
+        return (data != null) ? data.getAmount() : 0;
     }
 
     public double getPlayerAveragePrice(UUID uuid, String stockId) {
+        PlayerStockData data = getPlayerStockData(uuid, stockId);
+        return (data != null) ? data.getAveragePrice() : 0;
+    }
+
+    private PlayerStockData getPlayerStockData(UUID uuid, String stockId) {
+        return loadPlayer(uuid).get(stockId);
+    }
+
+    /**
+     * 플레이어 보유 데이터 (메모리에 없으면 저장소에서 읽고 기다림)
+     * 접속 전(AsyncPlayerPreLoginEvent)에 미리 호출해 두면 메인 스레드에서 파일을 읽지 않습니다.
+     * 접속하지 않은 플레이어를 메인 스레드에서 조회할 때는 loadPlayerAsync를 사용합니다.
+     */
+    public Map<String, PlayerStockData> loadPlayer(UUID uuid) {
+        return playerStocks.computeIfAbsent(uuid, this::readShard);
+    }
+
+    /**
+     * 플레이어 보유 데이터를 메인 스레드를 막지 않고 읽음 (이미 메모리에 있으면 바로 완료)
+     * 메인 스레드에서 호출하며, 결과도 메인 스레드에서 완료됩니다.
+     */
+    public CompletableFuture<Map<String, PlayerStockData>> loadPlayerAsync(UUID uuid) {
+        Map<String, PlayerStockData> loaded = playerStocks.get(uuid);
+        if (loaded != null) {
+            return CompletableFuture.completedFuture(loaded);
+        }
+        CompletableFuture<Map<String, PlayerStockData>> pending = pendingLoads.get(uuid);
+        if (pending != null) {
+            return pending;
+        }
+
+        CompletableFuture<Map<String, PlayerStockData>> result = new CompletableFuture<>();
+        pendingLoads.put(uuid, result);
+        storage.loadPlayerAsync(uuid, fileWriter::execute).whenComplete((shard, error) -> {
+            if (!plugin.isEnabled()) {
+                return;
+            }
+            plugin.getServer().getScheduler().runTask(plugin, () -> {
+                pendingLoads.remove(uuid, result);
+                if (error != null) {
+                    result.completeExceptionally(error);
+                    return;
+                }
+                // 읽는 동안 다른 경로로 먼저 올라왔으면 메모리의 데이터를 그대로 사용
+                result.complete(playerStocks.computeIfAbsent(uuid, key -> installShard(key, shard)));
+            });
+        });
+        return result;
+    }
+
+    /**
+     * 메모리에 올라온 플레이어의 보유 데이터 (없으면 null, 저장소를 읽지 않음)
+     */
+    public Map<String, PlayerStockData> getLoadedPlayerStocks(UUID uuid) {
         Map<String, PlayerStockData> stocks = playerStocks.get(uuid);
-        return (stocks != null && stocks.containsKey(stockId)) ? stocks.get(stockId).getAveragePrice() : 0;
+        return (stocks != null) ? Collections.unmodifiableMap(stocks) : null;
+    }
+
+    private Map<String, PlayerStockData> readShard(UUID uuid) {
+        return installShard(uuid, storage.loadPlayer(uuid));
+    }
+
+    private Map<String, PlayerStockData> installShard(UUID uuid, PlayerStockStore.Shard shard) {
+        if (replaying) {
+            shardSegments.put(uuid, shard.journalSegment());
+        }
+        recentlyLoaded.add(uuid);
+        return new ConcurrentHashMap<>(shard.holdings());
+    }
+
+    /**
+     * 메모리에 올라온 플레이어 수
+     */
+    public int getLoadedPlayerCount() {
+        return playerStocks.size();
+    }
+
+    /**
+     * 종목별 보유자 수/총 보유 수량 (접속하지 않은 플레이어 포함)
+     */
+    public List<PortfolioIndex.StockHolders> getHolderStats() {
+        return portfolioIndex.getHolderStats();
+    }
+
+    /**
+     * 보유 주식이 있는 전체 플레이어 수
+     */
+    public int getIndexedPlayerCount() {
+        return portfolioIndex.size();
     }
 
     /**
      * 플레이어 주식 수량 설정 (디버그용)
      */
     public void setPlayerStockAmount(UUID uuid, String stockId, int amount) {
-        Map<String, PlayerStockData> stocks = playerStocks.computeIfAbsent(uuid, k -> new HashMap<>());
-        if (amount <= 0) {
-            stocks.remove(stockId);
-        } else {
-            // 디버그용 강제 설정이므로 평단가는 0으로 초기화되거나 기존 유지?
-            // 여기선 새로 생성
-            stocks.put(stockId, new PlayerStockData(amount));
+        synchronized (stateLock) {
+            applySetAmount(uuid, stockId, amount);
+            appendJournal(JOURNAL_SET, uuid, stockId, amount);
         }
-        saveAllData();
+        markDirty();
     }
 
     /**
      * 플레이어 모든 주식 초기화 (디버그용)
      */
     public void clearPlayerStocks(UUID uuid) {
-        playerStocks.remove(uuid);
-        saveAllData();
+        synchronized (stateLock) {
+            applyClear(uuid);
+            appendJournal(JOURNAL_CLEAR, uuid);
+        }
+        markDirty();
     }
 
     public Map<String, PlayerStockData> getPlayerStocks(UUID uuid) {
-        return playerStocks.getOrDefault(uuid, new HashMap<>());
+        return Collections.unmodifiableMap(loadPlayer(uuid));
+    }
+
+    /**
+     * 플레이어 포트폴리오 평가 (캐시 조회, O(1))
+     */
+    public PortfolioIndex.Valuation getPortfolio(UUID uuid) {
+        return portfolioIndex.get(uuid);
+    }
+
+    /**
+     * 플레이어의 종목 보유 수량 (캐시 조회, 보유 데이터를 읽지 않으므로 표시용으로 사용)
+     */
+    public int getHeldAmount(UUID uuid, String stockId) {
+        return portfolioIndex.getAmount(uuid, stockId);
+    }
+
+    /**
+     * 플레이어의 보유 현황 (캐시 조회, 보유 주식이 없으면 null)
+     */
+    public PortfolioIndex.Holdings getHoldings(UUID uuid) {
+        return portfolioIndex.getHoldings(uuid);
+    }
+
+    public StockLeaderboard getLeaderboard() {
+        return leaderboard;
     }
 
     public List<Double> getPriceHistory(String stockId) {
-        return priceHistory.getOrDefault(stockId, new ArrayList<>());
+        PriceHistory history = priceHistories.get(stockId);
+        return (history != null) ? history.toList() : Collections.emptyList();
+    }
+
+    public PriceBroadcaster getPriceBroadcaster() {
+        return priceBroadcaster;
+    }
+
+    /**
+     * 종목의 가격 기록/캔들 (기록이 없으면 null)
+     */
+    public PriceHistory getPriceHistoryData(String stockId) {
+        return priceHistories.get(stockId);
     }
 
     /**
      * 최근 N회의 변동 추세를 아이콘 스트링으로 반환합니다.
      */
     public String getTrendIcons(String stockId, int limit) {
-        List<Double> history = getPriceHistory(stockId);
-        if (history.size() < 2)
+        PriceHistory history = priceHistories.get(stockId);
+        int size = (history != null) ? history.size() : 0;
+        if (size < 2)
             return "§8-";
 
+        // 링 버퍼에서 직접 읽음 (목록 복사 없음)
         StringBuilder sb = new StringBuilder();
-        int start = Math.max(0, history.size() - limit);
-        for (int i = start + 1; i < history.size(); i++) {
-            double prev = history.get(i - 1);
-            double curr = history.get(i);
+        int count = Math.min(limit, size);
+        for (int back = count - 2; back >= 0; back--) {
+            double prev = history.getLatest(back + 1);
+            double curr = history.getLatest(back);
             if (curr > prev)
                 sb.append("§a▲ ");
             else if (curr < prev)
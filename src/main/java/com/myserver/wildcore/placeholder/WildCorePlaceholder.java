@@ -1,11 +1,15 @@
 package com.myserver.wildcore.placeholder;
 
 import com.myserver.wildcore.WildCore;
-import com.myserver.wildcore.config.StockConfig;
+import com.myserver.wildcore.bank.BankMetrics;
+import com.myserver.wildcore.util.RankedSkipList;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.UUID;
+
 /**
  * PlaceholderAPI 확장
  * 
@@ -15,6 +19,18 @@ import org.jetbrains.annotations.NotNull;
  * - %wildcore_stock_holdings_<종목ID>% : 보유 수량
  * - %wildcore_stock_value_<종목ID>% : 보유 가치
  * - %wildcore_stock_total_value% : 총 자산 가치
+ * - %wildcore_stock_total_invested% : 총 투자금
+ * - %wildcore_stock_profit% : 총 손익
+ * - %wildcore_stock_profit_percent% : 총 수익률 (%)
+ * - %wildcore_stock_rank% : 주식 평가액 순위
+ * - %wildcore_stock_top_<순위>_name% / %wildcore_stock_top_<순위>_value% : 순위별 플레이어/평가액
+ * - %wildcore_bank_total_principal% : 서버 전체 은행 예금액
+ * - %wildcore_bank_accrued_interest% : 예금액 중 누적 이자
+ * - %wildcore_bank_interest_paid% : 서버 시작 후 지급된 이자
+ * - %wildcore_bank_deposits_per_min% / %wildcore_bank_withdrawals_per_min% : 최근 1분 입금/출금액
+ * - %wildcore_bank_accounts% : 전체 계좌 수
+ * - %wildcore_bank_projected_interest% : 예상 이자 부채 합계
+ * - %wildcore_bank_projected_interest_<상품ID>% : 상품별 예상 이자 (예금: 하루, 적금: 만기 시)
  */
 public class WildCorePlaceholder extends PlaceholderExpansion {
 
@@ -64,32 +80,97 @@ public class WildCorePlaceholder extends PlaceholderExpansion {
             return plugin.getStockManager().getFormattedChange(stockId);
         }
 
-        // stock_holdings_<stockId>
+        // stock_holdings_<stockId> (포트폴리오 캐시 조회, 접속하지 않은 플레이어도 보유 데이터를 읽지 않음)
         if (params.startsWith("stock_holdings_") && parts.length >= 3) {
             String stockId = params.substring("stock_holdings_".length());
-            int holdings = plugin.getStockManager().getPlayerStockAmount(player.getUniqueId(), stockId);
+            int holdings = plugin.getStockManager().getHeldAmount(player.getUniqueId(), stockId);
             return String.valueOf(holdings);
         }
 
         // stock_value_<stockId>
         if (params.startsWith("stock_value_") && parts.length >= 3) {
             String stockId = params.substring("stock_value_".length());
-            int holdings = plugin.getStockManager().getPlayerStockAmount(player.getUniqueId(), stockId);
+            int holdings = plugin.getStockManager().getHeldAmount(player.getUniqueId(), stockId);
             double price = plugin.getStockManager().getCurrentPrice(stockId);
             return String.format("%,.0f", holdings * price);
         }
 
-        // stock_total_value
+        // stock_total_value (포트폴리오 캐시 조회)
         if (params.equals("stock_total_value")) {
-            double totalValue = 0;
-            for (StockConfig stock : plugin.getConfigManager().getStocks().values()) {
-                int holdings = plugin.getStockManager().getPlayerStockAmount(player.getUniqueId(), stock.getId());
-                double price = plugin.getStockManager().getCurrentPrice(stock.getId());
-                totalValue += holdings * price;
+            return String.format("%,.0f", plugin.getStockManager().getPortfolio(player.getUniqueId()).totalValue());
+        }
+
+        // stock_total_invested
+        if (params.equals("stock_total_invested")) {
+            return String.format("%,.0f", plugin.getStockManager().getPortfolio(player.getUniqueId()).totalInvested());
+        }
+
+        // stock_profit
+        if (params.equals("stock_profit")) {
+            return String.format("%+,.0f", plugin.getStockManager().getPortfolio(player.getUniqueId()).getProfit());
+        }
+
+        // stock_profit_percent
+        if (params.equals("stock_profit_percent")) {
+            return String.format("%+.2f",
+                    plugin.getStockManager().getPortfolio(player.getUniqueId()).getProfitPercent());
+        }
+
+        // stock_rank
+        if (params.equals("stock_rank")) {
+            int rank = plugin.getStockManager().getLeaderboard().getRank(player.getUniqueId());
+            return (rank > 0) ? String.valueOf(rank) : "-";
+        }
+
+        // stock_top_<순위>_name, stock_top_<순위>_value
+        if (params.startsWith("stock_top_") && parts.length == 4) {
+            int rank;
+            try {
+                rank = Integer.parseInt(parts[2]);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            RankedSkipList.Entry<UUID> entry = plugin.getStockManager().getLeaderboard().getByRank(rank);
+            if (parts[3].equals("name")) {
+                String name = (entry != null) ? Bukkit.getOfflinePlayer(entry.key()).getName() : null;
+                return (name != null) ? name : "-";
+            }
+            if (parts[3].equals("value")) {
+                return (entry != null) ? String.format("%,.0f", entry.score()) : "0";
             }
-            return String.format("%,.0f", totalValue);
+        }
+
+        // bank_... (서버 전체 은행 통계)
+        if (params.startsWith("bank_")) {
+            return getBankMetric(params.substring("bank_".length()));
         }
 
         return null;
     }
+
+    private String getBankMetric(String metric) {
+        BankMetrics.Snapshot stats = plugin.getBankManager().getMetrics();
+        return switch (metric) {
+            case "total_principal" -> String.format("%,.0f", stats.totalPrincipal());
+            case "accrued_interest" -> String.format("%,.0f", stats.accruedInterest());
+            case "interest_paid" -> String.format("%,.0f", stats.interestPaid());
+            case "deposits_per_min" -> String.format("%,.0f", stats.depositsPerMinute());
+            case "withdrawals_per_min" -> String.format("%,.0f", stats.withdrawalsPerMinute());
+            case "accounts" -> String.valueOf(stats.accounts());
+            case "projected_interest" -> String.format("%,.0f", stats.getProjectedInterest());
+            default -> {
+                if (!metric.startsWith("projected_interest_")) {
+                    yield null;
+                }
+                String productId = metric.substring("projected_interest_".length());
+                double projected = 0;
+                for (BankMetrics.ProductStats product : stats.products()) {
+                    if (product.productId().equals(productId)) {
+                        projected = product.projectedInterest();
+                    }
+                }
+                yield String.format("%,.0f", projected);
+            }
+        };
+    }
 }
@@ -0,0 +1,7 @@
+package com.myserver.wildcore.stock;
+
+/**
+ * OHLC 캔들 (시가/고가/저가/종가)
+ */
+public record Candle(double open, double high, double low, double close) {
+}
@@ -0,0 +1,115 @@
+package com.myserver.wildcore.stock;
+
+/**
+ * OHLC 캔들 시리즈 (고정 크기 링 버퍼)
+ * - resolution 틱마다 캔들 하나를 완성
+ * - 시가/고가/저가/종가를 각각 double 배열에 보관 (박싱 없음)
+ * 동기화는 소유자인 PriceHistory가 담당합니다.
+ */
+final class CandleSeries {
+
+    private final int resolution;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+
+    private int head; // 다음에 기록할 위치
+    private int size;
+
+    // 진행 중인 캔들
+    private int pendingTicks;
+    private double pendingOpen;
+    private double pendingHigh;
+    private double pendingLow;
+    private double pendingClose;
+
+    CandleSeries(int resolution, int depth) {
+        this.resolution = Math.max(1, resolution);
+        int capacity = Math.max(1, depth);
+        this.open = new double[capacity];
+        this.high = new double[capacity];
+        this.low = new double[capacity];
+        this.close = new double[capacity];
+    }
+
+    /**
+     * 틱 가격 반영 (resolution개가 모이면 캔들 완성)
+     */
+    void add(double price) {
+        if (pendingTicks == 0) {
+            pendingOpen = price;
+            pendingHigh = price;
+            pendingLow = price;
+        } else {
+            pendingHigh = Math.max(pendingHigh, price);
+            pendingLow = Math.min(pendingLow, price);
+        }
+        pendingClose = price;
+        pendingTicks++;
+
+        if (pendingTicks >= resolution) {
+            push(pendingOpen, pendingHigh, pendingLow, pendingClose);
+            pendingTicks = 0;
+        }
+    }
+
+    /**
+     * 완성된 캔들 추가 (저장 데이터 복원용)
+     */
+    void push(double o, double h, double l, double c) {
+        open[head] = o;
+        high[head] = h;
+        low[head] = l;
+        close[head] = c;
+        head = (head + 1) % open.length;
+        if (size < open.length) {
+            size++;
+        }
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+        pendingTicks = 0;
+    }
+
+    /**
+     * 최신 캔들 기준 인덱스 -> 배열 위치 (0 = 가장 최근 완성 캔들)
+     */
+    private int indexOf(int back) {
+        if (back < 0 || back >= size) {
+            throw new IndexOutOfBoundsException("캔들 인덱스 범위 초과: " + back + " / " + size);
+        }
+        int index = head - 1 - back;
+        return (index < 0) ? index + open.length : index;
+    }
+
+    int getResolution() {
+        return resolution;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Candle get(int back) {
+        int index = indexOf(back);
+        return new Candle(open[index], high[index], low[index], close[index]);
+    }
+
+    /**
+     * 완성된 캔들을 오래된 순서로 [시가, 고가, 저가, 종가, ...] 배열로 복사 (저장용)
+     */
+    double[] toFlatArray() {
+        double[] flat = new double[size * 4];
+        for (int i = 0; i < size; i++) {
+            int index = indexOf(size - 1 - i);
+            flat[i * 4] = open[index];
+            flat[i * 4 + 1] = high[index];
+            flat[i * 4 + 2] = low[index];
+            flat[i * 4 + 3] = close[index];
+        }
+        return flat;
+    }
+}
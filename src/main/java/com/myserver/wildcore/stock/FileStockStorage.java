@@ -0,0 +1,154 @@
+package com.myserver.wildcore.stock;
+
+import com.myserver.wildcore.config.PlayerStockData;
+import com.myserver.wildcore.util.SnapshotFile;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * 파일 저장소 (stocks_data.bin 또는 .yml 스냅샷 + 플레이어별 보유 파일)
+ */
+public class FileStockStorage implements StockStorage {
+
+    private final SnapshotFile snapshotFile;
+    private final PlayerStockStore playerStore;
+    private final Logger logger;
+
+    public FileStockStorage(File dataFolder, SnapshotFile.Format format, Logger logger) {
+        this.snapshotFile = new SnapshotFile(dataFolder, "stocks_data", format);
+        this.playerStore = new PlayerStockStore(new File(dataFolder, "stock_players"), format, logger);
+        this.logger = logger;
+    }
+
+    @Override
+    public String getName() {
+        return snapshotFile.getTarget().getName();
+    }
+
+    @Override
+    public boolean needsMigration() {
+        return snapshotFile.needsMigration();
+    }
+
+    /**
+     * 읽을 스냅샷 파일이 있는지 (형식 무관)
+     */
+    public boolean exists() {
+        return snapshotFile.getSource() != null;
+    }
+
+    public PlayerStockStore getPlayerStore() {
+        return playerStore;
+    }
+
+    /**
+     * 스냅샷 읽기 (파일이 없으면 빈 데이터)
+     * 읽을 수 없는 바이너리 파일은 따로 보관해 두고 빈 데이터로 시작합니다.
+     */
+    @Override
+    public Loaded loadSnapshot() {
+        File source = snapshotFile.getSource();
+        if (source == null) {
+            return new Loaded(StockDataCodec.StockData.empty(), Map.of());
+        }
+        if (snapshotFile.getSourceFormat() == SnapshotFile.Format.YAML) {
+            FileConfiguration dataConfig = YamlConfiguration.loadConfiguration(source);
+            return new Loaded(StockDataCodec.fromYaml(dataConfig, logger), readLegacyPlayers(dataConfig));
+        }
+        try {
+            return new Loaded(StockDataCodec.decode(Files.readAllBytes(source.toPath())), Map.of());
+        } catch (IOException e) {
+            logger.severe("주식 데이터 파일을 읽을 수 없습니다: " + e.getMessage());
+            try {
+                logger.severe("손상된 파일 보관: " + SnapshotFile.quarantine(source).getName());
+            } catch (IOException moveError) {
+                logger.severe("손상된 파일 보관 실패: " + moveError.getMessage());
+            }
+            return new Loaded(StockDataCodec.StockData.empty(), Map.of());
+        }
+    }
+
+    /**
+     * 구버전 stocks_data.yml의 players 항목 읽기 (한 파일에 전체 플레이어 저장)
+     */
+    private static Map<UUID, Map<String, PlayerStockData>> readLegacyPlayers(FileConfiguration dataConfig) {
+        Map<UUID, Map<String, PlayerStockData>> players = new HashMap<>();
+        if (!dataConfig.isConfigurationSection("players")) {
+            return players;
+        }
+        for (String uuidStr : dataConfig.getConfigurationSection("players").getKeys(false)) {
+            UUID uuid = UUID.fromString(uuidStr);
+            Map<String, PlayerStockData> stocks = new ConcurrentHashMap<>();
+
+            for (String stockId : dataConfig.getConfigurationSection("players." + uuidStr).getKeys(false)) {
+                String path = "players." + uuidStr + "." + stockId;
+
+                if (dataConfig.isConfigurationSection(path)) {
+                    // 신규 데이터 구조 (객체)
+                    int amount = dataConfig.getInt(path + ".amount");
+                    double avgPrice = dataConfig.getDouble(path + ".averagePrice");
+                    double totalInvested = dataConfig.getDouble(path + ".totalInvested");
+                    stocks.put(stockId, new PlayerStockData(amount, avgPrice, totalInvested));
+                } else if (dataConfig.isInt(path)) {
+                    // 구 데이터 구조 (정수) -> 평단가/총투자금은 0으로 시작
+                    int amount = dataConfig.getInt(path);
+                    if (amount > 0) {
+                        stocks.put(stockId, new PlayerStockData(amount));
+                    }
+                }
+            }
+            players.put(uuid, stocks);
+        }
+        return players;
+    }
+
+    @Override
+    public void saveSnapshot(StockDataCodec.StockData data) throws IOException {
+        snapshotFile.write(snapshotFile.getFormat() == SnapshotFile.Format.BINARY
+                ? StockDataCodec.encode(data)
+                : StockDataCodec.toYaml(data).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public PlayerStockStore.Shard loadPlayer(UUID uuid) {
+        return playerStore.load(uuid);
+    }
+
+    @Override
+    public Set<UUID> savePlayers(Map<UUID, Map<String, PlayerStockData>> players, long journalSegment) {
+        Set<UUID> failed = new HashSet<>();
+        for (Map.Entry<UUID, Map<String, PlayerStockData>> entry : players.entrySet()) {
+            try {
+                playerStore.save(entry.getKey(), journalSegment, entry.getValue());
+            } catch (IOException e) {
+                failed.add(entry.getKey());
+                logger.severe("주식 보유 파일 저장 실패 (" + entry.getKey() + "): " + e.getMessage());
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public int migratePlayers() {
+        return playerStore.migrateAll();
+    }
+
+    /**
+     * 데이터베이스로 옮긴 뒤 스냅샷 파일 보관 (.migrated)
+     */
+    public void retire() throws IOException {
+        snapshotFile.retire();
+    }
+}
@@ -0,0 +1,449 @@
+package com.myserver.wildcore.stock;
+
+import com.myserver.wildcore.config.PlayerStockData;
+import com.myserver.wildcore.storage.Database;
+import com.myserver.wildcore.util.BinaryIO;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+/**
+ * 데이터베이스 저장소
+ * - wc_stock_prices: 종목마다 한 행 (현재가, 가격 기록/캔들은 double 배열 BLOB)
+ * - wc_stock_players / wc_stock_holdings: 플레이어마다 반영된 저널 세그먼트, 보유 종목마다 한 행
+ * - wc_stock_orders: 미체결 주문 (저장할 때마다 전체 교체, 수가 적음)
+ * - 전체 플레이어 보유 요약은 따로 저장하지 않고 시작 시 wc_stock_holdings에서 구성
+ * 데이터베이스가 비어 있으면 파일 저장소를 읽고, 플레이어 보유 파일은 시작할 때 한 번에 옮깁니다.
+ */
+public class JdbcStockStorage implements StockStorage {
+
+    private static final String META_JOURNAL_SEGMENT = "stock.journal_segment";
+    private static final String META_NEXT_UPDATE = "stock.next_update_time";
+    private static final String META_ORDER_SEQUENCE = "stock.order_sequence";
+    private static final String META_PLAYERS_MIGRATED = "stock.players_migrated";
+
+    // 플레이어 보유 파일을 옮길 때 한 트랜잭션에 넣을 플레이어 수
+    private static final int MIGRATION_BATCH = 500;
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS wc_stock_prices (stock_id TEXT PRIMARY KEY, price REAL, "
+                    + "history BLOB, candles BLOB)",
+            "CREATE TABLE IF NOT EXISTS wc_stock_players (uuid TEXT PRIMARY KEY, "
+                    + "journal_segment INTEGER NOT NULL)",
+            "CREATE TABLE IF NOT EXISTS wc_stock_holdings (uuid TEXT NOT NULL, stock_id TEXT NOT NULL, "
+                    + "amount INTEGER NOT NULL, average_price REAL NOT NULL, total_invested REAL NOT NULL, "
+                    + "PRIMARY KEY (uuid, stock_id))",
+            "CREATE TABLE IF NOT EXISTS wc_stock_orders (id INTEGER PRIMARY KEY, owner TEXT NOT NULL, "
+                    + "stock_id TEXT NOT NULL, side TEXT NOT NULL, limit_price REAL NOT NULL, "
+                    + "quantity INTEGER NOT NULL, open_quantity INTEGER NOT NULL, created_time INTEGER NOT NULL, "
+                    + "escrow_average_price REAL NOT NULL)"
+    };
+
+    private static final String UPSERT_PRICE = "INSERT INTO wc_stock_prices (stock_id, price, history, candles) "
+            + "VALUES (?, ?, ?, ?) ON CONFLICT(stock_id) DO UPDATE SET price = excluded.price, "
+            + "history = excluded.history, candles = excluded.candles";
+    private static final String UPSERT_PLAYER = "INSERT INTO wc_stock_players (uuid, journal_segment) VALUES (?, ?) "
+            + "ON CONFLICT(uuid) DO UPDATE SET journal_segment = excluded.journal_segment";
+    private static final String INSERT_PLAYER_IF_ABSENT = "INSERT INTO wc_stock_players (uuid, journal_segment) "
+            + "VALUES (?, ?) ON CONFLICT(uuid) DO NOTHING";
+    private static final String DELETE_HOLDINGS = "DELETE FROM wc_stock_holdings WHERE uuid = ?";
+    private static final String INSERT_HOLDING = "INSERT INTO wc_stock_holdings (uuid, stock_id, amount, "
+            + "average_price, total_invested) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER = "INSERT INTO wc_stock_orders (id, owner, stock_id, side, limit_price, "
+            + "quantity, open_quantity, created_time, escrow_average_price) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final Database database;
+    private final FileStockStorage legacy;
+    private final Logger logger;
+    private volatile boolean migrating;
+
+    public JdbcStockStorage(Database database, FileStockStorage legacy, Logger logger) throws SQLException {
+        this.database = database;
+        this.legacy = legacy;
+        this.logger = logger;
+        this.migrating = database.call(db -> {
+            db.execute(Database.META_SCHEMA);
+            for (String table : SCHEMA) {
+                db.execute(table);
+            }
+            return db.getMeta(META_JOURNAL_SEGMENT) == null;
+        }) && legacy.exists();
+    }
+
+    @Override
+    public String getName() {
+        return "wc_stock_*";
+    }
+
+    @Override
+    public boolean needsMigration() {
+        return migrating;
+    }
+
+    /**
+     * 스냅샷 읽기 (데이터베이스를 읽을 수 없으면 예외, 빈 데이터로 시작해 저널을 정리하지 않도록)
+     * 아직 옮기지 않은 플레이어 보유 파일이 있으면 먼저 옮깁니다 (보유 요약을 데이터베이스에서 구성하므로).
+     */
+    @Override
+    public Loaded loadSnapshot() {
+        try {
+            importPlayerFiles();
+            if (migrating) {
+                return legacy.loadSnapshot();
+            }
+            return new Loaded(database.call(this::readSnapshot), Map.of());
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("주식 데이터베이스를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private StockDataCodec.StockData readSnapshot(Database db) throws SQLException {
+        StockDataCodec.StockData data = StockDataCodec.StockData.empty();
+        try (ResultSet rows = db.prepare("SELECT stock_id, price, history, candles FROM wc_stock_prices")
+                .executeQuery()) {
+            while (rows.next()) {
+                String stockId = rows.getString(1);
+                double price = rows.getDouble(2);
+                if (!rows.wasNull()) {
+                    data.prices().put(stockId, price);
+                }
+                byte[] history = rows.getBytes(3);
+                if (history != null) {
+                    data.history().put(stockId, decodeDoubles(history));
+                }
+                byte[] candles = rows.getBytes(4);
+                if (candles != null) {
+                    data.candles().put(stockId, decodeCandles(candles));
+                }
+            }
+        }
+
+        // 전체 플레이어 보유 요약 (보유 행을 플레이어별로 모음)
+        Map<UUID, List<Object[]>> holdings = new HashMap<>();
+        try (ResultSet rows = db.prepare("SELECT uuid, stock_id, amount, total_invested FROM wc_stock_holdings "
+                + "WHERE amount > 0").executeQuery()) {
+            while (rows.next()) {
+                holdings.computeIfAbsent(UUID.fromString(rows.getString(1)), k -> new ArrayList<>())
+                        .add(new Object[]{rows.getString(2), rows.getInt(3), rows.getDouble(4)});
+            }
+        }
+        for (Map.Entry<UUID, List<Object[]>> entry : holdings.entrySet()) {
+            List<Object[]> list = entry.getValue();
+            String[] stockIds = new String[list.size()];
+            int[] amounts = new int[list.size()];
+            double totalInvested = 0;
+            for (int i = 0; i < list.size(); i++) {
+                stockIds[i] = (String) list.get(i)[0];
+                amounts[i] = (Integer) list.get(i)[1];
+                totalInvested += (Double) list.get(i)[2];
+            }
+            data.index().put(entry.getKey(), new PortfolioIndex.Holdings(stockIds, amounts, totalInvested));
+        }
+
+        try (ResultSet rows = db.prepare("SELECT id, owner, stock_id, side, limit_price, quantity, open_quantity, "
+                + "created_time, escrow_average_price FROM wc_stock_orders").executeQuery()) {
+            while (rows.next()) {
+                data.orders().add(new LimitOrder(rows.getLong(1), UUID.fromString(rows.getString(2)),
+                        rows.getString(3), LimitOrder.Side.fromString(rows.getString(4)), rows.getDouble(5),
+                        rows.getInt(6), rows.getInt(7), rows.getLong(8), rows.getDouble(9)));
+            }
+        }
+
+        return new StockDataCodec.StockData(data.prices(), data.history(), data.candles(),
+                parseLong(db.getMeta(META_NEXT_UPDATE)), parseLong(db.getMeta(META_JOURNAL_SEGMENT)),
+                data.index(), data.orders(), parseLong(db.getMeta(META_ORDER_SEQUENCE)));
+    }
+
+    @Override
+    public void saveSnapshot(StockDataCodec.StockData data) throws IOException {
+        // 가격 기록은 쓰기 스레드에서 미리 변환 (데이터베이스 스레드 점유 시간 단축)
+        Map<String, byte[]> history = new HashMap<>();
+        for (Map.Entry<String, double[]> entry : data.history().entrySet()) {
+            history.put(entry.getKey(), encodeDoubles(entry.getValue()));
+        }
+        Map<String, byte[]> candles = new HashMap<>();
+        for (Map.Entry<String, Map<Integer, double[]>> entry : data.candles().entrySet()) {
+            candles.put(entry.getKey(), encodeCandles(entry.getValue()));
+        }
+        Set<String> stockIds = new HashSet<>(data.prices().keySet());
+        stockIds.addAll(history.keySet());
+
+        try {
+            database.transaction(db -> {
+                PreparedStatement upsert = db.prepare(UPSERT_PRICE);
+                for (String stockId : stockIds) {
+                    upsert.setString(1, stockId);
+                    Double price = data.prices().get(stockId);
+                    if (price != null) {
+                        upsert.setDouble(2, price);
+                    } else {
+                        upsert.setNull(2, Types.REAL);
+                    }
+                    upsert.setBytes(3, history.get(stockId));
+                    upsert.setBytes(4, candles.get(stockId));
+                    upsert.addBatch();
+                }
+                upsert.executeBatch();
+
+                db.prepare("DELETE FROM wc_stock_orders").executeUpdate();
+                PreparedStatement insert = db.prepare(INSERT_ORDER);
+                for (LimitOrder order : data.orders()) {
+                    insert.setLong(1, order.getId());
+                    insert.setString(2, order.getOwner().toString());
+                    insert.setString(3, order.getStockId());
+                    insert.setString(4, order.getSide().name());
+                    insert.setDouble(5, order.getLimitPrice());
+                    insert.setInt(6, order.getQuantity());
+                    insert.setInt(7, order.getOpenQuantity());
+                    insert.setLong(8, order.getCreatedTime());
+                    insert.setDouble(9, order.getEscrowAveragePrice());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+
+                db.setMeta(META_NEXT_UPDATE, Long.toString(data.nextUpdateTime()));
+                db.setMeta(META_ORDER_SEQUENCE, Long.toString(data.orderSequence()));
+                db.setMeta(META_JOURNAL_SEGMENT, Long.toString(data.journalSegment()));
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        if (migrating) {
+            legacy.retire();
+            migrating = false;
+        }
+    }
+
+    /**
+     * 플레이어 한 명 조회 (기본 키 조회, 데이터베이스 스레드에서 실행하고 결과를 기다림)
+     */
+    @Override
+    public PlayerStockStore.Shard loadPlayer(UUID uuid) {
+        try {
+            return database.call(db -> readPlayer(db, uuid));
+        } catch (SQLException e) {
+            throw new IllegalStateException("주식 보유 현황을 읽을 수 없습니다 (" + uuid + "): " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 플레이어 한 명 조회 (데이터베이스 스레드에 맡기고 바로 반환)
+     */
+    @Override
+    public CompletableFuture<PlayerStockStore.Shard> loadPlayerAsync(UUID uuid, Executor executor) {
+        return database.submit(db -> readPlayer(db, uuid));
+    }
+
+    /**
+     * 여러 플레이어를 데이터베이스 스레드에서 한 번에 조회
+     */
+    @Override
+    public Map<UUID, PlayerStockStore.Shard> loadPlayers(Collection<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return new HashMap<>();
+        }
+        try {
+            return database.call(db -> {
+                Map<UUID, PlayerStockStore.Shard> shards = new HashMap<>();
+                for (UUID uuid : uuids) {
+                    shards.put(uuid, readPlayer(db, uuid));
+                }
+                return shards;
+            });
+        } catch (SQLException e) {
+            throw new IllegalStateException("주식 보유 현황을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private static PlayerStockStore.Shard readPlayer(Database db, UUID uuid) throws SQLException {
+        PreparedStatement player = db.prepare("SELECT journal_segment FROM wc_stock_players WHERE uuid = ?");
+        player.setString(1, uuid.toString());
+        long journalSegment;
+        try (ResultSet rows = player.executeQuery()) {
+            if (!rows.next()) {
+                return new PlayerStockStore.Shard(0, new HashMap<>());
+            }
+            journalSegment = rows.getLong(1);
+        }
+
+        Map<String, PlayerStockData> holdings = new HashMap<>();
+        PreparedStatement select = db.prepare("SELECT stock_id, amount, average_price, total_invested "
+                + "FROM wc_stock_holdings WHERE uuid = ?");
+        select.setString(1, uuid.toString());
+        try (ResultSet rows = select.executeQuery()) {
+            while (rows.next()) {
+                int amount = rows.getInt(2);
+                if (amount > 0) {
+                    holdings.put(rows.getString(1),
+                            new PlayerStockData(amount, rows.getDouble(3), rows.getDouble(4)));
+                }
+            }
+        }
+        return new PlayerStockStore.Shard(journalSegment, holdings);
+    }
+
+    /**
+     * 바뀐 플레이어를 한 트랜잭션으로 저장 (보유 행은 지운 뒤 묶어서 다시 넣음)
+     */
+    @Override
+    public Set<UUID> savePlayers(Map<UUID, Map<String, PlayerStockData>> players, long journalSegment) {
+        if (players.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            database.transaction(db -> {
+                writePlayers(db, players, journalSegment, false);
+                return null;
+            });
+            return Set.of();
+        } catch (SQLException e) {
+            logger.severe("주식 보유 현황 저장 실패 (" + players.size() + "명): " + e.getMessage());
+            return new HashSet<>(players.keySet());
+        }
+    }
+
+    /**
+     * @param ifAbsent 이미 행이 있는 플레이어는 건너뜀 (파일에서 옮길 때, 데이터베이스 쪽이 최신)
+     */
+    private static void writePlayers(Database db, Map<UUID, Map<String, PlayerStockData>> players,
+            long journalSegment, boolean ifAbsent) throws SQLException {
+        PreparedStatement player = db.prepare(ifAbsent ? INSERT_PLAYER_IF_ABSENT : UPSERT_PLAYER);
+        PreparedStatement delete = db.prepare(DELETE_HOLDINGS);
+        PreparedStatement insert = db.prepare(INSERT_HOLDING);
+        for (Map.Entry<UUID, Map<String, PlayerStockData>> entry : players.entrySet()) {
+            String uuid = entry.getKey().toString();
+            player.setString(1, uuid);
+            player.setLong(2, journalSegment);
+            if (player.executeUpdate() == 0) {
+                continue;
+            }
+            delete.setString(1, uuid);
+            delete.addBatch();
+            for (Map.Entry<String, PlayerStockData> holding : entry.getValue().entrySet()) {
+                PlayerStockData data = holding.getValue();
+                if (data.getAmount() <= 0) {
+                    continue;
+                }
+                insert.setString(1, uuid);
+                insert.setString(2, holding.getKey());
+                insert.setInt(3, data.getAmount());
+                insert.setDouble(4, data.getAveragePrice());
+                insert.setDouble(5, data.getTotalInvested());
+                insert.addBatch();
+            }
+        }
+        delete.executeBatch();
+        insert.executeBatch();
+    }
+
+    /**
+     * 플레이어 보유 파일은 시작할 때 옮기므로 따로 할 일이 없음
+     */
+    @Override
+    public int migratePlayers() {
+        return 0;
+    }
+
+    /**
+     * 아직 옮기지 않은 플레이어 보유 파일을 데이터베이스로 옮김 (중간에 멈췄으면 다음 시작 때 이어서)
+     */
+    private void importPlayerFiles() throws SQLException, IOException {
+        PlayerStockStore store = legacy.getPlayerStore();
+        if (!store.exists() || database.call(db -> db.getMeta(META_PLAYERS_MIGRATED)) != null) {
+            return;
+        }
+        List<UUID> players = new ArrayList<>(store.listPlayers());
+        for (int start = 0; start < players.size(); start += MIGRATION_BATCH) {
+            // 파일 읽기는 데이터베이스 스레드 밖에서, 샤드마다 반영된 세그먼트가 다를 수 있으므로 플레이어별로 기록
+            Map<UUID, PlayerStockStore.Shard> batch = new HashMap<>();
+            for (UUID uuid : players.subList(start, Math.min(players.size(), start + MIGRATION_BATCH))) {
+                batch.put(uuid, store.load(uuid));
+            }
+            database.transaction(db -> {
+                for (Map.Entry<UUID, PlayerStockStore.Shard> entry : batch.entrySet()) {
+                    writePlayers(db, Map.of(entry.getKey(), entry.getValue().holdings()),
+                            entry.getValue().journalSegment(), true);
+                }
+                return null;
+            });
+        }
+        database.call(db -> {
+            db.setMeta(META_PLAYERS_MIGRATED, Long.toString(System.currentTimeMillis()));
+            return null;
+        });
+        store.retire();
+        logger.info("주식 보유 파일 " + players.size() + "개를 데이터베이스로 옮겼습니다.");
+    }
+
+    // =====================
+    // BLOB 형식
+    // =====================
+
+    private static long parseLong(String value) {
+        return (value != null) ? Long.parseLong(value) : 0;
+    }
+
+    private static byte[] encodeDoubles(double[] values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4 + values.length * 8);
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryIO.writeDoubles(out, values);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static double[] decodeDoubles(byte[] content) throws SQLException {
+        try {
+            return BinaryIO.readDoubles(new DataInputStream(new ByteArrayInputStream(content)));
+        } catch (IOException e) {
+            throw new SQLException("가격 기록 형식 오류", e);
+        }
+    }
+
+    /**
+     * 캔들: 해상도 수(int), 해상도마다 해상도(int) + double 배열
+     */
+    private static byte[] encodeCandles(Map<Integer, double[]> candles) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(candles.size());
+        for (Map.Entry<Integer, double[]> entry : candles.entrySet()) {
+            out.writeInt(entry.getKey());
+            BinaryIO.writeDoubles(out, entry.getValue());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static Map<Integer, double[]> decodeCandles(byte[] content) throws SQLException {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+            int count = in.readInt();
+            Map<Integer, double[]> candles = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                candles.put(in.readInt(), BinaryIO.readDoubles(in));
+            }
+            return candles;
+        } catch (IOException e) {
+            throw new SQLException("캔들 형식 오류", e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.myserver.wildcore.stock;
+
+import java.util.UUID;
+
+/**
+ * 지정가 주문
+ * - remaining: 매칭 스레드가 관리하는 남은 수량 (호가창 기준)
+ * - openQuantity: 메인 스레드가 정산까지 끝낸 미체결 수량 (저장/표시 기준)
+ */
+public final class LimitOrder {
+
+    public enum Side {
+        BUY("매수"),
+        SELL("매도");
+
+        private final String displayName;
+
+        Side(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public static Side fromString(String value) {
+            if (value == null) {
+                return null;
+            }
+            return switch (value.toLowerCase()) {
+                case "buy", "매수" -> BUY;
+                case "sell", "매도" -> SELL;
+                default -> null;
+            };
+        }
+    }
+
+    private final long id;
+    private final UUID owner;
+    private final String stockId;
+    private final Side side;
+    private final double limitPrice;
+    private final int quantity;
+    private final long createdTime;
+    // 매도 주문 시 보관한 주식의 평단가 (취소 시 같은 평단가로 반환)
+    private final double escrowAveragePrice;
+
+    private volatile int remaining;
+    private volatile int openQuantity;
+
+    public LimitOrder(long id, UUID owner, String stockId, Side side, double limitPrice, int quantity,
+            int openQuantity, long createdTime, double escrowAveragePrice) {
+        this.id = id;
+        this.owner = owner;
+        this.stockId = stockId;
+        this.side = side;
+        this.limitPrice = limitPrice;
+        this.quantity = quantity;
+        this.openQuantity = openQuantity;
+        this.remaining = openQuantity;
+        this.createdTime = createdTime;
+        this.escrowAveragePrice = escrowAveragePrice;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public UUID getOwner() {
+        return owner;
+    }
+
+    public String getStockId() {
+        return stockId;
+    }
+
+    public Side getSide() {
+        return side;
+    }
+
+    public boolean isBuy() {
+        return side == Side.BUY;
+    }
+
+    public double getLimitPrice() {
+        return limitPrice;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public long getCreatedTime() {
+        return createdTime;
+    }
+
+    public double getEscrowAveragePrice() {
+        return escrowAveragePrice;
+    }
+
+    public int getRemaining() {
+        return remaining;
+    }
+
+    void setRemaining(int remaining) {
+        this.remaining = remaining;
+    }
+
+    public int getOpenQuantity() {
+        return openQuantity;
+    }
+
+    public void setOpenQuantity(int openQuantity) {
+        this.openQuantity = openQuantity;
+    }
+}
@@ -0,0 +1,124 @@
+package com.myserver.wildcore.stock;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 종목별 호가창
+ * - 가격 우선, 같은 가격은 시간 우선 (가격대별 FIFO 큐)
+ * - 부분 체결 지원, 남은 수량은 호가창에 대기
+ * 스레드 안전하지 않으므로 매칭 스레드 하나에서만 사용합니다.
+ */
+public final class OrderBook {
+
+    // 매수 호가 (높은 가격 우선)
+    private final TreeMap<Double, ArrayDeque<LimitOrder>> bids = new TreeMap<>(Comparator.reverseOrder());
+    // 매도 호가 (낮은 가격 우선)
+    private final TreeMap<Double, ArrayDeque<LimitOrder>> asks = new TreeMap<>();
+    // 대기 중인 주문 (주문번호 -> 주문)
+    private final Map<Long, LimitOrder> restingOrders = new HashMap<>();
+
+    /**
+     * 주문 매칭
+     * 반대편 최우선 호가와 가격이 맞는 동안 체결하고, 남은 수량은 호가창에 등록합니다.
+     *
+     * @param fills 체결 내역을 추가할 목록
+     */
+    public void match(LimitOrder incoming, List<OrderFill> fills) {
+        TreeMap<Double, ArrayDeque<LimitOrder>> opposite = incoming.isBuy() ? asks : bids;
+
+        while (incoming.getRemaining() > 0 && !opposite.isEmpty()) {
+            Map.Entry<Double, ArrayDeque<LimitOrder>> best = opposite.firstEntry();
+            double price = best.getKey();
+            boolean crosses = incoming.isBuy()
+                    ? price <= incoming.getLimitPrice()
+                    : price >= incoming.getLimitPrice();
+            if (!crosses) {
+                break;
+            }
+
+            ArrayDeque<LimitOrder> queue = best.getValue();
+            while (incoming.getRemaining() > 0 && !queue.isEmpty()) {
+                LimitOrder resting = queue.peekFirst();
+                int quantity = Math.min(incoming.getRemaining(), resting.getRemaining());
+                resting.setRemaining(resting.getRemaining() - quantity);
+                incoming.setRemaining(incoming.getRemaining() - quantity);
+
+                fills.add(incoming.isBuy()
+                        ? new OrderFill(incoming, resting, price, quantity)
+                        : new OrderFill(resting, incoming, price, quantity));
+
+                if (resting.getRemaining() <= 0) {
+                    queue.pollFirst();
+                    restingOrders.remove(resting.getId());
+                }
+            }
+            if (queue.isEmpty()) {
+                opposite.pollFirstEntry();
+            }
+        }
+
+        if (incoming.getRemaining() > 0) {
+            TreeMap<Double, ArrayDeque<LimitOrder>> side = incoming.isBuy() ? bids : asks;
+            side.computeIfAbsent(incoming.getLimitPrice(), k -> new ArrayDeque<>()).addLast(incoming);
+            restingOrders.put(incoming.getId(), incoming);
+        }
+    }
+
+    /**
+     * 대기 중인 주문 취소
+     *
+     * @return 취소된 주문 (이미 체결되었거나 없으면 null)
+     */
+    public LimitOrder cancel(long orderId) {
+        LimitOrder order = restingOrders.remove(orderId);
+        if (order == null) {
+            return null;
+        }
+
+        TreeMap<Double, ArrayDeque<LimitOrder>> side = order.isBuy() ? bids : asks;
+        ArrayDeque<LimitOrder> queue = side.get(order.getLimitPrice());
+        if (queue != null) {
+            Iterator<LimitOrder> it = queue.iterator();
+            while (it.hasNext()) {
+                if (it.next().getId() == orderId) {
+                    it.remove();
+                    break;
+                }
+            }
+            if (queue.isEmpty()) {
+                side.remove(order.getLimitPrice());
+            }
+        }
+        return order;
+    }
+
+    public void clear() {
+        bids.clear();
+        asks.clear();
+        restingOrders.clear();
+    }
+
+    public int getRestingCount() {
+        return restingOrders.size();
+    }
+
+    /**
+     * 최우선 매수 호가 (없으면 NaN)
+     */
+    public double getBestBid() {
+        return bids.isEmpty() ? Double.NaN : bids.firstKey();
+    }
+
+    /**
+     * 최우선 매도 호가 (없으면 NaN)
+     */
+    public double getBestAsk() {
+        return asks.isEmpty() ? Double.NaN : asks.firstKey();
+    }
+}
@@ -0,0 +1,72 @@
+package com.myserver.wildcore.stock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 호가창 매칭 처리량 측정 (/wc debug orderbench)
+ * 대기 주문을 미리 채운 호가창에 무작위 주문을 넣어 초당 처리 주문 수를 잽니다.
+ */
+public final class OrderBookBenchmark {
+
+    private static final double MID_PRICE = 1000.0;
+    private static final int PRICE_LEVELS = 100;
+    private static final int MAX_QUANTITY = 100;
+
+    public record Result(int orders, int fills, int resting, long elapsedNanos) {
+
+        public double ordersPerSecond() {
+            return (elapsedNanos > 0) ? orders * 1_000_000_000.0 / elapsedNanos : 0;
+        }
+    }
+
+    private OrderBookBenchmark() {
+    }
+
+    /**
+     * @param orders 측정할 주문 수
+     * @param initialResting 측정 전에 미리 넣어 둘 대기 주문 수
+     */
+    public static Result run(int orders, int initialResting, long seed) {
+        Random random = new Random(seed);
+        UUID owner = new UUID(0, 0);
+        OrderBook book = new OrderBook();
+        List<OrderFill> fills = new ArrayList<>();
+
+        // 매수는 중간가 아래, 매도는 중간가 위에 쌓아 서로 체결되지 않게 채움
+        long id = 0;
+        for (int i = 0; i < initialResting; i++) {
+            boolean buy = (i & 1) == 0;
+            double offset = (1 + random.nextInt(PRICE_LEVELS)) / 10.0;
+            double price = buy ? MID_PRICE - offset : MID_PRICE + offset;
+            book.match(createOrder(++id, owner, buy, price, random), fills);
+        }
+        fills.clear();
+
+        // 측정용 주문 생성 (생성 시간은 측정에서 제외)
+        LimitOrder[] incoming = new LimitOrder[orders];
+        for (int i = 0; i < orders; i++) {
+            double offset = (random.nextInt(PRICE_LEVELS * 2 + 1) - PRICE_LEVELS) / 10.0;
+            incoming[i] = createOrder(++id, owner, random.nextBoolean(), MID_PRICE + offset, random);
+        }
+
+        int fillCount = 0;
+        long start = System.nanoTime();
+        for (LimitOrder order : incoming) {
+            book.match(order, fills);
+            fillCount += fills.size();
+            fills.clear();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(orders, fillCount, book.getRestingCount(), elapsed);
+    }
+
+    private static LimitOrder createOrder(long id, UUID owner, boolean buy, double price, Random random) {
+        int quantity = 1 + random.nextInt(MAX_QUANTITY);
+        return new LimitOrder(id, owner, "bench", buy ? LimitOrder.Side.BUY : LimitOrder.Side.SELL,
+                Math.round(price * 10) / 10.0, quantity, quantity, 0L, 0.0);
+    }
+}
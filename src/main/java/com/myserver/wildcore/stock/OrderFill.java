@@ -0,0 +1,7 @@
+package com.myserver.wildcore.stock;
+
+/**
+ * 체결 내역 (체결가는 먼저 들어와 있던 주문의 가격)
+ */
+public record OrderFill(LimitOrder buyOrder, LimitOrder sellOrder, double price, int quantity) {
+}
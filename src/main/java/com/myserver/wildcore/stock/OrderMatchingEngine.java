@@ -0,0 +1,109 @@
+package com.myserver.wildcore.stock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * 지정가 주문 매칭 엔진
+ * - 모든 호가창은 전용 스레드 하나에서만 다루므로 잠금이 필요 없음
+ * - 체결/취소 결과는 정산 실행기(메인 스레드)로 넘겨 돈/주식을 처리
+ * 같은 정산 실행기를 쓰므로 결과는 요청 순서대로 전달됩니다.
+ */
+public class OrderMatchingEngine {
+
+    private final ExecutorService executor;
+    private final Executor settlement;
+    private final Logger logger;
+
+    // 종목ID -> 호가창 (매칭 스레드 전용)
+    private final Map<String, OrderBook> books = new HashMap<>();
+
+    public OrderMatchingEngine(String threadName, Executor settlement, Logger logger) {
+        this.settlement = settlement;
+        this.logger = logger;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 주문 접수 (매칭은 매칭 스레드에서 수행)
+     *
+     * @param onFills 체결이 있으면 정산 실행기에서 호출
+     */
+    public void submit(LimitOrder order, Consumer<List<OrderFill>> onFills) {
+        run(() -> {
+            List<OrderFill> fills = new ArrayList<>();
+            books.computeIfAbsent(order.getStockId(), k -> new OrderBook()).match(order, fills);
+            if (!fills.isEmpty()) {
+                settle(() -> onFills.accept(fills));
+            }
+        });
+    }
+
+    /**
+     * 주문 취소
+     *
+     * @param callback 취소된 주문 (이미 모두 체결되었으면 null)을 정산 실행기에서 전달
+     */
+    public void cancel(String stockId, long orderId, Consumer<LimitOrder> callback) {
+        run(() -> {
+            OrderBook book = books.get(stockId);
+            LimitOrder cancelled = (book != null) ? book.cancel(orderId) : null;
+            settle(() -> callback.accept(cancelled));
+        });
+    }
+
+    /**
+     * 모든 호가창 비우기 (리로드 시 다시 채우기 전에 호출)
+     */
+    public void clear() {
+        run(books::clear);
+    }
+
+    /**
+     * 매칭 스레드 종료 (대기 중인 요청까지 처리)
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warning("주문 매칭 스레드 종료 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(Runnable task) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.severe("주문 매칭 실패: " + e.getMessage());
+            }
+        });
+    }
+
+    private void settle(Runnable task) {
+        try {
+            settlement.execute(task);
+        } catch (RuntimeException e) {
+            // 종료 중이면 정산하지 않음 (미체결 수량은 저장되어 재시작 시 다시 매칭)
+            logger.warning("주문 정산 예약 실패: " + e.getMessage());
+        }
+    }
+}
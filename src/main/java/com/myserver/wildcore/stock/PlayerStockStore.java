@@ -0,0 +1,276 @@
+package com.myserver.wildcore.stock;
+
+import com.myserver.wildcore.config.PlayerStockData;
+import com.myserver.wildcore.util.AsyncFileWriter;
+import com.myserver.wildcore.util.BinaryIO;
+import com.myserver.wildcore.util.SnapshotFile;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * 플레이어별 주식 보유 파일 (샤드)
+ * - 경로: stock_players/<UUID 앞 2자리>/<UUID>.bin 또는 .yml (한 폴더에 파일이 몰리지 않도록 분산)
+ * - 파일마다 어느 저널 세그먼트까지 반영되었는지 기록 (재생 시 중복 적용 방지)
+ * - 설정된 형식의 파일이 없으면 다른 형식의 파일을 읽고, 다음 저장 때 새 형식으로 바꿈
+ * 바이너리 형식 (버전 1): 머리, 저널 세그먼트(long), 종목 수(int) + 레코드(종목 ID, 수량, 평단가, 총투자금)
+ */
+public final class PlayerStockStore {
+
+    public static final int MAGIC = 0x57435350; // "WCSP"
+    public static final int VERSION = 1;
+
+    /**
+     * 샤드 파일 내용
+     *
+     * @param journalSegment 이 세그먼트 이전의 저널 레코드는 이미 반영됨
+     */
+    public record Shard(long journalSegment, Map<String, PlayerStockData> holdings) {
+    }
+
+    private final File folder;
+    private final SnapshotFile.Format format;
+    private final Logger logger;
+
+    public PlayerStockStore(File folder, SnapshotFile.Format format, Logger logger) {
+        this.folder = folder;
+        this.format = format;
+        this.logger = logger;
+    }
+
+    public File getFile(UUID uuid) {
+        return getFile(uuid, format);
+    }
+
+    private File getFile(UUID uuid, SnapshotFile.Format fileFormat) {
+        String name = uuid.toString();
+        return new File(new File(folder, name.substring(0, 2)), name + fileFormat.getExtension());
+    }
+
+    private SnapshotFile.Format otherFormat() {
+        return (format == SnapshotFile.Format.BINARY) ? SnapshotFile.Format.YAML : SnapshotFile.Format.BINARY;
+    }
+
+    /**
+     * 샤드 읽기 (파일이 없으면 빈 보유 현황)
+     */
+    public Shard load(UUID uuid) {
+        File file = getFile(uuid);
+        if (file.exists()) {
+            return read(file, format);
+        }
+        File legacy = getFile(uuid, otherFormat());
+        if (legacy.exists()) {
+            Shard shard = read(legacy, otherFormat());
+            // 읽는 사이 쓰기 스레드가 새 형식으로 옮겼으면 새 파일을 다시 읽음
+            return (!legacy.exists() && file.exists()) ? read(file, format) : shard;
+        }
+        // 확인하는 사이 새 형식으로 옮겨졌을 수 있으므로 한 번 더 확인
+        return file.exists() ? read(file, format) : new Shard(0, new HashMap<>());
+    }
+
+    /**
+     * 파일 하나 읽기 (읽을 수 없는 바이너리 파일은 따로 보관하고 빈 보유 현황)
+     */
+    private Shard read(File file, SnapshotFile.Format fileFormat) {
+        if (fileFormat == SnapshotFile.Format.YAML) {
+            return fromYaml(YamlConfiguration.loadConfiguration(file));
+        }
+        try {
+            return decode(Files.readAllBytes(file.toPath()));
+        } catch (IOException e) {
+            logger.severe("주식 보유 파일을 읽을 수 없습니다 (" + file.getName() + "): " + e.getMessage());
+            try {
+                SnapshotFile.quarantine(file);
+            } catch (IOException moveError) {
+                logger.severe("손상된 파일 보관 실패: " + moveError.getMessage());
+            }
+            return new Shard(0, new HashMap<>());
+        }
+    }
+
+    /**
+     * 샤드 저장 (쓰기 스레드에서 호출)
+     * 보유 주식이 없어도 반영된 세그먼트 번호를 남기기 위해 파일은 유지합니다.
+     */
+    public void save(UUID uuid, long journalSegment, Map<String, PlayerStockData> holdings) throws IOException {
+        byte[] content = (format == SnapshotFile.Format.BINARY)
+                ? encode(journalSegment, holdings)
+                : toYaml(journalSegment, holdings).getBytes(StandardCharsets.UTF_8);
+        AsyncFileWriter.writeAtomically(getFile(uuid), content);
+        Files.deleteIfExists(getFile(uuid, otherFormat()).toPath());
+    }
+
+    /**
+     * 이전 형식으로 남아 있는 모든 샤드를 설정된 형식으로 변환 (쓰기 스레드에서 한 번 호출)
+     * 이미 새 형식 파일이 있으면 그쪽이 최신이므로 이전 파일만 삭제합니다.
+     *
+     * @return 변환한 파일 수
+     */
+    public int migrateAll() {
+        File[] buckets = folder.listFiles(File::isDirectory);
+        if (buckets == null) {
+            return 0;
+        }
+        String legacyExtension = otherFormat().getExtension();
+        int migrated = 0;
+        for (File bucket : buckets) {
+            File[] files = bucket.listFiles((dir, name) -> name.endsWith(legacyExtension));
+            if (files == null) {
+                continue;
+            }
+            for (File legacy : files) {
+                String name = legacy.getName();
+                UUID uuid;
+                try {
+                    uuid = UUID.fromString(name.substring(0, name.length() - legacyExtension.length()));
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+                try {
+                    if (!getFile(uuid).exists()) {
+                        Shard shard = read(legacy, otherFormat());
+                        save(uuid, shard.journalSegment(), shard.holdings());
+                        migrated++;
+                    } else {
+                        Files.deleteIfExists(legacy.toPath());
+                    }
+                } catch (IOException e) {
+                    logger.warning("주식 보유 파일 변환 실패 (" + name + "): " + e.getMessage());
+                }
+            }
+        }
+        return migrated;
+    }
+
+    /**
+     * 보유 파일이 있는 모든 플레이어 (형식 무관)
+     */
+    public Set<UUID> listPlayers() {
+        Set<UUID> players = new HashSet<>();
+        File[] buckets = folder.listFiles(File::isDirectory);
+        if (buckets == null) {
+            return players;
+        }
+        for (File bucket : buckets) {
+            File[] files = bucket.listFiles();
+            if (files == null) {
+                continue;
+            }
+            for (File file : files) {
+                String name = file.getName();
+                int dot = name.lastIndexOf('.');
+                if (dot <= 0 || !(name.endsWith(SnapshotFile.Format.BINARY.getExtension())
+                        || name.endsWith(SnapshotFile.Format.YAML.getExtension()))) {
+                    continue;
+                }
+                try {
+                    players.add(UUID.fromString(name.substring(0, dot)));
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+        }
+        return players;
+    }
+
+    /**
+     * 데이터베이스로 옮긴 뒤 폴더를 <폴더명>.migrated로 보관
+     */
+    public void retire() throws IOException {
+        if (folder.exists()) {
+            File backup = new File(folder.getParentFile(), folder.getName() + ".migrated");
+            Files.move(folder.toPath(), backup.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 보유 파일 폴더가 있는지
+     */
+    public boolean exists() {
+        return folder.isDirectory();
+    }
+
+    // =====================
+    // 형식
+    // =====================
+
+    public static byte[] encode(long journalSegment, Map<String, PlayerStockData> holdings) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 + holdings.size() * 40);
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryIO.writeHeader(out, MAGIC, VERSION);
+        out.writeLong(journalSegment);
+        out.writeInt(holdings.size());
+        ByteArrayOutputStream scratch = new ByteArrayOutputStream(48);
+        for (Map.Entry<String, PlayerStockData> entry : holdings.entrySet()) {
+            PlayerStockData data = entry.getValue();
+            BinaryIO.writeRecord(out, scratch, record -> {
+                record.writeUTF(entry.getKey());
+                record.writeInt(data.getAmount());
+                record.writeDouble(data.getAveragePrice());
+                record.writeDouble(data.getTotalInvested());
+            });
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    public static Shard decode(byte[] content) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+        BinaryIO.readHeader(in, MAGIC, VERSION);
+        long journalSegment = in.readLong();
+        int count = in.readInt();
+        Map<String, PlayerStockData> holdings = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            DataInputStream record = BinaryIO.readRecord(in);
+            String stockId = record.readUTF();
+            int amount = record.readInt();
+            if (amount > 0) {
+                holdings.put(stockId, new PlayerStockData(amount, record.readDouble(), record.readDouble()));
+            }
+        }
+        return new Shard(journalSegment, holdings);
+    }
+
+    public static String toYaml(long journalSegment, Map<String, PlayerStockData> holdings) {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.set("journalSegment", journalSegment);
+        for (Map.Entry<String, PlayerStockData> entry : holdings.entrySet()) {
+            String path = "stocks." + entry.getKey();
+            PlayerStockData data = entry.getValue();
+            yaml.set(path + ".amount", data.getAmount());
+            yaml.set(path + ".averagePrice", data.getAveragePrice());
+            yaml.set(path + ".totalInvested", data.getTotalInvested());
+        }
+        return yaml.saveToString();
+    }
+
+    public static Shard fromYaml(FileConfiguration data) {
+        Map<String, PlayerStockData> holdings = new HashMap<>();
+        if (data.isConfigurationSection("stocks")) {
+            for (String stockId : data.getConfigurationSection("stocks").getKeys(false)) {
+                String path = "stocks." + stockId;
+                int amount = data.getInt(path + ".amount");
+                if (amount > 0) {
+                    holdings.put(stockId, new PlayerStockData(amount, data.getDouble(path + ".averagePrice"),
+                            data.getDouble(path + ".totalInvested")));
+                }
+            }
+        }
+        return new Shard(data.getLong("journalSegment", 0), holdings);
+    }
+}
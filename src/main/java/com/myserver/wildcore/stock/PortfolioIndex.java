@@ -0,0 +1,262 @@
+package com.myserver.wildcore.stock;
+
+import com.myserver.wildcore.config.PlayerStockData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 플레이어별 포트폴리오 평가액 캐시
+ * - 거래로 보유 주식이 바뀌면 해당 플레이어만 다시 계산
+ * - 시세가 바뀌면 보관해 둔 보유 수량 배열로 평가액만 다시 계산 (보유 데이터 맵 조회 없음)
+ * - 조회는 불변 Valuation 하나를 읽으므로 O(1), 잠금 없음
+ * - 접속하지 않은 플레이어도 보유 수량 배열만 남겨 두어 순위/관리자 조회에 사용 (스냅샷에 함께 저장)
+ * 보유 현황 갱신은 StockManager의 stateLock 안에서만 호출됩니다.
+ * 시세 반영(reprice)은 잠금 밖에서 호출되므로 플레이어마다 원자적으로 교체해 그 사이의 보유 현황 갱신을 덮어쓰지 않습니다.
+ */
+public final class PortfolioIndex {
+
+    /**
+     * 포트폴리오 평가 결과 (불변)
+     */
+    public record Valuation(double totalValue, double totalInvested, int totalShares, int stockCount) {
+
+        public static final Valuation EMPTY = new Valuation(0, 0, 0, 0);
+
+        public double getProfit() {
+            return totalValue - totalInvested;
+        }
+
+        public double getProfitPercent() {
+            return (totalInvested > 0) ? (getProfit() / totalInvested * 100) : 0;
+        }
+    }
+
+    /**
+     * 평가에 필요한 보유 현황 (종목별 수량 배열)
+     */
+    private record Entry(String[] stockIds, int[] amounts, double totalInvested, int totalShares,
+            Valuation valuation) {
+    }
+
+    /**
+     * 저장용 보유 현황 (배열은 읽기 전용으로 공유)
+     */
+    public record Holdings(String[] stockIds, int[] amounts, double totalInvested) {
+
+        /**
+         * 한 줄 문자열 (형식: 총투자금;종목=수량;종목=수량...)
+         */
+        public String encode() {
+            StringBuilder sb = new StringBuilder().append(totalInvested);
+            for (int i = 0; i < stockIds.length; i++) {
+                sb.append(';').append(stockIds[i]).append('=').append(amounts[i]);
+            }
+            return sb.toString();
+        }
+
+        /**
+         * @throws IllegalArgumentException 형식이 잘못된 경우
+         */
+        public static Holdings parse(String encoded) {
+            String[] parts = encoded.split(";");
+            double totalInvested = Double.parseDouble(parts[0]);
+            String[] stockIds = new String[parts.length - 1];
+            int[] amounts = new int[parts.length - 1];
+            for (int i = 1; i < parts.length; i++) {
+                int separator = parts[i].lastIndexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException(encoded);
+                }
+                stockIds[i - 1] = parts[i].substring(0, separator);
+                amounts[i - 1] = Integer.parseInt(parts[i].substring(separator + 1));
+            }
+            return new Holdings(stockIds, amounts, totalInvested);
+        }
+    }
+
+    /**
+     * 종목별 보유 현황 집계 (관리자 조회용)
+     */
+    public record StockHolders(String stockId, int holders, long shares) {
+    }
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 플레이어 보유 현황이 바뀌었을 때 다시 계산
+     *
+     * @param holdings 현재 보유 주식 (없으면 null)
+     */
+    public void update(UUID uuid, Map<String, PlayerStockData> holdings, PriceSnapshot prices) {
+        if (holdings == null || holdings.isEmpty()) {
+            entries.remove(uuid);
+            return;
+        }
+
+        int size = holdings.size();
+        String[] stockIds = new String[size];
+        int[] amounts = new int[size];
+        double totalInvested = 0;
+        int totalShares = 0;
+        int index = 0;
+        for (Map.Entry<String, PlayerStockData> holding : holdings.entrySet()) {
+            if (index >= size) {
+                break; // 순회 중 종목이 추가된 경우 (다음 갱신에서 반영)
+            }
+            PlayerStockData data = holding.getValue().copy();
+            stockIds[index] = holding.getKey();
+            amounts[index] = data.getAmount();
+            totalInvested += data.getTotalInvested();
+            totalShares += data.getAmount();
+            index++;
+        }
+        if (index < size) {
+            stockIds = Arrays.copyOf(stockIds, index);
+            amounts = Arrays.copyOf(amounts, index);
+        }
+
+        entries.put(uuid, evaluate(stockIds, amounts, totalInvested, totalShares, prices));
+    }
+
+    /**
+     * 시세 변동 반영 (모든 플레이어의 평가액만 다시 계산)
+     * 동시에 여러 번 호출하지 않아야 합니다. (늦게 끝난 쪽의 시세가 남음)
+     */
+    public void reprice(PriceSnapshot prices) {
+        for (UUID uuid : entries.keySet()) {
+            // 그 사이 거래로 바뀐 보유 현황을 기준으로 다시 계산
+            entries.computeIfPresent(uuid, (k, old) -> evaluate(old.stockIds(), old.amounts(),
+                    old.totalInvested(), old.totalShares(), prices));
+        }
+    }
+
+    /**
+     * 모든 플레이어의 평가액 복사 (순위표 재구성용)
+     */
+    public Map<UUID, Double> getTotalValues() {
+        Map<UUID, Double> values = new HashMap<>(entries.size() * 2);
+        for (Map.Entry<UUID, Entry> entry : entries.entrySet()) {
+            values.put(entry.getKey(), entry.getValue().valuation().totalValue());
+        }
+        return values;
+    }
+
+    /**
+     * 종목별 보유자 수/총 보유 수량 (보유 수량 내림차순)
+     */
+    public List<StockHolders> getHolderStats() {
+        Map<String, long[]> totals = new HashMap<>();
+        for (Entry entry : entries.values()) {
+            for (int i = 0; i < entry.stockIds().length; i++) {
+                if (entry.amounts()[i] > 0) {
+                    long[] total = totals.computeIfAbsent(entry.stockIds()[i], k -> new long[2]);
+                    total[0]++;
+                    total[1] += entry.amounts()[i];
+                }
+            }
+        }
+        List<StockHolders> stats = new ArrayList<>(totals.size());
+        for (Map.Entry<String, long[]> total : totals.entrySet()) {
+            stats.add(new StockHolders(total.getKey(), (int) total.getValue()[0], total.getValue()[1]));
+        }
+        stats.sort(Comparator.comparingLong(StockHolders::shares).reversed());
+        return stats;
+    }
+
+    // =====================
+    // 저장/복원
+    // =====================
+
+    /**
+     * 모든 플레이어의 보유 현황 복사 (스냅샷 저장용, 배열은 갱신 시 새로 만들므로 복사하지 않음)
+     */
+    public Map<UUID, Holdings> export() {
+        Map<UUID, Holdings> exported = new HashMap<>(entries.size() * 2);
+        for (Map.Entry<UUID, Entry> entry : entries.entrySet()) {
+            Entry value = entry.getValue();
+            exported.put(entry.getKey(), new Holdings(value.stockIds(), value.amounts(), value.totalInvested()));
+        }
+        return exported;
+    }
+
+    /**
+     * 저장된 보유 현황 복원 (보유 파일을 읽지 않고 평가액만 계산)
+     */
+    public void restore(UUID uuid, Holdings holdings, PriceSnapshot prices) {
+        if (holdings.stockIds().length == 0) {
+            return;
+        }
+        int totalShares = 0;
+        for (int amount : holdings.amounts()) {
+            totalShares += amount;
+        }
+        entries.put(uuid, evaluate(holdings.stockIds(), holdings.amounts(), holdings.totalInvested(), totalShares,
+                prices));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void remove(UUID uuid) {
+        entries.remove(uuid);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 플레이어 포트폴리오 평가 (보유 주식이 없으면 EMPTY)
+     */
+    public Valuation get(UUID uuid) {
+        Entry entry = entries.get(uuid);
+        return (entry != null) ? entry.valuation() : Valuation.EMPTY;
+    }
+
+    /**
+     * 플레이어의 종목 보유 수량 (보유 데이터를 읽지 않으므로 접속하지 않은 플레이어도 O(보유 종목 수), 없으면 0)
+     */
+    public int getAmount(UUID uuid, String stockId) {
+        Entry entry = entries.get(uuid);
+        if (entry == null) {
+            return 0;
+        }
+        String[] stockIds = entry.stockIds();
+        for (int i = 0; i < stockIds.length; i++) {
+            if (stockIds[i].equals(stockId)) {
+                return entry.amounts()[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 플레이어의 보유 현황 (보유 주식이 없으면 null, 배열은 읽기 전용으로 공유)
+     */
+    public Holdings getHoldings(UUID uuid) {
+        Entry entry = entries.get(uuid);
+        return (entry != null) ? new Holdings(entry.stockIds(), entry.amounts(), entry.totalInvested()) : null;
+    }
+
+    private static Entry evaluate(String[] stockIds, int[] amounts, double totalInvested, int totalShares,
+            PriceSnapshot prices) {
+        double totalValue = 0;
+        int stockCount = 0;
+        for (int i = 0; i < stockIds.length; i++) {
+            if (amounts[i] > 0) {
+                totalValue += prices.getCurrentPrice(stockIds[i], 0.0) * amounts[i];
+                stockCount++;
+            }
+        }
+        return new Entry(stockIds, amounts, totalInvested, totalShares,
+                new Valuation(totalValue, totalInvested, totalShares, stockCount));
+    }
+}
@@ -0,0 +1,313 @@
+package com.myserver.wildcore.stock;
+
+import com.myserver.wildcore.WildCore;
+import com.myserver.wildcore.config.ConfigManager;
+import com.myserver.wildcore.config.StockConfig;
+import com.myserver.wildcore.managers.StockManager;
+import com.myserver.wildcore.util.AsyncFileWriter;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주식 시세 알림 방송
+ * - 틱마다 헤더/종목별 줄/푸터를 한 번만 만들고, 플레이어마다 하나의 메시지로 합쳐 전송
+ * - 플레이어별 구독 설정 (전체 / 보유+관심 종목 / 관심 종목만 / 끔)
+ * - 전송은 여러 틱에 나누어 처리 (틱당 최대 인원 제한)
+ * - 구독 설정 변경은 바로 저장하지 않고 잠시 모아서 한 번 저장 (YAML 생성과 파일 쓰기는 쓰기 스레드)
+ */
+public class PriceBroadcaster {
+
+    /**
+     * 시세 알림 수신 범위
+     */
+    public enum AlertMode {
+        ALL("전체"),
+        HOLDINGS("보유+관심 종목"),
+        WATCHLIST("관심 종목"),
+        OFF("끔");
+
+        private final String displayName;
+
+        AlertMode(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        /**
+         * 명령어 인자 -> 모드 (all, holdings, watch, off)
+         */
+        public static AlertMode fromString(String value) {
+            if (value == null) {
+                return null;
+            }
+            return switch (value.toLowerCase()) {
+                case "all", "전체" -> ALL;
+                case "holdings", "hold", "보유" -> HOLDINGS;
+                case "watch", "watchlist", "관심" -> WATCHLIST;
+                case "off", "끔" -> OFF;
+                default -> null;
+            };
+        }
+    }
+
+    /**
+     * 한 번의 시세 변동에 대해 미리 만들어 둔 메시지 조각
+     */
+    private record TickMessage(String header, String footer, String[] stockIds, String[] lines, String fullMessage) {
+    }
+
+    // 구독 설정 변경 후 저장까지 기다리는 시간 (그 사이의 변경은 한 번에 저장)
+    private static final long SAVE_DELAY_TICKS = 100L;
+
+    private final WildCore plugin;
+    private final StockManager stockManager;
+    private final AsyncFileWriter fileWriter;
+    private final File dataFile;
+
+    // 플레이어별 구독 설정
+    private final Map<UUID, AlertMode> modes = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> watchlists = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    // 분산 전송 상태 (메인 스레드 전용)
+    private final Deque<UUID> sendQueue = new ArrayDeque<>();
+    private TickMessage pendingMessage;
+    private BukkitTask sendTask;
+
+    public PriceBroadcaster(WildCore plugin, StockManager stockManager, AsyncFileWriter fileWriter) {
+        this.plugin = plugin;
+        this.stockManager = stockManager;
+        this.fileWriter = fileWriter;
+        this.dataFile = new File(new File(plugin.getDataFolder(), "data"), "stock_alerts.yml");
+        load();
+    }
+
+    // =====================
+    // 방송
+    // =====================
+
+    /**
+     * 시세 변동 알림 준비 (어느 스레드에서 호출해도 됨)
+     * 메시지는 여기서 한 번만 만들고, 실제 전송은 메인 스레드에서 나누어 처리합니다.
+     */
+    public void broadcast() {
+        ConfigManager config = plugin.getConfigManager();
+        List<StockConfig> stocks = config.getAllStocksSorted();
+
+        String header = config.getMessage("stock.price_update_header");
+        String footer = config.getMessage("stock.price_update_footer");
+        String[] stockIds = new String[stocks.size()];
+        String[] lines = new String[stocks.size()];
+
+        StringBuilder full = new StringBuilder(header);
+        for (int i = 0; i < stocks.size(); i++) {
+            StockConfig stock = stocks.get(i);
+            stockIds[i] = stock.getId();
+            lines[i] = config.getMessage("stock.price_update_entry",
+                    "stock", stock.getDisplayName(),
+                    "price", stockManager.getFormattedPrice(stock.getId()),
+                    "change", stockManager.getFormattedChange(stock.getId()));
+            full.append('\n').append(lines[i]);
+        }
+        full.append('\n').append(footer);
+
+        TickMessage message = new TickMessage(header, footer, stockIds, lines, full.toString());
+        plugin.getServer().getScheduler().runTask(plugin, () -> startSending(message));
+    }
+
+    /**
+     * 온라인 플레이어를 대기열에 넣고 틱마다 일부씩 전송
+     * 이전 알림이 아직 전송 중이면 새 알림으로 교체합니다.
+     */
+    private void startSending(TickMessage message) {
+        plugin.getServer().getConsoleSender().sendMessage(message.fullMessage());
+
+        pendingMessage = message;
+        sendQueue.clear();
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            sendQueue.add(player.getUniqueId());
+        }
+
+        if (sendTask == null && !sendQueue.isEmpty()) {
+            sendTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::sendNextBatch, 0L, 1L);
+        }
+    }
+
+    private void sendNextBatch() {
+        int budget = Math.max(1, plugin.getConfigManager().getStockBroadcastPlayersPerTick());
+        while (budget-- > 0 && !sendQueue.isEmpty()) {
+            Player player = plugin.getServer().getPlayer(sendQueue.poll());
+            if (player == null || !player.isOnline()) {
+                continue;
+            }
+            String text = buildMessage(player.getUniqueId(), pendingMessage);
+            if (text != null) {
+                player.sendMessage(text);
+            }
+        }
+
+        if (sendQueue.isEmpty()) {
+            stop();
+        }
+    }
+
+    /**
+     * 플레이어 구독 설정에 맞는 메시지 (받을 내용이 없으면 null)
+     */
+    private String buildMessage(UUID uuid, TickMessage message) {
+        AlertMode mode = getMode(uuid);
+        if (mode == AlertMode.OFF) {
+            return null;
+        }
+        if (mode == AlertMode.ALL) {
+            return message.fullMessage();
+        }
+
+        Set<String> watched = watchlists.getOrDefault(uuid, Collections.emptySet());
+        StringBuilder sb = null;
+        for (int i = 0; i < message.stockIds().length; i++) {
+            String stockId = message.stockIds()[i];
+            boolean include = watched.contains(stockId)
+                    || (mode == AlertMode.HOLDINGS && stockManager.getHeldAmount(uuid, stockId) > 0);
+            if (!include) {
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(message.header());
+            }
+            sb.append('\n').append(message.lines()[i]);
+        }
+        return (sb != null) ? sb.append('\n').append(message.footer()).toString() : null;
+    }
+
+    /**
+     * 진행 중인 분산 전송 중지
+     */
+    public void stop() {
+        if (sendTask != null) {
+            sendTask.cancel();
+            sendTask = null;
+        }
+        sendQueue.clear();
+        pendingMessage = null;
+    }
+
+    // =====================
+    // 구독 설정
+    // =====================
+
+    public AlertMode getMode(UUID uuid) {
+        AlertMode mode = modes.get(uuid);
+        return (mode != null) ? mode : plugin.getConfigManager().getStockBroadcastDefaultMode();
+    }
+
+    public void setMode(UUID uuid, AlertMode mode) {
+        modes.put(uuid, mode);
+        markDirty();
+    }
+
+    /**
+     * 관심 종목 토글
+     *
+     * @return 추가되었으면 true, 제거되었으면 false
+     */
+    public boolean toggleWatch(UUID uuid, String stockId) {
+        Set<String> watched = watchlists.computeIfAbsent(uuid, k -> ConcurrentHashMap.newKeySet());
+        boolean added = watched.add(stockId);
+        if (!added) {
+            watched.remove(stockId);
+        }
+        markDirty();
+        return added;
+    }
+
+    public Set<String> getWatchlist(UUID uuid) {
+        return Collections.unmodifiableSet(watchlists.getOrDefault(uuid, Collections.emptySet()));
+    }
+
+    // =====================
+    // 저장/로드
+    // =====================
+
+    private void load() {
+        modes.clear();
+        watchlists.clear();
+        if (!dataFile.exists()) {
+            return;
+        }
+
+        FileConfiguration data = YamlConfiguration.loadConfiguration(dataFile);
+        if (!data.isConfigurationSection("players")) {
+            return;
+        }
+        for (String uuidStr : data.getConfigurationSection("players").getKeys(false)) {
+            try {
+                UUID uuid = UUID.fromString(uuidStr);
+                String path = "players." + uuidStr;
+                AlertMode mode = AlertMode.fromString(data.getString(path + ".mode"));
+                if (mode != null) {
+                    modes.put(uuid, mode);
+                }
+                List<String> watched = data.getStringList(path + ".watch");
+                if (!watched.isEmpty()) {
+                    Set<String> set = ConcurrentHashMap.newKeySet();
+                    set.addAll(watched);
+                    watchlists.put(uuid, set);
+                }
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("잘못된 시세 알림 설정 무시: " + uuidStr);
+            }
+        }
+    }
+
+    /**
+     * 변경 표시 (처음 표시될 때만 잠시 뒤 저장을 예약)
+     */
+    private void markDirty() {
+        if (dirty.compareAndSet(false, true)) {
+            plugin.getServer().getScheduler().runTaskLater(plugin, this::save, SAVE_DELAY_TICKS);
+        }
+    }
+
+    /**
+     * 변경된 설정이 있으면 복사해 쓰기 스레드에서 저장 (종료 시에도 호출)
+     */
+    public void save() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        Map<UUID, AlertMode> modesCopy = new HashMap<>(modes);
+        Map<UUID, List<String>> watchCopy = new HashMap<>();
+        for (Map.Entry<UUID, Set<String>> entry : watchlists.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                watchCopy.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+        }
+
+        fileWriter.execute(() -> {
+            YamlConfiguration yaml = new YamlConfiguration();
+            for (Map.Entry<UUID, AlertMode> entry : modesCopy.entrySet()) {
+                yaml.set("players." + entry.getKey() + ".mode", entry.getValue().name().toLowerCase());
+            }
+            for (Map.Entry<UUID, List<String>> entry : watchCopy.entrySet()) {
+                yaml.set("players." + entry.getKey() + ".watch", entry.getValue());
+            }
+            try {
+                AsyncFileWriter.writeAtomically(dataFile, yaml.saveToString());
+            } catch (IOException e) {
+                plugin.getLogger().severe("시세 알림 설정 저장 실패: " + e.getMessage());
+            }
+        });
+    }
+}
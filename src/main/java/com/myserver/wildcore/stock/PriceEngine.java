@@ -0,0 +1,232 @@
+package com.myserver.wildcore.stock;
+
+import com.myserver.wildcore.config.StockConfig;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 주식 가격 변동 엔진 (순수 계산, 시드 지정 가능)
+ * 같은 시드와 같은 입력이면 항상 같은 가격이 나오므로 오프라인 시뮬레이션에 사용할 수 있습니다.
+ *
+ * 알고리즘 구성요소:
+ * 1. 랜덤 노이즈: 기본 변동성 기반 무작위 변동
+ * 2. 평균 회귀: basePrice로 돌아가려는 힘 (가격이 멀어질수록 강해짐)
+ * 3. 모멘텀: 최근 가격 추세를 반영 (상승/하락 관성)
+ * 4. 이벤트: 낮은 확률로 급등/급락 발생
+ * 5. 가격 보정: min/max 범위 내로 제한
+ *
+ * 스레드 안전하지 않으므로 여러 스레드에서 쓸 때는 호출 측에서 동기화해야 합니다.
+ */
+public final class PriceEngine {
+
+    // 모멘텀 계산에 필요한 최근 가격 수 (최근 3회 변동률)
+    public static final int WINDOW = 4;
+
+    // 평균 회귀 강도 (기준가로 돌아오는 힘)
+    private static final double REVERSION_STRENGTH = 0.1;
+    // 모멘텀 가중치 (최근 추세 반영)
+    private static final double MOMENTUM_WEIGHT = 0.3;
+    // 이벤트 발생 확률 (급등/급락)
+    private static final double EVENT_PROBABILITY = 0.05;
+    // 이벤트 배율 범위
+    private static final double EVENT_MIN_MULTIPLIER = 2.0;
+    private static final double EVENT_MAX_MULTIPLIER = 3.0;
+    // 최저 가격 (0 이하로 떨어지지 않도록 보장)
+    private static final double PRICE_FLOOR = 0.1;
+
+    /**
+     * 종목별 변동 설정
+     */
+    public record Params(double basePrice, double volatility, double minPrice, double maxPrice) {
+
+        public static Params of(StockConfig stock) {
+            return new Params(stock.getBasePrice(), stock.getVolatility(), stock.getMinPrice(), stock.getMaxPrice());
+        }
+    }
+
+    /**
+     * 여러 종목을 한 번에 진행하기 위한 상태 (종목별 배열, 인덱스 = 종목 순서)
+     * prev1~prev3은 직전 1~3번째 가격, historySize는 기록된 가격 수 (WINDOW에서 멈춤)
+     */
+    public static final class State {
+
+        final double[] prices;
+        final double[] prev1;
+        final double[] prev2;
+        final double[] prev3;
+        final int[] historySize;
+        final long[] events;
+
+        /**
+         * @param initialPrices 시작 가격 (가격 기록에 첫 값으로 들어감)
+         */
+        public State(double[] initialPrices) {
+            int n = initialPrices.length;
+            this.prices = initialPrices.clone();
+            this.prev1 = new double[n];
+            this.prev2 = new double[n];
+            this.prev3 = new double[n];
+            this.historySize = new int[n];
+            this.events = new long[n];
+            Arrays.fill(historySize, 1);
+        }
+
+        public int size() {
+            return prices.length;
+        }
+
+        public double getPrice(int index) {
+            return prices[index];
+        }
+
+        /**
+         * 지금까지 발생한 이벤트(급등/급락) 횟수
+         */
+        public long getEventCount(int index) {
+            return events[index];
+        }
+    }
+
+    private final SplittableRandom random;
+
+    // 마지막 next 호출에서 발생한 이벤트 배율 (없으면 0)
+    private double lastEventMultiplier;
+
+    public PriceEngine(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    // =====================
+    // 단일 종목
+    // =====================
+
+    /**
+     * 단일 종목의 다음 가격 계산
+     *
+     * @param recent 최근 가격 기록 (오래된 순서, 마지막 값이 가장 최근)
+     * @param count recent에 들어 있는 가격 수
+     */
+    public double next(Params params, double currentPrice, double[] recent, int count) {
+        double momentum = 0;
+        if (count >= 3) {
+            // 최근 3회 변동률 평균 계산
+            double sumChange = 0;
+            int changes = 0;
+            for (int back = 0; back < 3 && back + 1 < count; back++) {
+                double prevPrice = recent[count - 2 - back];
+                if (prevPrice > 0) {
+                    sumChange += (recent[count - 1 - back] - prevPrice) / prevPrice;
+                    changes++;
+                }
+            }
+            if (changes > 0) {
+                momentum = (sumChange / changes) * MOMENTUM_WEIGHT;
+            }
+        }
+        return compute(params, currentPrice, momentum);
+    }
+
+    /**
+     * 마지막 next 호출에서 발생한 이벤트 배율 (이벤트가 없었으면 0)
+     */
+    public double getLastEventMultiplier() {
+        return lastEventMultiplier;
+    }
+
+    // =====================
+    // 일괄 처리 (모든 종목 한 번에)
+    // =====================
+
+    /**
+     * 모든 종목을 한 틱 진행
+     * 종목별 배열을 순서대로 훑으므로 객체 생성 없이 처리됩니다.
+     *
+     * @return 이번 틱에 발생한 이벤트 수
+     */
+    public int step(Params[] params, State state) {
+        int eventCount = 0;
+        for (int i = 0; i < params.length; i++) {
+            double p0 = state.prices[i];
+            double p1 = state.prev1[i];
+            double p2 = state.prev2[i];
+            double p3 = state.prev3[i];
+            int size = state.historySize[i];
+
+            double momentum = 0;
+            if (size >= 3) {
+                double sumChange = 0;
+                int changes = 0;
+                if (p1 > 0) {
+                    sumChange += (p0 - p1) / p1;
+                    changes++;
+                }
+                if (p2 > 0) {
+                    sumChange += (p1 - p2) / p2;
+                    changes++;
+                }
+                if (size >= WINDOW && p3 > 0) {
+                    sumChange += (p2 - p3) / p3;
+                    changes++;
+                }
+                if (changes > 0) {
+                    momentum = (sumChange / changes) * MOMENTUM_WEIGHT;
+                }
+            }
+
+            double next = compute(params[i], p0, momentum);
+            if (lastEventMultiplier > 0) {
+                state.events[i]++;
+                eventCount++;
+            }
+
+            state.prev3[i] = p2;
+            state.prev2[i] = p1;
+            state.prev1[i] = p0;
+            state.prices[i] = next;
+            if (size < WINDOW) {
+                state.historySize[i] = size + 1;
+            }
+        }
+        return eventCount;
+    }
+
+    // =====================
+    // 공통 계산
+    // =====================
+
+    private double compute(Params params, double currentPrice, double momentum) {
+        double basePrice = params.basePrice();
+
+        // 1. 랜덤 노이즈 (-volatility ~ +volatility)
+        double noise = (random.nextDouble() * 2 - 1) * params.volatility();
+
+        // 2. 평균 회귀 (기준가에서 멀어질수록 되돌아오는 힘)
+        double reversion = 0;
+        if (basePrice > 0) {
+            reversion = ((basePrice - currentPrice) / basePrice) * REVERSION_STRENGTH;
+        }
+
+        // 3. 최종 변동률 계산 (모멘텀 포함)
+        double change = noise + reversion + momentum;
+
+        // 4. 이벤트 시스템 (낮은 확률로 급등/급락, 방향은 기존 변동 방향 유지)
+        lastEventMultiplier = 0;
+        if (random.nextDouble() < EVENT_PROBABILITY) {
+            lastEventMultiplier = EVENT_MIN_MULTIPLIER +
+                    random.nextDouble() * (EVENT_MAX_MULTIPLIER - EVENT_MIN_MULTIPLIER);
+            change *= lastEventMultiplier;
+        }
+
+        // 5. 새 가격 계산 및 최소/최대 가격 보정
+        double newPrice = currentPrice * (1 + change);
+        if (params.minPrice() > 0) {
+            newPrice = Math.max(params.minPrice(), newPrice);
+        }
+        if (params.maxPrice() > 0) {
+            newPrice = Math.min(params.maxPrice(), newPrice);
+        }
+
+        return Math.max(PRICE_FLOOR, newPrice);
+    }
+}
@@ -0,0 +1,255 @@
+package com.myserver.wildcore.stock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 종목별 가격 기록 (double 링 버퍼)
+ * - 깊이가 수천 틱이어도 추가는 O(1), 박싱 없음
+ * - 틱마다 여러 해상도의 OHLC 캔들을 함께 집계
+ * - 쓰기는 한 스레드(시세 틱), 읽기는 낙관적 읽기로 잠금 없이 처리
+ */
+public final class PriceHistory {
+
+    private final double[] prices;
+    private int head; // 다음에 기록할 위치
+    private int size;
+
+    private final CandleSeries[] candles;
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * @param depth       보관할 틱 수
+     * @param resolutions 캔들 해상도 목록 (캔들 하나에 들어가는 틱 수)
+     * @param candleDepth 해상도별로 보관할 캔들 수
+     */
+    public PriceHistory(int depth, int[] resolutions, int candleDepth) {
+        this.prices = new double[Math.max(2, depth)];
+        this.candles = new CandleSeries[resolutions.length];
+        for (int i = 0; i < resolutions.length; i++) {
+            candles[i] = new CandleSeries(resolutions[i], candleDepth);
+        }
+    }
+
+    // =====================
+    // 쓰기
+    // =====================
+
+    /**
+     * 새 틱 가격 추가 (캔들도 함께 갱신)
+     */
+    public void add(double price) {
+        long stamp = lock.writeLock();
+        try {
+            pushPrice(price);
+            for (CandleSeries series : candles) {
+                series.add(price);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 저장된 가격 기록 복원 (캔들은 건드리지 않음)
+     */
+    public void restorePrices(double[] values) {
+        long stamp = lock.writeLock();
+        try {
+            for (double value : values) {
+                pushPrice(value);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 저장된 캔들 복원 ([시가, 고가, 저가, 종가, ...] 오래된 순서)
+     */
+    public void restoreCandles(int resolution, double[] flat) {
+        long stamp = lock.writeLock();
+        try {
+            for (CandleSeries series : candles) {
+                if (series.getResolution() != resolution) {
+                    continue;
+                }
+                series.clear();
+                for (int i = 0; i + 3 < flat.length; i += 4) {
+                    series.push(flat[i], flat[i + 1], flat[i + 2], flat[i + 3]);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 현재 가격 기록으로 캔들 재구성 (캔들 저장 데이터가 없는 구버전 파일용)
+     */
+    public void rebuildCandles() {
+        long stamp = lock.writeLock();
+        try {
+            for (CandleSeries series : candles) {
+                series.clear();
+                for (int back = size - 1; back >= 0; back--) {
+                    series.add(prices[indexOf(back)]);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void pushPrice(double price) {
+        prices[head] = price;
+        head = (head + 1) % prices.length;
+        if (size < prices.length) {
+            size++;
+        }
+    }
+
+    private int indexOf(int back) {
+        int index = head - 1 - back;
+        return (index < 0) ? index + prices.length : index;
+    }
+
+    // =====================
+    // 읽기 (할당 없음)
+    // =====================
+
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int result = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 최근 가격 조회 (0 = 가장 최근 틱)
+     *
+     * @return 해당 기록이 없으면 Double.NaN
+     */
+    public double getLatest(int back) {
+        long stamp = lock.tryOptimisticRead();
+        double result = readLatest(back);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = readLatest(back);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    private double readLatest(int back) {
+        if (back < 0 || back >= size) {
+            return Double.NaN;
+        }
+        return prices[indexOf(back)];
+    }
+
+    /**
+     * 최근 가격을 오래된 순서로 dest에 복사 (호출 측 배열 재사용)
+     *
+     * @return 복사한 개수
+     */
+    public int copyLatest(double[] dest) {
+        long stamp = lock.readLock();
+        try {
+            int count = Math.min(dest.length, size);
+            for (int i = 0; i < count; i++) {
+                dest[i] = prices[indexOf(count - 1 - i)];
+            }
+            return count;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 전체 가격 기록 (오래된 순서, 저장/호환용으로 새 배열 생성)
+     */
+    public double[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            double[] result = new double[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = prices[indexOf(size - 1 - i)];
+            }
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public List<Double> toList() {
+        double[] values = toArray();
+        List<Double> list = new ArrayList<>(values.length);
+        for (double value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    // =====================
+    // 캔들
+    // =====================
+
+    public int getCandleSeriesCount() {
+        return candles.length;
+    }
+
+    public int getCandleResolution(int seriesIndex) {
+        return candles[seriesIndex].getResolution();
+    }
+
+    public int getCandleCount(int seriesIndex) {
+        long stamp = lock.readLock();
+        try {
+            return candles[seriesIndex].size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 완성된 캔들 조회 (0 = 가장 최근 캔들)
+     *
+     * @return 해당 캔들이 없으면 null
+     */
+    public Candle getCandle(int seriesIndex, int back) {
+        long stamp = lock.readLock();
+        try {
+            CandleSeries series = candles[seriesIndex];
+            if (back < 0 || back >= series.size()) {
+                return null;
+            }
+            return series.get(back);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 해상도별 캔들 전체 ([시가, 고가, 저가, 종가, ...] 오래된 순서, 저장용)
+     */
+    public double[] getCandleData(int seriesIndex) {
+        long stamp = lock.readLock();
+        try {
+            return candles[seriesIndex].toFlatArray();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.myserver.wildcore.stock;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가격 변동 오프라인 시뮬레이터
+ * 서버 없이 stocks.yml의 변동성 설정으로 수백만 틱을 돌려 가격 분포를 확인합니다.
+ *
+ * 서버 밖에서 실행:
+ * java -cp WildCore.jar:paper-api.jar com.myserver.wildcore.stock.PriceSimulator stocks.yml [틱수] [시드]
+ * 서버 안에서는 /wc debug pricesim, /wc debug pricebench 로 실행합니다.
+ */
+public final class PriceSimulator {
+
+    /**
+     * 종목별 시뮬레이션 결과
+     *
+     * @param tickVolatility 틱당 변동률의 표준편차
+     * @param minHits 최소 가격에 걸린 횟수
+     * @param maxHits 최대 가격에 걸린 횟수
+     */
+    public record StockStats(String stockId, double startPrice, double finalPrice, double lowestPrice,
+            double highestPrice, double meanPrice, double tickVolatility, long minHits, long maxHits, long events) {
+    }
+
+    public record Report(long ticks, long seed, List<StockStats> stocks, long elapsedNanos) {
+
+        public double ticksPerSecond() {
+            return (elapsedNanos > 0) ? ticks * 1_000_000_000.0 / elapsedNanos : 0;
+        }
+    }
+
+    /**
+     * 처리량 측정 결과 (단일 종목 호출 방식과 일괄 처리 방식 비교)
+     *
+     * @param checksum 계산 결과가 최적화로 사라지지 않도록 남기는 값
+     */
+    public record Benchmark(int stockCount, long ticks, long singleNanos, long batchNanos, double checksum) {
+
+        public double singleTicksPerSecond() {
+            return (singleNanos > 0) ? ticks * 1_000_000_000.0 / singleNanos : 0;
+        }
+
+        public double batchTicksPerSecond() {
+            return (batchNanos > 0) ? ticks * 1_000_000_000.0 / batchNanos : 0;
+        }
+    }
+
+    private PriceSimulator() {
+    }
+
+    /**
+     * 모든 종목을 기준가에서 시작해 지정한 틱만큼 진행
+     *
+     * @param stocks 종목ID -> 변동 설정 (순서 유지)
+     */
+    public static Report run(Map<String, PriceEngine.Params> stocks, long ticks, long seed) {
+        String[] ids = stocks.keySet().toArray(new String[0]);
+        PriceEngine.Params[] params = stocks.values().toArray(new PriceEngine.Params[0]);
+        int n = params.length;
+
+        double[] start = new double[n];
+        for (int i = 0; i < n; i++) {
+            start[i] = params[i].basePrice();
+        }
+
+        PriceEngine engine = new PriceEngine(seed);
+        PriceEngine.State state = new PriceEngine.State(start);
+
+        double[] lowest = start.clone();
+        double[] highest = start.clone();
+        double[] sum = new double[n];
+        double[] returnSum = new double[n];
+        double[] returnSquareSum = new double[n];
+        long[] minHits = new long[n];
+        long[] maxHits = new long[n];
+
+        long begin = System.nanoTime();
+        for (long tick = 0; tick < ticks; tick++) {
+            engine.step(params, state);
+            for (int i = 0; i < n; i++) {
+                double price = state.prices[i];
+                double previous = state.prev1[i]; // step 후에는 prev1이 직전 가격
+                sum[i] += price;
+                if (previous > 0) {
+                    double change = (price - previous) / previous;
+                    returnSum[i] += change;
+                    returnSquareSum[i] += change * change;
+                }
+                if (price < lowest[i]) {
+                    lowest[i] = price;
+                }
+                if (price > highest[i]) {
+                    highest[i] = price;
+                }
+                if (params[i].minPrice() > 0 && price <= params[i].minPrice()) {
+                    minHits[i]++;
+                }
+                if (params[i].maxPrice() > 0 && price >= params[i].maxPrice()) {
+                    maxHits[i]++;
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        List<StockStats> stats = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            double mean = (ticks > 0) ? sum[i] / ticks : start[i];
+            double meanReturn = (ticks > 0) ? returnSum[i] / ticks : 0;
+            double variance = (ticks > 0) ? returnSquareSum[i] / ticks - meanReturn * meanReturn : 0;
+            stats.add(new StockStats(ids[i], start[i], state.prices[i], lowest[i], highest[i], mean,
+                    Math.sqrt(Math.max(0, variance)), minHits[i], maxHits[i], state.getEventCount(i)));
+        }
+        return new Report(ticks, seed, stats, elapsed);
+    }
+
+    /**
+     * 틱 처리량 측정
+     * 같은 시드로 단일 종목 호출(서버 방식)과 일괄 처리를 각각 돌립니다.
+     * 두 방식 모두 한 번 예열한 뒤 측정합니다.
+     */
+    public static Benchmark benchmark(Map<String, PriceEngine.Params> stocks, long ticks, long seed) {
+        PriceEngine.Params[] params = stocks.values().toArray(new PriceEngine.Params[0]);
+        long warmup = Math.min(ticks, 100_000);
+
+        runSingle(params, warmup, seed);
+        runBatch(params, warmup, seed);
+
+        long begin = System.nanoTime();
+        double checksum = runSingle(params, ticks, seed);
+        long singleNanos = System.nanoTime() - begin;
+
+        begin = System.nanoTime();
+        checksum += runBatch(params, ticks, seed);
+        long batchNanos = System.nanoTime() - begin;
+
+        return new Benchmark(params.length, ticks, singleNanos, batchNanos, checksum);
+    }
+
+    /**
+     * 종목마다 next를 호출 (서버의 updateAllPrices와 같은 방식)
+     */
+    private static double runSingle(PriceEngine.Params[] params, long ticks, long seed) {
+        int n = params.length;
+        PriceEngine engine = new PriceEngine(seed);
+        double[][] windows = new double[n][PriceEngine.WINDOW];
+        int[] counts = new int[n];
+        double[] prices = new double[n];
+        for (int i = 0; i < n; i++) {
+            prices[i] = params[i].basePrice();
+            windows[i][0] = prices[i];
+            counts[i] = 1;
+        }
+
+        for (long tick = 0; tick < ticks; tick++) {
+            for (int i = 0; i < n; i++) {
+                double next = engine.next(params[i], prices[i], windows[i], counts[i]);
+                prices[i] = next;
+                // 가격 기록 윈도우에 추가 (오래된 값부터 밀어냄)
+                double[] window = windows[i];
+                if (counts[i] < PriceEngine.WINDOW) {
+                    window[counts[i]++] = next;
+                } else {
+                    System.arraycopy(window, 1, window, 0, PriceEngine.WINDOW - 1);
+                    window[PriceEngine.WINDOW - 1] = next;
+                }
+            }
+        }
+
+        double checksum = 0;
+        for (double price : prices) {
+            checksum += price;
+        }
+        return checksum;
+    }
+
+    private static double runBatch(PriceEngine.Params[] params, long ticks, long seed) {
+        double[] start = new double[params.length];
+        for (int i = 0; i < params.length; i++) {
+            start[i] = params[i].basePrice();
+        }
+        PriceEngine engine = new PriceEngine(seed);
+        PriceEngine.State state = new PriceEngine.State(start);
+        for (long tick = 0; tick < ticks; tick++) {
+            engine.step(params, state);
+        }
+
+        double checksum = 0;
+        for (int i = 0; i < state.size(); i++) {
+            checksum += state.getPrice(i);
+        }
+        return checksum;
+    }
+
+    /**
+     * stocks.yml의 stocks 섹션에서 변동 설정 읽기
+     */
+    public static Map<String, PriceEngine.Params> loadParams(ConfigurationSection stocksSection) {
+        Map<String, PriceEngine.Params> params = new LinkedHashMap<>();
+        if (stocksSection == null) {
+            return params;
+        }
+        for (String key : stocksSection.getKeys(false)) {
+            params.put(key, new PriceEngine.Params(
+                    stocksSection.getDouble(key + ".base_price"),
+                    stocksSection.getDouble(key + ".volatility"),
+                    stocksSection.getDouble(key + ".min_price"),
+                    stocksSection.getDouble(key + ".max_price")));
+        }
+        return params;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("사용법: PriceSimulator <stocks.yml> [틱수] [시드]");
+            return;
+        }
+
+        YamlConfiguration yaml = YamlConfiguration.loadConfiguration(new File(args[0]));
+        Map<String, PriceEngine.Params> stocks = loadParams(yaml.getConfigurationSection("stocks"));
+        long ticks = (args.length >= 2) ? Long.parseLong(args[1]) : 1_000_000L;
+        long seed = (args.length >= 3) ? Long.parseLong(args[2]) : System.nanoTime();
+
+        Report report = run(stocks, ticks, seed);
+        System.out.printf("종목 %d개, %,d틱, 시드 %d (%.0f틱/초)%n",
+                stocks.size(), report.ticks(), report.seed(), report.ticksPerSecond());
+        System.out.printf("%-28s %10s %10s %10s %10s %10s %8s %8s %8s %8s%n",
+                "종목", "시작", "최종", "최저", "최고", "평균", "틱변동", "최저도달", "최고도달", "이벤트");
+        for (StockStats stats : report.stocks()) {
+            System.out.printf("%-28s %,10.1f %,10.1f %,10.1f %,10.1f %,10.1f %7.2f%% %,8d %,8d %,8d%n",
+                    stats.stockId(), stats.startPrice(), stats.finalPrice(), stats.lowestPrice(),
+                    stats.highestPrice(), stats.meanPrice(), stats.tickVolatility() * 100,
+                    stats.minHits(), stats.maxHits(), stats.events());
+        }
+    }
+}
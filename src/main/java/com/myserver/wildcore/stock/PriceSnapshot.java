@@ -0,0 +1,97 @@
+package com.myserver.wildcore.stock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 주식 시세 스냅샷 (불변)
+ * - 시세가 바뀔 때마다 새 스냅샷을 만들어 통째로 교체
+ * - 읽는 쪽(GUI, PlaceholderAPI, 매수/매도)은 잠금 없이 항상 한 시점의 일관된 값을 봄
+ * 가격 기록은 종목별 PriceHistory에서 따로 관리합니다.
+ */
+public final class PriceSnapshot {
+
+    public static final PriceSnapshot EMPTY = new PriceSnapshot(Map.of(), Map.of(), 0);
+
+    private final Map<String, Double> currentPrices;
+    private final Map<String, Double> previousPrices;
+    private final long version;
+
+    private PriceSnapshot(Map<String, Double> currentPrices, Map<String, Double> previousPrices, long version) {
+        this.currentPrices = currentPrices;
+        this.previousPrices = previousPrices;
+        this.version = version;
+    }
+
+    /**
+     * 저장 데이터로부터 스냅샷 생성 (이전 가격 = 현재 가격)
+     */
+    public static PriceSnapshot of(Map<String, Double> prices) {
+        return new PriceSnapshot(Map.copyOf(prices), Map.copyOf(prices), 0);
+    }
+
+    // =====================
+    // 새 스냅샷 생성 (쓰기 측)
+    // =====================
+
+    /**
+     * 정기 시세 변동 적용 (변동된 종목은 이전 가격도 갱신)
+     */
+    public PriceSnapshot withTick(Map<String, Double> newPrices) {
+        Map<String, Double> current = new HashMap<>(currentPrices);
+        Map<String, Double> previous = new HashMap<>(previousPrices);
+
+        for (Map.Entry<String, Double> entry : newPrices.entrySet()) {
+            String stockId = entry.getKey();
+            previous.put(stockId, current.getOrDefault(stockId, entry.getValue()));
+            current.put(stockId, entry.getValue());
+        }
+
+        return new PriceSnapshot(Map.copyOf(current), Map.copyOf(previous), version + 1);
+    }
+
+    /**
+     * 단일 종목 가격 설정 (관리자용)
+     */
+    public PriceSnapshot withPrice(String stockId, double price) {
+        return withTick(Map.of(stockId, price));
+    }
+
+    /**
+     * 가격이 없는 종목에 기본 가격 채우기 (이전 가격도 같은 값)
+     */
+    public PriceSnapshot withDefaults(Map<String, Double> defaultPrices) {
+        Map<String, Double> current = new HashMap<>(currentPrices);
+        Map<String, Double> previous = new HashMap<>(previousPrices);
+        for (Map.Entry<String, Double> entry : defaultPrices.entrySet()) {
+            current.putIfAbsent(entry.getKey(), entry.getValue());
+            previous.putIfAbsent(entry.getKey(), current.get(entry.getKey()));
+        }
+        return new PriceSnapshot(Map.copyOf(current), Map.copyOf(previous), version);
+    }
+
+    // =====================
+    // 조회 (읽기 측)
+    // =====================
+
+    public double getCurrentPrice(String stockId, double defaultValue) {
+        Double price = currentPrices.get(stockId);
+        return (price != null) ? price : defaultValue;
+    }
+
+    public double getPreviousPrice(String stockId, double defaultValue) {
+        Double price = previousPrices.get(stockId);
+        return (price != null) ? price : defaultValue;
+    }
+
+    public Map<String, Double> getCurrentPrices() {
+        return currentPrices;
+    }
+
+    /**
+     * 스냅샷 버전 (가격이 바뀔 때마다 1씩 증가)
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,355 @@
+package com.myserver.wildcore.stock;
+
+import com.myserver.wildcore.util.BinaryIO;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * 주식 스냅샷 형식 (stocks_data.yml / stocks_data.bin)
+ * 플레이어별 보유 상세는 PlayerStockStore가 따로 저장합니다.
+ * 바이너리 형식 (버전 1):
+ * - 머리, 다음 업데이트 시각, 저널 세그먼트, 주문 번호(long 3개), 종목 ID 문자열 표
+ * - 가격: 개수 + (종목 번호, 가격)
+ * - 가격 기록: 개수 + (종목 번호, double 배열), 캔들: 종목 개수 + (종목 번호, 해상도 개수 + (해상도, double 배열))
+ * - 보유 현황 요약: 개수 + 레코드(UUID, 총투자금, 종목 수 + (종목 번호, 수량))
+ * - 미체결 주문: 개수 + 레코드(주문 번호, 주인, 종목 번호, 방향, 가격, 수량, 미체결 수량, 생성 시각, 보관 평단가)
+ */
+public final class StockDataCodec {
+
+    public static final int MAGIC = 0x57435354; // "WCST"
+    public static final int VERSION = 1;
+
+    /**
+     * 주식 스냅샷 내용
+     *
+     * @param candles 종목 -> (해상도 -> [시가, 고가, 저가, 종가, ...]), 없는 종목은 가격 기록으로 재구성
+     */
+    public record StockData(
+            Map<String, Double> prices,
+            Map<String, double[]> history,
+            Map<String, Map<Integer, double[]>> candles,
+            long nextUpdateTime,
+            long journalSegment,
+            Map<UUID, PortfolioIndex.Holdings> index,
+            List<LimitOrder> orders,
+            long orderSequence) {
+
+        public static StockData empty() {
+            return new StockData(new HashMap<>(), new HashMap<>(), new HashMap<>(), 0, 0, new HashMap<>(),
+                    new ArrayList<>(), 0);
+        }
+    }
+
+    private StockDataCodec() {
+    }
+
+    // =====================
+    // 바이너리
+    // =====================
+
+    public static byte[] encode(StockData data) throws IOException {
+        BinaryIO.StringTable stocks = new BinaryIO.StringTable();
+        data.prices().keySet().forEach(stocks::indexOf);
+        data.history().keySet().forEach(stocks::indexOf);
+        data.candles().keySet().forEach(stocks::indexOf);
+        for (PortfolioIndex.Holdings holdings : data.index().values()) {
+            for (String stockId : holdings.stockIds()) {
+                stocks.indexOf(stockId);
+            }
+        }
+        for (LimitOrder order : data.orders()) {
+            stocks.indexOf(order.getStockId());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096 + data.index().size() * 48);
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryIO.writeHeader(out, MAGIC, VERSION);
+        out.writeLong(data.nextUpdateTime());
+        out.writeLong(data.journalSegment());
+        out.writeLong(data.orderSequence());
+        stocks.write(out);
+
+        out.writeInt(data.prices().size());
+        for (Map.Entry<String, Double> entry : data.prices().entrySet()) {
+            out.writeInt(stocks.indexOf(entry.getKey()));
+            out.writeDouble(entry.getValue());
+        }
+
+        out.writeInt(data.history().size());
+        for (Map.Entry<String, double[]> entry : data.history().entrySet()) {
+            out.writeInt(stocks.indexOf(entry.getKey()));
+            BinaryIO.writeDoubles(out, entry.getValue());
+        }
+
+        out.writeInt(data.candles().size());
+        for (Map.Entry<String, Map<Integer, double[]>> entry : data.candles().entrySet()) {
+            out.writeInt(stocks.indexOf(entry.getKey()));
+            out.writeInt(entry.getValue().size());
+            for (Map.Entry<Integer, double[]> series : entry.getValue().entrySet()) {
+                out.writeInt(series.getKey());
+                BinaryIO.writeDoubles(out, series.getValue());
+            }
+        }
+
+        ByteArrayOutputStream scratch = new ByteArrayOutputStream(64);
+        out.writeInt(data.index().size());
+        for (Map.Entry<UUID, PortfolioIndex.Holdings> entry : data.index().entrySet()) {
+            PortfolioIndex.Holdings holdings = entry.getValue();
+            BinaryIO.writeRecord(out, scratch, record -> {
+                BinaryIO.writeUuid(record, entry.getKey());
+                record.writeDouble(holdings.totalInvested());
+                record.writeInt(holdings.stockIds().length);
+                for (int i = 0; i < holdings.stockIds().length; i++) {
+                    record.writeInt(stocks.indexOf(holdings.stockIds()[i]));
+                    record.writeInt(holdings.amounts()[i]);
+                }
+            });
+        }
+
+        out.writeInt(data.orders().size());
+        for (LimitOrder order : data.orders()) {
+            BinaryIO.writeRecord(out, scratch, record -> {
+                record.writeLong(order.getId());
+                BinaryIO.writeUuid(record, order.getOwner());
+                record.writeInt(stocks.indexOf(order.getStockId()));
+                record.writeByte(order.getSide().ordinal());
+                record.writeDouble(order.getLimitPrice());
+                record.writeInt(order.getQuantity());
+                record.writeInt(order.getOpenQuantity());
+                record.writeLong(order.getCreatedTime());
+                record.writeDouble(order.getEscrowAveragePrice());
+            });
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IOException 형식이 잘못되었거나 파일이 잘린 경우
+     */
+    public static StockData decode(byte[] content) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+        BinaryIO.readHeader(in, MAGIC, VERSION);
+        long nextUpdateTime = in.readLong();
+        long journalSegment = in.readLong();
+        long orderSequence = in.readLong();
+        String[] stocks = BinaryIO.StringTable.read(in);
+
+        Map<String, Double> prices = new HashMap<>();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            prices.put(BinaryIO.lookup(stocks, in.readInt()), in.readDouble());
+        }
+
+        Map<String, double[]> history = new HashMap<>();
+        count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            history.put(BinaryIO.lookup(stocks, in.readInt()), BinaryIO.readDoubles(in));
+        }
+
+        Map<String, Map<Integer, double[]>> candles = new HashMap<>();
+        count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String stockId = BinaryIO.lookup(stocks, in.readInt());
+            int seriesCount = in.readInt();
+            Map<Integer, double[]> series = new HashMap<>();
+            for (int j = 0; j < seriesCount; j++) {
+                series.put(in.readInt(), BinaryIO.readDoubles(in));
+            }
+            candles.put(stockId, series);
+        }
+
+        count = in.readInt();
+        Map<UUID, PortfolioIndex.Holdings> index = new HashMap<>(Math.max(16, count * 2));
+        for (int i = 0; i < count; i++) {
+            DataInputStream record = BinaryIO.readRecord(in);
+            UUID uuid = BinaryIO.readUuid(record);
+            double totalInvested = record.readDouble();
+            int size = record.readInt();
+            String[] stockIds = new String[size];
+            int[] amounts = new int[size];
+            for (int j = 0; j < size; j++) {
+                stockIds[j] = BinaryIO.lookup(stocks, record.readInt());
+                amounts[j] = record.readInt();
+            }
+            index.put(uuid, new PortfolioIndex.Holdings(stockIds, amounts, totalInvested));
+        }
+
+        count = in.readInt();
+        List<LimitOrder> orders = new ArrayList<>(count);
+        LimitOrder.Side[] sides = LimitOrder.Side.values();
+        for (int i = 0; i < count; i++) {
+            DataInputStream record = BinaryIO.readRecord(in);
+            long id = record.readLong();
+            UUID owner = BinaryIO.readUuid(record);
+            String stockId = BinaryIO.lookup(stocks, record.readInt());
+            int side = record.readUnsignedByte();
+            if (side >= sides.length) {
+                throw new IOException("잘못된 주문 방향: " + side);
+            }
+            orders.add(new LimitOrder(id, owner, stockId, sides[side], record.readDouble(), record.readInt(),
+                    record.readInt(), record.readLong(), record.readDouble()));
+        }
+
+        return new StockData(prices, history, candles, nextUpdateTime, journalSegment, index, orders,
+                orderSequence);
+    }
+
+    // =====================
+    // YAML (기존 stocks_data.yml 구조)
+    // =====================
+
+    public static String toYaml(StockData data) {
+        YamlConfiguration yaml = new YamlConfiguration();
+
+        // 가격 저장
+        for (Map.Entry<String, Double> entry : data.prices().entrySet()) {
+            yaml.set("prices." + entry.getKey(), entry.getValue());
+        }
+
+        // 가격 기록 저장
+        for (Map.Entry<String, double[]> entry : data.history().entrySet()) {
+            yaml.set("history." + entry.getKey(), toList(entry.getValue()));
+        }
+
+        // 캔들 저장 ([시가, 고가, 저가, 종가, ...])
+        for (Map.Entry<String, Map<Integer, double[]>> entry : data.candles().entrySet()) {
+            for (Map.Entry<Integer, double[]> candle : entry.getValue().entrySet()) {
+                yaml.set("candles." + entry.getKey() + "." + candle.getKey(), toList(candle.getValue()));
+            }
+        }
+
+        // 다음 업데이트 시각 저장
+        yaml.set("nextUpdateTime", data.nextUpdateTime());
+
+        // 이 스냅샷 이후의 변경이 기록된 저널 세그먼트
+        yaml.set("journalSegment", data.journalSegment());
+
+        // 플레이어 보유 현황 요약 (보유 상세는 플레이어별 파일에 저장)
+        for (Map.Entry<UUID, PortfolioIndex.Holdings> entry : data.index().entrySet()) {
+            yaml.set("index." + entry.getKey(), entry.getValue().encode());
+        }
+
+        // 미체결 지정가 주문 저장
+        yaml.set("orderSequence", data.orderSequence());
+        for (LimitOrder order : data.orders()) {
+            String path = "orders." + order.getId();
+            yaml.set(path + ".owner", order.getOwner().toString());
+            yaml.set(path + ".stock", order.getStockId());
+            yaml.set(path + ".side", order.getSide().name().toLowerCase());
+            yaml.set(path + ".price", order.getLimitPrice());
+            yaml.set(path + ".quantity", order.getQuantity());
+            yaml.set(path + ".open", order.getOpenQuantity());
+            yaml.set(path + ".created", order.getCreatedTime());
+            yaml.set(path + ".escrowAveragePrice", order.getEscrowAveragePrice());
+        }
+
+        return yaml.saveToString();
+    }
+
+    /**
+     * YAML 스냅샷 읽기 (구버전 players 항목은 호출 측에서 처리)
+     */
+    public static StockData fromYaml(FileConfiguration dataConfig, Logger logger) {
+        StockData data = StockData.empty();
+
+        // 현재 가격
+        ConfigurationSection prices = dataConfig.getConfigurationSection("prices");
+        if (prices != null) {
+            for (String stockId : prices.getKeys(false)) {
+                data.prices().put(stockId, prices.getDouble(stockId));
+            }
+        }
+
+        // 전체 플레이어 보유 현황 요약
+        ConfigurationSection index = dataConfig.getConfigurationSection("index");
+        if (index != null) {
+            for (String uuidStr : index.getKeys(false)) {
+                try {
+                    data.index().put(UUID.fromString(uuidStr),
+                            PortfolioIndex.Holdings.parse(index.getString(uuidStr, "")));
+                } catch (IllegalArgumentException e) {
+                    logger.warning("잘못된 주식 보유 요약 무시: " + uuidStr);
+                }
+            }
+        }
+
+        // 가격 기록 및 캔들
+        ConfigurationSection history = dataConfig.getConfigurationSection("history");
+        if (history != null) {
+            for (String stockId : history.getKeys(false)) {
+                data.history().put(stockId, toArray(history.getDoubleList(stockId)));
+
+                ConfigurationSection candles = dataConfig.getConfigurationSection("candles." + stockId);
+                if (candles == null) {
+                    continue;
+                }
+                Map<Integer, double[]> series = new HashMap<>();
+                for (String resolution : candles.getKeys(false)) {
+                    try {
+                        series.put(Integer.parseInt(resolution), toArray(candles.getDoubleList(resolution)));
+                    } catch (NumberFormatException ignored) {
+                        // 잘못된 해상도 키는 무시
+                    }
+                }
+                data.candles().put(stockId, series);
+            }
+        }
+
+        // 미체결 지정가 주문
+        ConfigurationSection orders = dataConfig.getConfigurationSection("orders");
+        if (orders != null) {
+            for (String idStr : orders.getKeys(false)) {
+                try {
+                    LimitOrder.Side side = LimitOrder.Side.fromString(orders.getString(idStr + ".side"));
+                    if (side == null) {
+                        throw new IllegalArgumentException(idStr);
+                    }
+                    data.orders().add(new LimitOrder(Long.parseLong(idStr),
+                            UUID.fromString(orders.getString(idStr + ".owner", "")),
+                            orders.getString(idStr + ".stock"), side,
+                            orders.getDouble(idStr + ".price"),
+                            orders.getInt(idStr + ".quantity"),
+                            orders.getInt(idStr + ".open"),
+                            orders.getLong(idStr + ".created"),
+                            orders.getDouble(idStr + ".escrowAveragePrice")));
+                } catch (IllegalArgumentException e) {
+                    logger.warning("잘못된 지정가 주문 데이터 무시: " + idStr);
+                }
+            }
+        }
+
+        return new StockData(data.prices(), data.history(), data.candles(),
+                dataConfig.getLong("nextUpdateTime", 0), dataConfig.getLong("journalSegment", 0), data.index(),
+                data.orders(), dataConfig.getLong("orderSequence", 0));
+    }
+
+    private static List<Double> toList(double[] values) {
+        List<Double> list = new ArrayList<>(values.length);
+        for (double value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    private static double[] toArray(List<Double> values) {
+        double[] array = new double[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,97 @@
+package com.myserver.wildcore.stock;
+
+import com.myserver.wildcore.util.RankedSkipList;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 주식 평가액 순위표
+ * - 거래 시 해당 플레이어만 O(log n)으로 갱신
+ * - 시세 변동 시 전체 평가액으로 새 리스트를 만든 뒤 한 번에 교체 (만드는 동안 들어온 갱신은 교체 후 다시 적용)
+ * - 순위 / 상위 N명 조회 O(log n)
+ */
+public final class StockLeaderboard {
+
+    private RankedSkipList<UUID> ranking = new RankedSkipList<>();
+
+    // 재정렬 중 들어온 갱신 (재정렬 중이 아니면 null, 0 이하는 순위 제외)
+    private Map<UUID, Double> pendingUpdates;
+
+    /**
+     * 플레이어 평가액 갱신 (0 이하면 순위에서 제외)
+     */
+    public synchronized void update(UUID uuid, double value) {
+        apply(ranking, uuid, value);
+        if (pendingUpdates != null) {
+            pendingUpdates.put(uuid, value);
+        }
+    }
+
+    public synchronized void remove(UUID uuid) {
+        update(uuid, 0);
+    }
+
+    /**
+     * 전체 재정렬 (새 리스트는 잠금 밖에서 만들어 조회를 막지 않음)
+     * 평가액은 갱신 기록을 시작한 뒤에 읽으므로, 그 사이의 갱신은 읽은 값 또는 교체 후 적용으로 반영됩니다.
+     * 동시에 여러 번 호출하지 않아야 합니다.
+     *
+     * @param values 전체 평가액을 복사해 오는 함수 (결과 맵은 수정됨)
+     */
+    public void rebuild(Supplier<Map<UUID, Double>> values) {
+        synchronized (this) {
+            pendingUpdates = new HashMap<>();
+        }
+        Map<UUID, Double> copied = values.get();
+        copied.values().removeIf(value -> value <= 0);
+        RankedSkipList<UUID> rebuilt = RankedSkipList.build(copied);
+        synchronized (this) {
+            for (Map.Entry<UUID, Double> entry : pendingUpdates.entrySet()) {
+                apply(rebuilt, entry.getKey(), entry.getValue());
+            }
+            pendingUpdates = null;
+            ranking = rebuilt;
+        }
+    }
+
+    private static void apply(RankedSkipList<UUID> ranking, UUID uuid, double value) {
+        if (value > 0) {
+            ranking.put(uuid, value);
+        } else {
+            ranking.remove(uuid);
+        }
+    }
+
+    public synchronized void clear() {
+        ranking = new RankedSkipList<>();
+    }
+
+    /**
+     * 순위 (1부터 시작, 순위에 없으면 0)
+     */
+    public synchronized int getRank(UUID uuid) {
+        return ranking.rank(uuid);
+    }
+
+    /**
+     * 지정한 순위부터 limit명 조회
+     */
+    public synchronized List<RankedSkipList.Entry<UUID>> getRange(int fromRank, int limit) {
+        return ranking.range(fromRank, limit);
+    }
+
+    /**
+     * 순위로 조회 (없으면 null)
+     */
+    public synchronized RankedSkipList.Entry<UUID> getByRank(int rank) {
+        return ranking.getByRank(rank);
+    }
+
+    public synchronized int size() {
+        return ranking.size();
+    }
+}
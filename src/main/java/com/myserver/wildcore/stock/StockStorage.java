@@ -0,0 +1,90 @@
+package com.myserver.wildcore.stock;
+
+import com.myserver.wildcore.config.PlayerStockData;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 주식 데이터 저장소
+ * - 스냅샷: 시세/가격 기록/미체결 주문/저널 세그먼트 (전체 플레이어 보유 요약 포함)
+ * - 플레이어 보유 현황: 플레이어 단위로 읽고 씀 (접속한 플레이어만 메모리에 올림)
+ * 저장은 주식 쓰기 스레드에서만 호출됩니다.
+ */
+public interface StockStorage {
+
+    /**
+     * 읽은 스냅샷
+     *
+     * @param legacyPlayers 구버전 스냅샷에 함께 들어 있던 플레이어 보유 현황 (다음 저장 때 플레이어별로 옮김)
+     */
+    record Loaded(StockDataCodec.StockData data, Map<UUID, Map<String, PlayerStockData>> legacyPlayers) {
+    }
+
+    /**
+     * 저장소 이름 (로그용)
+     */
+    String getName();
+
+    /**
+     * 이전 저장소(다른 형식의 파일)에서 옮겨야 하는지
+     */
+    boolean needsMigration();
+
+    /**
+     * 스냅샷 읽기 (없으면 빈 데이터)
+     */
+    Loaded loadSnapshot();
+
+    /**
+     * 스냅샷 저장 (플레이어 보유 현황을 먼저 저장한 뒤 호출)
+     */
+    void saveSnapshot(StockDataCodec.StockData data) throws IOException;
+
+    /**
+     * 플레이어 한 명의 보유 현황 읽기 (없으면 빈 보유 현황)
+     * 호출한 스레드에서 결과를 기다리므로 메인 스레드에서는 loadPlayerAsync를 사용합니다.
+     */
+    PlayerStockStore.Shard loadPlayer(UUID uuid);
+
+    /**
+     * 플레이어 한 명의 보유 현황을 기다리지 않고 읽기
+     *
+     * @param executor 파일 저장소가 읽기를 실행할 스레드 (데이터베이스 저장소는 데이터베이스 스레드 사용)
+     */
+    default CompletableFuture<PlayerStockStore.Shard> loadPlayerAsync(UUID uuid, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> loadPlayer(uuid), executor);
+    }
+
+    /**
+     * 여러 플레이어의 보유 현황을 한 번에 읽기 (시작 시 저널 재생 전 미리 읽기용)
+     */
+    default Map<UUID, PlayerStockStore.Shard> loadPlayers(Collection<UUID> uuids) {
+        Map<UUID, PlayerStockStore.Shard> shards = new HashMap<>();
+        for (UUID uuid : uuids) {
+            shards.put(uuid, loadPlayer(uuid));
+        }
+        return shards;
+    }
+
+    /**
+     * 플레이어 보유 현황 저장
+     *
+     * @param journalSegment 이 세그먼트 이전의 저널 레코드는 반영됨
+     * @return 저장하지 못한 플레이어 (다음 저장 때 다시 기록)
+     */
+    Set<UUID> savePlayers(Map<UUID, Map<String, PlayerStockData>> players, long journalSegment);
+
+    /**
+     * 이전 형식으로 남아 있는 플레이어 보유 현황 옮기기 (쓰기 스레드에서 한 번 호출)
+     *
+     * @return 옮긴 플레이어 수
+     */
+    int migratePlayers();
+}
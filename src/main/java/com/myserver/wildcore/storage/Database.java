@@ -0,0 +1,218 @@
+package com.myserver.wildcore.storage;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * 내장 데이터베이스 (SQLite) 연결
+ * - 연결 하나를 전용 스레드에서만 사용 (SQLite는 쓰기가 하나씩만 가능하므로 연결을 늘려도 빨라지지 않음)
+ * - 모든 작업은 제출 순서대로 처리되며, 준비된 문장(PreparedStatement)은 SQL별로 재사용
+ * - 호출 측은 비동기(submit)로 맡기거나, 결과가 필요하면 끝날 때까지 기다림(call)
+ * SQLite 드라이버는 Paper 서버에 포함되어 있어 별도 라이브러리가 필요하지 않습니다.
+ */
+public class Database {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    /**
+     * 연결을 사용하는 작업 (데이터베이스 스레드에서 실행)
+     */
+    @FunctionalInterface
+    public interface Work<T> {
+        T run(Database db) throws SQLException;
+    }
+
+    private final Logger logger;
+    private final ExecutorService executor;
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+    private Thread thread;
+
+    public Database(File file, Logger logger) throws SQLException {
+        this.logger = logger;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread created = new Thread(runnable, "WildCore-Database");
+            created.setDaemon(true);
+            thread = created;
+            return created;
+        });
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("SQLite 드라이버를 찾을 수 없습니다.", e);
+        }
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        this.connection = DriverManager.getConnection("jdbc:sqlite:" + file.getAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            // 쓰기 중에도 읽기가 막히지 않도록 WAL 모드, 커밋마다 전체 동기화는 하지 않음
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("PRAGMA synchronous=NORMAL");
+            statement.execute("PRAGMA busy_timeout=5000");
+        }
+    }
+
+    // =====================
+    // 작업 실행
+    // =====================
+
+    /**
+     * 비동기 실행 (실패하면 로그를 남기고 예외로 완료)
+     */
+    public <T> CompletableFuture<T> submit(Work<T> work) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(work.run(this));
+            } catch (SQLException | RuntimeException e) {
+                logger.severe("데이터베이스 작업 실패: " + e.getMessage());
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 실행 후 결과를 기다림 (데이터베이스 스레드에서 호출하면 바로 실행)
+     */
+    public <T> T call(Work<T> work) throws SQLException {
+        if (Thread.currentThread() == thread || executor.isShutdown()) {
+            synchronized (this) {
+                return work.run(this);
+            }
+        }
+        Future<T> future = executor.submit(() -> work.run(this));
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("데이터베이스 작업 대기 중 중단됨", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException(cause);
+        }
+    }
+
+    /**
+     * 하나의 트랜잭션으로 실행 (실패하면 모두 되돌림)
+     */
+    public <T> T transaction(Work<T> work) throws SQLException {
+        return call(db -> {
+            connection.setAutoCommit(false);
+            try {
+                T result = work.run(db);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        });
+    }
+
+    // =====================
+    // 데이터베이스 스레드 전용
+    // =====================
+
+    /**
+     * 준비된 문장 (같은 SQL은 재사용, 작업 안에서만 사용)
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null || statement.isClosed()) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        }
+        statement.clearParameters();
+        statement.clearBatch();
+        return statement;
+    }
+
+    /**
+     * 스키마 등 일회성 SQL 실행
+     */
+    public void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // =====================
+    // 메타 정보 (키-값)
+    // =====================
+
+    public static final String META_SCHEMA = "CREATE TABLE IF NOT EXISTS wc_meta ("
+            + "name TEXT PRIMARY KEY, value TEXT NOT NULL)";
+
+    /**
+     * 메타 값 읽기 (없으면 null)
+     */
+    public String getMeta(String name) throws SQLException {
+        PreparedStatement statement = prepare("SELECT value FROM wc_meta WHERE name = ?");
+        statement.setString(1, name);
+        try (var result = statement.executeQuery()) {
+            return result.next() ? result.getString(1) : null;
+        }
+    }
+
+    public void setMeta(String name, String value) throws SQLException {
+        PreparedStatement statement = prepare("INSERT INTO wc_meta (name, value) VALUES (?, ?) "
+                + "ON CONFLICT(name) DO UPDATE SET value = excluded.value");
+        statement.setString(1, name);
+        statement.setString(2, value);
+        statement.executeUpdate();
+    }
+
+    public void removeMeta(String name) throws SQLException {
+        PreparedStatement statement = prepare("DELETE FROM wc_meta WHERE name = ?");
+        statement.setString(1, name);
+        statement.executeUpdate();
+    }
+
+    /**
+     * 남은 작업을 모두 처리한 뒤 연결 종료
+     */
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("데이터베이스 스레드가 제한 시간 내에 종료되지 않았습니다.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            try {
+                for (PreparedStatement statement : statements.values()) {
+                    statement.close();
+                }
+                statements.clear();
+                connection.close();
+            } catch (SQLException e) {
+                logger.warning("데이터베이스 연결 종료 실패: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.myserver.wildcore.storage;
+
+import com.myserver.wildcore.bank.BankDataCodec;
+import com.myserver.wildcore.config.PlayerBankAccount;
+import com.myserver.wildcore.config.PlayerStockData;
+import com.myserver.wildcore.stock.LimitOrder;
+import com.myserver.wildcore.stock.PlayerStockStore;
+import com.myserver.wildcore.stock.PortfolioIndex;
+import com.myserver.wildcore.stock.StockDataCodec;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * 저장 형식 비교 측정 (/wc debug storagebench)
+ * 무작위로 만든 은행/주식 데이터를 YAML과 바이너리로 각각 저장(직렬화)/로드(역직렬화)해 크기와 시간을 잽니다.
+ * 디스크 쓰기는 제외하고 형식 변환 비용만 측정하며, 반복 중 가장 빠른 시간을 결과로 사용합니다.
+ */
+public final class StorageBenchmark {
+
+    private static final String[] PRODUCTS = {"savings_basic", "savings_premium", "term_30d", "term_90d"};
+    private static final int STOCK_COUNT = 10;
+    private static final int HISTORY_SIZE = 100;
+    private static final int ORDER_COUNT = 200;
+    private static final Logger SILENT = Logger.getAnonymousLogger();
+
+    /**
+     * 데이터 종류별 측정 결과 (시간은 나노초)
+     */
+    public record Result(String name, int items, long yamlBytes, long binaryBytes, long yamlSaveNanos,
+            long yamlLoadNanos, long binarySaveNanos, long binaryLoadNanos) {
+    }
+
+    /**
+     * 저장 형식으로 변환 (측정 대상)
+     */
+    @FunctionalInterface
+    private interface Saver<T> {
+        byte[] save(T data) throws Exception;
+    }
+
+    /**
+     * 저장 형식에서 읽기 (측정 대상)
+     */
+    @FunctionalInterface
+    private interface Loader {
+        Object load(byte[] content) throws Exception;
+    }
+
+    private record ShardData(long journalSegment, Map<String, PlayerStockData> holdings) {
+    }
+
+    private StorageBenchmark() {
+    }
+
+    /**
+     * @param players 만들 플레이어 수
+     * @param rounds  반복 횟수 (첫 회는 준비 운동으로 제외)
+     */
+    public static List<Result> run(int players, int rounds, long seed) throws Exception {
+        Random random = new Random(seed);
+        List<Result> results = new ArrayList<>();
+
+        BankDataCodec.BankData bank = createBankData(players, random);
+        results.add(measure("은행 스냅샷", List.of(bank), rounds,
+                data -> BankDataCodec.toYaml(data).getBytes(StandardCharsets.UTF_8),
+                content -> BankDataCodec.fromYaml(loadYaml(content)),
+                BankDataCodec::encode,
+                BankDataCodec::decode));
+
+        StockDataCodec.StockData stock = createStockData(players, random);
+        results.add(measure("주식 스냅샷", List.of(stock), rounds,
+                data -> StockDataCodec.toYaml(data).getBytes(StandardCharsets.UTF_8),
+                content -> StockDataCodec.fromYaml(loadYaml(content), SILENT),
+                StockDataCodec::encode,
+                StockDataCodec::decode));
+
+        List<ShardData> shards = createShards(players, random);
+        results.add(measure("주식 보유 파일", shards, rounds,
+                data -> PlayerStockStore.toYaml(data.journalSegment(), data.holdings())
+                        .getBytes(StandardCharsets.UTF_8),
+                content -> PlayerStockStore.fromYaml(loadYaml(content)),
+                data -> PlayerStockStore.encode(data.journalSegment(), data.holdings()),
+                PlayerStockStore::decode));
+
+        return results;
+    }
+
+    private static <T> Result measure(String name, List<T> items, int rounds, Saver<T> yamlSave,
+            Loader yamlLoad, Saver<T> binarySave, Loader binaryLoad) throws Exception {
+        long[] yaml = measureFormat(items, rounds, yamlSave, yamlLoad);
+        long[] binary = measureFormat(items, rounds, binarySave, binaryLoad);
+        return new Result(name, items.size(), yaml[0], binary[0], yaml[1], yaml[2], binary[1], binary[2]);
+    }
+
+    /**
+     * @return [전체 크기, 저장 시간, 로드 시간]
+     */
+    private static <T> long[] measureFormat(List<T> items, int rounds, Saver<T> save, Loader load)
+            throws Exception {
+        long bestSave = Long.MAX_VALUE;
+        long bestLoad = Long.MAX_VALUE;
+        long totalBytes = 0;
+        byte[][] encoded = new byte[items.size()][];
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < encoded.length; i++) {
+                encoded[i] = save.save(items.get(i));
+            }
+            long saveNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (byte[] content : encoded) {
+                load.load(content);
+            }
+            long loadNanos = System.nanoTime() - start;
+
+            if (round == 0) {
+                totalBytes = 0;
+                for (byte[] content : encoded) {
+                    totalBytes += content.length;
+                }
+                continue; // 준비 운동 (JIT)
+            }
+            bestSave = Math.min(bestSave, saveNanos);
+            bestLoad = Math.min(bestLoad, loadNanos);
+        }
+        return new long[]{totalBytes, bestSave, bestLoad};
+    }
+
+    private static YamlConfiguration loadYaml(byte[] content) throws Exception {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.loadFromString(new String(content, StandardCharsets.UTF_8));
+        return yaml;
+    }
+
+    // =====================
+    // 측정용 데이터
+    // =====================
+
+    private static BankDataCodec.BankData createBankData(int players, Random random) {
+        long now = System.currentTimeMillis();
+        Map<UUID, List<PlayerBankAccount>> accounts = new HashMap<>(players * 2);
+        for (int i = 0; i < players; i++) {
+            int count = 1 + random.nextInt(3);
+            List<PlayerBankAccount> list = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                String product = PRODUCTS[random.nextInt(PRODUCTS.length)];
+                boolean term = product.startsWith("term");
+                long created = now - random.nextInt(30 * 86400) * 1000L;
+                list.add(new PlayerBankAccount(UUID.randomUUID().toString().substring(0, 8), product,
+                        1000 + random.nextInt(1_000_000), random.nextInt(50_000) / 10.0, created,
+                        created + random.nextInt(86400) * 1000L, term ? created + 30L * 86400 * 1000 : 0,
+                        term && random.nextBoolean()));
+            }
+            accounts.put(new UUID(random.nextLong(), random.nextLong()), list);
+        }
+        return new BankDataCodec.BankData(random.nextInt(1000), null, accounts);
+    }
+
+    private static StockDataCodec.StockData createStockData(int players, Random random) {
+        StockDataCodec.StockData data = StockDataCodec.StockData.empty();
+        for (int s = 0; s < STOCK_COUNT; s++) {
+            String stockId = "stock_" + s;
+            double[] history = new double[HISTORY_SIZE];
+            double price = 1000;
+            for (int i = 0; i < HISTORY_SIZE; i++) {
+                price = Math.max(10, price * (1 + (random.nextDouble() - 0.5) * 0.1));
+                history[i] = price;
+            }
+            data.prices().put(stockId, price);
+            data.history().put(stockId, history);
+            Map<Integer, double[]> candles = new HashMap<>();
+            for (int resolution : new int[]{1, 12, 48}) {
+                double[] flat = new double[(HISTORY_SIZE / resolution) * 4];
+                for (int i = 0; i < flat.length; i++) {
+                    flat[i] = history[(i / 4) * resolution];
+                }
+                candles.put(resolution, flat);
+            }
+            data.candles().put(stockId, candles);
+        }
+
+        for (int i = 0; i < players; i++) {
+            int count = 1 + random.nextInt(5);
+            String[] stockIds = new String[count];
+            int[] amounts = new int[count];
+            for (int j = 0; j < count; j++) {
+                stockIds[j] = "stock_" + ((j * 3 + i) % STOCK_COUNT);
+                amounts[j] = 1 + random.nextInt(500);
+            }
+            data.index().put(new UUID(random.nextLong(), random.nextLong()),
+                    new PortfolioIndex.Holdings(stockIds, amounts, random.nextInt(10_000_000)));
+        }
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            int quantity = 1 + random.nextInt(100);
+            data.orders().add(new LimitOrder(i + 1, new UUID(random.nextLong(), random.nextLong()),
+                    "stock_" + random.nextInt(STOCK_COUNT),
+                    random.nextBoolean() ? LimitOrder.Side.BUY : LimitOrder.Side.SELL,
+                    500 + random.nextInt(1000), quantity, quantity, System.currentTimeMillis(), 0));
+        }
+        return new StockDataCodec.StockData(data.prices(), data.history(), data.candles(),
+                System.currentTimeMillis(), 1, data.index(), data.orders(), ORDER_COUNT);
+    }
+
+    private static List<ShardData> createShards(int players, Random random) {
+        List<ShardData> shards = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            Map<String, PlayerStockData> holdings = new HashMap<>();
+            int count = 1 + random.nextInt(5);
+            for (int j = 0; j < count; j++) {
+                int amount = 1 + random.nextInt(500);
+                double average = 500 + random.nextInt(1000);
+                holdings.put("stock_" + random.nextInt(STOCK_COUNT),
+                        new PlayerStockData(amount, average, amount * average));
+            }
+            shards.add(new ShardData(random.nextInt(1000), holdings));
+        }
+        return shards;
+    }
+}
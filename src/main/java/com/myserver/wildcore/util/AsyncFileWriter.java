@@ -0,0 +1,126 @@
+package com.myserver.wildcore.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * 비동기 파일 쓰기 유틸리티
+ * - 전용 단일 스레드에서 작업을 제출 순서대로 처리
+ * - 임시 파일 작성 후 원자적 이동(rename)으로 교체하여 저장 도중 크래시에도 파일이 깨지지 않음
+ */
+public class AsyncFileWriter {
+
+    // 종료 시 남은 작업을 기다리는 최대 시간 (초)
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Logger logger;
+    private final ExecutorService executor;
+
+    public AsyncFileWriter(String threadName, Logger logger) {
+        this.logger = logger;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 쓰기 스레드에서 작업 실행
+     * 이미 종료된 경우 호출한 스레드에서 즉시 실행합니다.
+     */
+    public void execute(Runnable task) {
+        if (executor.isShutdown()) {
+            task.run();
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.severe("비동기 파일 작업 실패: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 지금까지 제출된 모든 작업이 끝날 때까지 대기
+     */
+    public void flush() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        try {
+            Future<?> barrier = executor.submit(() -> {
+            });
+            barrier.get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warning("파일 쓰기 대기 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 남은 작업을 모두 처리한 뒤 쓰기 스레드 종료
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("파일 쓰기 스레드가 제한 시간 내에 종료되지 않았습니다.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 파일을 원자적으로 교체 저장
+     * - 같은 폴더의 임시 파일에 기록 후 fsync
+     * - rename으로 대상 파일을 한 번에 교체
+     */
+    public static void writeAtomically(File target, String content) throws IOException {
+        writeAtomically(target, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void writeAtomically(File target, byte[] content) throws IOException {
+        Path targetPath = target.toPath();
+        Path parent = targetPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path tempPath = targetPath.resolveSibling(target.getName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        try {
+            Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // 원자적 이동을 지원하지 않는 파일 시스템
+            Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
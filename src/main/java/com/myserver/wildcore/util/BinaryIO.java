@@ -0,0 +1,191 @@
+package com.myserver.wildcore.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 바이너리 데이터 파일 공통 형식
+ * - 파일 머리: 매직 넘버(int) + 형식 버전(short)
+ * - UUID는 문자열 대신 long 두 개 (16바이트)
+ * - 반복되는 레코드는 길이(int)를 앞에 붙여 기록 (이후 버전에서 필드가 늘어도 이전 읽기 코드가 남은 바이트를 건너뜀)
+ * - 자주 반복되는 문자열(상품/종목 ID)은 문자열 표에 한 번만 기록하고 번호로 참조
+ */
+public final class BinaryIO {
+
+    private BinaryIO() {
+    }
+
+    /**
+     * 레코드 본문 기록
+     */
+    @FunctionalInterface
+    public interface RecordBody {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    // =====================
+    // 파일 머리
+    // =====================
+
+    public static void writeHeader(DataOutputStream out, int magic, int version) throws IOException {
+        out.writeInt(magic);
+        out.writeShort(version);
+    }
+
+    /**
+     * 파일 머리 확인
+     *
+     * @return 파일의 형식 버전
+     * @throws IOException 매직 넘버가 다르거나 지원하지 않는 버전인 경우
+     */
+    public static int readHeader(DataInputStream in, int magic, int maxVersion) throws IOException {
+        int fileMagic = in.readInt();
+        if (fileMagic != magic) {
+            throw new IOException("잘못된 파일 형식 (magic " + Integer.toHexString(fileMagic) + ")");
+        }
+        int version = in.readUnsignedShort();
+        if (version < 1 || version > maxVersion) {
+            throw new IOException("지원하지 않는 파일 버전: " + version);
+        }
+        return version;
+    }
+
+    // =====================
+    // 값
+    // =====================
+
+    public static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    public static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    /**
+     * null을 허용하는 UUID (앞에 존재 여부 1바이트)
+     */
+    public static void writeNullableUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeBoolean(uuid != null);
+        if (uuid != null) {
+            writeUuid(out, uuid);
+        }
+    }
+
+    public static UUID readNullableUuid(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readUuid(in) : null;
+    }
+
+    public static void writeDoubles(DataOutputStream out, double[] values) throws IOException {
+        out.writeInt(values.length);
+        for (double value : values) {
+            out.writeDouble(value);
+        }
+    }
+
+    public static double[] readDoubles(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("잘못된 배열 길이: " + length);
+        }
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readDouble();
+        }
+        return values;
+    }
+
+    // =====================
+    // 레코드
+    // =====================
+
+    /**
+     * 길이를 앞에 붙여 레코드 기록
+     *
+     * @param scratch 레코드 본문을 모아 둘 버퍼 (레코드마다 재사용)
+     */
+    public static void writeRecord(DataOutputStream out, ByteArrayOutputStream scratch, RecordBody body)
+            throws IOException {
+        scratch.reset();
+        body.write(new DataOutputStream(scratch));
+        out.writeInt(scratch.size());
+        scratch.writeTo(out);
+    }
+
+    /**
+     * 레코드 하나 읽기 (반환된 스트림을 다 읽지 않아도 다음 레코드 위치는 맞음)
+     */
+    public static DataInputStream readRecord(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("잘못된 레코드 길이: " + length);
+        }
+        byte[] body = new byte[length];
+        in.readFully(body);
+        return new DataInputStream(new ByteArrayInputStream(body));
+    }
+
+    // =====================
+    // 문자열 표
+    // =====================
+
+    /**
+     * 기록용 문자열 표 (처음 등장한 순서대로 번호 부여)
+     */
+    public static final class StringTable {
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        public int indexOf(String value) {
+            Integer index = indexes.get(value);
+            if (index == null) {
+                index = values.size();
+                indexes.put(value, index);
+                values.add(value);
+            }
+            return index;
+        }
+
+        public void write(DataOutputStream out) throws IOException {
+            out.writeInt(values.size());
+            for (String value : values) {
+                out.writeUTF(value);
+            }
+        }
+
+        /**
+         * 문자열 표 읽기
+         */
+        public static String[] read(DataInputStream in) throws IOException {
+            int size = in.readInt();
+            if (size < 0) {
+                throw new IOException("잘못된 문자열 표 크기: " + size);
+            }
+            String[] values = new String[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = in.readUTF();
+            }
+            return values;
+        }
+    }
+
+    /**
+     * 문자열 표 참조 읽기
+     */
+    public static String lookup(String[] table, int index) throws IOException {
+        if (index < 0 || index >= table.length) {
+            throw new IOException("잘못된 문자열 번호: " + index);
+        }
+        return table[index];
+    }
+}
@@ -0,0 +1,333 @@
+package com.myserver.wildcore.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+/**
+ * 추가 전용(append-only) 저널 파일
+ * - 한 줄에 레코드 하나, 필드는 탭으로 구분
+ * - 파일은 세그먼트 단위로 나뉘며 (이름.세그먼트번호.log), 스냅샷 저장 시 새 세그먼트로 교체
+ * - 실제 기록은 AsyncFileWriter 스레드에서 모아서 수행 (그룹 커밋: 대기 중인 레코드를 한 번에 쓰고 한 번만 동기화)
+ * - 디스크 동기화(fsync)는 매 묶음마다, 일정 간격마다, 또는 사용하지 않도록 설정 가능
+ */
+public class JournalFile {
+
+    private static final String FIELD_SEPARATOR = "\t";
+
+    private final File folder;
+    private final String baseName;
+    private final AsyncFileWriter writer;
+    private final Logger logger;
+    // 디스크 동기화 간격 (밀리초, 0이면 매 묶음마다, 음수이면 사용 안 함)
+    private final long fsyncIntervalMillis;
+
+    // 기록 대기열 (String: 레코드, Long: 세그먼트 교체 표시)
+    private final Queue<Object> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+    // 호출 측에서 보는 현재 세그먼트 번호
+    private volatile long segment;
+
+    // 쓰기 스레드 전용 상태
+    private Writer out;
+    private FileOutputStream outStream;
+    private long openSegment = 0;
+    private long lastSyncTime = 0;
+    private boolean unsynced = false;
+
+    public JournalFile(File folder, String baseName, AsyncFileWriter writer, Logger logger, boolean fsync) {
+        this(folder, baseName, writer, logger, fsync ? 0 : -1);
+    }
+
+    /**
+     * @param fsyncIntervalMillis 디스크 동기화 간격 (0이면 매 묶음마다, 음수이면 사용 안 함)
+     */
+    public JournalFile(File folder, String baseName, AsyncFileWriter writer, Logger logger,
+            long fsyncIntervalMillis) {
+        this.folder = folder;
+        this.baseName = baseName;
+        this.writer = writer;
+        this.logger = logger;
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+    }
+
+    // =====================
+    // 기록
+    // =====================
+
+    /**
+     * 레코드 추가 (필드를 탭으로 연결)
+     */
+    public void append(Object... fields) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                sb.append(FIELD_SEPARATOR);
+            }
+            sb.append(fields[i]);
+        }
+        pending.add(sb.toString());
+        scheduleDrain();
+    }
+
+    /**
+     * 새 세그먼트로 교체
+     * 이 호출 이후에 추가되는 레코드는 새 세그먼트에 기록됩니다.
+     *
+     * @return 새 세그먼트 번호
+     */
+    public long rotate() {
+        long next = segment + 1;
+        segment = next;
+        pending.add(next);
+        scheduleDrain();
+        return next;
+    }
+
+    public long getSegment() {
+        return segment;
+    }
+
+    /**
+     * 지정한 세그먼트 이전의 파일을 보관 폴더로 옮기거나 삭제
+     * 반드시 쓰기 스레드(AsyncFileWriter.execute)에서 호출해야 합니다.
+     *
+     * @param archiveFolder 보관 폴더 (null이면 삭제)
+     */
+    public void retireSegmentsBefore(long segmentNumber, File archiveFolder) {
+        for (var entry : listSegments().entrySet()) {
+            if (entry.getKey() >= segmentNumber) {
+                break;
+            }
+            File file = entry.getValue();
+            try {
+                if (archiveFolder != null) {
+                    if (!archiveFolder.exists()) {
+                        archiveFolder.mkdirs();
+                    }
+                    Files.move(file.toPath(), new File(archiveFolder, file.getName()).toPath(),
+                            StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    Files.deleteIfExists(file.toPath());
+                }
+            } catch (IOException e) {
+                logger.warning("저널 세그먼트 정리 실패 (" + file.getName() + "): " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 열린 파일 닫기 (쓰기 스레드에서 처리)
+     */
+    public void close() {
+        writer.execute(() -> {
+            drain();
+            closeOut();
+        });
+    }
+
+    /**
+     * 동기화 간격 때문에 미뤄 둔 기록을 디스크에 동기화 (주기적으로 호출)
+     */
+    public void sync() {
+        writer.execute(() -> {
+            if (out == null || !unsynced) {
+                return;
+            }
+            try {
+                syncOut();
+            } catch (IOException e) {
+                logger.warning("저널 동기화 실패: " + e.getMessage());
+            }
+        });
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            writer.execute(this::drain);
+        }
+    }
+
+    /**
+     * 대기 중인 레코드를 한 번에 기록 (쓰기 스레드)
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        boolean written = false;
+        try {
+            Object item;
+            while ((item = pending.poll()) != null) {
+                if (item instanceof Long nextSegment) {
+                    closeOut();
+                    openSegment = nextSegment;
+                    continue;
+                }
+                if (out == null) {
+                    openOut();
+                }
+                out.write((String) item);
+                out.write('\n');
+                written = true;
+            }
+            if (written) {
+                out.flush();
+                if (fsyncIntervalMillis == 0
+                        || (fsyncIntervalMillis > 0
+                                && System.currentTimeMillis() - lastSyncTime >= fsyncIntervalMillis)) {
+                    syncOut();
+                } else {
+                    unsynced = fsyncIntervalMillis > 0;
+                }
+            }
+        } catch (IOException e) {
+            logger.severe("저널 기록 실패: " + e.getMessage());
+            closeOut();
+        }
+    }
+
+    private void openOut() throws IOException {
+        outStream = new FileOutputStream(getSegmentFile(openSegment), true);
+        out = new OutputStreamWriter(outStream, StandardCharsets.UTF_8);
+    }
+
+    private void syncOut() throws IOException {
+        outStream.getFD().sync();
+        lastSyncTime = System.currentTimeMillis();
+        unsynced = false;
+    }
+
+    private void closeOut() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.flush();
+            if (fsyncIntervalMillis >= 0) {
+                syncOut();
+            }
+            out.close();
+        } catch (IOException e) {
+            logger.warning("저널 파일 닫기 실패: " + e.getMessage());
+        }
+        out = null;
+        outStream = null;
+    }
+
+    // =====================
+    // 읽기 (시작 시 복구용)
+    // =====================
+
+    /**
+     * 지정한 세그먼트 이후의 모든 레코드를 순서대로 읽기
+     * 마지막 줄이 중간에 잘린 경우(크래시, 줄바꿈으로 끝나지 않음) 해당 줄은 무시합니다.
+     * 읽은 뒤에는 기존 파일에 이어 쓰지 않도록 다음 번호의 새 세그먼트에서 기록을 시작합니다.
+     */
+    public List<String[]> readFrom(long fromSegment) {
+        List<String[]> records = new ArrayList<>();
+        for (List<String[]> segmentRecords : readSegmentsFrom(fromSegment).values()) {
+            records.addAll(segmentRecords);
+        }
+        return records;
+    }
+
+    /**
+     * readFrom과 같지만 레코드를 세그먼트 번호별로 나누어 반환 (오름차순)
+     */
+    public TreeMap<Long, List<String[]>> readSegmentsFrom(long fromSegment) {
+        TreeMap<Long, List<String[]>> records = new TreeMap<>();
+        long lastSegment = fromSegment - 1;
+
+        for (var entry : listSegments().entrySet()) {
+            lastSegment = Math.max(lastSegment, entry.getKey());
+            if (entry.getKey() < fromSegment) {
+                continue;
+            }
+            List<String[]> segmentRecords = records.computeIfAbsent(entry.getKey(), k -> new ArrayList<>());
+            try (BufferedReader reader = Files.newBufferedReader(entry.getValue().toPath(), StandardCharsets.UTF_8)) {
+                // 줄은 다음 줄을 읽은 뒤에 추가 (마지막 줄은 줄바꿈으로 끝날 때만 추가)
+                String line;
+                String previous = null;
+                while ((line = reader.readLine()) != null) {
+                    if (previous != null && !previous.isEmpty()) {
+                        segmentRecords.add(previous.split(FIELD_SEPARATOR));
+                    }
+                    previous = line;
+                }
+                if (previous != null && !previous.isEmpty()) {
+                    if (endsWithNewline(entry.getValue())) {
+                        segmentRecords.add(previous.split(FIELD_SEPARATOR));
+                    } else {
+                        logger.warning("저널 마지막 줄이 잘려 무시합니다 (" + entry.getValue().getName() + ")");
+                    }
+                }
+            } catch (IOException e) {
+                logger.severe("저널 읽기 실패 (" + entry.getValue().getName() + "): " + e.getMessage());
+            }
+        }
+
+        segment = lastSegment + 1;
+        openSegment = segment;
+        return records;
+    }
+
+    /**
+     * 파일의 마지막 바이트가 줄바꿈인지 (레코드는 항상 줄바꿈까지 함께 기록됨)
+     */
+    private static boolean endsWithNewline(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            long length = raf.length();
+            if (length == 0) {
+                return false;
+            }
+            raf.seek(length - 1);
+            return raf.read() == '\n';
+        }
+    }
+
+    /**
+     * 세그먼트 번호 -> 파일 (오름차순)
+     */
+    private TreeMap<Long, File> listSegments() {
+        TreeMap<Long, File> segments = new TreeMap<>();
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return segments;
+        }
+        String prefix = baseName + ".";
+        for (File file : files) {
+            String name = file.getName();
+            if (!name.startsWith(prefix) || !name.endsWith(".log")) {
+                continue;
+            }
+            try {
+                long number = Long.parseLong(name.substring(prefix.length(), name.length() - 4));
+                segments.put(number, file);
+            } catch (NumberFormatException ignored) {
+                // 다른 형식의 파일은 무시
+            }
+        }
+        return segments;
+    }
+
+    private File getSegmentFile(long segmentNumber) {
+        return new File(folder, baseName + "." + segmentNumber + ".log");
+    }
+}
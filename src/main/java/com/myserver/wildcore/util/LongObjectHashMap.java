@@ -0,0 +1,186 @@
+package com.myserver.wildcore.util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * long 키 해시 맵 (키를 Long으로 감싸지 않음)
+ * - 키와 값을 배열 두 개에 나눠 담는 열린 주소 방식 (선형 탐사)
+ * - 삭제 시 뒤따르는 항목을 당겨 채우므로 삭제 표시가 쌓이지 않음
+ * - 조회는 객체를 만들지 않음 (청크 좌표처럼 자주 찾는 키용)
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public class LongObjectHashMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    public LongObjectHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongObjectHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(1, expectedSize) / LOAD_FACTOR);
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(needed - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * 키 분산 (청크 좌표처럼 하위 비트가 몰린 키도 고르게 흩어지도록)
+     */
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int index = slot(key, mask);
+        Object value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key) {
+                return (V) value;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * 값 저장 (null 값은 저장할 수 없음)
+     *
+     * @return 이전 값 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null 값은 저장할 수 없습니다.");
+        }
+        int index = slot(key, mask);
+        Object current;
+        while ((current = values[index]) != null) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return (V) current;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int index = slot(key, mask);
+        Object current;
+        while ((current = values[index]) != null) {
+            if (keys[index] == key) {
+                shiftBack(index);
+                size--;
+                return (V) current;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * 빈 칸 뒤의 항목 중 원래 자리에서 밀려난 것을 당겨 탐사 사슬이 끊기지 않게 함
+     */
+    private void shiftBack(int gap) {
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            if (values[index] == null) {
+                break;
+            }
+            int home = slot(keys[index], mask);
+            // home이 (gap, index] 구간 밖이면 gap으로 옮겨도 탐사 경로가 유지됨
+            boolean movable = (gap <= index) ? (home <= gap || home > index) : (home <= gap && home > index);
+            if (movable) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        values[gap] = null;
+        keys[gap] = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = slot(oldKeys[i], mask);
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    /**
+     * 모든 키 (복사본, 순서 없음)
+     */
+    public long[] keys() {
+        long[] result = new long[size];
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                result[count++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        Arrays.fill(keys, 0);
+        size = 0;
+    }
+}
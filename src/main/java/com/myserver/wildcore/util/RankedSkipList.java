@@ -0,0 +1,284 @@
+package com.myserver.wildcore.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회가 가능한 스킵 리스트 (점수 내림차순, 같은 점수는 키 오름차순)
+ * - 각 링크에 건너뛰는 노드 수(span)를 기록해 순위/순위별 조회를 O(log n)에 처리
+ * - 추가/삭제/점수 변경 O(log n), 정렬된 목록으로 한 번에 재구성 O(n)
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public class RankedSkipList<K extends Comparable<K>> {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    /**
+     * 순위 조회 결과
+     */
+    public record Entry<K>(K key, double score, int rank) {
+    }
+
+    private static final class Node<K> {
+        final K key;
+        final double score;
+        final Node<K>[] next;
+        final int[] span;
+
+        @SuppressWarnings("unchecked")
+        Node(K key, double score, int level) {
+            this.key = key;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    private final Node<K> header = new Node<>(null, 0, MAX_LEVEL);
+    private final Map<K, Double> scores = new HashMap<>();
+    private int level = 1;
+
+    // =====================
+    // 변경
+    // =====================
+
+    /**
+     * 점수 설정 (이미 있으면 기존 위치에서 제거 후 다시 삽입)
+     */
+    public void put(K key, double score) {
+        Double old = scores.get(key);
+        if (old != null) {
+            if (old == score) {
+                return;
+            }
+            unlink(key, old);
+        }
+        insert(key, score);
+        scores.put(key, score);
+    }
+
+    public boolean remove(K key) {
+        Double old = scores.remove(key);
+        if (old == null) {
+            return false;
+        }
+        unlink(key, old);
+        return true;
+    }
+
+    public void clear() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            header.next[i] = null;
+            header.span[i] = 0;
+        }
+        scores.clear();
+        level = 1;
+    }
+
+    /**
+     * 키 -> 점수 목록으로 새 리스트 구성 (정렬 후 무작위 없이 한 번에 연결)
+     */
+    public static <K extends Comparable<K>> RankedSkipList<K> build(Map<K, Double> values) {
+        List<Map.Entry<K, Double>> sorted = new ArrayList<>(values.entrySet());
+        sorted.sort(Comparator.<Map.Entry<K, Double>>comparingDouble(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        RankedSkipList<K> list = new RankedSkipList<>();
+        @SuppressWarnings("unchecked")
+        Node<K>[] last = new Node[MAX_LEVEL];
+        int[] lastRank = new int[MAX_LEVEL];
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            last[i] = list.header;
+        }
+
+        int rank = 0;
+        for (Map.Entry<K, Double> entry : sorted) {
+            rank++;
+            // 4개마다 한 단계씩 올라가는 규칙적인 높이 (확률 0.25와 같은 분포)
+            int nodeLevel = Math.min(MAX_LEVEL, 1 + Integer.numberOfTrailingZeros(rank) / 2);
+            Node<K> node = new Node<>(entry.getKey(), entry.getValue(), nodeLevel);
+            for (int i = 0; i < nodeLevel; i++) {
+                last[i].next[i] = node;
+                last[i].span[i] = rank - lastRank[i];
+                last[i] = node;
+                lastRank[i] = rank;
+            }
+            list.level = Math.max(list.level, nodeLevel);
+            list.scores.put(entry.getKey(), entry.getValue());
+        }
+        for (int i = 0; i < list.level; i++) {
+            last[i].span[i] = rank - lastRank[i];
+        }
+        return list;
+    }
+
+    private void insert(K key, double score) {
+        @SuppressWarnings("unchecked")
+        Node<K>[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+
+        Node<K> x = header;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+            while (x.next[i] != null && precedes(x.next[i], key, score)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = header;
+                header.span[i] = scores.size();
+            }
+            level = nodeLevel;
+        }
+
+        Node<K> node = new Node<>(key, score, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+    }
+
+    private void unlink(K key, double score) {
+        @SuppressWarnings("unchecked")
+        Node<K>[] update = new Node[MAX_LEVEL];
+
+        Node<K> x = header;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && precedes(x.next[i], key, score)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        x = x.next[0];
+        if (x == null || x.score != score || !x.key.equals(key)) {
+            return;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].next[i] = x.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && header.next[level - 1] == null) {
+            level--;
+        }
+    }
+
+    // =====================
+    // 조회
+    // =====================
+
+    public int size() {
+        return scores.size();
+    }
+
+    public boolean contains(K key) {
+        return scores.containsKey(key);
+    }
+
+    /**
+     * 점수 (없으면 NaN)
+     */
+    public double getScore(K key) {
+        Double score = scores.get(key);
+        return (score != null) ? score : Double.NaN;
+    }
+
+    /**
+     * 순위 (1부터 시작, 없으면 0)
+     */
+    public int rank(K key) {
+        Double score = scores.get(key);
+        if (score == null) {
+            return 0;
+        }
+
+        int rank = 0;
+        Node<K> x = header;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && (precedes(x.next[i], key, score) || x.next[i].key.equals(key))) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x != header && x.key.equals(key)) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 순위로 조회 (1부터 시작, 범위를 벗어나면 null)
+     */
+    public Entry<K> getByRank(int rank) {
+        Node<K> node = nodeAt(rank);
+        return (node != null) ? new Entry<>(node.key, node.score, rank) : null;
+    }
+
+    /**
+     * 지정한 순위부터 limit개 조회
+     */
+    public List<Entry<K>> range(int fromRank, int limit) {
+        List<Entry<K>> result = new ArrayList<>(Math.max(0, Math.min(limit, size())));
+        Node<K> node = nodeAt(fromRank);
+        int rank = fromRank;
+        while (node != null && result.size() < limit) {
+            result.add(new Entry<>(node.key, node.score, rank++));
+            node = node.next[0];
+        }
+        return result;
+    }
+
+    private Node<K> nodeAt(int rank) {
+        if (rank < 1 || rank > size()) {
+            return null;
+        }
+        int traversed = 0;
+        Node<K> x = header;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * node가 (key, score)보다 앞 순위인지 (점수 높은 순, 같으면 키 오름차순)
+     */
+    private boolean precedes(Node<K> node, K key, double score) {
+        return node.score > score || (node.score == score && node.key.compareTo(key) < 0);
+    }
+
+    private static int randomLevel() {
+        int level = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (level < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            level++;
+        }
+        return level;
+    }
+}
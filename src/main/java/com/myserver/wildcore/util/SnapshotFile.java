@@ -0,0 +1,120 @@
+package com.myserver.wildcore.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 형식을 고를 수 있는 스냅샷 파일 (<이름>.yml / <이름>.bin)
+ * - 설정된 형식의 파일이 없고 다른 형식의 파일만 있으면 그 파일을 읽음 (한 번만 옮기는 마이그레이션)
+ * - 새 형식으로 저장에 성공하면 이전 형식 파일은 <파일명>.migrated로 이름을 바꿔 보관
+ */
+public final class SnapshotFile {
+
+    /**
+     * 저장 형식
+     */
+    public enum Format {
+        YAML(".yml"),
+        BINARY(".bin");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * 설정 문자열 변환 (알 수 없는 값이면 바이너리)
+         */
+        public static Format fromString(String value) {
+            return "yaml".equalsIgnoreCase(value) || "yml".equalsIgnoreCase(value) ? YAML : BINARY;
+        }
+    }
+
+    private final Format format;
+    private final File target;
+    private final File legacy;
+
+    public SnapshotFile(File folder, String baseName, Format format) {
+        this.format = format;
+        Format other = (format == Format.BINARY) ? Format.YAML : Format.BINARY;
+        this.target = new File(folder, baseName + format.getExtension());
+        this.legacy = new File(folder, baseName + other.getExtension());
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * 저장 대상 파일 (설정된 형식)
+     */
+    public File getTarget() {
+        return target;
+    }
+
+    /**
+     * 읽을 파일 (둘 다 없으면 null)
+     */
+    public File getSource() {
+        if (target.exists()) {
+            return target;
+        }
+        return legacy.exists() ? legacy : null;
+    }
+
+    /**
+     * 읽을 파일의 형식
+     */
+    public Format getSourceFormat() {
+        return (getSource() == legacy) ? (format == Format.BINARY ? Format.YAML : Format.BINARY) : format;
+    }
+
+    /**
+     * 다른 형식의 파일에서 옮겨야 하는지 (설정된 형식 파일이 아직 없음)
+     */
+    public boolean needsMigration() {
+        return !target.exists() && legacy.exists();
+    }
+
+    /**
+     * 읽을 수 없는 파일을 <파일명>.corrupt-<시각>으로 옮겨 보관 (다음 저장이 덮어쓰지 않도록)
+     */
+    public static File quarantine(File file) throws IOException {
+        File backup = new File(file.getParentFile(), file.getName() + ".corrupt-" + System.currentTimeMillis());
+        Files.move(file.toPath(), backup.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return backup;
+    }
+
+    /**
+     * 설정된 형식으로 원자적 저장 (쓰기 스레드에서 호출)
+     */
+    public void write(byte[] content) throws IOException {
+        AsyncFileWriter.writeAtomically(target, content);
+        if (legacy.exists()) {
+            markMigrated(legacy);
+        }
+    }
+
+    /**
+     * 다른 저장소(데이터베이스)로 옮긴 뒤 두 형식의 파일을 모두 <파일명>.migrated로 보관
+     */
+    public void retire() throws IOException {
+        for (File file : new File[]{target, legacy}) {
+            if (file.exists()) {
+                markMigrated(file);
+            }
+        }
+    }
+
+    private static void markMigrated(File file) throws IOException {
+        File backup = new File(file.getParentFile(), file.getName() + ".migrated");
+        Files.move(file.toPath(), backup.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,109 @@
+package com.myserver.wildcore.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이밍 휠 (예약 시각이 지난 키를 순서대로 꺼냄)
+ * - 시간을 일정 간격(칸)으로 나누어 원형 배열에 보관, 진행할 때 지나간 칸만 확인
+ * - 한 바퀴보다 먼 예약은 해당 칸을 지날 때 시각만 비교하고 그대로 남겨 둠
+ * - 같은 키를 다시 예약하면 이전 예약은 무시됨 (키당 예약 하나)
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public class TimingWheel<K> {
+
+    private record Timer<K>(K key, long deadline) {
+    }
+
+    private final long tickMillis;
+    private final List<Timer<K>>[] slots;
+    // 키 -> 현재 유효한 예약 시각
+    private final Map<K, Long> deadlines = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis 칸 하나의 시간 (밀리초)
+     * @param slotCount  칸 수 (한 바퀴 = tickMillis * slotCount)
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int slotCount, long startMillis) {
+        this.tickMillis = Math.max(1, tickMillis);
+        this.slots = new List[Math.max(1, slotCount)];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.currentTick = startMillis / this.tickMillis;
+    }
+
+    /**
+     * 예약 (이미 지난 시각이면 다음 진행 때 바로 꺼냄)
+     */
+    public void schedule(K key, long deadlineMillis) {
+        Long previous = deadlines.put(key, deadlineMillis);
+        if (previous != null && previous == deadlineMillis) {
+            return; // 같은 칸에 이미 예약되어 있음
+        }
+        // 올림: 해당 칸을 확인하는 시점에는 항상 예약 시각이 지나 있음
+        long tick = Math.max(currentTick, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        slots[(int) (tick % slots.length)].add(new Timer<>(key, deadlineMillis));
+    }
+
+    public void cancel(K key) {
+        deadlines.remove(key);
+    }
+
+    public void clear() {
+        deadlines.clear();
+        for (List<Timer<K>> slot : slots) {
+            slot.clear();
+        }
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * 지정한 시각까지 진행하며 예약 시각이 지난 키를 전달
+     * 전달받은 쪽에서 다시 예약해도 됩니다.
+     */
+    public void advance(long nowMillis, Consumer<K> expired) {
+        long targetTick = nowMillis / tickMillis;
+        // 한 바퀴 이상 밀렸으면 모든 칸을 한 번씩만 확인
+        long fromTick = Math.max(currentTick, targetTick - slots.length + 1);
+        List<K> fired = new ArrayList<>();
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            List<Timer<K>> slot = slots[(int) (tick % slots.length)];
+            for (int i = slot.size() - 1; i >= 0; i--) {
+                Timer<K> timer = slot.get(i);
+                Long deadline = deadlines.get(timer.key());
+                if (deadline == null || deadline != timer.deadline()) {
+                    removeAt(slot, i); // 취소되었거나 다시 예약된 항목
+                } else if (timer.deadline() <= nowMillis) {
+                    removeAt(slot, i);
+                    deadlines.remove(timer.key());
+                    fired.add(timer.key());
+                }
+            }
+        }
+        currentTick = targetTick + 1;
+
+        for (K key : fired) {
+            expired.accept(key);
+        }
+    }
+
+    /**
+     * 순서를 유지할 필요가 없으므로 마지막 항목으로 덮어써서 제거
+     */
+    private static <T> void removeAt(List<T> list, int index) {
+        int last = list.size() - 1;
+        if (index != last) {
+            list.set(index, list.get(last));
+        }
+        list.remove(last);
+    }
+}